@@ -18,11 +18,13 @@ package com.linkedin.d2.util.hashing;
 
 import com.linkedin.d2.balancer.strategies.DelegatingRingFactory;
 import com.linkedin.d2.balancer.strategies.MPConsistentHashRingFactory;
+import com.linkedin.d2.balancer.strategies.MaglevHashRingFactory;
 import com.linkedin.d2.balancer.strategies.RingFactory;
 import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategyConfig;
 import com.linkedin.d2.balancer.util.hashing.BoundedLoadConsistentHashRing;
 import com.linkedin.d2.balancer.util.hashing.ConsistentHashRing;
 import com.linkedin.d2.balancer.util.hashing.MPConsistentHashRing;
+import com.linkedin.d2.balancer.util.hashing.MaglevHashRing;
 import com.linkedin.d2.balancer.util.hashing.Ring;
 import com.linkedin.util.degrader.CallTracker;
 import com.linkedin.util.degrader.CallTrackerImpl;
@@ -283,6 +285,116 @@ public class ConsistentHashRingBenchmark {
     return state._ringFull.get(state._key);
   }
 
+  @State(Scope.Benchmark)
+  public static class MaglevHashRing_10Hosts_State {
+    Map<URI, Integer> pointsMap = buildPointsMap(10, 100);
+    Ring<URI> _ring = new MaglevHashRing<>(pointsMap);
+    Random _random = new Random();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public URI measureMaglevHashRing_10Hosts(MaglevHashRing_10Hosts_State state) {
+    return state._ring.get(state._random.nextInt());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Ring<URI> measureMaglevHashRing_build_10Hosts(MaglevHashRing_10Hosts_State state) {
+    return new MaglevHashRing<>(state.pointsMap);
+  }
+
+  @State(Scope.Benchmark)
+  public static class BoundedLoad_MaglevHashRing_10Hosts_State {
+    RingFactory<URI> factory = new MaglevHashRingFactory<>();
+    Map<URI, Integer> pointsMap = buildPointsMap(10, 100);
+    Ring<URI> _ring = new BoundedLoadConsistentHashRing<>(factory, pointsMap, new HashMap<>(), 1.25);
+    Random _random = new Random();
+    int _key = _random.nextInt();
+    URI _mostWantedHost = _ring.get(_key);
+    Ring<URI> _ringFull = new BoundedLoadConsistentHashRing<>(factory, pointsMap, createCallTrackerMap(_mostWantedHost, 100), 1.25);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public URI measureBoundedLoad_MaglevHashRing_10Hosts(BoundedLoad_MaglevHashRing_10Hosts_State state) {
+    return state._ring.get(state._random.nextInt());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public URI measureBoundedLoad_firstFull_MaglevHashRing_10Hosts(BoundedLoad_MaglevHashRing_10Hosts_State state) {
+    return state._ringFull.get(state._key);
+  }
+
+  @State(Scope.Benchmark)
+  public static class MaglevHashRing_100Hosts_State {
+    Map<URI, Integer> pointsMap = buildPointsMap(100, 100);
+    Ring<URI> _ring = new MaglevHashRing<>(pointsMap);
+    Random _random = new Random();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public URI measureMaglevHashRing_100Hosts(MaglevHashRing_100Hosts_State state) {
+    return state._ring.get(state._random.nextInt());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Ring<URI> measureMaglevHashRing_build_100Hosts(MaglevHashRing_100Hosts_State state) {
+    return new MaglevHashRing<>(state.pointsMap);
+  }
+
+  @State(Scope.Benchmark)
+  public static class BoundedLoad_MaglevHashRing_100Hosts_State {
+    RingFactory<URI> factory = new MaglevHashRingFactory<>();
+    Map<URI, Integer> pointsMap = buildPointsMap(100, 100);
+    Ring<URI> _ring = new BoundedLoadConsistentHashRing<>(factory, pointsMap, new HashMap<>(), 1.25);
+    Random _random = new Random();
+    int _key = _random.nextInt();
+    URI _mostWantedHost = _ring.get(_key);
+    Ring<URI> _ringFull = new BoundedLoadConsistentHashRing<>(factory, pointsMap, createCallTrackerMap(_mostWantedHost, 100), 1.25);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public URI measureBoundedLoad_MaglevHashRing_100Hosts(BoundedLoad_MaglevHashRing_100Hosts_State state) {
+    return state._ring.get(state._random.nextInt());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public URI measureBoundedLoad_firstFull_MaglevHashRing_100Hosts(BoundedLoad_MaglevHashRing_100Hosts_State state) {
+    return state._ringFull.get(state._key);
+  }
+
+  @State(Scope.Benchmark)
+  public static class RingBuild_100Hosts_State {
+    Map<URI, Integer> pointsMap = buildPointsMap(100, 100);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Ring<URI> measureMPCHash_build_100Hosts_21Probes(RingBuild_100Hosts_State state) {
+    return new MPConsistentHashRing<>(state.pointsMap, 21, 1);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Ring<URI> measureConsistentHashRing_build_100Hosts_100PointsPerHost(RingBuild_100Hosts_State state) {
+    return new ConsistentHashRing<>(state.pointsMap);
+  }
 
 
   private static Map<URI, Integer> buildPointsMap(int numHosts, int numPointsPerHost) {
@@ -0,0 +1,133 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.common.util.None;
+import com.linkedin.util.clock.SystemClock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures a get and put cycle on {@link AsyncPoolImpl} and {@link ConcurrentAsyncPoolImpl} when many threads share
+ * a pool, as the channel pools of a client talking to a single host are.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Threads(16)
+public class AsyncPoolBenchmark
+{
+  @State(Scope.Benchmark)
+  public static class PoolState
+  {
+    @Param({"AsyncPoolImpl", "ConcurrentAsyncPoolImpl"})
+    String _poolType;
+
+    @Param({"16", "64"})
+    int _maxSize;
+
+    ScheduledExecutorService _scheduler;
+    AsyncPool<Object> _pool;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+      _scheduler = Executors.newSingleThreadScheduledExecutor();
+      _pool = "ConcurrentAsyncPoolImpl".equals(_poolType)
+          ? new ConcurrentAsyncPoolImpl<>("benchmark", new ObjectLifecycle(), _maxSize, Integer.MAX_VALUE,
+              Integer.MAX_VALUE, _scheduler, Integer.MAX_VALUE, AsyncPoolImpl.Strategy.MRU, 0, new NoopRateLimiter(),
+              SystemClock.instance(), NoopLongTracker.instance())
+          : new AsyncPoolImpl<>("benchmark", new ObjectLifecycle(), _maxSize, Integer.MAX_VALUE,
+              Integer.MAX_VALUE, _scheduler, Integer.MAX_VALUE, AsyncPoolImpl.Strategy.MRU, 0, new NoopRateLimiter(),
+              SystemClock.instance(), NoopLongTracker.instance());
+      _pool.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception
+    {
+      FutureCallback<None> callback = new FutureCallback<>();
+      _pool.shutdown(callback);
+      callback.get(10, TimeUnit.SECONDS);
+      _scheduler.shutdown();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Object measureGetPut(PoolState state) throws Exception
+  {
+    FutureCallback<Object> callback = new FutureCallback<>();
+    state._pool.get(callback);
+    Object obj = callback.get(10, TimeUnit.SECONDS);
+    state._pool.put(obj);
+    return obj;
+  }
+
+  private static class ObjectLifecycle implements AsyncPool.Lifecycle<Object>
+  {
+    @Override
+    public void create(Callback<Object> callback)
+    {
+      callback.onSuccess(new Object());
+    }
+
+    @Override
+    public boolean validateGet(Object obj)
+    {
+      return true;
+    }
+
+    @Override
+    public boolean validatePut(Object obj)
+    {
+      return true;
+    }
+
+    @Override
+    public void destroy(Object obj, boolean error, Callback<Object> callback)
+    {
+      callback.onSuccess(obj);
+    }
+
+    @Override
+    public PoolStats.LifecycleStats getStats()
+    {
+      return null;
+    }
+  }
+}
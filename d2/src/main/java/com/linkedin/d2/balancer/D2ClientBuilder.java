@@ -35,6 +35,8 @@ import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategyFactoryV3;
 import com.linkedin.d2.balancer.strategies.random.RandomLoadBalancerStrategyFactory;
+import com.linkedin.d2.balancer.strategies.relative.PowerOfTwoChoicesLoadBalancerStrategy;
+import com.linkedin.d2.balancer.strategies.relative.PowerOfTwoChoicesLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.subsetting.DeterministicSubsettingMetadataProvider;
@@ -121,6 +123,15 @@ public class D2ClientBuilder
       executorsToShutDown.add(_config._executorService);
     }
 
+    if (_config.propertyEventBusLaneCount > 1 && _config.propertyEventBusExecutorService == null)
+    {
+      // one thread per lane, so that a slow lane of a bus doesn't delay the others
+      ScheduledExecutorService laneExecutor = Executors.newScheduledThreadPool(_config.propertyEventBusLaneCount,
+          new NamedThreadFactory("D2 PropertyEventBusLane"));
+      _config.propertyEventBusExecutorService = laneExecutor;
+      executorsToShutDown.add(laneExecutor);
+    }
+
     if (_config.downstreamServicesFetcher == null)
     {
       _config.downstreamServicesFetcher = new FSBasedDownstreamServicesFetcher(_config.fsBasePath, _config.d2ServicePath);
@@ -182,6 +193,8 @@ public class D2ClientBuilder
                   _config.indisWarmUpTimeoutSeconds,
                   _config.warmUpConcurrentRequests,
                   _config.indisWarmUpConcurrentRequests,
+                  _config.warmUpMaxConcurrentRequests,
+                  _config.indisWarmUpMaxConcurrentRequests,
                   _config.downstreamServicesFetcher,
                   _config.indisDownstreamServicesFetcher,
                   _config.backupRequestsEnabled,
@@ -218,7 +231,10 @@ public class D2ClientBuilder
                   _config.xdsChannelLoadBalancingPolicyConfig,
                   _config.subscribeToUriGlobCollection,
                   _config._xdsServerMetricsProvider,
-                  _config.loadBalanceStreamException
+                  _config.loadBalanceStreamException,
+                  _config.useFileStoreSnapshot,
+                  _config.propertyEventBusLaneCount,
+                  _config.propertyEventBusExecutorService
     );
 
     final LoadBalancerWithFacilitiesFactory loadBalancerFactory = (_config.lbWithFacilitiesFactory == null) ?
@@ -564,6 +580,25 @@ public class D2ClientBuilder
     return this;
   }
 
+  /**
+   * Lets the warm up concurrency adapt to the ZooKeeper latency, starting at the warm up concurrent requests and
+   * growing up to this value. Has no effect unless higher than the warm up concurrent requests.
+   */
+  public D2ClientBuilder setWarmUpMaxConcurrentRequests(int warmUpMaxConcurrentRequests)
+  {
+    _config.warmUpMaxConcurrentRequests = warmUpMaxConcurrentRequests;
+    return this;
+  }
+
+  /**
+   * Same as {@link #setWarmUpMaxConcurrentRequests(int)} for the xDS warm up.
+   */
+  public D2ClientBuilder setIndisWarmUpMaxConcurrentRequests(int indisWarmUpMaxConcurrentRequests)
+  {
+    _config.indisWarmUpMaxConcurrentRequests = indisWarmUpMaxConcurrentRequests;
+    return this;
+  }
+
   public D2ClientBuilder setStartUpExecutorService(ScheduledExecutorService executorService)
   {
     _config.startUpExecutorService = executorService;
@@ -730,6 +765,43 @@ public class D2ClientBuilder
     return this;
   }
 
+  /**
+   * Keep the xDS cluster and uri backups on disk in a single binary snapshot file per directory, which is memory-mapped
+   * and lazily deserialized on startup, instead of one file per property.
+   */
+  public D2ClientBuilder setUseFileStoreSnapshot(boolean useFileStoreSnapshot) {
+    _config.useFileStoreSnapshot = useFileStoreSnapshot;
+    return this;
+  }
+
+  /**
+   * Hash the cluster, service and uri properties onto the given number of lanes of their event buses. The lanes run
+   * concurrently, so that a slow update of one property, e.g. a cluster with many uris, doesn't delay the updates of
+   * the properties on other lanes. The events about a given property are still delivered in order. Defaults to 1,
+   * which runs all the events of the buses in the order they were published on the executor service of the load
+   * balancer.
+   *
+   * @see #setPropertyEventBusExecutorService(ExecutorService)
+   */
+  public D2ClientBuilder setPropertyEventBusLaneCount(int propertyEventBusLaneCount) {
+    if (propertyEventBusLaneCount < 1)
+    {
+      throw new IllegalArgumentException("Lane count must be positive: " + propertyEventBusLaneCount);
+    }
+    _config.propertyEventBusLaneCount = propertyEventBusLaneCount;
+    return this;
+  }
+
+  /**
+   * Executor service running the lanes of the event buses when there are several lanes. Its threads are shared by
+   * the lanes of the cluster, service and uri buses. When not set, the client creates a pool with one thread per
+   * lane, which is shut down with the client.
+   */
+  public D2ClientBuilder setPropertyEventBusExecutorService(ExecutorService propertyEventBusExecutorService) {
+    _config.propertyEventBusExecutorService = propertyEventBusExecutorService;
+    return this;
+  }
+
   private Map<String, TransportClientFactory> createDefaultTransportClientFactories()
   {
     final Map<String, TransportClientFactory> clientFactories = new HashMap<>();
@@ -768,6 +840,9 @@ public class D2ClientBuilder
           SystemClock.instance(), _config.loadBalanceStreamException);
       loadBalancerStrategyFactories.putIfAbsent(RelativeLoadBalancerStrategy.RELATIVE_LOAD_BALANCER_STRATEGY_NAME,
           relativeLoadBalancerStrategyFactory);
+      loadBalancerStrategyFactories.putIfAbsent(PowerOfTwoChoicesLoadBalancerStrategy.POWER_OF_TWO_CHOICES_STRATEGY_NAME,
+          new PowerOfTwoChoicesLoadBalancerStrategyFactory(_config._executorService, _config.healthCheckOperations,
+              Collections.emptyList(), _config.eventEmitter, SystemClock.instance(), _config.loadBalanceStreamException));
     }
 
     return loadBalancerStrategyFactories;
@@ -62,7 +62,7 @@ public class D2ClientConfig
   public long lbWaitTimeout = 5000L;
   public TimeUnit lbWaitUnit = TimeUnit.MILLISECONDS;
   String flagFile = "/no/flag/file/set";
-  String basePath = "/d2";
+  public String basePath = "/d2";
   public String fsBasePath = "/tmp/d2";
   public String indisFsBasePath = "/tmp/d2/indis";
   ZKFSTogglingLoadBalancerFactoryImpl.ComponentFactory componentFactory = null;
@@ -76,9 +76,9 @@ public class D2ClientConfig
   boolean shutdownAsynchronously = false;
   boolean isSymlinkAware = true;
   public Map<String, Map<String, Object>> clientServicesConfig = Collections.<String, Map<String, Object>>emptyMap();
-  boolean useNewEphemeralStoreWatcher = true;
+  public boolean useNewEphemeralStoreWatcher = true;
   HealthCheckOperations healthCheckOperations = null;
-  boolean enableSaveUriDataOnDisk = false;
+  public boolean enableSaveUriDataOnDisk = false;
   /**
    * By default is a single threaded executor
    */
@@ -99,9 +99,11 @@ public class D2ClientConfig
   public boolean warmUp = true;
   public int warmUpTimeoutSeconds = WarmUpLoadBalancer.DEFAULT_SEND_REQUESTS_TIMEOUT_SECONDS;
   public int indisWarmUpTimeoutSeconds = WarmUpLoadBalancer.DEFAULT_SEND_REQUESTS_TIMEOUT_SECONDS;
-  int zookeeperReadWindowMs = ZooKeeperStore.DEFAULT_READ_WINDOW_MS;
+  public int zookeeperReadWindowMs = ZooKeeperStore.DEFAULT_READ_WINDOW_MS;
   public int warmUpConcurrentRequests = WarmUpLoadBalancer.DEFAULT_CONCURRENT_REQUESTS;
   public int indisWarmUpConcurrentRequests = WarmUpLoadBalancer.DEFAULT_CONCURRENT_REQUESTS;
+  public int warmUpMaxConcurrentRequests = WarmUpLoadBalancer.DEFAULT_CONCURRENT_REQUESTS;
+  public int indisWarmUpMaxConcurrentRequests = WarmUpLoadBalancer.DEFAULT_CONCURRENT_REQUESTS;
   public DownstreamServicesFetcher downstreamServicesFetcher = null;
   public DownstreamServicesFetcher indisDownstreamServicesFetcher = null;
   boolean backupRequestsEnabled = true;
@@ -139,6 +141,9 @@ public class D2ClientConfig
   public boolean subscribeToUriGlobCollection = false;
   public XdsServerMetricsProvider _xdsServerMetricsProvider = new NoOpXdsServerMetricsProvider();
   public boolean loadBalanceStreamException = false;
+  public boolean useFileStoreSnapshot = false;
+  public int propertyEventBusLaneCount = 1;
+  public ExecutorService propertyEventBusExecutorService = null;
 
   public D2ClientConfig()
   {
@@ -180,6 +185,8 @@ public class D2ClientConfig
                  int indisWarmUpTimeoutSeconds,
                  int warmUpConcurrentRequests,
                  int indisWarmUpConcurrentRequests,
+                 int warmUpMaxConcurrentRequests,
+                 int indisWarmUpMaxConcurrentRequests,
                  DownstreamServicesFetcher downstreamServicesFetcher,
                  DownstreamServicesFetcher indisDownstreamServicesFetcher,
                  boolean backupRequestsEnabled,
@@ -216,7 +223,10 @@ public class D2ClientConfig
                  Map<String, ?> xdsChannelLoadBalancingPolicyConfig,
                  boolean subscribeToUriGlobCollection,
                  XdsServerMetricsProvider xdsServerMetricsProvider,
-                 boolean loadBalanceStreamException
+                 boolean loadBalanceStreamException,
+                 boolean useFileStoreSnapshot,
+                 int propertyEventBusLaneCount,
+                 ExecutorService propertyEventBusExecutorService
       )
   {
     this.zkHosts = zkHosts;
@@ -255,6 +265,8 @@ public class D2ClientConfig
     this.indisWarmUpTimeoutSeconds = indisWarmUpTimeoutSeconds;
     this.warmUpConcurrentRequests = warmUpConcurrentRequests;
     this.indisWarmUpConcurrentRequests = indisWarmUpConcurrentRequests;
+    this.warmUpMaxConcurrentRequests = warmUpMaxConcurrentRequests;
+    this.indisWarmUpMaxConcurrentRequests = indisWarmUpMaxConcurrentRequests;
     this.downstreamServicesFetcher = downstreamServicesFetcher;
     this.indisDownstreamServicesFetcher = indisDownstreamServicesFetcher;
     this.backupRequestsEnabled = backupRequestsEnabled;
@@ -292,5 +304,8 @@ public class D2ClientConfig
     this.subscribeToUriGlobCollection = subscribeToUriGlobCollection;
     this._xdsServerMetricsProvider = xdsServerMetricsProvider;
     this.loadBalanceStreamException = loadBalanceStreamException;
+    this.useFileStoreSnapshot = useFileStoreSnapshot;
+    this.propertyEventBusLaneCount = propertyEventBusLaneCount;
+    this.propertyEventBusExecutorService = propertyEventBusExecutorService;
   }
 }
@@ -81,20 +81,29 @@ public class LastSeenBalancerWithFacilitiesFactory implements LoadBalancerWithFa
     LastSeenZKStore<ClusterProperties> lsClusterStore =
       getClusterPropertiesLastSeenZKStore(config, zkPersistentConnection, d2ClientJmxManager,
                                           config._executorService, config.zookeeperReadWindowMs);
-    PropertyEventBus<ClusterProperties> clusterBus = new PropertyEventBusImpl<>(config._executorService);
+    PropertyEventBus<ClusterProperties> clusterBus =
+      PropertyEventBusImpl.create(config._executorService, config.propertyEventBusLaneCount,
+        config.propertyEventBusExecutorService);
     clusterBus.setPublisher(lsClusterStore);
+    d2ClientJmxManager.setPropertyEventBus("Cluster", clusterBus);
 
     LastSeenZKStore<ServiceProperties> lsServiceStore =
       getServicePropertiesLastSeenZKStore(config, zkPersistentConnection, d2ClientJmxManager,
                                           config._executorService, config.zookeeperReadWindowMs);
-    PropertyEventBus<ServiceProperties> serviceBus = new PropertyEventBusImpl<>(config._executorService);
+    PropertyEventBus<ServiceProperties> serviceBus =
+      PropertyEventBusImpl.create(config._executorService, config.propertyEventBusLaneCount,
+        config.propertyEventBusExecutorService);
     serviceBus.setPublisher(lsServiceStore);
+    d2ClientJmxManager.setPropertyEventBus("Service", serviceBus);
 
     LastSeenZKStore<UriProperties> lsUrisStore =
       getUriPropertiesLastSeenZKStore(config, zkPersistentConnection, d2ClientJmxManager,
                                       config._executorService, config.zookeeperReadWindowMs);
-    PropertyEventBus<UriProperties> uriBus = new PropertyEventBusImpl<>(config._executorService);
+    PropertyEventBus<UriProperties> uriBus =
+      PropertyEventBusImpl.create(config._executorService, config.propertyEventBusLaneCount,
+        config.propertyEventBusExecutorService);
     uriBus.setPublisher(lsUrisStore);
+    d2ClientJmxManager.setPropertyEventBus("Uri", uriBus);
 
     // create the simple load balancer
     SimpleLoadBalancerState state = new SimpleLoadBalancerState(
@@ -118,7 +127,8 @@ public class LastSeenBalancerWithFacilitiesFactory implements LoadBalancerWithFa
     {
       balancer = new WarmUpLoadBalancer(balancer, lastSeenLoadBalancer, config.startUpExecutorService, config.fsBasePath,
                                         config.d2ServicePath, config.downstreamServicesFetcher, config.warmUpTimeoutSeconds,
-                                        config.warmUpConcurrentRequests, config.dualReadStateManager, false);
+                                        config.warmUpConcurrentRequests, config.warmUpMaxConcurrentRequests,
+                                        config.dualReadStateManager, false);
     }
 
     return balancer;
@@ -55,7 +55,7 @@ public class ZKFSLoadBalancerWithFacilitiesFactory implements LoadBalancerWithFa
     {
       balancer = new WarmUpLoadBalancer(balancer, zkfsLoadBalancer, config.startUpExecutorService, config.fsBasePath,
         config.d2ServicePath, config.downstreamServicesFetcher, config.warmUpTimeoutSeconds,
-        config.warmUpConcurrentRequests, config.dualReadStateManager, false);
+        config.warmUpConcurrentRequests, config.warmUpMaxConcurrentRequests, config.dualReadStateManager, false);
     }
     return balancer;
   }
@@ -76,30 +76,6 @@ public class ZKFSLoadBalancerWithFacilitiesFactory implements LoadBalancerWithFa
     D2ClientJmxManager d2ClientJmxManager = new D2ClientJmxManager(config.d2JmxManagerPrefix, config.jmxManager,
         D2ClientJmxManager.DiscoverySourceType.ZK, config.dualReadStateManager);
 
-    return new ZKFSTogglingLoadBalancerFactoryImpl(loadBalancerComponentFactory,
-                                                   config.lbWaitTimeout,
-                                                   config.lbWaitUnit,
-                                                   config.basePath,
-                                                   config.fsBasePath,
-                                                   config.clientFactories,
-                                                   config.loadBalancerStrategyFactories,
-                                                   config.d2ServicePath,
-                                                   config.sslContext,
-                                                   config.sslParameters,
-                                                   config.isSSLEnabled,
-                                                   config.clientServicesConfig,
-                                                   config.useNewEphemeralStoreWatcher,
-                                                   config.partitionAccessorRegistry,
-                                                   config.enableSaveUriDataOnDisk,
-                                                   config.sslSessionValidatorFactory,
-                                                   d2ClientJmxManager,
-                                                   config.zookeeperReadWindowMs,
-                                                   config.deterministicSubsettingMetadataProvider,
-                                                   config.failoutConfigProviderFactory,
-                                                   config.canaryDistributionProvider,
-                                                   config.serviceDiscoveryEventEmitter,
-                                                   config.dualReadStateManager,
-                                                   config.loadBalanceStreamException
-    );
+    return new ZKFSTogglingLoadBalancerFactoryImpl(loadBalancerComponentFactory, config, d2ClientJmxManager);
   }
 }
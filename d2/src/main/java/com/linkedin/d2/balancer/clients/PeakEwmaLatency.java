@@ -0,0 +1,129 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.clients;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Peak exponentially weighted moving average of the latency of the calls to a host.
+ *
+ * A latency higher than the current average replaces it right away, while lower latencies only bring it down
+ * gradually, with a weight depending on the time elapsed since the previous observation. The estimate therefore
+ * reacts to a host slowing down, e.g. during a GC pause, on its first slow response, and recovers over about the decay
+ * time once the host is fast again.
+ *
+ * Times are in nanoseconds, and are passed in by callers so that the estimate can be tested without a real clock.
+ *
+ * This class is lock-free: the estimate and the time of its last update are an immutable snapshot replaced with a
+ * compare-and-set, so that concurrent calls completing on the same host don't contend on a lock.
+ */
+public class PeakEwmaLatency
+{
+  public static final long DEFAULT_DECAY_TIME_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final double _decayTimeNanos;
+  private final AtomicReference<State> _state = new AtomicReference<>();
+
+  public PeakEwmaLatency()
+  {
+    this(DEFAULT_DECAY_TIME_NANOS);
+  }
+
+  public PeakEwmaLatency(long decayTimeNanos)
+  {
+    if (decayTimeNanos <= 0)
+    {
+      throw new IllegalArgumentException("Decay time must be positive: " + decayTimeNanos);
+    }
+    _decayTimeNanos = decayTimeNanos;
+  }
+
+  /**
+   * Records the latency of a successful call.
+   */
+  public void observe(long latencyNanos, long nowNanos)
+  {
+    State current;
+    State next;
+    do
+    {
+      current = _state.get();
+      if (current == null || latencyNanos > current._latencyNanos)
+      {
+        next = new State(latencyNanos, nowNanos);
+      }
+      else
+      {
+        double weight = weight(current, nowNanos);
+        next = new State(current._latencyNanos * weight + latencyNanos * (1 - weight), nowNanos);
+      }
+    }
+    while (!_state.compareAndSet(current, next));
+  }
+
+  /**
+   * Records the latency of a failed call. A failed call can raise the estimate but never lowers it, so that a host
+   * failing fast doesn't look faster than the healthy ones.
+   */
+  public void observeError(long latencyNanos, long nowNanos)
+  {
+    State current;
+    do
+    {
+      current = _state.get();
+      if (current != null && latencyNanos <= current._latencyNanos)
+      {
+        return;
+      }
+    }
+    while (!_state.compareAndSet(current, new State(latencyNanos, nowNanos)));
+  }
+
+  /**
+   * @return the estimated latency in nanoseconds, or 0 if no call has completed yet.
+   */
+  public double get(long nowNanos)
+  {
+    // decay towards zero while no call completes, so that a host recovers from a peak even if it gets no traffic
+    State state = _state.get();
+    return state == null ? 0 : state._latencyNanos * weight(state, nowNanos);
+  }
+
+  public boolean isObserved()
+  {
+    return _state.get() != null;
+  }
+
+  private double weight(State state, long nowNanos)
+  {
+    return Math.exp(-Math.max(nowNanos - state._lastUpdateNanos, 0) / _decayTimeNanos);
+  }
+
+  private static final class State
+  {
+    private final double _latencyNanos;
+    private final long _lastUpdateNanos;
+
+    private State(double latencyNanos, long lastUpdateNanos)
+    {
+      _latencyNanos = latencyNanos;
+      _lastUpdateNanos = lastUpdateNanos;
+    }
+  }
+}
@@ -90,4 +90,12 @@ public interface TrackerClient extends LoadBalancerClient
    * @return CallTracker.
    */
   CallTracker getCallTracker();
+
+  /**
+   * @return Peak EWMA of the latency of the calls to the host in nanoseconds, or 0 if it is not tracked.
+   */
+  default double getPeakEwmaLatency()
+  {
+    return 0D;
+  }
 }
@@ -19,6 +19,7 @@ package com.linkedin.d2.balancer.clients;
 import com.linkedin.d2.D2RelativeStrategyProperties;
 import com.linkedin.d2.HttpStatusCodeRange;
 import com.linkedin.d2.balancer.config.RelativeStrategyPropertiesConverter;
+import com.linkedin.d2.balancer.strategies.relative.PowerOfTwoChoicesLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategyFactory;
 import java.net.URI;
@@ -131,11 +132,15 @@ public class TrackerClientFactory
         break;
       case (RelativeLoadBalancerStrategy.RELATIVE_LOAD_BALANCER_STRATEGY_NAME):
         trackerClient = createTrackerClientImpl(uri, uriProperties, serviceProperties, loadBalancerStrategyName,
-            transportClient, clock, false, doNotSlowStart, doNotLoadBalance);
+            transportClient, clock, false, doNotSlowStart, doNotLoadBalance, false);
+        break;
+      case (PowerOfTwoChoicesLoadBalancerStrategy.POWER_OF_TWO_CHOICES_STRATEGY_NAME):
+        trackerClient = createTrackerClientImpl(uri, uriProperties, serviceProperties, loadBalancerStrategyName,
+            transportClient, clock, false, doNotSlowStart, doNotLoadBalance, true);
         break;
       default:
         trackerClient = createTrackerClientImpl(uri, uriProperties, serviceProperties, loadBalancerStrategyName,
-            transportClient, clock, true, doNotSlowStart, doNotLoadBalance);
+            transportClient, clock, true, doNotSlowStart, doNotLoadBalance, false);
     }
 
     return trackerClient;
@@ -187,6 +192,7 @@ public class TrackerClientFactory
       switch (loadBalancerStrategyName)
       {
         case (RelativeLoadBalancerStrategy.RELATIVE_LOAD_BALANCER_STRATEGY_NAME):
+        case (PowerOfTwoChoicesLoadBalancerStrategy.POWER_OF_TWO_CHOICES_STRATEGY_NAME):
           Map<String, Object> relativeLoadBalancerProperties = serviceProperties.getRelativeStrategyProperties();
           if (relativeLoadBalancerProperties != null)
           {
@@ -255,7 +261,8 @@ public class TrackerClientFactory
                                                            Clock clock,
                                                            boolean percentileTrackingEnabled,
                                                            boolean doNotSlowStart,
-                                                           boolean doNotLoadBalance)
+                                                           boolean doNotLoadBalance,
+                                                           boolean peakEwmaLatencyTrackingEnabled)
   {
     List<HttpStatusCodeRange> errorStatusCodeRanges = getErrorStatusRanges(serviceProperties);
     Predicate<Integer> isErrorStatus = (status) -> {
@@ -277,6 +284,7 @@ public class TrackerClientFactory
                                  isErrorStatus,
                                  percentileTrackingEnabled,
                                  doNotSlowStart,
-                                 doNotLoadBalance);
+                                 doNotLoadBalance,
+                                 peakEwmaLatencyTrackingEnabled);
   }
 }
@@ -78,6 +78,7 @@ public class TrackerClientImpl implements TrackerClient
   private final ConcurrentMap<Integer, Double> _subsetWeightMap;
   private final boolean _doNotLoadBalance;
   final CallTracker _callTracker;
+  private final PeakEwmaLatency _peakEwmaLatency;
 
   private boolean _doNotSlowStart;
 
@@ -91,6 +92,18 @@ public class TrackerClientImpl implements TrackerClient
 
   public TrackerClientImpl(URI uri, Map<Integer, PartitionData> partitionDataMap, TransportClient transportClient,
       Clock clock, long interval, Predicate<Integer> isErrorStatus, boolean percentileTrackingEnabled, boolean doNotSlowStart, boolean doNotLoadBalance)
+  {
+    this(uri, partitionDataMap, transportClient, clock, interval, isErrorStatus, percentileTrackingEnabled,
+        doNotSlowStart, doNotLoadBalance, false);
+  }
+
+  /**
+   * @param peakEwmaLatencyTrackingEnabled whether to track the {@link PeakEwmaLatency} of the calls, which only the
+   *                                       strategies reading {@link #getPeakEwmaLatency()} need.
+   */
+  public TrackerClientImpl(URI uri, Map<Integer, PartitionData> partitionDataMap, TransportClient transportClient,
+      Clock clock, long interval, Predicate<Integer> isErrorStatus, boolean percentileTrackingEnabled, boolean doNotSlowStart,
+      boolean doNotLoadBalance, boolean peakEwmaLatencyTrackingEnabled)
   {
     _uri = uri;
     _transportClient = transportClient;
@@ -101,6 +114,7 @@ public class TrackerClientImpl implements TrackerClient
     _doNotSlowStart = doNotSlowStart;
     _subsetWeightMap = new ConcurrentHashMap<>();
     _doNotLoadBalance = doNotLoadBalance;
+    _peakEwmaLatency = peakEwmaLatencyTrackingEnabled ? new PeakEwmaLatency() : null;
 
     _callTracker.addStatsRolloverEventListener(event -> _latestCallStats = event.getCallStats());
 
@@ -148,7 +162,8 @@ public class TrackerClientImpl implements TrackerClient
                           Map<String, String> wireAttrs,
                           TransportCallback<RestResponse> callback)
   {
-    _transportClient.restRequest(request, requestContext, wireAttrs, new TrackerClientRestCallback(callback, _callTracker.startCall()));
+    _transportClient.restRequest(request, requestContext, wireAttrs,
+        new TrackerClientRestCallback(callback, _callTracker.startCall(), getStartNanos()));
   }
 
   @Override
@@ -157,7 +172,8 @@ public class TrackerClientImpl implements TrackerClient
                             Map<String, String> wireAttrs,
                             TransportCallback<StreamResponse> callback)
   {
-    _transportClient.streamRequest(request, requestContext, wireAttrs, new TrackerClientStreamCallback(callback, _callTracker.startCall()));
+    _transportClient.streamRequest(request, requestContext, wireAttrs,
+        new TrackerClientStreamCallback(callback, _callTracker.startCall(), getStartNanos()));
   }
 
   @Override
@@ -172,6 +188,12 @@ public class TrackerClientImpl implements TrackerClient
     return _callTracker;
   }
 
+  @Override
+  public double getPeakEwmaLatency()
+  {
+    return _peakEwmaLatency == null ? 0D : _peakEwmaLatency.get(System.nanoTime());
+  }
+
   @Override
   public String toString()
   {
@@ -182,12 +204,15 @@ public class TrackerClientImpl implements TrackerClient
   {
     private TransportCallback<RestResponse> _wrappedCallback;
     private CallCompletion       _callCompletion;
+    private final long           _startNanos;
 
     public TrackerClientRestCallback(TransportCallback<RestResponse> wrappedCallback,
-                                 CallCompletion callCompletion)
+                                 CallCompletion callCompletion,
+                                 long startNanos)
     {
       _wrappedCallback = wrappedCallback;
       _callCompletion = callCompletion;
+      _startNanos = startNanos;
     }
 
     @Override
@@ -197,10 +222,12 @@ public class TrackerClientImpl implements TrackerClient
       {
         Throwable throwable = response.getError();
         handleError(_callCompletion, throwable);
+        observeLatency(_startNanos, true);
       }
       else
       {
         _callCompletion.endCall();
+        observeLatency(_startNanos, false);
       }
 
       _wrappedCallback.onResponse(response);
@@ -229,12 +256,15 @@ public class TrackerClientImpl implements TrackerClient
   {
     private TransportCallback<StreamResponse> _wrappedCallback;
     private CallCompletion       _callCompletion;
+    private final long           _startNanos;
 
     public TrackerClientStreamCallback(TransportCallback<StreamResponse> wrappedCallback,
-                                 CallCompletion callCompletion)
+                                 CallCompletion callCompletion,
+                                 long startNanos)
     {
       _wrappedCallback = wrappedCallback;
       _callCompletion = callCompletion;
+      _startNanos = startNanos;
     }
 
     @Override
@@ -244,6 +274,7 @@ public class TrackerClientImpl implements TrackerClient
       {
         Throwable throwable = response.getError();
         handleError(_callCompletion, throwable);
+        observeLatency(_startNanos, true);
       }
       else
       {
@@ -265,6 +296,7 @@ public class TrackerClientImpl implements TrackerClient
          * side events, and error counting still works as before.
          */
         _callCompletion.record();
+        observeLatency(_startNanos, false);
         Observer observer = new Observer()
         {
           @Override
@@ -291,6 +323,28 @@ public class TrackerClientImpl implements TrackerClient
     }
   }
 
+  private long getStartNanos()
+  {
+    return _peakEwmaLatency == null ? 0L : System.nanoTime();
+  }
+
+  private void observeLatency(long startNanos, boolean error)
+  {
+    if (_peakEwmaLatency == null)
+    {
+      return;
+    }
+    long now = System.nanoTime();
+    if (error)
+    {
+      _peakEwmaLatency.observeError(now - startNanos, now);
+    }
+    else
+    {
+      _peakEwmaLatency.observe(now - startNanos, now);
+    }
+  }
+
   private void handleError(CallCompletion callCompletion, Throwable throwable)
   {
     if (isServerError(throwable))
@@ -140,6 +140,9 @@ public class LoadBalancerStrategyPropertiesConverter
           break;
         case DISTRIBUTION_BASED:
           map.put(PropertyKeys.HTTP_LB_CONSISTENT_HASH_ALGORITHM, DelegatingRingFactory.DISTRIBUTION_NON_HASH);
+          break;
+        case MAGLEV:
+          map.put(PropertyKeys.HTTP_LB_CONSISTENT_HASH_ALGORITHM, DelegatingRingFactory.MAGLEV_CONSISTENT_HASH);
       }
     }
     if (config.hasNumberOfProbes())
@@ -285,6 +288,10 @@ public class LoadBalancerStrategyPropertiesConverter
       {
         config.setConsistentHashAlgorithm(ConsistentHashAlgorithmEnum.DISTRIBUTION_BASED);
       }
+      else if (DelegatingRingFactory.MAGLEV_CONSISTENT_HASH.equalsIgnoreCase(consistentHashAlgorithm))
+      {
+        config.setConsistentHashAlgorithm(ConsistentHashAlgorithmEnum.MAGLEV);
+      }
     }
     if (properties.containsKey(PropertyKeys.HTTP_LB_CONSISTENT_HASH_NUM_PROBES))
     {
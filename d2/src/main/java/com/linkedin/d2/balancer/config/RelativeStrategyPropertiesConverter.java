@@ -312,6 +312,9 @@ public class RelativeStrategyPropertiesConverter
           break;
         case DISTRIBUTION_BASED:
           ringPropertyMap.put(PropertyKeys.RING_CONSISTENT_HASH_ALGORITHM, DelegatingRingFactory.DISTRIBUTION_NON_HASH);
+          break;
+        case MAGLEV:
+          ringPropertyMap.put(PropertyKeys.RING_CONSISTENT_HASH_ALGORITHM, DelegatingRingFactory.MAGLEV_CONSISTENT_HASH);
       }
     }
     if (ringProperties.hasNumberOfProbes())
@@ -375,6 +378,10 @@ public class RelativeStrategyPropertiesConverter
       {
         ringProperties.setConsistentHashAlgorithm(ConsistentHashAlgorithm.DISTRIBUTION_BASED);
       }
+      else if (DelegatingRingFactory.MAGLEV_CONSISTENT_HASH.equalsIgnoreCase(consistentHashAlgorithm))
+      {
+        ringProperties.setConsistentHashAlgorithm(ConsistentHashAlgorithm.MAGLEV);
+      }
     }
     if (ringPropertyMap.containsKey(PropertyKeys.RING_NUMBER_OF_PROBES))
     {
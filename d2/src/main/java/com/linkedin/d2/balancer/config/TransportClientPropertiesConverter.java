@@ -151,6 +151,14 @@ public class TransportClientPropertiesConverter
     {
       prop.put(PropertyKeys.HTTP_MAX_CLIENT_REQUEST_RETRY_RATIO, config.getMaxClientRequestRetryRatio().toString());
     }
+    if (config.hasAdaptiveConcurrencyLimitEnabled())
+    {
+      prop.put(PropertyKeys.HTTP_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED, config.isAdaptiveConcurrencyLimitEnabled().toString());
+    }
+    if (config.hasMaxConcurrencyLimit())
+    {
+      prop.put(PropertyKeys.HTTP_MAX_CONCURRENCY_LIMIT, config.getMaxConcurrencyLimit().toString());
+    }
     return prop;
   }
 
@@ -270,6 +278,15 @@ public class TransportClientPropertiesConverter
     {
       config.setMaxClientRequestRetryRatio(coerce(properties.get(PropertyKeys.HTTP_MAX_CLIENT_REQUEST_RETRY_RATIO), Double.class));
     }
+    if (properties.containsKey(PropertyKeys.HTTP_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED))
+    {
+      config.setAdaptiveConcurrencyLimitEnabled(
+          coerce(properties.get(PropertyKeys.HTTP_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED), Boolean.class));
+    }
+    if (properties.containsKey(PropertyKeys.HTTP_MAX_CONCURRENCY_LIMIT))
+    {
+      config.setMaxConcurrencyLimit(coerce(properties.get(PropertyKeys.HTTP_MAX_CONCURRENCY_LIMIT), Integer.class));
+    }
     return config;
   }
 }
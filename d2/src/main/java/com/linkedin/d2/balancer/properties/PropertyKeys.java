@@ -186,6 +186,8 @@ public class PropertyKeys
   public static final String HTTP_TCP_NO_DELAY = HttpClientFactory.HTTP_TCP_NO_DELAY;
   public static final String HTTP_PROTOCOL_VERSION = HttpClientFactory.HTTP_PROTOCOL_VERSION;
   public static final String HTTP_MAX_CLIENT_REQUEST_RETRY_RATIO = HttpClientFactory.HTTP_MAX_CLIENT_REQUEST_RETRY_RATIO;
+  public static final String HTTP_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = HttpClientFactory.HTTP_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED;
+  public static final String HTTP_MAX_CONCURRENCY_LIMIT = HttpClientFactory.HTTP_MAX_CONCURRENCY_LIMIT;
 
   //used for multi colo
   public static final String DEFAULT_COLO = "defaultColo";
@@ -23,10 +23,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 @JsonIgnoreProperties({ "version" })
 public class UriProperties
 {
+  private static final AtomicLong GENERATIONS = new AtomicLong();
+
   private final String                              _clusterName;
   // this will categorize uris based on scheme and partitions.
   // For example, if we want to know the uris for scheme "http" and partition 5,
@@ -38,6 +41,18 @@ public class UriProperties
   // Properties specific to a particular machine in the cluster
   private final Map<URI, Map<String, Object>> _uriSpecificProperties;
 
+  // Identifies these properties, so that properties derived from them with withChangedUris can refer to them without
+  // retaining them.
+  private final long _generation = GENERATIONS.incrementAndGet();
+  // When these properties were derived from others with withChangedUris, the generation of the others and the uris
+  // that differ from them. -1 and null otherwise.
+  private final long _derivedFromGeneration;
+  private final Set<URI> _changedUris;
+
+  // When these properties were merged from several ones by UriPropertiesMerger, the uris announced by more than one
+  // of them. Null when unknown.
+  private final Set<URI> _sharedUris;
+
   private long _version;
 
   public UriProperties(String clusterName, Map<URI, Map<Integer, PartitionData>> partitionDescriptions)
@@ -56,6 +71,15 @@ public class UriProperties
       Map<URI, Map<Integer, PartitionData>> partitionDescriptions,
       Map<URI, Map<String, Object>> uriSpecificProperties,
       long version)
+  {
+    this(clusterName, partitionDescriptions, uriSpecificProperties, version, null);
+  }
+
+  UriProperties(String clusterName,
+      Map<URI, Map<Integer, PartitionData>> partitionDescriptions,
+      Map<URI, Map<String, Object>> uriSpecificProperties,
+      long version,
+      Set<URI> sharedUris)
   {
     _clusterName = clusterName;
     _version = version;
@@ -109,6 +133,151 @@ public class UriProperties
 
     _uriSpecificProperties = (uriSpecificProperties == null) ? Collections.<URI, Map<String, Object>>emptyMap() :
         Collections.unmodifiableMap(uriSpecificProperties);
+    _derivedFromGeneration = -1;
+    _changedUris = null;
+    _sharedUris = sharedUris == null ? null : Collections.unmodifiableSet(sharedUris);
+  }
+
+  private UriProperties(UriProperties properties,
+      Map<URI, Map<Integer, PartitionData>> partitionDescriptions,
+      Map<URI, Map<String, Object>> uriSpecificProperties,
+      Set<URI> changedUris,
+      long version,
+      Set<URI> sharedUris)
+  {
+    _clusterName = properties._clusterName;
+    _version = version;
+
+    // The top level maps are still copied, which costs a reference copy per uri, but only the descriptions of the
+    // changed uris are copied and only their scheme and partition groups are rebuilt. The descriptions of the other
+    // uris are already unmodifiable and shared with the given properties.
+    Map<URI, Map<Integer, PartitionData>> partitionDescriptionsMap = new HashMap<>(properties._partitionDesc);
+    Map<URI, Map<String, Object>> uriSpecificPropertiesMap = new HashMap<>(properties._uriSpecificProperties);
+    // copies of the scheme and partition groups that the changed uris are added to or removed from
+    Map<String, Map<Integer, Set<URI>>> modifiedGroups = new HashMap<>();
+    for (URI uri : changedUris)
+    {
+      Map<Integer, PartitionData> oldPartitions = properties._partitionDesc.get(uri);
+      if (oldPartitions != null)
+      {
+        for (Integer partitionId : oldPartitions.keySet())
+        {
+          getModifiedGroup(properties, modifiedGroups, uri.getScheme(), partitionId).remove(uri);
+        }
+      }
+
+      Map<Integer, PartitionData> newPartitions = partitionDescriptions.get(uri);
+      if (newPartitions == null)
+      {
+        partitionDescriptionsMap.remove(uri);
+      }
+      else
+      {
+        partitionDescriptionsMap.put(uri, Collections.unmodifiableMap(new HashMap<>(newPartitions)));
+        for (Integer partitionId : newPartitions.keySet())
+        {
+          getModifiedGroup(properties, modifiedGroups, uri.getScheme(), partitionId).add(uri);
+        }
+      }
+
+      Map<String, Object> newUriSpecificProperties = uriSpecificProperties.get(uri);
+      if (newUriSpecificProperties == null)
+      {
+        uriSpecificPropertiesMap.remove(uri);
+      }
+      else
+      {
+        uriSpecificPropertiesMap.put(uri, newUriSpecificProperties);
+      }
+    }
+
+    // replace the modified groups, dropping the empty ones like grouping all the uris would
+    Map<String, Map<Integer, Set<URI>>> urisBySchemeAndPartition = new HashMap<>(properties._urisBySchemeAndPartition);
+    for (Map.Entry<String, Map<Integer, Set<URI>>> entry : modifiedGroups.entrySet())
+    {
+      final String scheme = entry.getKey();
+      Map<Integer, Set<URI>> original = properties._urisBySchemeAndPartition.get(scheme);
+      Map<Integer, Set<URI>> partitionUris = original == null ? new HashMap<>() : new HashMap<>(original);
+      for (Map.Entry<Integer, Set<URI>> partitionUriEntry : entry.getValue().entrySet())
+      {
+        if (partitionUriEntry.getValue().isEmpty())
+        {
+          partitionUris.remove(partitionUriEntry.getKey());
+        }
+        else
+        {
+          partitionUris.put(partitionUriEntry.getKey(), Collections.unmodifiableSet(partitionUriEntry.getValue()));
+        }
+      }
+      if (partitionUris.isEmpty())
+      {
+        urisBySchemeAndPartition.remove(scheme);
+      }
+      else
+      {
+        urisBySchemeAndPartition.put(scheme, Collections.unmodifiableMap(partitionUris));
+      }
+    }
+
+    _partitionDesc = Collections.unmodifiableMap(partitionDescriptionsMap);
+    _urisBySchemeAndPartition = Collections.unmodifiableMap(urisBySchemeAndPartition);
+    _uriSpecificProperties = Collections.unmodifiableMap(uriSpecificPropertiesMap);
+    _derivedFromGeneration = properties._generation;
+    _changedUris = Collections.unmodifiableSet(new HashSet<>(changedUris));
+    _sharedUris = sharedUris == null ? null : Collections.unmodifiableSet(sharedUris);
+  }
+
+  private static Set<URI> getModifiedGroup(UriProperties properties,
+      Map<String, Map<Integer, Set<URI>>> modifiedGroups, String scheme, Integer partitionId)
+  {
+    return modifiedGroups.computeIfAbsent(scheme, key -> new HashMap<>()).computeIfAbsent(partitionId, key ->
+    {
+      Set<URI> original = properties.getUriBySchemeAndPartition(scheme, partitionId);
+      return original == null ? new HashSet<>() : new HashSet<>(original);
+    });
+  }
+
+  /**
+   * Returns properties equal to these ones, except for the uris in {@code changedUris} whose partition descriptions
+   * and uri specific properties are replaced by the ones in the given maps, or removed when absent from them.
+   * Unlike building the properties from scratch, the descriptions of the other uris are shared rather than copied and
+   * grouped again, although the maps indexing them are still copied, and the changed uris can be retrieved with
+   * {@link #getChangedUrisSince}.
+   */
+  public UriProperties withChangedUris(Map<URI, Map<Integer, PartitionData>> partitionDescriptions,
+      Map<URI, Map<String, Object>> uriSpecificProperties,
+      Set<URI> changedUris,
+      long version)
+  {
+    return withChangedUris(partitionDescriptions, uriSpecificProperties, changedUris, version, null);
+  }
+
+  UriProperties withChangedUris(Map<URI, Map<Integer, PartitionData>> partitionDescriptions,
+      Map<URI, Map<String, Object>> uriSpecificProperties,
+      Set<URI> changedUris,
+      long version,
+      Set<URI> sharedUris)
+  {
+    return new UriProperties(this, partitionDescriptions, uriSpecificProperties, changedUris, version, sharedUris);
+  }
+
+  /**
+   * @return the uris whose partition descriptions or uri specific properties differ between {@code previous} and
+   *         these properties, or null if these properties were not derived from {@code previous} with
+   *         {@link #withChangedUris}, in which case the uris of both properties have to be compared.
+   */
+  public Set<URI> getChangedUrisSince(UriProperties previous)
+  {
+    return previous != null && _derivedFromGeneration == previous._generation ? _changedUris : null;
+  }
+
+  /**
+   * @return the uris announced by more than one of the properties these ones were merged from by
+   *         {@link UriPropertiesMerger}, or null if unknown.
+   */
+  Set<URI> getSharedUris()
+  {
+    return _sharedUris;
   }
 
   public String getClusterName()
@@ -21,6 +21,7 @@ import com.linkedin.d2.discovery.stores.zk.ZooKeeperPropertyMerger;
 import java.net.URI;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
@@ -36,6 +37,8 @@ public class UriPropertiesMerger implements ZooKeeperPropertyMerger<UriPropertie
   {
     Map<URI, Map<Integer, PartitionData>> partitionData = new HashMap<>();
     Map<URI, Map<String, Object>> uriSpecificProperties = new HashMap<>();
+    Set<URI> announcedUris = new HashSet<>();
+    Set<URI> sharedUris = new HashSet<>();
 
     String clusterName = propertyName;
     long maxVersion = -1;
@@ -43,6 +46,13 @@ public class UriPropertiesMerger implements ZooKeeperPropertyMerger<UriPropertie
     for (UriProperties property : propertiesToMerge)
     {
       maxVersion = Long.max(maxVersion, property.getVersion());
+      for (URI uri : getUris(property))
+      {
+        if (!announcedUris.add(uri))
+        {
+          sharedUris.add(uri);
+        }
+      }
       for (Map.Entry<URI, Map<Integer, PartitionData>> entry : property.getPartitionDesc().entrySet())
       {
         partitionData.put(entry.getKey(), entry.getValue());
@@ -53,7 +63,132 @@ public class UriPropertiesMerger implements ZooKeeperPropertyMerger<UriPropertie
       }
     }
 
-    return new UriProperties(clusterName, partitionData, uriSpecificProperties, maxVersion);
+    return new UriProperties(clusterName, partitionData, uriSpecificProperties, maxVersion, sharedUris);
+  }
+
+  /**
+   * Applies the uris of the added and removed children to the merged properties, which shares the partition data
+   * of the other uris instead of merging them again. Another child may still announce the uri of a removed child,
+   * for instance when a host announces itself again before its previous session expires, so the merged properties
+   * keep track of the uris announced by more than one child. The other children are only looked up for those uris,
+   * or for all the removed uris when the merged properties were not built by this merger, and when the removed
+   * children had the highest version.
+   */
+  @Override
+  public UriProperties merge(String propertyName, UriProperties merged, Collection<UriProperties> removed,
+      Collection<UriProperties> added, Collection<UriProperties> propertiesToMerge)
+  {
+    if (merged == null)
+    {
+      return merge(propertyName, propertiesToMerge);
+    }
+
+    Set<URI> sharedUris = merged.getSharedUris() == null ? null : new HashSet<>(merged.getSharedUris());
+    Set<URI> removedUris = new HashSet<>();
+    Set<URI> removedSharedUris = new HashSet<>();
+    Map<URI, Map<Integer, PartitionData>> partitionData = new HashMap<>();
+    Map<URI, Map<String, Object>> uriSpecificProperties = new HashMap<>();
+    long maxVersion = merged.getVersion();
+    boolean removedMaxVersion = false;
+
+    for (UriProperties property : removed)
+    {
+      removedMaxVersion |= property.getVersion() >= maxVersion;
+      for (URI uri : getUris(property))
+      {
+        removedUris.add(uri);
+        if (sharedUris == null || sharedUris.contains(uri))
+        {
+          removedSharedUris.add(uri);
+        }
+      }
+    }
+
+    if (!removedSharedUris.isEmpty() || removedMaxVersion)
+    {
+      Map<URI, Integer> announcements = new HashMap<>();
+      if (removedMaxVersion)
+      {
+        maxVersion = -1;
+      }
+      for (UriProperties property : propertiesToMerge)
+      {
+        maxVersion = Long.max(maxVersion, property.getVersion());
+        if (!removedSharedUris.isEmpty())
+        {
+          for (URI uri : getUris(property))
+          {
+            if (removedSharedUris.contains(uri))
+            {
+              announcements.merge(uri, 1, Integer::sum);
+            }
+          }
+          putUris(property, removedSharedUris, partitionData, uriSpecificProperties);
+        }
+      }
+      if (sharedUris != null)
+      {
+        for (URI uri : removedSharedUris)
+        {
+          if (announcements.getOrDefault(uri, 0) <= 1)
+          {
+            sharedUris.remove(uri);
+          }
+        }
+      }
+    }
+
+    Set<URI> changedUris = new HashSet<>(removedUris);
+    Set<URI> addedUris = new HashSet<>();
+    for (UriProperties property : added)
+    {
+      maxVersion = Long.max(maxVersion, property.getVersion());
+      Set<URI> uris = getUris(property);
+      for (URI uri : uris)
+      {
+        // the announcements of the removed uris that were shared were already counted above
+        boolean announcedByOthers = !addedUris.add(uri) || !removedUris.contains(uri)
+            && (merged.getPartitionDesc().containsKey(uri) || merged.getUriSpecificProperties().containsKey(uri));
+        if (sharedUris != null && announcedByOthers && !removedSharedUris.contains(uri))
+        {
+          sharedUris.add(uri);
+        }
+      }
+      changedUris.addAll(uris);
+      putUris(property, uris, partitionData, uriSpecificProperties);
+    }
+
+    return merged.withChangedUris(partitionData, uriSpecificProperties, changedUris, maxVersion, sharedUris);
+  }
+
+  private static Set<URI> getUris(UriProperties property)
+  {
+    if (property.getUriSpecificProperties().isEmpty())
+    {
+      return property.getPartitionDesc().keySet();
+    }
+    Set<URI> uris = new HashSet<>(property.getPartitionDesc().keySet());
+    uris.addAll(property.getUriSpecificProperties().keySet());
+    return uris;
+  }
+
+  private static void putUris(UriProperties property, Set<URI> uris,
+      Map<URI, Map<Integer, PartitionData>> partitionData, Map<URI, Map<String, Object>> uriSpecificProperties)
+  {
+    for (Map.Entry<URI, Map<Integer, PartitionData>> entry : property.getPartitionDesc().entrySet())
+    {
+      if (uris.contains(entry.getKey()))
+      {
+        partitionData.put(entry.getKey(), entry.getValue());
+      }
+    }
+    for (Map.Entry<URI, Map<String, Object>> entry : property.getUriSpecificProperties().entrySet())
+    {
+      if (uris.contains(entry.getKey()))
+      {
+        uriSpecificProperties.put(entry.getKey(), entry.getValue());
+      }
+    }
   }
 
   @Override
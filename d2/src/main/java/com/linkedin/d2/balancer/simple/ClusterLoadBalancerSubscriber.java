@@ -52,6 +52,11 @@ class ClusterLoadBalancerSubscriber extends
 
   @Override
   protected void handlePut(final String listenTo, final ClusterProperties discoveryProperties)
+  {
+    _simpleLoadBalancerState.runWithClusterLocks(() -> updateClusterProperties(listenTo, discoveryProperties), listenTo);
+  }
+
+  private void updateClusterProperties(String listenTo, ClusterProperties discoveryProperties)
   {
     if (discoveryProperties != null)
     {
@@ -87,9 +92,12 @@ class ClusterLoadBalancerSubscriber extends
   @Override
   protected void handleRemove(final String listenTo)
   {
-    ClusterInfoItem clusterInfoRemoved = _simpleLoadBalancerState.getClusterInfo().remove(listenTo);
-    _simpleLoadBalancerState.notifyListenersOnClusterInfoRemovals(clusterInfoRemoved);
-    _simpleLoadBalancerState.notifyClusterListenersOnRemove(listenTo);
+    _simpleLoadBalancerState.runWithClusterLocks(() ->
+    {
+      ClusterInfoItem clusterInfoRemoved = _simpleLoadBalancerState.getClusterInfo().remove(listenTo);
+      _simpleLoadBalancerState.notifyListenersOnClusterInfoRemovals(clusterInfoRemoved);
+      _simpleLoadBalancerState.notifyClusterListenersOnRemove(listenTo);
+    }, listenTo);
   }
 
   /**
@@ -50,11 +50,23 @@ class ServiceLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<Servi
   @Override
   protected void handlePut(final String listenTo, final ServiceProperties discoveryProperties)
   {
+    // only the callbacks about this service update its properties, the item can't change until this one returns
     LoadBalancerStateItem<ServiceProperties> oldServicePropertiesItem =
       _simpleLoadBalancerState.getServiceProperties().get(listenTo);
     ActivePropertiesResult pickedPropertiesResult = pickActiveProperties(discoveryProperties);
     ServiceProperties pickedProperties = pickedPropertiesResult.serviceProperties;
 
+    // the service is moved from its previous cluster to its new one, lock both
+    _simpleLoadBalancerState.runWithClusterLocks(
+        () -> updateServiceProperties(listenTo, discoveryProperties, oldServicePropertiesItem, pickedPropertiesResult),
+        getClusterName(oldServicePropertiesItem), pickedProperties == null ? null : pickedProperties.getClusterName());
+  }
+
+  private void updateServiceProperties(String listenTo, ServiceProperties discoveryProperties,
+      LoadBalancerStateItem<ServiceProperties> oldServicePropertiesItem, ActivePropertiesResult pickedPropertiesResult)
+  {
+    ServiceProperties pickedProperties = pickedPropertiesResult.serviceProperties;
+
     LoadBalancerStateItem<ServiceProperties> newServiceProperties = new LoadBalancerStateItem<>(
         pickedProperties,
         _simpleLoadBalancerState.getVersionAccess().incrementAndGet(),
@@ -130,6 +142,12 @@ class ServiceLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<Servi
   protected void handleRemove(final String listenTo)
   {
     _log.warn("Received a service properties event to remove() for service = " + listenTo);
+    _simpleLoadBalancerState.runWithClusterLocks(() -> removeServiceProperties(listenTo),
+        getClusterName(_simpleLoadBalancerState.getServiceProperties().get(listenTo)));
+  }
+
+  private void removeServiceProperties(String listenTo)
+  {
     LoadBalancerStateItem<ServiceProperties> serviceItem =
       _simpleLoadBalancerState.getServiceProperties().remove(listenTo);
 
@@ -152,6 +170,12 @@ class ServiceLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<Servi
     }
   }
 
+  private static String getClusterName(LoadBalancerStateItem<ServiceProperties> servicePropertiesItem)
+  {
+    return servicePropertiesItem == null || servicePropertiesItem.getProperty() == null
+        ? null : servicePropertiesItem.getProperty().getClusterName();
+  }
+
   /**
    * Data class for returning both the canary distribution policy
    * and the final service properties from PickActiveProperties method.
@@ -32,6 +32,7 @@ import com.linkedin.d2.balancer.properties.UriProperties;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategyV3;
+import com.linkedin.d2.balancer.strategies.relative.PowerOfTwoChoicesLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
 import com.linkedin.d2.balancer.subsetting.DeterministicSubsettingMetadataProvider;
 import com.linkedin.d2.balancer.subsetting.SubsettingState;
@@ -53,18 +54,23 @@ import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.http.client.HttpClientFactory;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
@@ -81,6 +87,7 @@ import static com.linkedin.d2.discovery.util.LogUtil.warn;
 public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactoryProvider
 {
   private static final int                                                               LOG_SUBSET_MAX_SIZE = 20;
+  private static final int                                                               CLUSTER_LOCK_COUNT = 64;
   private static final Logger                                                            _log = LoggerFactory.getLogger(SimpleLoadBalancerState.class);
 
   private final UriLoadBalancerSubscriber _uriSubscriber;
@@ -140,6 +147,17 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
    */
   private final List<LoadBalancerClusterListener>                                       _clusterListeners;
 
+  /**
+   * Locks serializing the updates of the state of a cluster, see {@link #runWithClusterLocks(Runnable, String...)}.
+   * Cluster names are hashed onto a fixed number of locks.
+   */
+  private final ReentrantLock[]                                                         _clusterLocks;
+
+  /**
+   * Serializes the notifications of the listeners, which are not required to be thread-safe.
+   */
+  private final Object                                                                  _listenerLock = new Object();
+
   private final SSLContext    _sslContext;
   private final SSLParameters _sslParameters;
   private final boolean       _isSSLEnabled;
@@ -153,10 +171,14 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
    *
    * Immutable: _clientFactories _loadBalancerStrategyFactories
    *
-   * All event bus callbacks occur on a single thread. The following are mutated only
-   * within event bus callbacks, but may be read from any thread at any time:
+   * Event bus callbacks about a given property occur on a single thread at a time, but the callbacks
+   * about different properties may occur concurrently when the buses have several lanes. The following are
+   * mutated only within event bus callbacks, but may be read from any thread at any time:
    * _uriProperties _clusterProperties _serviceProperties _servicesPerCluster
    * _trackerClients _serviceStrategies
+   *
+   * The callbacks updating the state of a cluster, i.e. its cluster and uri properties and the services it hosts,
+   * hold the lock of the cluster, see runWithClusterLocks. The listeners are notified while holding _listenerLock.
    */
   public SimpleLoadBalancerState(ScheduledExecutorService executorService,
                                  PropertyEventPublisher<UriProperties> uriPublisher,
@@ -354,13 +376,18 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
     _serviceStrategiesCache = new ConcurrentHashMap<>();
     _trackerClients = new ConcurrentHashMap<>();
     _serviceClients = new ConcurrentHashMap<>();
-    _listeners = Collections.synchronizedList(new ArrayList<>());
+    _listeners = new CopyOnWriteArrayList<>();
     _delayedExecution = 1000;
     _sslContext = sslContext;
     _sslParameters = sslParameters;
     _isSSLEnabled = isSSLEnabled;
     _sslSessionValidatorFactory = sessionValidatorFactory;
-    _clusterListeners = Collections.synchronizedList(new ArrayList<>());
+    _clusterListeners = new CopyOnWriteArrayList<>();
+    _clusterLocks = new ReentrantLock[CLUSTER_LOCK_COUNT];
+    for (int i = 0; i < CLUSTER_LOCK_COUNT; i++)
+    {
+      _clusterLocks[i] = new ReentrantLock();
+    }
     if (deterministicSubsettingMetadataProvider != null)
     {
       _subsettingState = new SubsettingState(new SubsettingStrategyFactoryImpl(), deterministicSubsettingMetadataProvider);
@@ -451,6 +478,12 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
     {
       @Override
       public void innerRun()
+      {
+        // the event bus callbacks may run on other threads, keep them from updating the state while it is shut down
+        runWithLocks(_clusterLocks, this::shutdownState);
+      }
+
+      private void shutdownState()
       {
         // Need to shutdown loadBalancerStrategies before the transportClients are shutdown
         for (Map<String, LoadBalancerStrategy> strategyEntry : _serviceStrategies.values())
@@ -484,7 +517,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
 
         // When SimpleLoadBalancerState is shutdown, all the strategies and clients are effectively removed,
         // so it is needed to notify all the listeners
-        for (SimpleLoadBalancerStateListener listener : _listeners)
+        notifyListeners(listener ->
         {
           // Send removal notifications for service properties.
           for (LoadBalancerStateItem<ServiceProperties> serviceProperties :
@@ -516,16 +549,16 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
               }
             }
           }
-        }
+        });
 
         // When SimpleLoadBalancerState is shutdown, all the cluster listener also need to be notified.
-        for (LoadBalancerClusterListener clusterListener : _clusterListeners)
+        notifyClusterListeners(clusterListener ->
         {
           for (String clusterName : _clusterInfo.keySet())
           {
             clusterListener.onClusterRemoved(clusterName);
           }
-        }
+        });
       }
     });
   }
@@ -939,10 +972,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
           for (TrackerClient client : clients.values())
           {
             // notify listeners of the removed client
-            for (SimpleLoadBalancerStateListener listener : _listeners)
-            {
-              listener.onClientRemoved(serviceName, client);
-            }
+            notifyListeners(listener -> listener.onClientRemoved(serviceName, client));
           }
         }
       }
@@ -1168,10 +1198,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
     {
       for (TrackerClient client : clients.values())
       {
-        for (SimpleLoadBalancerStateListener listener : _listeners)
-        {
-          listener.onClientRemoved(serviceName, client);
-        }
+        notifyListeners(listener -> listener.onClientRemoved(serviceName, client));
       }
     }
 
@@ -1205,19 +1232,15 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
       {
         oldStrategy.getValue().shutdown();
 
-        for (SimpleLoadBalancerState.SimpleLoadBalancerStateListener listener : _listeners)
-        {
-          listener.onStrategyRemoved(serviceProperties.getServiceName(),
-                                     oldStrategy.getKey(),
-                                     oldStrategy.getValue());
-
-        }
+        notifyListeners(listener -> listener.onStrategyRemoved(serviceProperties.getServiceName(),
+                                                               oldStrategy.getKey(),
+                                                               oldStrategy.getValue()));
       }
     }
 
     if (!newStrategies.isEmpty())
     {
-      for (SimpleLoadBalancerState.SimpleLoadBalancerStateListener listener : _listeners)
+      notifyListeners(listener ->
       {
         for (Map.Entry<String, LoadBalancerStrategy> newStrategy : newStrategies.entrySet())
         {
@@ -1225,7 +1248,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
                                    newStrategy.getKey(),
                                    newStrategy.getValue());
         }
-      }
+      });
     }
   }
 
@@ -1247,9 +1270,11 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
 
     Map<String, LoadBalancerStrategy> newStrategies = new ConcurrentHashMap<>();
 
+    // the relative and power of two choices strategies are only registered when the relative load balancer is enabled
     if (factory == null && strategyList != null && strategyList.size() == 1
-        && strategyList.contains(RelativeLoadBalancerStrategy.RELATIVE_LOAD_BALANCER_STRATEGY_NAME)
-        && !_loadBalancerStrategyFactories.containsKey(RelativeLoadBalancerStrategy.RELATIVE_LOAD_BALANCER_STRATEGY_NAME))
+        && (strategyList.contains(RelativeLoadBalancerStrategy.RELATIVE_LOAD_BALANCER_STRATEGY_NAME)
+            || strategyList.contains(PowerOfTwoChoicesLoadBalancerStrategy.POWER_OF_TWO_CHOICES_STRATEGY_NAME))
+        && !_loadBalancerStrategyFactories.containsKey(strategyList.get(0)))
     {
       factory = _loadBalancerStrategyFactories.get(DegraderLoadBalancerStrategyV3.DEGRADER_STRATEGY_NAME);
       warn(_log, "unable to find cluster or factory for ", serviceProperties, ", defaulting to ", factory);
@@ -1275,6 +1300,71 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
     return newStrategies;
   }
 
+  /**
+   * Runs an update of the state of the given clusters while holding their locks, so that it doesn't run concurrently
+   * with the event bus callbacks updating the same clusters from other lanes.
+   *
+   * @param clusterNames names of the clusters updated, null names are ignored.
+   */
+  void runWithClusterLocks(Runnable update, String... clusterNames)
+  {
+    // the locks are always acquired in the order of their index, so that updates locking several clusters can't deadlock
+    ReentrantLock[] locks = Arrays.stream(clusterNames)
+        .filter(Objects::nonNull)
+        .mapToInt(clusterName -> Math.floorMod(clusterName.hashCode(), CLUSTER_LOCK_COUNT))
+        .distinct()
+        .sorted()
+        .mapToObj(index -> _clusterLocks[index])
+        .toArray(ReentrantLock[]::new);
+    runWithLocks(locks, update);
+  }
+
+  private static void runWithLocks(ReentrantLock[] locks, Runnable update)
+  {
+    int locked = 0;
+    try
+    {
+      for (ReentrantLock lock : locks)
+      {
+        lock.lock();
+        locked++;
+      }
+      update.run();
+    }
+    finally
+    {
+      for (int i = locked - 1; i >= 0; i--)
+      {
+        locks[i].unlock();
+      }
+    }
+  }
+
+  /**
+   * Notifies the listeners one at a time, since the event bus callbacks making the notifications may run concurrently.
+   */
+  void notifyListeners(Consumer<SimpleLoadBalancerStateListener> notification)
+  {
+    synchronized (_listenerLock)
+    {
+      for (SimpleLoadBalancerStateListener listener : _listeners)
+      {
+        notification.accept(listener);
+      }
+    }
+  }
+
+  private void notifyClusterListeners(Consumer<LoadBalancerClusterListener> notification)
+  {
+    synchronized (_listenerLock)
+    {
+      for (LoadBalancerClusterListener clusterListener : _clusterListeners)
+      {
+        notification.accept(clusterListener);
+      }
+    }
+  }
+
   public interface SimpleLoadBalancerStateListener
   {
     void onStrategyAdded(String serviceName, String scheme, LoadBalancerStrategy strategy);
@@ -1311,10 +1401,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
    */
   void notifyListenersOnServicePropertiesUpdates(LoadBalancerStateItem<ServiceProperties> serviceProperties)
   {
-    for (SimpleLoadBalancerStateListener listener : _listeners)
-    {
-      listener.onServicePropertiesUpdate(serviceProperties);
-    }
+    notifyListeners(listener -> listener.onServicePropertiesUpdate(serviceProperties));
   }
 
   /**
@@ -1322,10 +1409,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
    */
   void notifyListenersOnServicePropertiesRemovals(LoadBalancerStateItem<ServiceProperties> serviceProperties)
   {
-    for (SimpleLoadBalancerStateListener listener : _listeners)
-    {
-      listener.onServicePropertiesRemoval(serviceProperties);
-    }
+    notifyListeners(listener -> listener.onServicePropertiesRemoval(serviceProperties));
   }
 
   /**
@@ -1333,10 +1417,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
    */
   void notifyListenersOnClusterInfoUpdates(ClusterInfoItem clusterInfoItem)
   {
-    for (SimpleLoadBalancerStateListener listener : _listeners)
-    {
-      listener.onClusterInfoUpdate(clusterInfoItem);
-    }
+    notifyListeners(listener -> listener.onClusterInfoUpdate(clusterInfoItem));
   }
 
   /**
@@ -1344,10 +1425,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
    */
   void notifyListenersOnClusterInfoRemovals(ClusterInfoItem clusterInfoItem)
   {
-    for (SimpleLoadBalancerStateListener listener : _listeners)
-    {
-      listener.onClusterInfoRemoval(clusterInfoItem);
-    }
+    notifyListeners(listener -> listener.onClusterInfoRemoval(clusterInfoItem));
   }
 
   /**
@@ -1355,10 +1433,7 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
    */
   void notifyClusterListenersOnAdd(String clusterName)
   {
-    for (LoadBalancerClusterListener clusterListener : _clusterListeners)
-    {
-      clusterListener.onClusterAdded(clusterName);
-    }
+    notifyClusterListeners(clusterListener -> clusterListener.onClusterAdded(clusterName));
   }
 
   /**
@@ -1366,9 +1441,6 @@ public class SimpleLoadBalancerState implements LoadBalancerState, ClientFactory
    */
   void notifyClusterListenersOnRemove(String clusterName)
   {
-    for (LoadBalancerClusterListener clusterListener : _clusterListeners)
-    {
-      clusterListener.onClusterRemoved(clusterName);
-    }
+    notifyClusterListeners(clusterListener -> clusterListener.onClusterRemoved(clusterName));
   }
 }
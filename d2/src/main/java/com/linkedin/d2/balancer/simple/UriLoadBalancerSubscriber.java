@@ -25,7 +25,6 @@ import com.linkedin.d2.discovery.event.PropertyEventBus;
 import com.linkedin.util.RateLimitedLogger;
 import com.linkedin.util.clock.SystemClock;
 import java.net.URI;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -59,6 +58,15 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
   @Override
   protected void handlePut(final String cluster, final UriProperties uriProperties)
   {
+    _simpleLoadBalancerState.runWithClusterLocks(() -> updateUriProperties(cluster, uriProperties), cluster,
+        uriProperties == null ? null : uriProperties.getClusterName());
+  }
+
+  private void updateUriProperties(String cluster, UriProperties uriProperties)
+  {
+    // uris whose tracker clients may have to be added, updated or removed, null if all of them have to be checked
+    Set<URI> changedUris = null;
+
     // add tracker clients for uris that we aren't already tracking
     if (uriProperties != null)
     {
@@ -66,7 +74,9 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
 
       Optional<UriProperties> currentUriProperties = Optional.ofNullable(
           _simpleLoadBalancerState.getUriProperties(clusterName)).map(LoadBalancerStateItem::getProperty);
-      if (currentUriProperties.isPresent() && currentUriProperties.get().equals(uriProperties))
+      Set<URI> urisChangedSinceCurrent = uriProperties.getChangedUrisSince(currentUriProperties.orElse(null));
+      if (urisChangedSinceCurrent != null ? urisChangedSinceCurrent.isEmpty()
+          : currentUriProperties.isPresent() && currentUriProperties.get().equals(uriProperties))
       {
         _log.debug("For cluster: {}, received duplicate uri properties: {}", clusterName, uriProperties);
         return;
@@ -76,6 +86,12 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
           currentUriProperties);
 
       Set<String> serviceNames = _simpleLoadBalancerState.getServicesPerCluster().get(clusterName);
+      if (urisChangedSinceCurrent != null && isTrackingAllUris(serviceNames, currentUriProperties.get()))
+      {
+        // the properties were updated incrementally, the tracker clients of the other uris are up to date
+        changedUris = urisChangedSinceCurrent;
+      }
+
       //updates all the services that these uris provide
       if (serviceNames != null)
       {
@@ -88,9 +104,14 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
             _simpleLoadBalancerState.getTrackerClients().put(serviceName, trackerClients);
           }
 
-          for (URI uri : uriProperties.Uris())
+          for (URI uri : changedUris == null ? uriProperties.Uris() : changedUris)
           {
             Map<Integer, PartitionData> partitionDataMap = uriProperties.getPartitionDataMap(uri);
+            if (partitionDataMap == null)
+            {
+              // the uri was removed, its tracker client is removed below
+              continue;
+            }
             TrackerClient client = trackerClients.get(uri);
 
             Optional<Map<String, Object>> newUriSpecificProperties = Optional.ofNullable(uriProperties.getUriSpecificProperties())
@@ -110,10 +131,8 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
                 debug(_log, "adding new tracker client from updated uri properties: ", client);
 
                 // notify listeners of the added client
-                for (SimpleLoadBalancerState.SimpleLoadBalancerStateListener listener : _simpleLoadBalancerState.getListeners())
-                {
-                  listener.onClientAdded(serviceName, client);
-                }
+                TrackerClient addedClient = client;
+                _simpleLoadBalancerState.notifyListeners(listener -> listener.onClientAdded(serviceName, addedClient));
 
                 trackerClients.put(uri, client);
               }
@@ -144,20 +163,15 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
           Map<URI, TrackerClient> trackerClients = _simpleLoadBalancerState.getTrackerClients().get(serviceName);
           if (trackerClients != null)
           {
-            for (Iterator<URI> it = trackerClients.keySet().iterator(); it.hasNext(); )
+            for (URI uri : changedUris == null ? trackerClients.keySet() : changedUris)
             {
-              URI uri = it.next();
-
-              if (!uriProperties.Uris().contains(uri))
+              if (!uriProperties.Uris().contains(uri) && trackerClients.containsKey(uri))
               {
                 TrackerClient client = trackerClients.remove(uri);
 
                 debug(_log, "removing dead tracker client: ", client);
 
-                for (SimpleLoadBalancerState.SimpleLoadBalancerStateListener listener : _simpleLoadBalancerState.getListeners())
-                {
-                  listener.onClientRemoved(serviceName, client);
-                }
+                _simpleLoadBalancerState.notifyListeners(listener -> listener.onClientRemoved(serviceName, client));
               }
             }
           }
@@ -173,11 +187,36 @@ class UriLoadBalancerSubscriber extends AbstractLoadBalancerSubscriber<UriProper
     }
   }
 
+  /**
+   * @return true if every service of the cluster has a tracker client for each uri of the given properties, in which
+   *         case the tracker clients only need to be updated for the uris that change.
+   */
+  private boolean isTrackingAllUris(Set<String> serviceNames, UriProperties uriProperties)
+  {
+    if (serviceNames == null)
+    {
+      return true;
+    }
+    for (String serviceName : serviceNames)
+    {
+      Map<URI, TrackerClient> trackerClients = _simpleLoadBalancerState.getTrackerClients().get(serviceName);
+      // tracker clients can only be missing, the ones of removed uris are removed with them
+      if (trackerClients == null || trackerClients.size() != uriProperties.Uris().size())
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   protected void handleRemove(final String cluster)
   {
-    _simpleLoadBalancerState.getUriProperties().remove(cluster);
-    warn(RATE_LIMITED_LOGGER, "received a uri properties event remove() for cluster: ", cluster);
-    _simpleLoadBalancerState.removeTrackerClients(cluster);
+    _simpleLoadBalancerState.runWithClusterLocks(() ->
+    {
+      _simpleLoadBalancerState.getUriProperties().remove(cluster);
+      warn(RATE_LIMITED_LOGGER, "received a uri properties event remove() for cluster: ", cluster);
+      _simpleLoadBalancerState.removeTrackerClients(cluster);
+    }, cluster);
   }
 }
@@ -41,6 +41,7 @@ public class DelegatingRingFactory<T> implements RingFactory<T>
   public static final String POINT_BASED_CONSISTENT_HASH = "pointBased";
   public static final String MULTI_PROBE_CONSISTENT_HASH = "multiProbe";
   public static final String DISTRIBUTION_NON_HASH = "distributionBased";
+  public static final String MAGLEV_CONSISTENT_HASH = "maglev";
 
   private static final Logger _log = LoggerFactory.getLogger(DelegatingRingFactory.class);
 
@@ -84,6 +85,10 @@ public class DelegatingRingFactory<T> implements RingFactory<T>
     {
       factory = new MPConsistentHashRingFactory<>(numProbes, numPointsPerHost);
     }
+    else if (consistentHashAlgorithm == ConsistentHashAlgorithm.MAGLEV)
+    {
+      factory = new MaglevHashRingFactory<>();
+    }
     else if (consistentHashAlgorithm == ConsistentHashAlgorithm.DISTRIBUTION_BASED) {
       if (isAffinityRoutingEnabled(hashMethod))
       {
@@ -151,6 +156,8 @@ public class DelegatingRingFactory<T> implements RingFactory<T>
         return ConsistentHashAlgorithm.POINT_BASED;
       case MULTI_PROBE_CONSISTENT_HASH:
         return ConsistentHashAlgorithm.MULTI_PROBE;
+      case MAGLEV_CONSISTENT_HASH:
+        return ConsistentHashAlgorithm.MAGLEV;
       default:
         return ConsistentHashAlgorithm.DISTRIBUTION_BASED;
     }
@@ -29,6 +29,7 @@ public class DegraderRingFactory<T> extends DelegatingRingFactory<T>
   public static final String POINT_BASED_CONSISTENT_HASH = DelegatingRingFactory.POINT_BASED_CONSISTENT_HASH;
   public static final String MULTI_PROBE_CONSISTENT_HASH = DelegatingRingFactory.MULTI_PROBE_CONSISTENT_HASH;
   public static final String DISTRIBUTION_NON_HASH = DelegatingRingFactory.DISTRIBUTION_NON_HASH;
+  public static final String MAGLEV_CONSISTENT_HASH = DelegatingRingFactory.MAGLEV_CONSISTENT_HASH;
 
   public DegraderRingFactory(DegraderLoadBalancerStrategyConfig config) {
     super(config);
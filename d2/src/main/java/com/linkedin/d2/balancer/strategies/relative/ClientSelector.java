@@ -98,10 +98,10 @@ public class ClientSelector
     return trackerClient;
   }
 
-  private TrackerClient getTrackerClientFromRing(Request request,
-                                                 RequestContext requestContext,
-                                                 Ring<URI> ring,
-                                                 Map<URI, TrackerClient> trackerClients)
+  protected TrackerClient getTrackerClientFromRing(Request request,
+                                                   RequestContext requestContext,
+                                                   Ring<URI> ring,
+                                                   Map<URI, TrackerClient> trackerClients)
   {
     Set<URI> excludedUris = LoadBalancerStrategy.ExcludedHostHints.getRequestContextExcludedHosts(requestContext) == null
         ? new HashSet<>()
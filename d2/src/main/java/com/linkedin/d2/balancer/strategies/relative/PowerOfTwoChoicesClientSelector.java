@@ -0,0 +1,112 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.d2.balancer.strategies.relative;
+
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
+import com.linkedin.d2.balancer.util.hashing.HashFunction;
+import com.linkedin.d2.balancer.util.hashing.RandomHash;
+import com.linkedin.d2.balancer.util.hashing.Ring;
+import com.linkedin.r2.message.Request;
+import com.linkedin.r2.message.RequestContext;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * Select host for a request with the power of two choices: two hosts are drawn from the hash ring, so with a probability
+ * proportional to their points, and the request goes to the one with the lowest cost. The cost of a host is the peak
+ * EWMA of its latency multiplied by the number of calls in flight to it plus one, which makes the selection react to a
+ * host slowing down on every request instead of once per update interval.
+ *
+ * Requests hashed with anything other than {@link RandomHash}, e.g. for sticky routing, are routed by the ring as in
+ * {@link ClientSelector}.
+ */
+public class PowerOfTwoChoicesClientSelector extends ClientSelector
+{
+  /**
+   * Number of draws to find a second host different from the first one before settling for the first one.
+   */
+  private static final int MAX_SECOND_CHOICE_ATTEMPTS = 3;
+  /**
+   * Cost of a host with calls in flight but none completed yet, so of unknown latency, which makes it lose against any
+   * host of known latency until its first call completes.
+   */
+  static final double UNKNOWN_LATENCY_PENALTY = 1e15;
+
+  private final boolean _randomHash;
+
+  public PowerOfTwoChoicesClientSelector(HashFunction<Request> requestHashFunction)
+  {
+    super(requestHashFunction);
+    _randomHash = requestHashFunction instanceof RandomHash;
+  }
+
+  @Override
+  protected TrackerClient getTrackerClientFromRing(Request request,
+                                                   RequestContext requestContext,
+                                                   Ring<URI> ring,
+                                                   Map<URI, TrackerClient> trackerClients)
+  {
+    if (!_randomHash)
+    {
+      return super.getTrackerClientFromRing(request, requestContext, ring, trackerClients);
+    }
+
+    Set<URI> excludedUris = LoadBalancerStrategy.ExcludedHostHints.getRequestContextExcludedHosts(requestContext) == null
+        ? Collections.emptySet()
+        : LoadBalancerStrategy.ExcludedHostHints.getRequestContextExcludedHosts(requestContext);
+    TrackerClient first = drawTrackerClient(ring, trackerClients, excludedUris);
+    if (first == null)
+    {
+      // the ring is out of date or most of its hosts are excluded, look for any valid host
+      return super.getTrackerClientFromRing(request, requestContext, ring, trackerClients);
+    }
+
+    TrackerClient second = null;
+    for (int i = 0; i < MAX_SECOND_CHOICE_ATTEMPTS && second == null; i++)
+    {
+      TrackerClient trackerClient = drawTrackerClient(ring, trackerClients, excludedUris);
+      if (trackerClient != first)
+      {
+        second = trackerClient;
+      }
+    }
+
+    return second != null && getCost(second) < getCost(first) ? second : first;
+  }
+
+  private static TrackerClient drawTrackerClient(Ring<URI> ring, Map<URI, TrackerClient> trackerClients,
+      Set<URI> excludedUris)
+  {
+    URI uri = ring.get(ThreadLocalRandom.current().nextInt());
+    return uri == null || excludedUris.contains(uri) ? null : trackerClients.get(uri);
+  }
+
+  static double getCost(TrackerClient trackerClient)
+  {
+    int callsInFlight = trackerClient.getCallTracker().getCurrentConcurrency();
+    double latency = trackerClient.getPeakEwmaLatency();
+    if (latency == 0 && callsInFlight > 0)
+    {
+      return UNKNOWN_LATENCY_PENALTY + callsInFlight;
+    }
+    return latency * (callsInFlight + 1);
+  }
+}
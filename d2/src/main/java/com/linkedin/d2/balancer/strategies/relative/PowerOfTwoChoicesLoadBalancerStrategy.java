@@ -0,0 +1,41 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.d2.balancer.strategies.relative;
+
+
+/**
+ * A variant of {@link RelativeLoadBalancerStrategy} which keeps its health scores, quarantine and slow start, but picks
+ * the host of each request with a {@link PowerOfTwoChoicesClientSelector}: the least loaded of two hosts drawn by their
+ * health-adjusted weights, based on the calls in flight and the peak EWMA latency tracked by every tracker client.
+ *
+ * It is configured with the relative strategy properties of the service.
+ */
+public class PowerOfTwoChoicesLoadBalancerStrategy extends RelativeLoadBalancerStrategy
+{
+  public static final String POWER_OF_TWO_CHOICES_STRATEGY_NAME = "powerOfTwoChoices";
+
+  public PowerOfTwoChoicesLoadBalancerStrategy(StateUpdater stateUpdater,
+                                               PowerOfTwoChoicesClientSelector clientSelector)
+  {
+    super(stateUpdater, clientSelector);
+  }
+
+  @Override
+  public String getName()
+  {
+    return POWER_OF_TWO_CHOICES_STRATEGY_NAME;
+  }
+}
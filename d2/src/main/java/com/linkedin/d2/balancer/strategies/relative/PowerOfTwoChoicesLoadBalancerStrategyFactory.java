@@ -0,0 +1,51 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.d2.balancer.strategies.relative;
+
+import com.linkedin.d2.D2RelativeStrategyProperties;
+import com.linkedin.d2.balancer.event.EventEmitter;
+import com.linkedin.d2.balancer.properties.ServiceProperties;
+import com.linkedin.d2.balancer.strategies.PartitionStateUpdateListener;
+import com.linkedin.d2.balancer.util.healthcheck.HealthCheckOperations;
+import com.linkedin.util.clock.Clock;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+
+/**
+ * Load balancer factory for {@link PowerOfTwoChoicesLoadBalancerStrategy}.
+ */
+public class PowerOfTwoChoicesLoadBalancerStrategyFactory extends RelativeLoadBalancerStrategyFactory
+{
+  public PowerOfTwoChoicesLoadBalancerStrategyFactory(ScheduledExecutorService executorService,
+      HealthCheckOperations healthCheckOperations,
+      List<PartitionStateUpdateListener.Factory<PartitionState>> stateListenerFactories, EventEmitter eventEmitter,
+      Clock clock, boolean loadBalanceStreamException)
+  {
+    super(executorService, healthCheckOperations, stateListenerFactories, eventEmitter, clock,
+        loadBalanceStreamException);
+  }
+
+  @Override
+  public PowerOfTwoChoicesLoadBalancerStrategy newLoadBalancer(ServiceProperties serviceProperties)
+  {
+    D2RelativeStrategyProperties relativeStrategyProperties = getRelativeStrategyProperties(serviceProperties);
+
+    return new PowerOfTwoChoicesLoadBalancerStrategy(getRelativeStateUpdater(relativeStrategyProperties,
+        serviceProperties.getServiceName(), serviceProperties.getClusterName(), serviceProperties.getPath()),
+        new PowerOfTwoChoicesClientSelector(getRequestHashFunction(relativeStrategyProperties)));
+  }
+}
@@ -100,16 +100,19 @@ public class RelativeLoadBalancerStrategyFactory implements LoadBalancerStrategy
   @Override
   public RelativeLoadBalancerStrategy newLoadBalancer(ServiceProperties serviceProperties)
   {
-    D2RelativeStrategyProperties relativeStrategyProperties = RelativeStrategyPropertiesConverter
-        .toProperties(serviceProperties.getRelativeStrategyProperties());
-    relativeStrategyProperties = putDefaultValues(relativeStrategyProperties);
+    D2RelativeStrategyProperties relativeStrategyProperties = getRelativeStrategyProperties(serviceProperties);
 
     return new RelativeLoadBalancerStrategy(getRelativeStateUpdater(relativeStrategyProperties,
                                             serviceProperties.getServiceName(), serviceProperties.getClusterName(),
                                             serviceProperties.getPath()), getClientSelector(relativeStrategyProperties));
   }
 
-  private StateUpdater getRelativeStateUpdater(D2RelativeStrategyProperties relativeStrategyProperties,
+  static D2RelativeStrategyProperties getRelativeStrategyProperties(ServiceProperties serviceProperties)
+  {
+    return putDefaultValues(RelativeStrategyPropertiesConverter.toProperties(serviceProperties.getRelativeStrategyProperties()));
+  }
+
+  StateUpdater getRelativeStateUpdater(D2RelativeStrategyProperties relativeStrategyProperties,
       String serviceName, String clusterName, String servicePath)
   {
     QuarantineManager quarantineManager = getQuarantineManager(relativeStrategyProperties, serviceName, servicePath);
@@ -139,7 +142,7 @@ public class RelativeLoadBalancerStrategyFactory implements LoadBalancerStrategy
         relativeStrategyProperties.getUpdateIntervalMs(), relativeStrategyProperties.getRelativeLatencyLowThresholdFactor());
   }
 
-  private HashFunction<Request> getRequestHashFunction(D2RelativeStrategyProperties relativeStrategyProperties)
+  static HashFunction<Request> getRequestHashFunction(D2RelativeStrategyProperties relativeStrategyProperties)
   {
     if (relativeStrategyProperties.hasRingProperties() && relativeStrategyProperties.getRingProperties().hasHashConfig())
     {
@@ -34,10 +34,25 @@ import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.http.client.TimeoutCallback;
 import com.linkedin.util.clock.SystemClock;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -45,9 +60,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +70,11 @@ import org.slf4j.LoggerFactory;
  * The WarmUpLoadBalancer warms up the internal {@link SimpleLoadBalancer} services/cluster list
  * before the client is announced as "started".
  *
+ * The services which received the most requests during the previous runs, as recorded in the
+ * {@link #REQUEST_COUNTS_FILE_NAME} file of the FS directory at shutdown, are warmed up first. When the max concurrent
+ * requests is higher than the concurrent requests, the concurrency grows towards it as long as the warm up latency
+ * stays close to the lowest one observed, and shrinks back when it rises.
+ *
  * @author Francesco Capponi (fcapponi@linkedin.com)
  */
 public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
@@ -66,6 +86,17 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
   public static final int DEFAULT_CONCURRENT_REQUESTS = 1;
   public static final int DEFAULT_SEND_REQUESTS_TIMEOUT_SECONDS = 60;
 
+  /**
+   * Name of the file, in the FS directory, storing the number of requests made to each service during previous runs
+   */
+  public static final String REQUEST_COUNTS_FILE_NAME = "warmUpRequestCounts.properties";
+
+  /**
+   * The concurrency stops growing once the warm up latency exceeds this multiple of the lowest latency observed
+   */
+  private static final int LATENCY_TOLERANCE = 2;
+  private static final int SLOWEST_SERVICES_TO_REPORT = 10;
+
   private final ConcurrentLinkedDeque<Future<?>> _outstandingRequests;
 
   private WarmUpService _serviceWarmupper;
@@ -73,6 +104,7 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
   private final String _d2ServicePath;
   private final int _warmUpTimeoutMillis;
   private final int _concurrentRequests;
+  private final int _maxConcurrentRequests;
   private final ScheduledExecutorService _executorService;
   private final DownstreamServicesFetcher _downstreamServicesFetcher;
   private final DualReadStateManager _dualReadStateManager;
@@ -90,6 +122,16 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
    */
   private final Set<String> _usedServices;
 
+  /**
+   * Number of requests made to each service during this run, persisted at shutdown to prioritize the next warm up
+   */
+  private final Map<String, LongAdder> _requestCounts;
+
+  /**
+   * Time taken to warm up each service, in milliseconds
+   */
+  private final Map<String, Long> _serviceWarmUpDurations;
+
   public WarmUpLoadBalancer(LoadBalancerWithFacilities balancer, WarmUpService serviceWarmupper,
       ScheduledExecutorService executorService, String d2FsDirPath, String d2ServicePath,
       DownstreamServicesFetcher downstreamServicesFetcher, int warmUpTimeoutSeconds, int concurrentRequests) {
@@ -102,7 +144,19 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
       DownstreamServicesFetcher downstreamServicesFetcher, int warmUpTimeoutSeconds, int concurrentRequests,
       DualReadStateManager dualReadStateManager, boolean isIndis) {
     this(balancer, serviceWarmupper, executorService, d2FsDirPath, d2ServicePath, downstreamServicesFetcher,
-        warmUpTimeoutSeconds * 1000, concurrentRequests, dualReadStateManager, isIndis, null);
+        warmUpTimeoutSeconds, concurrentRequests, concurrentRequests, dualReadStateManager, isIndis);
+  }
+
+  /**
+   * @param maxConcurrentRequests upper bound of the adaptive concurrency, which starts at concurrentRequests. The
+   *                              concurrency is fixed when it isn't higher than concurrentRequests.
+   */
+  public WarmUpLoadBalancer(LoadBalancerWithFacilities balancer, WarmUpService serviceWarmupper,
+      ScheduledExecutorService executorService, String d2FsDirPath, String d2ServicePath,
+      DownstreamServicesFetcher downstreamServicesFetcher, int warmUpTimeoutSeconds, int concurrentRequests,
+      int maxConcurrentRequests, DualReadStateManager dualReadStateManager, boolean isIndis) {
+    this(balancer, serviceWarmupper, executorService, d2FsDirPath, d2ServicePath, downstreamServicesFetcher,
+        warmUpTimeoutSeconds * 1000, concurrentRequests, maxConcurrentRequests, dualReadStateManager, isIndis, null);
   }
 
   @VisibleForTesting
@@ -110,6 +164,18 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
       ScheduledExecutorService executorService, String d2FsDirPath, String d2ServicePath,
       DownstreamServicesFetcher downstreamServicesFetcher, int warmUpTimeoutMillis, int concurrentRequests,
       DualReadStateManager dualReadStateManager, boolean isIndis, Supplier<Long> timeSupplierForTest)
+  {
+    this(balancer, serviceWarmupper, executorService, d2FsDirPath, d2ServicePath, downstreamServicesFetcher,
+        warmUpTimeoutMillis, concurrentRequests, concurrentRequests, dualReadStateManager, isIndis,
+        timeSupplierForTest);
+  }
+
+  @VisibleForTesting
+  WarmUpLoadBalancer(LoadBalancerWithFacilities balancer, WarmUpService serviceWarmupper,
+      ScheduledExecutorService executorService, String d2FsDirPath, String d2ServicePath,
+      DownstreamServicesFetcher downstreamServicesFetcher, int warmUpTimeoutMillis, int concurrentRequests,
+      int maxConcurrentRequests, DualReadStateManager dualReadStateManager, boolean isIndis,
+      Supplier<Long> timeSupplierForTest)
   {
     super(balancer);
     _serviceWarmupper = serviceWarmupper;
@@ -119,8 +185,11 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
     _downstreamServicesFetcher = downstreamServicesFetcher;
     _warmUpTimeoutMillis = warmUpTimeoutMillis;
     _concurrentRequests = concurrentRequests;
+    _maxConcurrentRequests = Math.max(concurrentRequests, maxConcurrentRequests);
     _outstandingRequests = new ConcurrentLinkedDeque<>();
-    _usedServices = new HashSet<>();
+    _usedServices = ConcurrentHashMap.newKeySet();
+    _requestCounts = new ConcurrentHashMap<>();
+    _serviceWarmUpDurations = new ConcurrentHashMap<>();
     _dualReadStateManager = dualReadStateManager;
     _isIndis = isIndis;
     _printName = String.format("%s WarmUp", _isIndis ? "xDS" : "ZK");
@@ -269,6 +338,7 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
   private void warmUpServices(Callback<None> startUpCallback)
   {
     long timeoutMilli = Math.max(0, _warmUpTimeoutMillis - (_timeSupplier.get() - _allStartTime));
+    _servicesToWarmUp = prioritizeServices(_servicesToWarmUp, readRequestCounts());
     LOG.info("{} starting to warm up with timeout: {}ms for {} services: [{}]",
         _printName, timeoutMilli, _servicesToWarmUp.size(), String.join(", ", _servicesToWarmUp));
 
@@ -297,11 +367,7 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
     {
       // the WarmUpTask fetches the cluster and uri data, since the service data is already fetched
       WarmUpTask warmUpTask = new WarmUpTask(_servicesToWarmUp, timeoutCallback);
-
-      // get the min value because it makes no sense have an higher concurrency than the number of request to be made
-      int concurrentRequests = Math.min(_servicesToWarmUp.size(), _concurrentRequests);
-      IntStream.range(0, concurrentRequests)
-          .forEach(i -> _outstandingRequests.add(_executorService.submit(warmUpTask::execute)));
+      warmUpTask.submitTasks();
     }
     catch (Exception e)
     {
@@ -319,9 +385,13 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
   {
     private final AtomicInteger _requestCompletedCount;
     private final AtomicInteger _requestStartedCount;
+    private final AtomicInteger _inFlightCount;
+    private final AtomicInteger _submittedCount;
     private Queue<String> _serviceNamesQueue;
     private Callback<None> _callback;
     private List<String> _serviceNames;
+    private volatile int _concurrencyLimit;
+    private volatile long _minLatency = Long.MAX_VALUE;
 
     /**
      * @param serviceNames list of service names
@@ -333,8 +403,39 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
       _serviceNames = serviceNames;
       _requestStartedCount = new AtomicInteger(0);
       _requestCompletedCount = new AtomicInteger(0);
+      _inFlightCount = new AtomicInteger(0);
+      _submittedCount = new AtomicInteger(0);
       _serviceNamesQueue = new ConcurrentLinkedDeque<>(serviceNames);
       _callback = callback;
+      _concurrencyLimit = _concurrentRequests;
+    }
+
+    /**
+     * Submits as many tasks as the concurrency limit allows
+     */
+    void submitTasks()
+    {
+      while (!_shuttingDown)
+      {
+        int inFlight = _inFlightCount.get();
+        int submitted = _submittedCount.get();
+        // it makes no sense to have a higher concurrency than the number of requests to be made
+        if (inFlight >= _concurrencyLimit || submitted >= _serviceNames.size())
+        {
+          return;
+        }
+        if (_inFlightCount.compareAndSet(inFlight, inFlight + 1))
+        {
+          if (_submittedCount.compareAndSet(submitted, submitted + 1))
+          {
+            _outstandingRequests.add(_executorService.submit(this::execute));
+          }
+          else
+          {
+            _inFlightCount.decrementAndGet();
+          }
+        }
+      }
     }
 
     void execute()
@@ -344,6 +445,7 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
       final String serviceName = _serviceNamesQueue.poll();
       if (serviceName == null || _shuttingDown)
       {
+        _inFlightCount.decrementAndGet();
         return;
       }
 
@@ -356,15 +458,20 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
       {
         private void executeNextTask()
         {
+          long latency = _timeSupplier.get() - startTime;
+          _serviceWarmUpDurations.put(serviceName, latency);
+          _inFlightCount.decrementAndGet();
           if (_requestCompletedCount.incrementAndGet() == _serviceNames.size())
           {
             LOG.info("{} completed warming up {} services in {}ms",
                 _printName, _serviceNames.size(), _timeSupplier.get() - _allStartTime);
+            logSlowestServices();
             _callback.onSuccess(None.none());
             _outstandingRequests.clear();
             return;
           }
-          _outstandingRequests.add(_executorService.submit(() -> execute()));
+          adaptConcurrencyLimit(latency);
+          submitTasks();
         }
 
         @Override
@@ -385,6 +492,34 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
         }
       });
     }
+
+    /**
+     * Grows the concurrency by one while the latency stays within {@link #LATENCY_TOLERANCE} times the lowest latency
+     * observed, and halves it, down to the configured concurrency, when ZooKeeper or xDS starts slowing down.
+     */
+    private synchronized void adaptConcurrencyLimit(long latency)
+    {
+      if (_maxConcurrentRequests <= _concurrentRequests)
+      {
+        return;
+      }
+
+      _minLatency = Math.min(_minLatency, Math.max(1, latency));
+      int limit = _concurrencyLimit;
+      if (latency <= _minLatency * LATENCY_TOLERANCE)
+      {
+        _concurrencyLimit = Math.min(_maxConcurrentRequests, limit + 1);
+      }
+      else
+      {
+        _concurrencyLimit = Math.max(_concurrentRequests, limit / 2);
+      }
+      if (_concurrencyLimit != limit)
+      {
+        LOG.debug("{} concurrency changed from {} to {} after a latency of {}ms", _printName, limit,
+            _concurrencyLimit, latency);
+      }
+    }
   }
 
   private static boolean isModeToWarmUp(DualReadModeProvider.DualReadMode mode, boolean isIndis)
@@ -394,9 +529,118 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
         DualReadModeProvider.DualReadMode.NEW_LB_ONLY : DualReadModeProvider.DualReadMode.OLD_LB_ONLY);
   }
 
+  /**
+   * @return the time taken to warm up each service, in milliseconds.
+   */
+  public Map<String, Long> getServiceWarmUpDurations()
+  {
+    return Collections.unmodifiableMap(_serviceWarmUpDurations);
+  }
+
+  private void logSlowestServices()
+  {
+    List<Map.Entry<String, Long>> durations = new ArrayList<>(_serviceWarmUpDurations.entrySet());
+    durations.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+    LOG.info("{} slowest services to warm up: {}", _printName,
+        durations.subList(0, Math.min(SLOWEST_SERVICES_TO_REPORT, durations.size())).stream()
+            .map(entry -> entry.getKey() + "=" + entry.getValue() + "ms")
+            .collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * Sorts the services by decreasing number of requests, keeping the order of the fetcher between services with the
+   * same number of requests, such as the ones which weren't used during the previous runs.
+   */
+  @VisibleForTesting
+  static List<String> prioritizeServices(List<String> serviceNames, Map<String, Long> requestCounts)
+  {
+    if (requestCounts.isEmpty())
+    {
+      return serviceNames;
+    }
+    List<String> prioritized = new ArrayList<>(serviceNames);
+    prioritized.sort(Comparator.comparingLong(
+        (String serviceName) -> requestCounts.getOrDefault(serviceName, 0L)).reversed());
+    return prioritized;
+  }
+
+  private File getRequestCountsFile()
+  {
+    return new File(_d2FsDirPath, REQUEST_COUNTS_FILE_NAME);
+  }
+
+  @VisibleForTesting
+  Map<String, Long> readRequestCounts()
+  {
+    File file = getRequestCountsFile();
+    Map<String, Long> requestCounts = new HashMap<>();
+    if (!file.exists())
+    {
+      return requestCounts;
+    }
+
+    Properties properties = new Properties();
+    try (InputStream inputStream = new FileInputStream(file))
+    {
+      properties.load(inputStream);
+      for (String serviceName : properties.stringPropertyNames())
+      {
+        requestCounts.put(serviceName, Long.parseLong(properties.getProperty(serviceName)));
+      }
+    }
+    catch (IOException | NumberFormatException e)
+    {
+      LOG.warn("{} unable to read the request counts from {}, not prioritizing services", _printName, file, e);
+      requestCounts.clear();
+    }
+    return requestCounts;
+  }
+
+  /**
+   * Persists the request counts of this run, adding half of the counts of the previous runs so that services which
+   * weren't used during a single short run are not immediately deprioritized.
+   */
+  private void writeRequestCounts()
+  {
+    if (_requestCounts.isEmpty())
+    {
+      return;
+    }
+
+    Map<String, Long> requestCounts = readRequestCounts();
+    requestCounts.replaceAll((serviceName, count) -> count / 2);
+    _requestCounts.forEach((serviceName, count) -> requestCounts.merge(serviceName, count.sum(), Long::sum));
+
+    Properties properties = new Properties();
+    requestCounts.forEach((serviceName, count) ->
+    {
+      if (count > 0)
+      {
+        properties.setProperty(serviceName, Long.toString(count));
+      }
+    });
+
+    File file = getRequestCountsFile();
+    File tmpFile = new File(_d2FsDirPath, REQUEST_COUNTS_FILE_NAME + ".tmp");
+    try
+    {
+      try (OutputStream outputStream = new FileOutputStream(tmpFile))
+      {
+        properties.store(outputStream, "Number of requests per service, used to prioritize the D2 warm up");
+      }
+      Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+    catch (IOException e)
+    {
+      LOG.warn("{} unable to write the request counts to {}", _printName, file, e);
+    }
+  }
+
   @Override
   public void shutdown(PropertyEventThread.PropertyEventShutdownCallback shutdown)
   {
+    writeRequestCounts();
+
     // avoid cleaning when you risk to have partial results since some of the services have not loaded yet
     if (completedOutStandingRequests())
     {
@@ -445,6 +689,7 @@ public class WarmUpLoadBalancer extends LoadBalancerWithFacilitiesDelegator {
 
     String serviceName = LoadBalancerUtil.getServiceNameFromUri(request.getURI());
     _usedServices.add(serviceName);
+    _requestCounts.computeIfAbsent(serviceName, key -> new LongAdder()).increment();
     return client;
   }
 }
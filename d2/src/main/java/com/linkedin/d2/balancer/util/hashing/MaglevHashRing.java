@@ -0,0 +1,265 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.util.hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import net.openhft.hashing.LongHashFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * A weighted consistent hash ring based on
+ * <a href="https://research.google/pubs/pub44824/">Maglev: A Fast and Reliable Software Network Load Balancer</a>.
+ *
+ * Every host derives a permutation of the slots of a fixed-size lookup table from the hash of its name, and the hosts
+ * take turns claiming their next preferred free slot until the table is full, hosts with more points taking more turns.
+ * All the work is done when the ring is built, looking up a key is a single table access.
+ *
+ * Compared to the multi-probe consistent hash ring:
+ * <ul>
+ *   <li>Retrieval time of each key is O(1) instead of O(# of buckets * # of probes)
+ *   <li>Memory complexity is O(table size) instead of O(# of buckets)
+ *   <li>Build time is O(table size * log(table size)) on average instead of O(# of buckets)
+ *   <li>Slightly more keys move when hosts are added or removed, since every host gives up some slots to make room for
+ *   the new one instead of only its neighbours
+ * </ul>
+ *
+ * The table size must be a prime number much larger than the number of hosts for the ring to be balanced, since each
+ * host owns either floor or ceil of its share of the slots.
+ */
+public class MaglevHashRing<T> implements Ring<T>
+{
+  public static final int DEFAULT_TABLE_SIZE = 65537;
+
+  private static final Logger LOG = LoggerFactory.getLogger(MaglevHashRing.class);
+  private static final LongHashFunction OFFSET_HASH_FUNCTION = LongHashFunction.xx_r39(0xDEADBEEF);
+  private static final LongHashFunction SKIP_HASH_FUNCTION = LongHashFunction.xx_r39(0xCAFEBABE);
+  private static final LongHashFunction KEY_HASH_FUNCTION = LongHashFunction.xx_r39(0);
+  /* we will only use the lower 32 bit of the hash code to avoid overflow */
+  private static final long MASK = 0x00000000FFFFFFFFL;
+
+  private final List<T> _hosts;
+  private final int[] _table;
+
+  /**
+   * Creates a Maglev hash ring with a table of DEFAULT_TABLE_SIZE (65537) slots.
+   */
+  public MaglevHashRing(Map<T, Integer> pointsMap)
+  {
+    this(pointsMap, DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * Creates a Maglev hash ring with given points map and table size.
+   *
+   * @param pointsMap A map between object to store in the ring and its points. The more points
+   *                  one has, the higher its weight is.
+   * @param tableSize Number of slots of the lookup table, which must be a prime number. The larger it is compared to
+   *                  the number of hosts, the more balanced the ring is.
+   */
+  public MaglevHashRing(Map<T, Integer> pointsMap, int tableSize)
+  {
+    if (!isPrime(tableSize))
+    {
+      throw new IllegalArgumentException("Table size must be a prime number: " + tableSize);
+    }
+
+    List<Entry> entries = new ArrayList<>(pointsMap.size());
+    for (Map.Entry<T, Integer> entry : pointsMap.entrySet())
+    {
+      // ignore items whose point is equal to zero
+      if (entry.getValue() > 0)
+      {
+        entries.add(new Entry(entry.getKey(), entry.getValue(), tableSize));
+      }
+    }
+    // the table depends on the order in which hosts take turns, sort them so that every client builds the same table
+    // whatever the iteration order of the points map
+    entries.sort(Comparator.comparingLong((Entry entry) -> entry._offset)
+        .thenComparingLong(entry -> entry._skip)
+        .thenComparing(entry -> entry._name));
+
+    _hosts = new ArrayList<>(entries.size());
+    for (Entry entry : entries)
+    {
+      _hosts.add(entry._host);
+    }
+    _table = entries.isEmpty() ? new int[0] : buildTable(entries, tableSize);
+  }
+
+  private int[] buildTable(List<Entry> entries, int tableSize)
+  {
+    int[] table = new int[tableSize];
+    Arrays.fill(table, -1);
+
+    int maxPoints = 0;
+    for (Entry entry : entries)
+    {
+      maxPoints = Math.max(maxPoints, entry._points);
+    }
+
+    // A host with the maximum points claims a slot on every round, a host with a third of them every third round, etc.
+    int filled = 0;
+    for (long round = 1; filled < tableSize; round++)
+    {
+      for (int i = 0; i < entries.size() && filled < tableSize; i++)
+      {
+        Entry entry = entries.get(i);
+        if (round * entry._points < entry._targetPoints)
+        {
+          continue;
+        }
+        entry._targetPoints += maxPoints;
+
+        int slot = entry.nextSlot(tableSize);
+        while (table[slot] >= 0)
+        {
+          slot = entry.nextSlot(tableSize);
+        }
+        table[slot] = i;
+        filled++;
+      }
+    }
+    return table;
+  }
+
+  @Override
+  public T get(int key)
+  {
+    if (_hosts.isEmpty())
+    {
+      LOG.debug("get called on a hash ring with nothing in it");
+      return null;
+    }
+
+    long hash = KEY_HASH_FUNCTION.hashInt(key) & MASK;
+    return _hosts.get(_table[(int) (hash % _table.length)]);
+  }
+
+  @Nonnull
+  @Override
+  public Iterator<T> getIterator(int key)
+  {
+    return new QuasiMaglevHashRingIterator(key);
+  }
+
+  @Override
+  public boolean isStickyRoutingCapable()
+  {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return _hosts.isEmpty();
+  }
+
+  @Override
+  public String toString()
+  {
+    return "MaglevHashRing [_hosts=" + _hosts + ", _tableSize=" + _table.length + "]";
+  }
+
+  private static boolean isPrime(int n)
+  {
+    if (n < 2)
+    {
+      return false;
+    }
+    for (int i = 2; (long) i * i <= n; i++)
+    {
+      if (n % i == 0)
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private class Entry
+  {
+    private final T _host;
+    private final String _name;
+    private final int _points;
+    private final long _offset;
+    private final long _skip;
+    private long _next;
+    private long _targetPoints;
+
+    private Entry(T host, int points, int tableSize)
+    {
+      _host = host;
+      _name = host.toString();
+      _points = points;
+      byte[] bytesToHash = _name.getBytes(StandardCharsets.UTF_8);
+      _offset = (OFFSET_HASH_FUNCTION.hashBytes(bytesToHash) & MASK) % tableSize;
+      // the skip is coprime with the prime table size, so the permutation visits every slot
+      _skip = (SKIP_HASH_FUNCTION.hashBytes(bytesToHash) & MASK) % (tableSize - 1) + 1;
+    }
+
+    private int nextSlot(int tableSize)
+    {
+      return (int) ((_offset + _skip * _next++) % tableSize);
+    }
+  }
+
+  /**
+   * Other than returning the most wanted host when called for the FIRST time,
+   * this iterator DOES NOT follow the ranking based on the points of the host.
+   */
+  private class QuasiMaglevHashRingIterator implements Iterator<T>
+  {
+    private final Iterator<T> _rankedListIter;
+
+    private QuasiMaglevHashRingIterator(int startKey)
+    {
+      List<T> rankedList = new LinkedList<>(_hosts);
+      Collections.shuffle(rankedList, new Random(startKey));
+      if (!_hosts.isEmpty())
+      {
+        T mostWantedHost = get(startKey);
+        rankedList.remove(mostWantedHost);
+        rankedList.add(0, mostWantedHost);
+      }
+      _rankedListIter = rankedList.iterator();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return _rankedListIter.hasNext();
+    }
+
+    @Override
+    public T next()
+    {
+      return _rankedListIter.next();
+    }
+  }
+}
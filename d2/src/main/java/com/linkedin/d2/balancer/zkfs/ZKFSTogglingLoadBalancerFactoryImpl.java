@@ -22,6 +22,7 @@ package com.linkedin.d2.balancer.zkfs;
 
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.util.None;
+import com.linkedin.d2.balancer.D2ClientConfig;
 import com.linkedin.d2.balancer.clusterfailout.FailoutConfigProviderFactory;
 import com.linkedin.d2.balancer.dualread.DualReadStateManager;
 import com.linkedin.d2.balancer.properties.ClusterProperties;
@@ -58,6 +59,7 @@ import com.linkedin.r2.transport.common.TransportClientFactory;
 import java.io.File;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
@@ -98,6 +100,8 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
   private final ServiceDiscoveryEventEmitter _serviceDiscoveryEventEmitter;
   private final DualReadStateManager _dualReadStateManager;
   private final boolean _loadBalanceStreamException;
+  private final int _propertyEventBusLaneCount;
+  private final ExecutorService _propertyEventBusExecutorService;
 
   private static final Logger _log = LoggerFactory.getLogger(ZKFSTogglingLoadBalancerFactoryImpl.class);
 
@@ -395,31 +399,100 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
       ServiceDiscoveryEventEmitter serviceDiscoveryEventEmitter,
       DualReadStateManager dualReadStateManager,
       boolean loadBalanceStreamException)
+  {
+    this(factory,
+         toConfig(timeout, timeoutUnit, baseZKPath, fsBasePath, clientFactories, loadBalancerStrategyFactories,
+                  d2ServicePath, sslContext, sslParameters, isSSLEnabled, clientServicesConfig,
+                  useNewEphemeralStoreWatcher, partitionAccessorRegistry, enableSaveUriDataOnDisk,
+                  sslSessionValidatorFactory, zookeeperReadWindowMs, deterministicSubsettingMetadataProvider,
+                  failoutConfigProviderFactory, canaryDistributionProvider, serviceDiscoveryEventEmitter,
+                  dualReadStateManager, loadBalanceStreamException),
+         d2ClientJmxManager);
+  }
+
+  /**
+   * Creates a factory configured by the load balancer settings of a {@link D2ClientConfig}, including the lanes of the
+   * cluster, service and uri event buses, see
+   * {@link PropertyEventBusImpl#create(ExecutorService, int, ExecutorService)}.
+   */
+  public ZKFSTogglingLoadBalancerFactoryImpl(ComponentFactory factory, D2ClientConfig config,
+      D2ClientJmxManager d2ClientJmxManager)
   {
     _factory = factory;
-    _lbTimeout = timeout;
-    _lbTimeoutUnit = timeoutUnit;
-    _baseZKPath = baseZKPath;
-    _fsd2DirPath = fsBasePath;
-    _clientFactories = clientFactories;
-    _loadBalancerStrategyFactories = loadBalancerStrategyFactories;
-    _enableSaveUriDataOnDisk = enableSaveUriDataOnDisk;
-    _d2ServicePath = d2ServicePath;
-    _sslContext = sslContext;
-    _sslParameters = sslParameters;
-    _isSSLEnabled = isSSLEnabled;
-    _clientServicesConfig = clientServicesConfig;
-    _useNewEphemeralStoreWatcher = useNewEphemeralStoreWatcher;
-    _partitionAccessorRegistry = partitionAccessorRegistry;
-    _sslSessionValidatorFactory = sslSessionValidatorFactory;
+    _lbTimeout = config.lbWaitTimeout;
+    _lbTimeoutUnit = config.lbWaitUnit;
+    _baseZKPath = config.basePath;
+    _fsd2DirPath = config.fsBasePath;
+    _clientFactories = config.clientFactories;
+    _loadBalancerStrategyFactories = config.loadBalancerStrategyFactories;
+    _enableSaveUriDataOnDisk = config.enableSaveUriDataOnDisk;
+    _d2ServicePath = config.d2ServicePath;
+    _sslContext = config.sslContext;
+    _sslParameters = config.sslParameters;
+    _isSSLEnabled = config.isSSLEnabled;
+    _clientServicesConfig = config.clientServicesConfig;
+    _useNewEphemeralStoreWatcher = config.useNewEphemeralStoreWatcher;
+    _partitionAccessorRegistry = config.partitionAccessorRegistry;
+    _sslSessionValidatorFactory = config.sslSessionValidatorFactory;
     _d2ClientJmxManager = d2ClientJmxManager;
-    _zookeeperReadWindowMs = zookeeperReadWindowMs;
-    _deterministicSubsettingMetadataProvider = deterministicSubsettingMetadataProvider;
-    _failoutConfigProviderFactory = failoutConfigProviderFactory;
-    _canaryDistributionProvider = canaryDistributionProvider;
-    _serviceDiscoveryEventEmitter = serviceDiscoveryEventEmitter;
-    _dualReadStateManager = dualReadStateManager;
-    _loadBalanceStreamException = loadBalanceStreamException;
+    _zookeeperReadWindowMs = config.zookeeperReadWindowMs;
+    _deterministicSubsettingMetadataProvider = config.deterministicSubsettingMetadataProvider;
+    _failoutConfigProviderFactory = config.failoutConfigProviderFactory;
+    _canaryDistributionProvider = config.canaryDistributionProvider;
+    _serviceDiscoveryEventEmitter = config.serviceDiscoveryEventEmitter;
+    _dualReadStateManager = config.dualReadStateManager;
+    _loadBalanceStreamException = config.loadBalanceStreamException;
+    _propertyEventBusLaneCount = config.propertyEventBusLaneCount;
+    _propertyEventBusExecutorService = config.propertyEventBusExecutorService;
+  }
+
+  private static D2ClientConfig toConfig(long timeout,
+      TimeUnit timeoutUnit,
+      String baseZKPath,
+      String fsBasePath,
+      Map<String, TransportClientFactory> clientFactories,
+      Map<String, LoadBalancerStrategyFactory<? extends LoadBalancerStrategy>> loadBalancerStrategyFactories,
+      String d2ServicePath,
+      SSLContext sslContext,
+      SSLParameters sslParameters,
+      boolean isSSLEnabled,
+      Map<String, Map<String, Object>> clientServicesConfig,
+      boolean useNewEphemeralStoreWatcher,
+      PartitionAccessorRegistry partitionAccessorRegistry,
+      boolean enableSaveUriDataOnDisk,
+      SslSessionValidatorFactory sslSessionValidatorFactory,
+      int zookeeperReadWindowMs,
+      DeterministicSubsettingMetadataProvider deterministicSubsettingMetadataProvider,
+      FailoutConfigProviderFactory failoutConfigProviderFactory,
+      CanaryDistributionProvider canaryDistributionProvider,
+      ServiceDiscoveryEventEmitter serviceDiscoveryEventEmitter,
+      DualReadStateManager dualReadStateManager,
+      boolean loadBalanceStreamException)
+  {
+    D2ClientConfig config = new D2ClientConfig();
+    config.lbWaitTimeout = timeout;
+    config.lbWaitUnit = timeoutUnit;
+    config.basePath = baseZKPath;
+    config.fsBasePath = fsBasePath;
+    config.clientFactories = clientFactories;
+    config.loadBalancerStrategyFactories = loadBalancerStrategyFactories;
+    config.d2ServicePath = d2ServicePath;
+    config.sslContext = sslContext;
+    config.sslParameters = sslParameters;
+    config.isSSLEnabled = isSSLEnabled;
+    config.clientServicesConfig = clientServicesConfig;
+    config.useNewEphemeralStoreWatcher = useNewEphemeralStoreWatcher;
+    config.partitionAccessorRegistry = partitionAccessorRegistry;
+    config.enableSaveUriDataOnDisk = enableSaveUriDataOnDisk;
+    config.sslSessionValidatorFactory = sslSessionValidatorFactory;
+    config.zookeeperReadWindowMs = zookeeperReadWindowMs;
+    config.deterministicSubsettingMetadataProvider = deterministicSubsettingMetadataProvider;
+    config.failoutConfigProviderFactory = failoutConfigProviderFactory;
+    config.canaryDistributionProvider = canaryDistributionProvider;
+    config.serviceDiscoveryEventEmitter = serviceDiscoveryEventEmitter;
+    config.dualReadStateManager = dualReadStateManager;
+    config.loadBalanceStreamException = loadBalanceStreamException;
+    return config;
   }
 
   @Override
@@ -460,9 +533,15 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
     FileStore<UriProperties> fsUriStore = createFileStore(_fsd2DirPath + File.separator + "uris", new UriPropertiesJsonSerializer());
     _d2ClientJmxManager.setFsUriStore(fsUriStore);
 
-    PropertyEventBus<ClusterProperties> clusterBus = new PropertyEventBusImpl<>(executorService);
-    PropertyEventBus<ServiceProperties> serviceBus = new PropertyEventBusImpl<>(executorService);
-    PropertyEventBus<UriProperties> uriBus = new PropertyEventBusImpl<>(executorService);
+    PropertyEventBus<ClusterProperties> clusterBus =
+        PropertyEventBusImpl.create(executorService, _propertyEventBusLaneCount, _propertyEventBusExecutorService);
+    PropertyEventBus<ServiceProperties> serviceBus =
+        PropertyEventBusImpl.create(executorService, _propertyEventBusLaneCount, _propertyEventBusExecutorService);
+    PropertyEventBus<UriProperties> uriBus =
+        PropertyEventBusImpl.create(executorService, _propertyEventBusLaneCount, _propertyEventBusExecutorService);
+    _d2ClientJmxManager.setPropertyEventBus("Cluster", clusterBus);
+    _d2ClientJmxManager.setPropertyEventBus("Service", serviceBus);
+    _d2ClientJmxManager.setPropertyEventBus("Uri", uriBus);
 
     // This ensures the filesystem store receives the events from the event bus so that
     // it can keep a local backup.
@@ -0,0 +1,175 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.discovery.event;
+
+import com.linkedin.common.stats.ConcurrentLongTracking;
+import com.linkedin.common.stats.LongStats;
+import com.linkedin.d2.discovery.event.PropertyEventThread.PropertyEvent;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Runs {@link PropertyEvent}s on a number of serial lanes sharing an {@link ExecutorService}. Events sent to the same
+ * lane run one at a time in the order they were sent, while events of different lanes may run concurrently on the
+ * threads of the executor. Events are usually assigned to a lane by hashing the name of the property they are about,
+ * see {@link #getLane(String)}, so that a slow event only delays the events of the properties sharing its lane.
+ *
+ * The number of queued events and the time spent running events are tracked for every lane.
+ */
+public class PartitionedPropertyEventExecutor
+{
+  /**
+   * Maximum number of events a lane runs before yielding its thread to the other lanes.
+   */
+  private static final int MAX_EVENTS_PER_RUN = 64;
+
+  private final String _name;
+  private final ExecutorService _executor;
+  private final Lane[] _lanes;
+
+  public PartitionedPropertyEventExecutor(String name, ExecutorService executor, int laneCount)
+  {
+    if (laneCount < 1)
+    {
+      throw new IllegalArgumentException("Lane count must be positive: " + laneCount);
+    }
+    _name = name;
+    _executor = executor;
+    _lanes = new Lane[laneCount];
+    for (int i = 0; i < laneCount; i++)
+    {
+      _lanes[i] = new Lane();
+    }
+  }
+
+  public String getName()
+  {
+    return _name;
+  }
+
+  public int getLaneCount()
+  {
+    return _lanes.length;
+  }
+
+  /**
+   * @return the lane of the events about the given property.
+   */
+  public int getLane(String propertyName)
+  {
+    return Math.floorMod(propertyName.hashCode(), _lanes.length);
+  }
+
+  public void send(int lane, PropertyEvent event)
+  {
+    _lanes[lane].send(event);
+  }
+
+  /**
+   * @return the number of events sent to the lane which haven't finished running.
+   */
+  public int getQueuedEventCount(int lane)
+  {
+    return _lanes[lane]._pending.get();
+  }
+
+  /**
+   * @return the number of events sent to all the lanes which haven't finished running.
+   */
+  public int getQueuedEventCount()
+  {
+    int count = 0;
+    for (Lane lane : _lanes)
+    {
+      count += lane._pending.get();
+    }
+    return count;
+  }
+
+  /**
+   * @return the highest number of events queued on a single lane.
+   */
+  public int getMaxQueuedEventCount()
+  {
+    int max = 0;
+    for (Lane lane : _lanes)
+    {
+      max = Math.max(max, lane._pending.get());
+    }
+    return max;
+  }
+
+  /**
+   * @return the time spent running the events of the lane, in microseconds.
+   */
+  public LongStats getProcessingTimeStats(int lane)
+  {
+    return _lanes[lane]._processingTime.getStats();
+  }
+
+  /**
+   * Clears the processing times of all the lanes.
+   */
+  public void resetProcessingTimeStats()
+  {
+    for (Lane lane : _lanes)
+    {
+      lane._processingTime.reset();
+    }
+  }
+
+  private class Lane implements Runnable
+  {
+    private final Queue<PropertyEvent> _events = new ConcurrentLinkedQueue<>();
+    /**
+     * Number of events added to _events which haven't finished running. The lane is scheduled on the executor
+     * whenever it goes up from zero, which guarantees a single thread runs the lane at any time.
+     */
+    private final AtomicInteger _pending = new AtomicInteger();
+    private final ConcurrentLongTracking _processingTime = new ConcurrentLongTracking();
+
+    private void send(PropertyEvent event)
+    {
+      _events.add(event);
+      if (_pending.getAndIncrement() == 0)
+      {
+        _executor.execute(this);
+      }
+    }
+
+    @Override
+    public void run()
+    {
+      for (int i = 0; i < MAX_EVENTS_PER_RUN; i++)
+      {
+        PropertyEvent event = _events.poll();
+        long start = System.nanoTime();
+        event.run();
+        _processingTime.addValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        if (_pending.decrementAndGet() == 0)
+        {
+          return;
+        }
+      }
+      _executor.execute(this);
+    }
+  }
+}
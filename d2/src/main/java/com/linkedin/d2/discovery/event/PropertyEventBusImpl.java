@@ -24,11 +24,15 @@ package com.linkedin.d2.discovery.event;
 import com.linkedin.d2.discovery.event.PropertyEventThread.PropertyEvent;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,40 +46,102 @@ import org.slf4j.LoggerFactory;
 public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
 {
   private final PropertyEventThread _thread;
-  private PropertyEventPublisher<T> _publisher;
-  private final Map<String, T> _properties = new HashMap<>();
-  private final Map<String, List<PropertyEventSubscriber<T>>> _subscribers = new HashMap<>();
-  private final List<PropertyEventSubscriber<T>> _allPropertySubscribers = new ArrayList<>();
+  private final PartitionedPropertyEventExecutor _partitionedExecutor;
+  private final List<Partition> _partitions;
+  /**
+   * Serializes the calls to the publisher, which lanes running concurrently would otherwise make concurrently.
+   */
+  private final Object _publisherLock = new Object();
   private static final Logger _log = LoggerFactory.getLogger(PropertyEventBusImpl.class);
 
   /*
    * Concurrency considerations:
    *
-   * All data structures are unsynchronized. They are manipulated only by tasks submitted
-   * to the executor, which is assumed to be single-threaded.
+   * All data structures are unsynchronized. Each partition is manipulated only by tasks submitted
+   * to its own lane, or to the executor, which is then assumed to be single-threaded, when there
+   * is a single partition. The publisher is only called while holding _publisherLock, since the
+   * publishers are not required to be thread-safe.
    */
 
   public PropertyEventBusImpl(ExecutorService executorService)
   {
     _thread = new PropertyEventExecutor("PropertyEventBusImpl PropertyEventThread", executorService);
+    _partitionedExecutor = null;
+    _partitions = Collections.singletonList(new Partition());
   }
 
   public PropertyEventBusImpl(ExecutorService executorService, PropertyEventPublisher<T> publisher)
   {
     this(executorService);
-    _publisher = publisher;
-    _publisher.setBus(this);
+    setInitialPublisher(publisher);
+  }
+
+  /**
+   * Creates a bus which hashes the properties onto laneCount lanes, each serially running the events of its
+   * properties on the given executor, so that events about different properties may be delivered concurrently
+   * when the executor has several threads. Events about a given property are still delivered in order.
+   *
+   * Subscribers must therefore be able to handle concurrent callbacks for different properties. The calls to the
+   * publisher are serialized by the bus.
+   */
+  public PropertyEventBusImpl(ExecutorService executorService, int laneCount)
+  {
+    _thread = null;
+    _partitionedExecutor =
+        new PartitionedPropertyEventExecutor("PropertyEventBusImpl PropertyEventLanes", executorService, laneCount);
+    List<Partition> partitions = new ArrayList<>(laneCount);
+    for (int i = 0; i < laneCount; i++)
+    {
+      partitions.add(new Partition());
+    }
+    _partitions = Collections.unmodifiableList(partitions);
+  }
+
+  public PropertyEventBusImpl(ExecutorService executorService, int laneCount, PropertyEventPublisher<T> publisher)
+  {
+    this(executorService, laneCount);
+    setInitialPublisher(publisher);
+  }
+
+  /**
+   * Creates a bus running its events serially on executorService when laneCount is 1, and a bus whose laneCount lanes
+   * run on laneExecutorService otherwise, see {@link #PropertyEventBusImpl(ExecutorService, int)}.
+   *
+   * @param laneExecutorService executor running the lanes, which should have enough threads for the lanes to run
+   *                            concurrently. Only used, and then required, when laneCount is greater than 1.
+   */
+  public static <T> PropertyEventBusImpl<T> create(ExecutorService executorService, int laneCount,
+      ExecutorService laneExecutorService)
+  {
+    if (laneCount == 1)
+    {
+      return new PropertyEventBusImpl<>(executorService);
+    }
+    if (laneExecutorService == null)
+    {
+      throw new IllegalArgumentException("An executor service is required to run " + laneCount + " lanes");
+    }
+    return new PropertyEventBusImpl<>(laneExecutorService, laneCount);
+  }
+
+  private void setInitialPublisher(PropertyEventPublisher<T> publisher)
+  {
+    for (Partition partition : _partitions)
+    {
+      partition._publisher = publisher;
+    }
+    publisher.setBus(this);
   }
 
   @Override
   public void register(final PropertyEventSubscriber<T> listener)
   {
-    _thread.send(new PropertyEvent("PropertyEventBus.registerAll")
+    sendToAll(partition -> new PropertyEvent("PropertyEventBus.registerAll")
     {
       @Override
       public void innerRun()
       {
-        _allPropertySubscribers.add(listener);
+        partition._allPropertySubscribers.add(listener);
       }
     });
   }
@@ -83,12 +149,12 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
   @Override
   public void unregister(final PropertyEventSubscriber<T> listener)
   {
-    _thread.send(new PropertyEvent("PropertyEventBus.unregisterAll")
+    sendToAll(partition -> new PropertyEvent("PropertyEventBus.unregisterAll")
     {
       @Override
       public void innerRun()
       {
-        _allPropertySubscribers.remove(listener);
+        partition._allPropertySubscribers.remove(listener);
       }
     });
   }
@@ -97,20 +163,21 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
   public void register(final Set<String> propertyNames,
                        final PropertyEventSubscriber<T> subscriber)
   {
-    _thread.send(new PropertyEvent("PropertyEventBus.register " + propertyNames)
+    sendByPartition(propertyNames, (partition, partitionPropertyNames) ->
+        new PropertyEvent("PropertyEventBus.register " + partitionPropertyNames)
     {
       public void innerRun()
       {
-        for (final String prop : propertyNames)
+        for (final String prop : partitionPropertyNames)
         {
           boolean initialized;
           boolean notifyPublisher = false;
-          initialized = _properties.containsKey(prop);
-          List<PropertyEventSubscriber<T>> listeners = _subscribers.get(prop);
+          initialized = partition._properties.containsKey(prop);
+          List<PropertyEventSubscriber<T>> listeners = partition._subscribers.get(prop);
           if (listeners == null)
           {
             listeners = new ArrayList<>();
-            _subscribers.put(prop, listeners);
+            partition._subscribers.put(prop, listeners);
           }
           if (listeners.isEmpty())
           {
@@ -119,11 +186,11 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
           listeners.add(subscriber);
           if (initialized)
           {
-            subscriber.onInitialize(prop, _properties.get(prop));
+            subscriber.onInitialize(prop, partition._properties.get(prop));
           }
-          if (notifyPublisher && _publisher != null)
+          if (notifyPublisher)
           {
-            _publisher.startPublishing(prop);
+            partition.startPublishing(prop);
           }
         }
       }
@@ -134,23 +201,21 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
   public void unregister(final Set<String> propertyNames,
                          final PropertyEventSubscriber<T> subscriber)
   {
-    _thread.send(new PropertyEvent("PropertyEventBus.unregister " + propertyNames)
+    sendByPartition(propertyNames, (partition, partitionPropertyNames) ->
+        new PropertyEvent("PropertyEventBus.unregister " + partitionPropertyNames)
     {
       public void innerRun()
       {
-        for (final String prop : propertyNames)
+        for (final String prop : partitionPropertyNames)
         {
-          List<PropertyEventSubscriber<T>> subscribers = _subscribers.get(prop);
+          List<PropertyEventSubscriber<T>> subscribers = partition._subscribers.get(prop);
           if (subscribers != null)
           {
             subscribers.remove(subscriber);
             if (subscribers.isEmpty())
             {
-              _properties.remove(prop);
-              if (_publisher != null)
-              {
-                _publisher.stopPublishing(prop);
-              }
+              partition._properties.remove(prop);
+              partition.stopPublishing(prop);
             }
           }
         }
@@ -161,23 +226,26 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
   @Override
   public void setPublisher(final PropertyEventPublisher<T> publisher)
   {
-
-    _thread.send(new PropertyEvent("PropertyEventBus.setPublisher")
+    sendToAll(partition -> new PropertyEvent("PropertyEventBus.setPublisher")
     {
       public void innerRun()
       {
-        if (_publisher != null)
+        synchronized (_publisherLock)
         {
-          for (String propertyName : _subscribers.keySet())
+          if (partition._publisher != null)
           {
-            _publisher.stopPublishing(propertyName);
+            for (String propertyName : partition._subscribers.keySet())
+            {
+              partition._publisher.stopPublishing(propertyName);
+            }
+          }
+          partition._publisher = publisher;
+          // Every lane sets the bus, so that none starts publishing before it is set. Setting it again is harmless.
+          partition._publisher.setBus(PropertyEventBusImpl.this);
+          for (String propertyName : partition._subscribers.keySet())
+          {
+            partition._publisher.startPublishing(propertyName);
           }
-        }
-        _publisher = publisher;
-        _publisher.setBus(PropertyEventBusImpl.this);
-        for (String propertyName : _subscribers.keySet())
-        {
-          _publisher.startPublishing(propertyName);
         }
       }
     });
@@ -191,22 +259,22 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
       _log.warn("Received a null event during publishInitialize for String prop = " + prop +
                     ". Still publishing the null event.");
     }
-    _thread.send(new PropertyEvent("PropertyEventBus.publishInitialize " + prop)
+    send(prop, partition -> new PropertyEvent("PropertyEventBus.publishInitialize " + prop)
     {
       public void innerRun()
       {
         // Because the bus can switch publishers, a new publisher may consider an event
         // an "initialize", but if the bus has previously seen that property, we will treat
         // it as an "add" so that the publisher change will be transparent to the clients.
-        boolean doAdd = _properties.containsKey(prop);
+        boolean doAdd = partition._properties.containsKey(prop);
         if (!doAdd || (doAdd && value != null))
         {
           // null guard for doAdd, only put the value in following cases:
           // case1: For initialization scenario : could put the nullable value in the map
           // case2: For doAdd is true scenario, could only put the non-nullable value in the map
-          _properties.put(prop, value);
+          partition._properties.put(prop, value);
         }
-        List<PropertyEventSubscriber<T>> waiters = subscribers(prop);
+        List<PropertyEventSubscriber<T>> waiters = partition.subscribers(prop);
         for (final PropertyEventSubscriber<T> waiter : waiters)
         {
           if (doAdd)
@@ -230,18 +298,18 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
       _log.warn("Received a null event during publishAdd for String prop = " + prop +
                     ". Still publishing the null event.");
     }
-    _thread.send(new PropertyEvent("PropertyEventBus.publishAdd " + prop)
+    send(prop, partition -> new PropertyEvent("PropertyEventBus.publishAdd " + prop)
     {
       public void innerRun()
       {
         // Ignore unless the property has been initialized
-        if (_properties.containsKey(prop))
+        if (partition._properties.containsKey(prop))
         {
           if (value != null)
           {
-            _properties.put(prop, value);
+            partition._properties.put(prop, value);
           }
-          for (final PropertyEventSubscriber<T> subscriber : subscribers(prop))
+          for (final PropertyEventSubscriber<T> subscriber : partition.subscribers(prop))
           {
             subscriber.onAdd(prop, value);
           }
@@ -253,15 +321,15 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
   @Override
   public void publishRemove(final String prop)
   {
-    _thread.send(new PropertyEvent("PropertyEventBus.publishRemove " + prop)
+    send(prop, partition -> new PropertyEvent("PropertyEventBus.publishRemove " + prop)
     {
       public void innerRun()
       {
         // Ignore unless the property has been initialized
-        if (_properties.containsKey(prop))
+        if (partition._properties.containsKey(prop))
         {
-          _properties.put(prop, null);
-          for (final PropertyEventSubscriber<T> subscriber : subscribers(prop))
+          partition._properties.put(prop, null);
+          for (final PropertyEventSubscriber<T> subscriber : partition.subscribers(prop))
           {
             subscriber.onRemove(prop);
           }
@@ -270,30 +338,120 @@ public class PropertyEventBusImpl<T> implements PropertyEventBus<T>
     });
   }
 
-  private List<PropertyEventSubscriber<T>> subscribers(String prop)
+  /**
+   * This is really just for testing
+   */
+  public PropertyEventPublisher<T> getPublisher()
+  {
+    return _partitions.get(0)._publisher;
+  }
+
+  /**
+   * @return the executor running the events of a bus created with a lane count, or null if the events all run
+   *         serially on the executor given to the bus.
+   */
+  public PartitionedPropertyEventExecutor getPartitionedExecutor()
+  {
+    return _partitionedExecutor;
+  }
+
+  private void send(String prop, Function<Partition, PropertyEvent> eventFactory)
+  {
+    if (_partitionedExecutor == null)
+    {
+      _thread.send(eventFactory.apply(_partitions.get(0)));
+    }
+    else
+    {
+      int lane = _partitionedExecutor.getLane(prop);
+      _partitionedExecutor.send(lane, eventFactory.apply(_partitions.get(lane)));
+    }
+  }
+
+  private void sendToAll(Function<Partition, PropertyEvent> eventFactory)
   {
-    List<PropertyEventSubscriber<T>> subscribers = _subscribers.get(prop);
-    if (subscribers == null)
+    if (_partitionedExecutor == null)
     {
-      return _allPropertySubscribers;
+      _thread.send(eventFactory.apply(_partitions.get(0)));
     }
-    if (_allPropertySubscribers.isEmpty())
+    else
     {
-      return subscribers;
+      for (int lane = 0; lane < _partitions.size(); lane++)
+      {
+        _partitionedExecutor.send(lane, eventFactory.apply(_partitions.get(lane)));
+      }
+    }
+  }
+
+  private void sendByPartition(Set<String> propertyNames,
+                               BiFunction<Partition, Set<String>, PropertyEvent> eventFactory)
+  {
+    if (_partitionedExecutor == null)
+    {
+      _thread.send(eventFactory.apply(_partitions.get(0), propertyNames));
+      return;
+    }
+
+    Map<Integer, Set<String>> propertyNamesByLane = new HashMap<>();
+    for (String prop : propertyNames)
+    {
+      propertyNamesByLane.computeIfAbsent(_partitionedExecutor.getLane(prop), lane -> new HashSet<>()).add(prop);
+    }
+    for (Map.Entry<Integer, Set<String>> entry : propertyNamesByLane.entrySet())
+    {
+      _partitionedExecutor.send(entry.getKey(), eventFactory.apply(_partitions.get(entry.getKey()), entry.getValue()));
     }
-    List<PropertyEventSubscriber<T>> all = new ArrayList<>(subscribers.size()
-        + _allPropertySubscribers.size());
-    all.addAll(_allPropertySubscribers);
-    all.addAll(subscribers);
-    return all;
   }
 
   /**
-   * This is really just for testing
+   * The state of the properties assigned to one lane, or of all of them when the bus isn't partitioned.
    */
-  public PropertyEventPublisher<T> getPublisher()
+  private class Partition
   {
-    return _publisher;
+    private PropertyEventPublisher<T> _publisher;
+    private final Map<String, T> _properties = new HashMap<>();
+    private final Map<String, List<PropertyEventSubscriber<T>>> _subscribers = new HashMap<>();
+    private final List<PropertyEventSubscriber<T>> _allPropertySubscribers = new ArrayList<>();
+
+    private void startPublishing(String prop)
+    {
+      synchronized (_publisherLock)
+      {
+        if (_publisher != null)
+        {
+          _publisher.startPublishing(prop);
+        }
+      }
+    }
+
+    private void stopPublishing(String prop)
+    {
+      synchronized (_publisherLock)
+      {
+        if (_publisher != null)
+        {
+          _publisher.stopPublishing(prop);
+        }
+      }
+    }
+
+    private List<PropertyEventSubscriber<T>> subscribers(String prop)
+    {
+      List<PropertyEventSubscriber<T>> subscribers = _subscribers.get(prop);
+      if (subscribers == null)
+      {
+        return _allPropertySubscribers;
+      }
+      if (_allPropertySubscribers.isEmpty())
+      {
+        return subscribers;
+      }
+      List<PropertyEventSubscriber<T>> all = new ArrayList<>(subscribers.size()
+          + _allPropertySubscribers.size());
+      all.addAll(_allPropertySubscribers);
+      all.addAll(subscribers);
+      return all;
+    }
   }
 
   private class PropertyEventExecutor extends PropertyEventThread
@@ -29,6 +29,9 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,11 +52,16 @@ import static com.linkedin.d2.discovery.util.LogUtil.warn;
  *
  * It has implements a global (non-per-prop) fair read-write lock to access the database,
  * allowing multiple reads at the same time.
+ *
+ * By default each property is written to its own file. When created with useSnapshot, the properties are instead
+ * kept in a single binary {@link FileStoreSnapshot} file, which is memory-mapped on startup and only deserializes the
+ * properties which are read. Property files left by a previous run without a snapshot are imported into it.
  */
 public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T>
 {
   private static final Logger         _log = LoggerFactory.getLogger(FileStore.class);
   private static final String         TMP_FILE_PREFIX = "d2-";
+  static final String                 SNAPSHOT_FILE_NAME = "d2-snapshot.bin";
 
   private final String _fsPath;
   private final String _fsFileExtension;
@@ -61,6 +69,8 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
   private final Stats _getStats;
   private final Stats _putStats;
   private final Stats _removeStats;
+  private final boolean _useSnapshot;
+  private volatile FileStoreSnapshot _snapshot;
 
   private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock(true);
   private final Lock r = rwl.readLock();
@@ -72,6 +82,15 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
   }
 
   public FileStore(String fsPath, String fsFileExtension, PropertySerializer<T> serializer)
+  {
+    this(fsPath, fsFileExtension, serializer, false);
+  }
+
+  /**
+   * @param useSnapshot whether to keep all the properties in a single binary snapshot file rather than in one file
+   *                    per property.
+   */
+  public FileStore(String fsPath, String fsFileExtension, PropertySerializer<T> serializer, boolean useSnapshot)
   {
     _getStats = new Stats(60000);
     _putStats = new Stats(60000);
@@ -79,6 +98,7 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     _fsPath = fsPath;
     _fsFileExtension = fsFileExtension;
     _serializer = serializer;
+    _useSnapshot = useSnapshot;
 
     File file = new File(_fsPath);
 
@@ -89,6 +109,11 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
         error(_log, "unable to create file path: " + _fsPath);
       }
     }
+
+    if (_useSnapshot)
+    {
+      openSnapshot();
+    }
   }
 
   @Override
@@ -112,7 +137,14 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     {
       if (!file.exists() || !file.isDirectory())
       {
-        return file.mkdirs();
+        if (!file.mkdirs())
+        {
+          return false;
+        }
+      }
+      if (_useSnapshot)
+      {
+        return openSnapshot() != null;
       }
     }
     finally
@@ -135,6 +167,11 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     {
       _getStats.inc();
 
+      if (_useSnapshot)
+      {
+        return getFromSnapshot(listenTo);
+      }
+
       File file = getFile(listenTo);
 
       if (file.exists())
@@ -185,7 +222,15 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     List<String> propertyNames;
     try
     {
-      propertyNames = FileSystemDirectory.getFileListWithoutExtension(_fsPath, _fsFileExtension);
+      FileStoreSnapshot snapshot = _snapshot;
+      if (_useSnapshot)
+      {
+        propertyNames = snapshot == null ? Collections.emptyList() : new ArrayList<>(snapshot.getNames());
+      }
+      else
+      {
+        propertyNames = FileSystemDirectory.getFileListWithoutExtension(_fsPath, _fsFileExtension);
+      }
 
       Map<String, T> result = new HashMap<>();
       for (String propertyName : propertyNames)
@@ -218,6 +263,12 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
       {
         _putStats.inc();
 
+        if (_useSnapshot)
+        {
+          putToSnapshot(listenTo, _serializer.toBytes(discoveryProperties));
+          return;
+        }
+
         File file = getFile(listenTo);
         try
         {
@@ -252,6 +303,12 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     {
       _removeStats.inc();
 
+      if (_useSnapshot)
+      {
+        removeFromSnapshot(listenTo);
+        return;
+      }
+
       File file = getFile(listenTo);
 
       if (file.exists())
@@ -274,6 +331,7 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     w.lock();
     try
     {
+      closeSnapshot();
       return FileStore.removeDirectory(_fsPath);
     }
     finally
@@ -326,6 +384,145 @@ public class FileStore<T> implements PropertyStore<T>, PropertyEventSubscriber<T
     return new File(_fsPath + File.separatorChar + listenTo + _fsFileExtension);
   }
 
+  private T getFromSnapshot(String listenTo)
+  {
+    FileStoreSnapshot snapshot = _snapshot;
+    if (snapshot == null)
+    {
+      warn(_log, "snapshot isn't open on get: ", listenTo);
+      return null;
+    }
+
+    try
+    {
+      byte[] content = snapshot.get(listenTo);
+      if (content != null)
+      {
+        return _serializer.fromBytes(content);
+      }
+    }
+    catch (IOException e)
+    {
+      _log.error("Error reading property " + listenTo + " from snapshot in " + _fsPath, e);
+    }
+    catch (PropertySerializationException e)
+    {
+      _log.error("Error deserializing property " + listenTo + " from snapshot in " + _fsPath, e);
+    }
+
+    warn(_log, "property didn't exist in snapshot on get: ", listenTo);
+
+    return null;
+  }
+
+  private void putToSnapshot(String listenTo, byte[] content)
+  {
+    FileStoreSnapshot snapshot = openSnapshot();
+    if (snapshot == null)
+    {
+      return;
+    }
+
+    try
+    {
+      snapshot.put(listenTo, content);
+    }
+    catch (IOException e)
+    {
+      _log.error("Unable to write property " + listenTo + " to snapshot in " + _fsPath, e);
+    }
+  }
+
+  private void removeFromSnapshot(String listenTo)
+  {
+    FileStoreSnapshot snapshot = openSnapshot();
+    if (snapshot == null)
+    {
+      return;
+    }
+
+    try
+    {
+      if (!snapshot.remove(listenTo))
+      {
+        warn(_log, "property didn't exist in snapshot on remove: ", listenTo);
+      }
+    }
+    catch (IOException e)
+    {
+      _log.error("Unable to remove property " + listenTo + " from snapshot in " + _fsPath, e);
+    }
+  }
+
+  /**
+   * Opens the snapshot if it isn't already, importing the existing property files into a new snapshot. Must be called
+   * with the write lock held, or from the constructor.
+   *
+   * @return the snapshot, or null if it couldn't be opened.
+   */
+  private FileStoreSnapshot openSnapshot()
+  {
+    if (_snapshot != null)
+    {
+      return _snapshot;
+    }
+
+    File snapshotFile = new File(_fsPath, SNAPSHOT_FILE_NAME);
+    try
+    {
+      FileStoreSnapshot snapshot = new FileStoreSnapshot(snapshotFile.toPath());
+      if (snapshot.isEmpty())
+      {
+        importPropertyFiles(snapshot);
+      }
+      _snapshot = snapshot;
+      return snapshot;
+    }
+    catch (IOException e)
+    {
+      _log.error("Unable to open snapshot: " + snapshotFile.getAbsolutePath(), e);
+      return null;
+    }
+  }
+
+  private void importPropertyFiles(FileStoreSnapshot snapshot) throws IOException
+  {
+    List<String> propertyNames = FileSystemDirectory.getFileListWithoutExtension(_fsPath, _fsFileExtension);
+    for (String propertyName : propertyNames)
+    {
+      File file = getFile(propertyName);
+      snapshot.put(propertyName, Files.readAllBytes(file.toPath()));
+    }
+    for (String propertyName : propertyNames)
+    {
+      if (!getFile(propertyName).delete())
+      {
+        warn(_log, "unable to delete imported file: ", getFile(propertyName));
+      }
+    }
+    if (!propertyNames.isEmpty())
+    {
+      info(_log, "imported ", propertyNames.size(), " property files into snapshot in ", _fsPath);
+    }
+  }
+
+  private void closeSnapshot()
+  {
+    FileStoreSnapshot snapshot = _snapshot;
+    _snapshot = null;
+    if (snapshot != null)
+    {
+      try
+      {
+        snapshot.close();
+      }
+      catch (IOException e)
+      {
+        _log.warn("Unable to close snapshot in " + _fsPath, e);
+      }
+    }
+  }
+
   @Override
   public void shutdown(Callback<None> shutdown)
   {
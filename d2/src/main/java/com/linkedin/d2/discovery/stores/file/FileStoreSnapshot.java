@@ -0,0 +1,361 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.discovery.stores.file;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * A single-file, versioned binary store of serialized properties, used by {@link FileStore} in place of one file per
+ * property.
+ *
+ * The file starts with a magic number and a format version, followed by a log of records, each made of the name length,
+ * the value length (-1 for a removal), a CRC32 of the name and value, the UTF-8 name and the value bytes. On open the
+ * file is memory-mapped and scanned once to index the offset of the latest value of every property; values are only
+ * copied out when they are read. Updates are appended to the log, and once more than half of the file is made of
+ * overwritten or removed records, the live records are written to a new file which atomically replaces the old one.
+ *
+ * This class is not thread-safe, callers are expected to hold a lock.
+ */
+class FileStoreSnapshot implements Closeable
+{
+  private static final Logger _log = LoggerFactory.getLogger(FileStoreSnapshot.class);
+
+  static final int MAGIC = 0x44325353; // "D2SS"
+  static final int FORMAT_VERSION = 1;
+  static final int HEADER_SIZE = 8;
+  static final int RECORD_HEADER_SIZE = 12;
+  private static final int TOMBSTONE = -1;
+  private static final long MIN_COMPACTION_GARBAGE = 1024 * 1024;
+  private static final String TMP_FILE_SUFFIX = ".tmp";
+
+  private final Path _path;
+  private final Map<String, Record> _index = new HashMap<>();
+  private FileChannel _channel;
+  private MappedByteBuffer _mapped;
+  private long _size;
+  private long _liveBytes;
+  private long _garbageBytes;
+
+  private static class Record
+  {
+    private final long _valueOffset;
+    private final int _valueLength;
+
+    private Record(long valueOffset, int valueLength)
+    {
+      _valueOffset = valueOffset;
+      _valueLength = valueLength;
+    }
+
+    private long size(int nameLength)
+    {
+      return RECORD_HEADER_SIZE + nameLength + _valueLength;
+    }
+  }
+
+  /**
+   * Opens the snapshot at the given path, creating it if it does not exist. A file with an unknown header is replaced
+   * by an empty snapshot, and a truncated or corrupted tail, e.g. left by a crash during an append, is discarded.
+   */
+  FileStoreSnapshot(Path path) throws IOException
+  {
+    _path = path;
+    Files.deleteIfExists(tmpPath());
+    open();
+  }
+
+  boolean isEmpty()
+  {
+    return _index.isEmpty();
+  }
+
+  Set<String> getNames()
+  {
+    return new HashSet<>(_index.keySet());
+  }
+
+  /**
+   * @return the value bytes of the property, or null if the snapshot doesn't contain it.
+   */
+  byte[] get(String name) throws IOException
+  {
+    Record record = _index.get(name);
+    if (record == null)
+    {
+      return null;
+    }
+
+    byte[] value = new byte[record._valueLength];
+    if (record._valueOffset + record._valueLength <= _mapped.limit())
+    {
+      ByteBuffer buffer = _mapped.duplicate();
+      buffer.position((int) record._valueOffset);
+      buffer.get(value);
+    }
+    else
+    {
+      // appended after the file was mapped
+      readFully(ByteBuffer.wrap(value), record._valueOffset);
+    }
+    return value;
+  }
+
+  void put(String name, byte[] value) throws IOException
+  {
+    byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+    long valueOffset = append(nameBytes, value);
+    Record previous = _index.put(name, new Record(valueOffset, value.length));
+    if (previous != null)
+    {
+      _liveBytes -= previous.size(nameBytes.length);
+      _garbageBytes += previous.size(nameBytes.length);
+    }
+    _liveBytes += RECORD_HEADER_SIZE + nameBytes.length + value.length;
+    compactIfNeeded();
+  }
+
+  /**
+   * @return true if the snapshot contained the property.
+   */
+  boolean remove(String name) throws IOException
+  {
+    Record previous = _index.remove(name);
+    if (previous == null)
+    {
+      return false;
+    }
+
+    byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+    append(nameBytes, null);
+    _liveBytes -= previous.size(nameBytes.length);
+    _garbageBytes += previous.size(nameBytes.length) + RECORD_HEADER_SIZE + nameBytes.length;
+    compactIfNeeded();
+    return true;
+  }
+
+  /**
+   * Writes the live records to a new file and atomically swaps it with the current one.
+   */
+  void compact() throws IOException
+  {
+    Path tmpPath = tmpPath();
+    try (FileChannel tmp = FileChannel.open(tmpPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+        StandardOpenOption.WRITE))
+    {
+      writeFully(tmp, header(), 0);
+      long position = HEADER_SIZE;
+      for (Map.Entry<String, Record> entry : _index.entrySet())
+      {
+        ByteBuffer record = record(entry.getKey().getBytes(StandardCharsets.UTF_8), get(entry.getKey()));
+        position += writeFully(tmp, record, position);
+      }
+      tmp.force(true);
+    }
+
+    _channel.close();
+    Files.move(tmpPath, _path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    open();
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    _channel.close();
+  }
+
+  long getSize()
+  {
+    return _size;
+  }
+
+  private void open() throws IOException
+  {
+    _channel = FileChannel.open(_path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    _index.clear();
+    _liveBytes = 0;
+    _garbageBytes = 0;
+
+    long fileSize = _channel.size();
+    _mapped = _channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(fileSize, Integer.MAX_VALUE));
+    if (fileSize < HEADER_SIZE || _mapped.getInt(0) != MAGIC || _mapped.getInt(4) != FORMAT_VERSION)
+    {
+      if (fileSize > 0)
+      {
+        _log.warn("Discarding snapshot {} with an unknown format", _path);
+      }
+      _channel.truncate(0);
+      writeFully(_channel, header(), 0);
+      _mapped = _channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+      _size = HEADER_SIZE;
+      return;
+    }
+
+    _size = scan();
+    if (_size < fileSize)
+    {
+      _log.warn("Discarding {} bytes at the end of snapshot {}", fileSize - _size, _path);
+      _channel.truncate(_size);
+      // The discarded bytes are overwritten by the next appends, and mapped bytes past the end of the file cannot be
+      // read, so only the valid records stay mapped.
+      _mapped = _channel.map(FileChannel.MapMode.READ_ONLY, 0, _size);
+    }
+  }
+
+  /**
+   * Indexes the records of the mapped file and returns the offset following the last valid one.
+   */
+  private long scan()
+  {
+    ByteBuffer buffer = _mapped.duplicate();
+    buffer.position(HEADER_SIZE);
+    CRC32 crc = new CRC32();
+    while (buffer.remaining() >= RECORD_HEADER_SIZE)
+    {
+      int start = buffer.position();
+      int nameLength = buffer.getInt();
+      int valueLength = buffer.getInt();
+      int checksum = buffer.getInt();
+      int storedValueLength = Math.max(valueLength, 0);
+      if (nameLength < 0 || valueLength < TOMBSTONE || buffer.remaining() < (long) nameLength + storedValueLength)
+      {
+        return start;
+      }
+
+      byte[] nameBytes = new byte[nameLength];
+      buffer.get(nameBytes);
+      crc.reset();
+      crc.update(nameBytes);
+      ByteBuffer value = buffer.slice();
+      value.limit(storedValueLength);
+      crc.update(value);
+      if ((int) crc.getValue() != checksum)
+      {
+        return start;
+      }
+
+      String name = new String(nameBytes, StandardCharsets.UTF_8);
+      long valueOffset = buffer.position();
+      buffer.position(buffer.position() + storedValueLength);
+      Record previous = valueLength == TOMBSTONE ? _index.remove(name)
+          : _index.put(name, new Record(valueOffset, valueLength));
+      if (previous != null)
+      {
+        _liveBytes -= previous.size(nameLength);
+        _garbageBytes += previous.size(nameLength);
+      }
+      if (valueLength == TOMBSTONE)
+      {
+        _garbageBytes += RECORD_HEADER_SIZE + nameLength;
+      }
+      else
+      {
+        _liveBytes += RECORD_HEADER_SIZE + nameLength + valueLength;
+      }
+    }
+    return buffer.position();
+  }
+
+  /**
+   * Appends a record, a null value being a removal, and returns the offset of its value.
+   */
+  private long append(byte[] nameBytes, byte[] value) throws IOException
+  {
+    long recordOffset = _size;
+    _size += writeFully(_channel, record(nameBytes, value), recordOffset);
+    return recordOffset + RECORD_HEADER_SIZE + nameBytes.length;
+  }
+
+  private void compactIfNeeded() throws IOException
+  {
+    if (_garbageBytes > MIN_COMPACTION_GARBAGE && _garbageBytes > _liveBytes)
+    {
+      compact();
+    }
+  }
+
+  private static ByteBuffer header()
+  {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+    return header;
+  }
+
+  private static ByteBuffer record(byte[] nameBytes, byte[] value)
+  {
+    int valueLength = value == null ? 0 : value.length;
+    CRC32 crc = new CRC32();
+    crc.update(nameBytes);
+    if (value != null)
+    {
+      crc.update(value);
+    }
+
+    ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + nameBytes.length + valueLength);
+    record.putInt(nameBytes.length).putInt(value == null ? TOMBSTONE : value.length).putInt((int) crc.getValue());
+    record.put(nameBytes);
+    if (value != null)
+    {
+      record.put(value);
+    }
+    record.flip();
+    return record;
+  }
+
+  private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException
+  {
+    int written = 0;
+    while (buffer.hasRemaining())
+    {
+      written += channel.write(buffer, position + written);
+    }
+    return written;
+  }
+
+  private void readFully(ByteBuffer buffer, long position) throws IOException
+  {
+    while (buffer.hasRemaining())
+    {
+      if (_channel.read(buffer, position + buffer.position()) < 0)
+      {
+        throw new EOFException("Unexpected end of snapshot " + _path);
+      }
+    }
+  }
+
+  private Path tmpPath()
+  {
+    return _path.resolveSibling(_path.getFileName() + TMP_FILE_SUFFIX);
+  }
+}
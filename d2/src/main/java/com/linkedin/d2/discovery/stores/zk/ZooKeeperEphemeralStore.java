@@ -708,6 +708,11 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
     // map from child to its data
     private final Map<String, T> _childrenMap = new HashMap<>();
 
+    // property last merged from the children, and the children removed since then, so that membership changes can
+    // be merged incrementally
+    private T _mergedProperty = null;
+    private final Map<String, T> _removedChildren = new HashMap<>();
+
     // property that is being watched
     private final String _prop;
     private final String _propPath;
@@ -800,6 +805,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
           {
             _fileStore.removeDirectory();
           }
+          resetMergedProperty();
           break;
 
         default:
@@ -832,7 +838,12 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
             emitSDStatusUpdateReceiptEvents(result, true);
           }
           _childrenMap.putAll(result);
-          T mergedProperty = _merger.merge(property, _childrenMap.values());
+          T mergedProperty = _mergedProperty == null
+              ? _merger.merge(property, _childrenMap.values())
+              : _merger.merge(property, _mergedProperty, _removedChildren.values(), result.values(),
+                  _childrenMap.values());
+          _mergedProperty = mergedProperty;
+          _removedChildren.clear();
           reportDualReadData(property, mergedProperty);
 
           if (_fileStore != null)
@@ -862,6 +873,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
         if (_czxid != 0)
         {
           _childrenMap.clear();
+          resetMergedProperty();
           if (_ephemeralNodesFilePath != null)
           {
             // The file structure for each children saved is: myBasePath/nodeWatchedProp/zkNodeId123/ephemeral-2
@@ -884,6 +896,12 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
       }
     }
 
+    private void resetMergedProperty()
+    {
+      _mergedProperty = null;
+      _removedChildren.clear();
+    }
+
     private Set<String> calculateChildrenDeltaAndUpdateState(List<String> children, boolean isInitialFetch)
     {
       // remove children that have been evicted from the map
@@ -903,6 +921,7 @@ public class ZooKeeperEphemeralStore<T> extends ZooKeeperStore<T>
       }
 
       oldChildren.forEach(_childrenMap::remove);
+      _removedChildren.putAll(oldChildrenMap);
       if (_fileStore != null)
       {
         oldChildren.forEach(_fileStore::remove);
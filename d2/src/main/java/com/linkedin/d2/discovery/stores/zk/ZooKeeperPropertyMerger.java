@@ -29,6 +29,22 @@ public interface ZooKeeperPropertyMerger<T>
    */
   T merge(String propertyName, Collection<T> propertiesToMerge);
 
+  /**
+   * Updates a property merged from the children of a node after some children were added and others removed.
+   * Mergers whose data structure supports it should override this method to avoid merging all the children again
+   * on every membership change.
+   *
+   * @param merged the property merged from the children before the change
+   * @param removed the data of the children removed since
+   * @param added the data of the children added since
+   * @param propertiesToMerge the data of all the children after the change, including the added ones
+   */
+  default T merge(String propertyName, T merged, Collection<T> removed, Collection<T> added,
+      Collection<T> propertiesToMerge)
+  {
+    return merge(propertyName, propertiesToMerge);
+  }
+
   /**
    * unmerge should return the String key of the propertiesToMerge containing the value to delete
    */
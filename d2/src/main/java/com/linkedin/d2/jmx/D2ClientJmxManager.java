@@ -29,6 +29,8 @@ import com.linkedin.d2.balancer.simple.SimpleLoadBalancer;
 import com.linkedin.d2.balancer.simple.SimpleLoadBalancerState;
 import com.linkedin.d2.balancer.simple.SimpleLoadBalancerState.SimpleLoadBalancerStateListener;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
+import com.linkedin.d2.discovery.event.PropertyEventBus;
+import com.linkedin.d2.discovery.event.PropertyEventBusImpl;
 import com.linkedin.d2.discovery.stores.file.FileStore;
 import com.linkedin.d2.discovery.stores.zk.ZooKeeperEphemeralStore;
 import com.linkedin.d2.discovery.stores.zk.ZooKeeperPermanentStore;
@@ -271,6 +273,21 @@ public class D2ClientJmxManager
     _jmxManager.registerZooKeeperPermanentStore(jmxName, serviceRegistry);
   }
 
+  /**
+   * Registers the lanes of a property event bus, if the bus runs its events on several lanes.
+   *
+   * @param busName name of the properties published on the bus, e.g. "Uri".
+   */
+  public void setPropertyEventBus(String busName, PropertyEventBus<?> bus)
+  {
+    if (bus instanceof PropertyEventBusImpl && ((PropertyEventBusImpl<?>) bus).getPartitionedExecutor() != null)
+    {
+      final String jmxName = String.format("%s-%sPropertyEventBus", getGlobalPrefix(null), busName);
+      _jmxManager.registerPartitionedPropertyEventExecutor(jmxName,
+          ((PropertyEventBusImpl<?>) bus).getPartitionedExecutor());
+    }
+  }
+
   public void setFsUriStore(FileStore<UriProperties> uriStore)
   {
     _watcherManager.updateWatcherForFileStoreUriProperties(uriStore, this::doRegisterUriFileStore);
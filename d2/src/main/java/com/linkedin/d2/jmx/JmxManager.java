@@ -28,6 +28,7 @@ import com.linkedin.d2.balancer.simple.SimpleLoadBalancerState;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategyV3;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
+import com.linkedin.d2.discovery.event.PartitionedPropertyEventExecutor;
 import com.linkedin.d2.discovery.stores.file.FileStore;
 import com.linkedin.d2.discovery.stores.zk.ZooKeeperEphemeralStore;
 import com.linkedin.d2.discovery.stores.zk.ZooKeeperPermanentStore;
@@ -210,6 +211,14 @@ public class JmxManager
     return this;
   }
 
+  public synchronized JmxManager registerPartitionedPropertyEventExecutor(String name,
+      PartitionedPropertyEventExecutor executor)
+  {
+    checkReg(new PartitionedPropertyEventExecutorJmx(executor), name);
+
+    return this;
+  }
+
   public synchronized JmxManager registerScheduledThreadPoolExecutor(String name, ScheduledThreadPoolExecutor executor)
   {
     checkReg(new ScheduledThreadPoolExecutorJmx(executor), name);
@@ -0,0 +1,101 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.jmx;
+
+import com.linkedin.common.stats.LongStats;
+import com.linkedin.d2.discovery.event.PartitionedPropertyEventExecutor;
+
+public class PartitionedPropertyEventExecutorJmx implements PartitionedPropertyEventExecutorJmxMBean
+{
+  private final PartitionedPropertyEventExecutor _executor;
+
+  public PartitionedPropertyEventExecutorJmx(PartitionedPropertyEventExecutor executor)
+  {
+    _executor = executor;
+  }
+
+  @Override
+  public int getLaneCount()
+  {
+    return _executor.getLaneCount();
+  }
+
+  @Override
+  public int getQueuedEventCount()
+  {
+    return _executor.getQueuedEventCount();
+  }
+
+  @Override
+  public int getMaxQueuedEventCount()
+  {
+    return _executor.getMaxQueuedEventCount();
+  }
+
+  @Override
+  public long getProcessedEventCount()
+  {
+    long count = 0;
+    for (int lane = 0; lane < _executor.getLaneCount(); lane++)
+    {
+      count += _executor.getProcessingTimeStats(lane).getCount();
+    }
+    return count;
+  }
+
+  @Override
+  public double getProcessingTimeAverage()
+  {
+    long count = 0;
+    double total = 0;
+    for (int lane = 0; lane < _executor.getLaneCount(); lane++)
+    {
+      LongStats stats = _executor.getProcessingTimeStats(lane);
+      count += stats.getCount();
+      total += stats.getAverage() * stats.getCount();
+    }
+    return count == 0 ? 0 : total / count;
+  }
+
+  @Override
+  public long getMaxLaneProcessingTime99Pct()
+  {
+    long max = 0;
+    for (int lane = 0; lane < _executor.getLaneCount(); lane++)
+    {
+      max = Math.max(max, _executor.getProcessingTimeStats(lane).get99Pct());
+    }
+    return max;
+  }
+
+  @Override
+  public long getProcessingTimeMaximum()
+  {
+    long max = 0;
+    for (int lane = 0; lane < _executor.getLaneCount(); lane++)
+    {
+      max = Math.max(max, _executor.getProcessingTimeStats(lane).getMaximum());
+    }
+    return max;
+  }
+
+  @Override
+  public void resetProcessingTimeStats()
+  {
+    _executor.resetProcessingTimeStats();
+  }
+}
@@ -0,0 +1,54 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.jmx;
+
+public interface PartitionedPropertyEventExecutorJmxMBean
+{
+  int getLaneCount();
+
+  /**
+   * @return the number of events sent to all the lanes which haven't finished running.
+   */
+  int getQueuedEventCount();
+
+  /**
+   * @return the highest number of events queued on a single lane.
+   */
+  int getMaxQueuedEventCount();
+
+  /**
+   * @return the number of events which finished running since the processing times were last reset.
+   */
+  long getProcessedEventCount();
+
+  /**
+   * @return the average time spent running an event, in microseconds.
+   */
+  double getProcessingTimeAverage();
+
+  /**
+   * @return the highest 99th percentile of the time spent running the events of a lane, in microseconds.
+   */
+  long getMaxLaneProcessingTime99Pct();
+
+  /**
+   * @return the longest time spent running an event, in microseconds.
+   */
+  long getProcessingTimeMaximum();
+
+  void resetProcessingTimeStats();
+}
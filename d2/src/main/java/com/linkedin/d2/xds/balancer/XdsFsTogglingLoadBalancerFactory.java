@@ -18,6 +18,7 @@ package com.linkedin.d2.xds.balancer;
 
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.util.None;
+import com.linkedin.d2.balancer.D2ClientConfig;
 import com.linkedin.d2.balancer.clusterfailout.FailoutConfigProviderFactory;
 import com.linkedin.d2.balancer.properties.ClusterProperties;
 import com.linkedin.d2.balancer.properties.ClusterPropertiesJsonSerializer;
@@ -48,6 +49,7 @@ import com.linkedin.d2.xds.XdsToUriPropertiesPublisher;
 import com.linkedin.r2.transport.common.TransportClientFactory;
 import java.io.File;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
@@ -81,6 +83,9 @@ public class XdsFsTogglingLoadBalancerFactory
   private final CanaryDistributionProvider _canaryDistributionProvider;
   private final FailoutConfigProviderFactory _failoutConfigProviderFactory;
   private final boolean _loadBalanceStreamException;
+  private final boolean _useFileStoreSnapshot;
+  private final int _propertyEventBusLaneCount;
+  private final ExecutorService _propertyEventBusExecutorService;
 
   @Deprecated
   public XdsFsTogglingLoadBalancerFactory(long timeout, TimeUnit timeoutUnit, String fsBasePath,
@@ -98,6 +103,7 @@ public class XdsFsTogglingLoadBalancerFactory
         canaryDistributionProvider, false);
   }
 
+  @Deprecated
   public XdsFsTogglingLoadBalancerFactory(long timeout, TimeUnit timeoutUnit, String fsBasePath,
       Map<String, TransportClientFactory> clientFactories,
       Map<String, LoadBalancerStrategyFactory<? extends LoadBalancerStrategy>> loadBalancerStrategyFactories,
@@ -108,42 +114,118 @@ public class XdsFsTogglingLoadBalancerFactory
       FailoutConfigProviderFactory failoutConfigProviderFactory, CanaryDistributionProvider canaryDistributionProvider,
       boolean loadBalanceStreamException)
   {
-    _lbTimeout = timeout;
-    _lbTimeoutUnit = timeoutUnit;
-    _fsIndisDirPath = fsBasePath;
-    _clientFactories = clientFactories;
-    _loadBalancerStrategyFactories = loadBalancerStrategyFactories;
-    _d2ServicePath = d2ServicePath;
-    _sslContext = sslContext;
-    _sslParameters = sslParameters;
-    _isSSLEnabled = isSSLEnabled;
-    _clientServicesConfig = clientServicesConfig;
-    _partitionAccessorRegistry = partitionAccessorRegistry;
-    _sslSessionValidatorFactory = sslSessionValidatorFactory;
+    this(timeout, timeoutUnit, fsBasePath, clientFactories, loadBalancerStrategyFactories, d2ServicePath, sslContext,
+        sslParameters, isSSLEnabled, clientServicesConfig, partitionAccessorRegistry, sslSessionValidatorFactory,
+        d2ClientJmxManager, deterministicSubsettingMetadataProvider, failoutConfigProviderFactory,
+        canaryDistributionProvider, loadBalanceStreamException, false);
+  }
+
+  /**
+   * @param useFileStoreSnapshot whether the cluster and uri backups are kept in a single binary snapshot file per
+   *                             directory rather than one file per property, see {@link FileStore}. The service
+   *                             backups always use one file per property since warm up lists them.
+   */
+  public XdsFsTogglingLoadBalancerFactory(long timeout, TimeUnit timeoutUnit, String fsBasePath,
+      Map<String, TransportClientFactory> clientFactories,
+      Map<String, LoadBalancerStrategyFactory<? extends LoadBalancerStrategy>> loadBalancerStrategyFactories,
+      String d2ServicePath, SSLContext sslContext, SSLParameters sslParameters, boolean isSSLEnabled,
+      Map<String, Map<String, Object>> clientServicesConfig, PartitionAccessorRegistry partitionAccessorRegistry,
+      SslSessionValidatorFactory sslSessionValidatorFactory, D2ClientJmxManager d2ClientJmxManager,
+      DeterministicSubsettingMetadataProvider deterministicSubsettingMetadataProvider,
+      FailoutConfigProviderFactory failoutConfigProviderFactory, CanaryDistributionProvider canaryDistributionProvider,
+      boolean loadBalanceStreamException, boolean useFileStoreSnapshot)
+  {
+    this(toConfig(timeout, timeoutUnit, fsBasePath, clientFactories, loadBalancerStrategyFactories, d2ServicePath,
+        sslContext, sslParameters, isSSLEnabled, clientServicesConfig, partitionAccessorRegistry,
+        sslSessionValidatorFactory, deterministicSubsettingMetadataProvider, failoutConfigProviderFactory,
+        canaryDistributionProvider, loadBalanceStreamException, useFileStoreSnapshot), d2ClientJmxManager);
+  }
+
+  /**
+   * Creates a factory configured by the load balancer settings of a {@link D2ClientConfig}, including the backups
+   * kept in the {@link D2ClientConfig#indisFsBasePath} directory and the lanes of the cluster, service and uri event
+   * buses, see {@link PropertyEventBusImpl#create(ExecutorService, int, ExecutorService)}.
+   */
+  public XdsFsTogglingLoadBalancerFactory(D2ClientConfig config, D2ClientJmxManager d2ClientJmxManager)
+  {
+    _lbTimeout = config.lbWaitTimeout;
+    _lbTimeoutUnit = config.lbWaitUnit;
+    _fsIndisDirPath = config.indisFsBasePath;
+    _clientFactories = config.clientFactories;
+    _loadBalancerStrategyFactories = config.loadBalancerStrategyFactories;
+    _d2ServicePath = config.d2ServicePath;
+    _sslContext = config.sslContext;
+    _sslParameters = config.sslParameters;
+    _isSSLEnabled = config.isSSLEnabled;
+    _clientServicesConfig = config.clientServicesConfig;
+    _partitionAccessorRegistry = config.partitionAccessorRegistry;
+    _sslSessionValidatorFactory = config.sslSessionValidatorFactory;
     _d2ClientJmxManager = d2ClientJmxManager;
-    _deterministicSubsettingMetadataProvider = deterministicSubsettingMetadataProvider;
-    _failoutConfigProviderFactory = failoutConfigProviderFactory;
-    _canaryDistributionProvider = canaryDistributionProvider;
-    _loadBalanceStreamException = loadBalanceStreamException;
+    _deterministicSubsettingMetadataProvider = config.deterministicSubsettingMetadataProvider;
+    _failoutConfigProviderFactory = config.failoutConfigProviderFactory;
+    _canaryDistributionProvider = config.canaryDistributionProvider;
+    _loadBalanceStreamException = config.loadBalanceStreamException;
+    _useFileStoreSnapshot = config.useFileStoreSnapshot;
+    _propertyEventBusLaneCount = config.propertyEventBusLaneCount;
+    _propertyEventBusExecutorService = config.propertyEventBusExecutorService;
+  }
+
+  private static D2ClientConfig toConfig(long timeout, TimeUnit timeoutUnit, String fsBasePath,
+      Map<String, TransportClientFactory> clientFactories,
+      Map<String, LoadBalancerStrategyFactory<? extends LoadBalancerStrategy>> loadBalancerStrategyFactories,
+      String d2ServicePath, SSLContext sslContext, SSLParameters sslParameters, boolean isSSLEnabled,
+      Map<String, Map<String, Object>> clientServicesConfig, PartitionAccessorRegistry partitionAccessorRegistry,
+      SslSessionValidatorFactory sslSessionValidatorFactory,
+      DeterministicSubsettingMetadataProvider deterministicSubsettingMetadataProvider,
+      FailoutConfigProviderFactory failoutConfigProviderFactory, CanaryDistributionProvider canaryDistributionProvider,
+      boolean loadBalanceStreamException, boolean useFileStoreSnapshot)
+  {
+    D2ClientConfig config = new D2ClientConfig();
+    config.lbWaitTimeout = timeout;
+    config.lbWaitUnit = timeoutUnit;
+    config.indisFsBasePath = fsBasePath;
+    config.clientFactories = clientFactories;
+    config.loadBalancerStrategyFactories = loadBalancerStrategyFactories;
+    config.d2ServicePath = d2ServicePath;
+    config.sslContext = sslContext;
+    config.sslParameters = sslParameters;
+    config.isSSLEnabled = isSSLEnabled;
+    config.clientServicesConfig = clientServicesConfig;
+    config.partitionAccessorRegistry = partitionAccessorRegistry;
+    config.sslSessionValidatorFactory = sslSessionValidatorFactory;
+    config.deterministicSubsettingMetadataProvider = deterministicSubsettingMetadataProvider;
+    config.failoutConfigProviderFactory = failoutConfigProviderFactory;
+    config.canaryDistributionProvider = canaryDistributionProvider;
+    config.loadBalanceStreamException = loadBalanceStreamException;
+    config.useFileStoreSnapshot = useFileStoreSnapshot;
+    return config;
   }
 
   public TogglingLoadBalancer create(ScheduledExecutorService executorService, XdsToD2PropertiesAdaptor xdsAdaptor)
   {
-    PropertyEventBus<ClusterProperties> clusterBus = new PropertyEventBusImpl<>(executorService);
-    PropertyEventBus<ServiceProperties> serviceBus = new PropertyEventBusImpl<>(executorService);
-    PropertyEventBus<UriProperties> uriBus = new PropertyEventBusImpl<>(executorService);
+    PropertyEventBus<ClusterProperties> clusterBus =
+        PropertyEventBusImpl.create(executorService, _propertyEventBusLaneCount, _propertyEventBusExecutorService);
+    PropertyEventBus<ServiceProperties> serviceBus =
+        PropertyEventBusImpl.create(executorService, _propertyEventBusLaneCount, _propertyEventBusExecutorService);
+    PropertyEventBus<UriProperties> uriBus =
+        PropertyEventBusImpl.create(executorService, _propertyEventBusLaneCount, _propertyEventBusExecutorService);
+    _d2ClientJmxManager.setPropertyEventBus("Cluster", clusterBus);
+    _d2ClientJmxManager.setPropertyEventBus("Service", serviceBus);
+    _d2ClientJmxManager.setPropertyEventBus("Uri", uriBus);
 
     FileStore<ClusterProperties> fsClusterStore =
-        createFileStore(FileSystemDirectory.getClusterDirectory(_fsIndisDirPath), new ClusterPropertiesJsonSerializer());
+        createFileStore(FileSystemDirectory.getClusterDirectory(_fsIndisDirPath), new ClusterPropertiesJsonSerializer(),
+            _useFileStoreSnapshot);
     _d2ClientJmxManager.setFsClusterStore(fsClusterStore);
 
     FileStore<ServiceProperties> fsServiceStore =
         createFileStore(FileSystemDirectory.getServiceDirectory(_fsIndisDirPath, _d2ServicePath),
-            new ServicePropertiesJsonSerializer());
+            new ServicePropertiesJsonSerializer(), false);
     _d2ClientJmxManager.setFsServiceStore(fsServiceStore);
 
     FileStore<UriProperties> fsUriStore =
-        createFileStore(_fsIndisDirPath + File.separator + "uris", new UriPropertiesJsonSerializer());
+        createFileStore(_fsIndisDirPath + File.separator + "uris", new UriPropertiesJsonSerializer(),
+            _useFileStoreSnapshot);
     _d2ClientJmxManager.setFsUriStore(fsUriStore);
 
     // This ensures the filesystem store receives the events from the event bus so that
@@ -193,8 +275,8 @@ public class XdsFsTogglingLoadBalancerFactory
     return togLB;
   }
 
-  private <T> FileStore<T> createFileStore(String path, PropertySerializer<T> serializer)
+  private <T> FileStore<T> createFileStore(String path, PropertySerializer<T> serializer, boolean useSnapshot)
   {
-    return new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION, serializer);
+    return new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION, serializer, useSnapshot);
   }
 }
@@ -68,11 +68,7 @@ public class XdsLoadBalancerWithFacilitiesFactory implements LoadBalancerWithFac
     XdsLoadBalancer xdsLoadBalancer = new XdsLoadBalancer(
         adaptor,
         executorService,
-        new XdsFsTogglingLoadBalancerFactory(config.lbWaitTimeout, config.lbWaitUnit, config.indisFsBasePath,
-            config.clientFactories, config.loadBalancerStrategyFactories, config.d2ServicePath, config.sslContext,
-            config.sslParameters, config.isSSLEnabled, config.clientServicesConfig, config.partitionAccessorRegistry,
-            config.sslSessionValidatorFactory, d2ClientJmxManager, config.deterministicSubsettingMetadataProvider,
-            config.failoutConfigProviderFactory, config.canaryDistributionProvider, config.loadBalanceStreamException)
+        new XdsFsTogglingLoadBalancerFactory(config, d2ClientJmxManager)
     );
 
     LoadBalancerWithFacilities balancer = xdsLoadBalancer;
@@ -81,7 +77,8 @@ public class XdsLoadBalancerWithFacilitiesFactory implements LoadBalancerWithFac
     {
       balancer = new WarmUpLoadBalancer(balancer, xdsLoadBalancer, config.indisStartUpExecutorService, config.indisFsBasePath,
           config.d2ServicePath, config.indisDownstreamServicesFetcher, config.indisWarmUpTimeoutSeconds,
-          config.indisWarmUpConcurrentRequests, config.dualReadStateManager, true);
+          config.indisWarmUpConcurrentRequests, config.indisWarmUpMaxConcurrentRequests, config.dualReadStateManager,
+          true);
     }
 
     return balancer;
@@ -0,0 +1,120 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.d2.balancer.clients;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PeakEwmaLatencyTest
+{
+  private static final long DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+  private static final double DELTA = 1e-6;
+
+  @Test
+  public void testNotObserved()
+  {
+    PeakEwmaLatency latency = new PeakEwmaLatency(DECAY_TIME);
+    Assert.assertFalse(latency.isObserved());
+    Assert.assertEquals(latency.get(0), 0, DELTA);
+  }
+
+  @Test
+  public void testPeakIsTakenImmediately()
+  {
+    PeakEwmaLatency latency = new PeakEwmaLatency(DECAY_TIME);
+    latency.observe(1000, 0);
+    latency.observe(1000, 10);
+    latency.observe(50000, 20);
+    Assert.assertEquals(latency.get(20), 50000, DELTA);
+  }
+
+  @Test
+  public void testLowerLatencyIsAveraged()
+  {
+    PeakEwmaLatency latency = new PeakEwmaLatency(DECAY_TIME);
+    latency.observe(50000, 0);
+    latency.observe(1000, DECAY_TIME);
+
+    double weight = Math.exp(-1);
+    Assert.assertEquals(latency.get(DECAY_TIME), 50000 * weight + 1000 * (1 - weight), DELTA);
+
+    // repeated fast responses bring the estimate back down
+    for (int i = 2; i < 100; i++)
+    {
+      latency.observe(1000, i * DECAY_TIME);
+    }
+    Assert.assertEquals(latency.get(99 * DECAY_TIME), 1000, 1);
+  }
+
+  @Test
+  public void testDecayWithoutCalls()
+  {
+    PeakEwmaLatency latency = new PeakEwmaLatency(DECAY_TIME);
+    latency.observe(50000, 0);
+    Assert.assertEquals(latency.get(DECAY_TIME), 50000 * Math.exp(-1), DELTA);
+    Assert.assertTrue(latency.get(100 * DECAY_TIME) < 1);
+  }
+
+  @Test
+  public void testErrorNeverLowersLatency()
+  {
+    PeakEwmaLatency latency = new PeakEwmaLatency(DECAY_TIME);
+    latency.observe(50000, 0);
+    latency.observeError(10, 0);
+    Assert.assertEquals(latency.get(0), 50000, DELTA);
+
+    latency.observeError(80000, 0);
+    Assert.assertEquals(latency.get(0), 80000, DELTA);
+  }
+
+  @Test
+  public void testConcurrentObservations() throws Exception
+  {
+    PeakEwmaLatency latency = new PeakEwmaLatency(DECAY_TIME);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try
+    {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++)
+      {
+        futures.add(executor.submit(() -> {
+          for (int i = 1; i <= 10000; i++)
+          {
+            latency.observe(i, 0);
+          }
+        }));
+      }
+      for (Future<?> future : futures)
+      {
+        future.get();
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+
+    // without decay, the highest latency wins whatever the interleaving
+    Assert.assertEquals(latency.get(0), 10000, DELTA);
+  }
+}
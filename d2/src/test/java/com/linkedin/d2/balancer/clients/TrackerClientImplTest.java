@@ -1,9 +1,19 @@
 package com.linkedin.d2.balancer.clients;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
 
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.common.bridge.client.TransportClient;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
 import com.linkedin.util.clock.SystemClock;
+import org.mockito.Mockito;
 
 import org.junit.Assert;
 import org.testng.annotations.Test;
@@ -28,4 +38,31 @@ public class TrackerClientImplTest
 
     Assert.assertEquals(_trackerClient.doNotLoadBalance(), doNotLoadBalance);
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testPeakEwmaLatency()
+  {
+    TransportClient transportClient = Mockito.mock(TransportClient.class);
+    _trackerClient = new TrackerClientImpl(URI.create("uri"), new HashMap<>(), transportClient, SystemClock.instance(), 1000,
+        (test) -> false, false, false, false, true);
+    Assert.assertEquals(_trackerClient.getPeakEwmaLatency(), 0D, 0D);
+
+    Mockito.doAnswer(invocation -> {
+      Thread.sleep(5);
+      ((TransportCallback<RestResponse>) invocation.getArguments()[3]).onResponse(
+          TransportResponseImpl.success(new RestResponseBuilder().build()));
+      return null;
+    }).when(transportClient).restRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+
+    RestRequest request = new RestRequestBuilder(URI.create("uri")).build();
+    _trackerClient.restRequest(request, new RequestContext(), Collections.emptyMap(), response -> {});
+    Assert.assertTrue(_trackerClient.getPeakEwmaLatency() >= 4_000_000D);
+
+    // the latency isn't tracked unless enabled
+    _trackerClient = new TrackerClientImpl(URI.create("uri"), new HashMap<>(), transportClient, SystemClock.instance(), 1000,
+        (test) -> false);
+    _trackerClient.restRequest(request, new RequestContext(), Collections.emptyMap(), response -> {});
+    Assert.assertEquals(_trackerClient.getPeakEwmaLatency(), 0D, 0D);
+  }
 }
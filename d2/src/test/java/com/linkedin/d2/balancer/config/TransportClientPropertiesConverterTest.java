@@ -60,6 +60,8 @@ public class TransportClientPropertiesConverterTest
     final StringArray allowedClientOverrideKeys = new StringArray(PropertyKeys.HTTP_REQUEST_TIMEOUT,
         PropertyKeys.HTTP_QUERY_POST_THRESHOLD);
     final Double maxClientRequestRetryRatio = 0.2;
+    final Boolean adaptiveConcurrencyLimitEnabled = true;
+    final Integer maxConcurrencyLimit = 500;
 
     Map<String, Object> transportClientProperties = new HashMap<>();
     transportClientProperties.put(PropertyKeys.HTTP_QUERY_POST_THRESHOLD, queryPostThreshold.toString());
@@ -89,6 +91,9 @@ public class TransportClientPropertiesConverterTest
     transportClientProperties.put(PropertyKeys.ALLOWED_CLIENT_OVERRIDE_KEYS,
         String.join(",", allowedClientOverrideKeys));
     transportClientProperties.put(PropertyKeys.HTTP_MAX_CLIENT_REQUEST_RETRY_RATIO, maxClientRequestRetryRatio.toString());
+    transportClientProperties.put(PropertyKeys.HTTP_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED,
+        adaptiveConcurrencyLimitEnabled.toString());
+    transportClientProperties.put(PropertyKeys.HTTP_MAX_CONCURRENCY_LIMIT, maxConcurrencyLimit.toString());
 
     D2TransportClientProperties d2TransportClientProperties =
         new D2TransportClientProperties()
@@ -114,7 +119,9 @@ public class TransportClientPropertiesConverterTest
             .setProtocolVersion(protocolVersion)
             .setTcpNoDelay(tcpNoDelay)
             .setAllowedClientOverrideKeys(allowedClientOverrideKeys)
-            .setMaxClientRequestRetryRatio(maxClientRequestRetryRatio);
+            .setMaxClientRequestRetryRatio(maxClientRequestRetryRatio)
+            .setAdaptiveConcurrencyLimitEnabled(adaptiveConcurrencyLimitEnabled)
+            .setMaxConcurrencyLimit(maxConcurrencyLimit);
 
     Assert.assertEquals(TransportClientPropertiesConverter.toConfig(transportClientProperties), d2TransportClientProperties);
     Assert.assertEquals(TransportClientPropertiesConverter.toProperties(d2TransportClientProperties), transportClientProperties);
@@ -0,0 +1,163 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.properties;
+
+import java.net.URI;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class UriPropertiesMergerTest
+{
+  private static final String CLUSTER_NAME = "TestCluster";
+  private static final UriPropertiesMerger MERGER = new UriPropertiesMerger();
+
+  @Test
+  public void testIncrementalMergeMatchesFullMerge()
+  {
+    Random random = new Random(42);
+    Map<String, UriProperties> children = new HashMap<>();
+    UriProperties merged = MERGER.merge(CLUSTER_NAME, children.values());
+    int nextChild = 0;
+
+    for (int i = 0; i < 500; i++)
+    {
+      Map<String, UriProperties> removed = new HashMap<>();
+      List<String> names = new ArrayList<>(children.keySet());
+      Collections.shuffle(names, random);
+      for (String name : names.subList(0, Math.min(names.size(), random.nextInt(3))))
+      {
+        removed.put(name, children.remove(name));
+      }
+
+      Map<String, UriProperties> added = new HashMap<>();
+      for (int j = random.nextInt(3); j > 0; j--)
+      {
+        // hosts are picked from a small set so that some of them are announced by several children, with the same
+        // data since which child wins is undefined when merging all the children
+        int host = random.nextInt(20);
+        added.put("ephemeral-" + nextChild++, child(host, host % 5 + 1, host % 3 == 0 ? "value" + host : null,
+            random.nextInt(100)));
+      }
+      children.putAll(added);
+
+      UriProperties previous = merged;
+      merged = MERGER.merge(CLUSTER_NAME, merged, removed.values(), added.values(), children.values());
+      UriProperties expected = MERGER.merge(CLUSTER_NAME, children.values());
+      Assert.assertEquals(merged, expected);
+      Assert.assertEquals(merged.getVersion(), expected.getVersion());
+      Assert.assertEquals(merged.getSharedUris(), expected.getSharedUris());
+      Assert.assertNotNull(merged.getChangedUrisSince(previous));
+    }
+  }
+
+  @Test
+  public void testHostAnnouncedAgain()
+  {
+    Map<String, UriProperties> children = new HashMap<>();
+    children.put("ephemeral-1", child(1, 1, null, 1));
+    children.put("ephemeral-2", child(2, 1, null, 1));
+    UriProperties merged = MERGER.merge(CLUSTER_NAME, children.values());
+
+    // the host announces itself with a new weight before its previous node expires
+    UriProperties announcedAgain = child(1, 3, "value", 2);
+    children.put("ephemeral-3", announcedAgain);
+    merged = MERGER.merge(CLUSTER_NAME, merged, Collections.emptyList(), Collections.singleton(announcedAgain),
+        children.values());
+    Assert.assertEquals(merged.getPartitionDataMap(uri(1)), announcedAgain.getPartitionDataMap(uri(1)));
+
+    UriProperties expired = children.remove("ephemeral-1");
+    UriProperties previous = merged;
+    merged = MERGER.merge(CLUSTER_NAME, merged, Collections.singleton(expired), Collections.emptyList(),
+        children.values());
+    Assert.assertEquals(merged.getPartitionDataMap(uri(1)), announcedAgain.getPartitionDataMap(uri(1)));
+    Assert.assertEquals(merged.getUriSpecificProperties().get(uri(1)), Collections.singletonMap("key", "value"));
+    Assert.assertEquals(merged, MERGER.merge(CLUSTER_NAME, children.values()));
+    Assert.assertEquals(merged.getChangedUrisSince(previous), Collections.singleton(uri(1)));
+  }
+
+  @Test
+  public void testRemovalOnlyLooksUpSharedUris()
+  {
+    Map<String, UriProperties> children = new HashMap<>();
+    children.put("ephemeral-1", child(1, 1, null, 1));
+    children.put("ephemeral-2", child(2, 1, null, 3));
+    children.put("ephemeral-3", child(1, 1, null, 2));
+    UriProperties merged = MERGER.merge(CLUSTER_NAME, children.values());
+    Assert.assertEquals(merged.getSharedUris(), Collections.singleton(uri(1)));
+
+    UriProperties removed = children.remove("ephemeral-1");
+    removed = MERGER.merge(CLUSTER_NAME, merged, Collections.singleton(removed), Collections.emptyList(),
+        children.values());
+    Assert.assertEquals(removed, MERGER.merge(CLUSTER_NAME, children.values()));
+    Assert.assertEquals(removed.getSharedUris(), Collections.emptySet());
+
+    // the uri of the removed child is no longer announced by another one and the child did not have the highest
+    // version, so the remaining children are not looked up
+    UriProperties unshared = children.remove("ephemeral-3");
+    merged = MERGER.merge(CLUSTER_NAME, removed, Collections.singleton(unshared), Collections.emptyList(),
+        new AbstractCollection<UriProperties>()
+        {
+          @Override
+          public Iterator<UriProperties> iterator()
+          {
+            throw new AssertionError("The remaining children should not be looked up");
+          }
+
+          @Override
+          public int size()
+          {
+            return 1;
+          }
+        });
+    Assert.assertEquals(merged, MERGER.merge(CLUSTER_NAME, children.values()));
+    Assert.assertEquals(merged.getVersion(), 3);
+  }
+
+  @Test
+  public void testNullMergedProperty()
+  {
+    List<UriProperties> children = Collections.singletonList(child(1, 1, null, 1));
+    Assert.assertEquals(MERGER.merge(CLUSTER_NAME, null, Collections.emptyList(), children, children),
+        MERGER.merge(CLUSTER_NAME, children));
+  }
+
+  private static URI uri(int host)
+  {
+    return URI.create("http://host-" + host + ":1234");
+  }
+
+  private static UriProperties child(int host, double weight, String specificValue, long version)
+  {
+    Map<URI, Map<Integer, PartitionData>> partitionData =
+        Collections.singletonMap(uri(host), Collections.singletonMap(host % 2, new PartitionData(weight)));
+    Map<URI, Map<String, Object>> uriSpecificProperties = new HashMap<>();
+    if (specificValue != null)
+    {
+      uriSpecificProperties.put(uri(host), Collections.singletonMap("key", specificValue));
+    }
+    return new UriProperties(CLUSTER_NAME, partitionData, uriSpecificProperties, version);
+  }
+}
@@ -20,6 +20,8 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -84,4 +86,42 @@ public class UriPropertiesTest
 
     }
   }
+
+  @Test
+  public void testWithChangedUris()
+  {
+    Map<URI, Map<Integer, PartitionData>> uriData = new HashMap<>();
+    uriData.put(URI_1, MAP_1);
+    uriData.put(URI_2, MAP_2);
+    uriData.put(URI_3, MAP_3);
+    Map<URI, Map<String, Object>> uriSpecificProperties = new HashMap<>();
+    uriSpecificProperties.put(URI_1, Collections.singletonMap("foo", "bar"));
+    UriProperties properties = new UriProperties("TestCluster", uriData, uriSpecificProperties, 1);
+
+    // remove URI_1 and URI_3, which leaves no https uri, change URI_2 and add URI_4
+    Map<URI, Map<Integer, PartitionData>> changedUriData = new HashMap<>();
+    changedUriData.put(URI_2, MAP_1);
+    changedUriData.put(URI_4, MAP_4);
+    Map<URI, Map<String, Object>> changedUriSpecificProperties =
+        Collections.singletonMap(URI_2, Collections.singletonMap("foo", "baz"));
+    Set<URI> changedUris = new HashSet<>(Arrays.asList(URI_1, URI_2, URI_3, URI_4));
+    UriProperties changed = properties.withChangedUris(changedUriData, changedUriSpecificProperties, changedUris, 2);
+
+    Assert.assertEquals(changed, new UriProperties("TestCluster", changedUriData, changedUriSpecificProperties, 2));
+    Assert.assertEquals(changed.getVersion(), 2);
+    Assert.assertEquals(changed.getUriBySchemeAndPartition("http", 0), Collections.singleton(URI_2));
+    Assert.assertNull(changed.getUriBySchemeAndPartition("https", 3));
+    Assert.assertEquals(changed.getUriBySchemeAndPartition("https", 1), Collections.singleton(URI_4));
+    // the original properties are left untouched
+    Assert.assertEquals(properties, new UriProperties("TestCluster", uriData, uriSpecificProperties, 1));
+
+    Assert.assertEquals(changed.getChangedUrisSince(properties), changedUris);
+    Assert.assertNull(changed.getChangedUrisSince(changed));
+    Assert.assertNull(changed.getChangedUrisSince(new UriProperties("TestCluster", uriData, uriSpecificProperties, 1)));
+    Assert.assertNull(properties.getChangedUrisSince(null));
+
+    UriProperties unchanged = changed.withChangedUris(changedUriData, changedUriSpecificProperties, Collections.emptySet(), 2);
+    Assert.assertEquals(unchanged, changed);
+    Assert.assertTrue(unchanged.getChangedUrisSince(changed).isEmpty());
+  }
 }
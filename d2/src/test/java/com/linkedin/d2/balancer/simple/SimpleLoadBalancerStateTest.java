@@ -41,6 +41,7 @@ import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategy
 import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerTest;
 import com.linkedin.d2.balancer.strategies.random.RandomLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.random.RandomLoadBalancerStrategyFactory;
+import com.linkedin.d2.balancer.strategies.relative.PowerOfTwoChoicesLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.util.partitions.DefaultPartitionAccessor;
@@ -87,6 +88,7 @@ import java.util.concurrent.TimeoutException;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
@@ -94,6 +96,7 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -674,6 +677,56 @@ public class SimpleLoadBalancerStateTest
     assertEquals(client.getUri(), uri);
   }
 
+  @Test(groups = { "small", "back-end" })
+  public void testIncrementalUriPropertiesUpdate()
+  {
+    reset();
+
+    URI uri1 = URI.create("http://cluster-1/test1");
+    URI uri2 = URI.create("http://cluster-1/test2");
+    URI uri3 = URI.create("http://cluster-1/test3");
+    Map<URI, Map<Integer, PartitionData>> uriData = new HashMap<>();
+    uriData.put(uri1, Collections.singletonMap(DefaultPartitionAccessor.DEFAULT_PARTITION_ID, new PartitionData(1d)));
+    uriData.put(uri2, Collections.singletonMap(DefaultPartitionAccessor.DEFAULT_PARTITION_ID, new PartitionData(1d)));
+
+    _state.listenToCluster("cluster-1", new NullStateListenerCallback());
+    _state.listenToService("service-1", new NullStateListenerCallback());
+    _serviceRegistry.put("service-1", new ServiceProperties("service-1", "cluster-1",
+        "/test", Arrays.asList("random"), Collections.emptyMap(),
+        null, null, Collections.singletonList("http"), null));
+    UriProperties uriProperties = new UriProperties("cluster-1", uriData);
+    _uriRegistry.put("cluster-1", uriProperties);
+    TrackerClient client1 = _state.getClient("service-1", uri1);
+    TrackerClient client2 = _state.getClient("service-1", uri2);
+    assertNotNull(client1);
+    assertNotNull(client2);
+
+    // remove uri1, change the weight of uri2 and add uri3
+    Map<URI, Map<Integer, PartitionData>> changedUriData = new HashMap<>();
+    changedUriData.put(uri2,
+        Collections.singletonMap(DefaultPartitionAccessor.DEFAULT_PARTITION_ID, new PartitionData(2d)));
+    changedUriData.put(uri3,
+        Collections.singletonMap(DefaultPartitionAccessor.DEFAULT_PARTITION_ID, new PartitionData(1d)));
+    UriProperties changed = uriProperties.withChangedUris(changedUriData, Collections.emptyMap(),
+        new HashSet<>(Arrays.asList(uri1, uri2, uri3)), -1);
+    _uriRegistry.put("cluster-1", changed);
+
+    assertNull(_state.getClient("service-1", uri1));
+    assertNotSame(_state.getClient("service-1", uri2), client2);
+    assertEquals(_state.getClient("service-1", uri2).getPartitionWeight(DefaultPartitionAccessor.DEFAULT_PARTITION_ID),
+        2d);
+    assertNotNull(_state.getClient("service-1", uri3));
+    assertEquals(_state.getTrackerClients().get("service-1").keySet(), new HashSet<>(Arrays.asList(uri2, uri3)));
+    assertSame(_state.getUriProperties("cluster-1").getProperty(), changed);
+
+    // an update that changes nothing is ignored
+    TrackerClient client3 = _state.getClient("service-1", uri3);
+    _uriRegistry.put("cluster-1", changed.withChangedUris(changedUriData, Collections.emptyMap(),
+        Collections.emptySet(), -1));
+    assertSame(_state.getUriProperties("cluster-1").getProperty(), changed);
+    assertSame(_state.getClient("service-1", uri3), client3);
+  }
+
   @Test(groups = { "small", "back-end" })
   public void testGetStrategy() throws URISyntaxException
   {
@@ -894,8 +947,17 @@ public class SimpleLoadBalancerStateTest
     assertTrue(strategy instanceof RelativeLoadBalancerStrategy);
   }
 
-  @Test
-  public void testServiceStrategyListWithRelativeStrategyNotSupported()
+  @DataProvider
+  public Object[][] relativeStrategyNames()
+  {
+    return new Object[][] {
+        {RelativeLoadBalancerStrategy.RELATIVE_LOAD_BALANCER_STRATEGY_NAME},
+        {PowerOfTwoChoicesLoadBalancerStrategy.POWER_OF_TWO_CHOICES_STRATEGY_NAME}
+    };
+  }
+
+  @Test(dataProvider = "relativeStrategyNames")
+  public void testServiceStrategyListWithRelativeStrategyNotSupported(String strategyName)
   {
     reset(false, false);
     LinkedList<String> strategyList = new LinkedList<>();
@@ -909,7 +971,7 @@ public class SimpleLoadBalancerStateTest
     _state.listenToService("service-1", new NullStateListenerCallback());
     _state.listenToCluster("cluster-1", new NullStateListenerCallback());
 
-    strategyList.add(RelativeLoadBalancerStrategy.RELATIVE_LOAD_BALANCER_STRATEGY_NAME);
+    strategyList.add(strategyName);
     _serviceRegistry.put("service-1", new ServiceProperties("service-1",
         "cluster-1",
         "/test",
@@ -1155,7 +1155,8 @@ public class DegraderLoadBalancerTest
     return new Object[][]
         {
             { DelegatingRingFactory.POINT_BASED_CONSISTENT_HASH },
-            { DelegatingRingFactory.MULTI_PROBE_CONSISTENT_HASH }
+            { DelegatingRingFactory.MULTI_PROBE_CONSISTENT_HASH },
+            { DelegatingRingFactory.MAGLEV_CONSISTENT_HASH }
         };
   }
 
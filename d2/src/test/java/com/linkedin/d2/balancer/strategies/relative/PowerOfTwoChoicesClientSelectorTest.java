@@ -0,0 +1,134 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.linkedin.d2.balancer.strategies.relative;
+
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
+import com.linkedin.d2.balancer.util.hashing.DistributionNonDiscreteRing;
+import com.linkedin.d2.balancer.util.hashing.RandomHash;
+import com.linkedin.d2.balancer.util.hashing.Ring;
+import com.linkedin.d2.balancer.util.hashing.URIRegexHash;
+import com.linkedin.r2.message.Request;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.util.degrader.CallTracker;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Test for {@link PowerOfTwoChoicesClientSelector}
+ */
+public class PowerOfTwoChoicesClientSelectorTest
+{
+  private static final URI URI_1 = URI.create("dummy_uri_1");
+  private static final URI URI_2 = URI.create("dummy_uri_2");
+
+  @Test
+  public void testPicksLowerCost()
+  {
+    Map<URI, TrackerClient> trackerClients = new HashMap<>();
+    trackerClients.put(URI_1, mockTrackerClient(URI_1, 10, 1000));
+    trackerClients.put(URI_2, mockTrackerClient(URI_2, 1, 1000));
+    Ring<URI> ring = createRing(trackerClients);
+    PowerOfTwoChoicesClientSelector clientSelector = new PowerOfTwoChoicesClientSelector(new RandomHash());
+
+    int picked = 0;
+    for (int i = 0; i < 1000; i++)
+    {
+      if (getTrackerClient(clientSelector, ring, trackerClients).getUri().equals(URI_2))
+      {
+        picked++;
+      }
+    }
+    // the first host only wins when both draws hit it, i.e. about a quarter of the time
+    assertTrue(picked > 600, "Less loaded host picked " + picked + " times");
+  }
+
+  @Test
+  public void testCost()
+  {
+    assertEquals(PowerOfTwoChoicesClientSelector.getCost(mockTrackerClient(URI_1, 0, 0)), 0D);
+    assertEquals(PowerOfTwoChoicesClientSelector.getCost(mockTrackerClient(URI_1, 0, 1000)), 1000D);
+    assertEquals(PowerOfTwoChoicesClientSelector.getCost(mockTrackerClient(URI_1, 3, 1000)), 4000D);
+    assertTrue(PowerOfTwoChoicesClientSelector.getCost(mockTrackerClient(URI_1, 1, 0))
+        > PowerOfTwoChoicesClientSelector.getCost(mockTrackerClient(URI_2, 100, 1000000)));
+  }
+
+  @Test
+  public void testExcludedHost()
+  {
+    Map<URI, TrackerClient> trackerClients = new HashMap<>();
+    trackerClients.put(URI_1, mockTrackerClient(URI_1, 0, 1000));
+    trackerClients.put(URI_2, mockTrackerClient(URI_2, 10, 1000));
+    Ring<URI> ring = createRing(trackerClients);
+    PowerOfTwoChoicesClientSelector clientSelector = new PowerOfTwoChoicesClientSelector(new RandomHash());
+
+    for (int i = 0; i < 100; i++)
+    {
+      RequestContext requestContext = new RequestContext();
+      LoadBalancerStrategy.ExcludedHostHints.addRequestContextExcludedHost(requestContext, URI_1);
+      TrackerClient trackerClient =
+          clientSelector.getTrackerClient(Mockito.mock(Request.class), requestContext, ring, trackerClients);
+      assertEquals(trackerClient.getUri(), URI_2);
+    }
+  }
+
+  @Test
+  public void testStickyRoutingUsesRing()
+  {
+    Map<URI, TrackerClient> trackerClients = new HashMap<>();
+    trackerClients.put(URI_1, mockTrackerClient(URI_1, 0, 1000));
+    Ring<URI> ring = createRing(trackerClients);
+    PowerOfTwoChoicesClientSelector clientSelector =
+        new PowerOfTwoChoicesClientSelector(new URIRegexHash(Collections.singletonList("(.*)"), false, false));
+
+    Request request = Mockito.mock(Request.class);
+    Mockito.when(request.getURI()).thenReturn(URI.create("d2://service/key"));
+    assertEquals(clientSelector.getTrackerClient(request, new RequestContext(), ring, trackerClients).getUri(), URI_1);
+    Mockito.verify(trackerClients.get(URI_1), Mockito.never()).getPeakEwmaLatency();
+  }
+
+  private static TrackerClient getTrackerClient(ClientSelector clientSelector, Ring<URI> ring,
+      Map<URI, TrackerClient> trackerClients)
+  {
+    return clientSelector.getTrackerClient(Mockito.mock(Request.class), new RequestContext(), ring, trackerClients);
+  }
+
+  private static Ring<URI> createRing(Map<URI, TrackerClient> trackerClients)
+  {
+    Map<URI, Integer> pointsMap = new HashMap<>();
+    trackerClients.keySet().forEach(uri -> pointsMap.put(uri, 100));
+    return new DistributionNonDiscreteRing<>(pointsMap);
+  }
+
+  private static TrackerClient mockTrackerClient(URI uri, int callsInFlight, double latency)
+  {
+    TrackerClient trackerClient = Mockito.mock(TrackerClient.class);
+    CallTracker callTracker = Mockito.mock(CallTracker.class);
+    Mockito.when(trackerClient.getUri()).thenReturn(uri);
+    Mockito.when(trackerClient.getCallTracker()).thenReturn(callTracker);
+    Mockito.when(trackerClient.getPeakEwmaLatency()).thenReturn(latency);
+    Mockito.when(callTracker.getCurrentConcurrency()).thenReturn(callsInFlight);
+    return trackerClient;
+  }
+}
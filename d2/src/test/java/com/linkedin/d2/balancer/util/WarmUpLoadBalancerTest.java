@@ -33,7 +33,10 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -487,6 +490,94 @@ public class WarmUpLoadBalancerTest
     Assert.assertEquals(completedWarmUpCount.get(), 0);
   }
 
+  @Test
+  public void testPrioritizeServices()
+  {
+    Map<String, Long> requestCounts = new HashMap<>();
+    requestCounts.put("service2", 10L);
+    requestCounts.put("service4", 20L);
+
+    Assert.assertEquals(
+        WarmUpLoadBalancer.prioritizeServices(Arrays.asList("service1", "service2", "service3", "service4"),
+            requestCounts),
+        Arrays.asList("service4", "service2", "service1", "service3"));
+    Assert.assertEquals(
+        WarmUpLoadBalancer.prioritizeServices(Arrays.asList("service3", "service1"), Collections.emptyMap()),
+        Arrays.asList("service3", "service1"));
+  }
+
+  @Test(timeOut = 10000, retryAnalyzer = ThreeRetries.class)
+  public void testWarmUpPrioritizedByPreviousRequests() throws Exception
+  {
+    createDefaultServicesIniFiles();
+    TestLoadBalancer balancer = new TestLoadBalancer();
+
+    WarmUpLoadBalancer warmUpLoadBalancer = new WarmUpLoadBalancer(balancer, balancer,
+        Executors.newSingleThreadScheduledExecutor(), _tmpdir.getAbsolutePath(), MY_SERVICES_FS,
+        _FSBasedDownstreamServicesFetcher, WarmUpLoadBalancer.DEFAULT_SEND_REQUESTS_TIMEOUT_SECONDS,
+        WarmUpLoadBalancer.DEFAULT_CONCURRENT_REQUESTS);
+    FutureCallback<None> callback = new FutureCallback<>();
+    warmUpLoadBalancer.start(callback);
+    callback.get(5000, TimeUnit.MILLISECONDS);
+
+    warmUpLoadBalancer.getClient(new URIRequest("d2://service3"), new RequestContext());
+    warmUpLoadBalancer.getClient(new URIRequest("d2://service3"), new RequestContext());
+    warmUpLoadBalancer.getClient(new URIRequest("d2://service2"), new RequestContext());
+    FutureCallback<None> shutdownCallback = new FutureCallback<>();
+    warmUpLoadBalancer.shutdown(() -> shutdownCallback.onSuccess(None.none()));
+    shutdownCallback.get(5000, TimeUnit.MILLISECONDS);
+    Assert.assertEquals(warmUpLoadBalancer.getServiceWarmUpDurations().keySet(),
+        new HashSet<>(Arrays.asList("service1", "service2", "service3")));
+
+    // the next run warms up the services used the most first
+    List<String> warmedUpServices = Collections.synchronizedList(new ArrayList<>());
+    warmUpLoadBalancer = new WarmUpLoadBalancer(balancer, (serviceName, warmUpCallback) ->
+    {
+      warmedUpServices.add(serviceName);
+      warmUpCallback.onSuccess(None.none());
+    }, Executors.newSingleThreadScheduledExecutor(), _tmpdir.getAbsolutePath(), MY_SERVICES_FS,
+        _FSBasedDownstreamServicesFetcher, WarmUpLoadBalancer.DEFAULT_SEND_REQUESTS_TIMEOUT_SECONDS,
+        WarmUpLoadBalancer.DEFAULT_CONCURRENT_REQUESTS);
+    Assert.assertEquals(warmUpLoadBalancer.readRequestCounts().get("service3"), Long.valueOf(2));
+    callback = new FutureCallback<>();
+    warmUpLoadBalancer.start(callback);
+    callback.get(5000, TimeUnit.MILLISECONDS);
+
+    Assert.assertEquals(warmedUpServices.subList(0, 2), Arrays.asList("service3", "service2"));
+  }
+
+  @Test(timeOut = 10000, retryAnalyzer = ThreeRetries.class)
+  public void testAdaptiveConcurrency() throws Exception
+  {
+    int NRequests = 200;
+    int maxConcurrentRequests = 10;
+    createNServicesIniFiles(NRequests);
+
+    TestLoadBalancer balancer = new TestLoadBalancer(20);
+    LoadBalancer warmUpLoadBalancer = new WarmUpLoadBalancer(balancer, balancer,
+        Executors.newSingleThreadScheduledExecutor(), _tmpdir.getAbsolutePath(), MY_SERVICES_FS,
+        _FSBasedDownstreamServicesFetcher, WarmUpLoadBalancer.DEFAULT_SEND_REQUESTS_TIMEOUT_SECONDS,
+        WarmUpLoadBalancer.DEFAULT_CONCURRENT_REQUESTS, maxConcurrentRequests, null, false);
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    warmUpLoadBalancer.start(callback);
+
+    int maxObservedConcurrentRequests = 0;
+    while (!callback.isDone())
+    {
+      int currentConcurrentRequests = balancer.getRequestCount().get() - balancer.getCompletedRequestCount().get();
+      Assert.assertTrue(currentConcurrentRequests <= maxConcurrentRequests,
+          "The concurrent requests (" + currentConcurrentRequests + ") are greater than the allowed ("
+              + maxConcurrentRequests + ")");
+      maxObservedConcurrentRequests = Math.max(maxObservedConcurrentRequests, currentConcurrentRequests);
+      Thread.sleep(5);
+    }
+
+    Assert.assertTrue(maxObservedConcurrentRequests > WarmUpLoadBalancer.DEFAULT_CONCURRENT_REQUESTS,
+        "The concurrency didn't grow with a stable latency");
+    Assert.assertEquals(balancer.getRequestCount().get(), NRequests);
+  }
+
   // ############################# Util Section #############################
 
   private void rmrf(File f) throws IOException
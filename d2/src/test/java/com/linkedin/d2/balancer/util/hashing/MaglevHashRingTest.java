@@ -0,0 +1,182 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.util.hashing;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class MaglevHashRingTest
+{
+  private static final int TOTAL_COUNT = 1000000;
+
+  @DataProvider
+  public Object[][] hostCounts()
+  {
+    return new Object[][]
+        {
+            { 2, 1 },
+            { 10, 1 },
+            { 100, 1 },
+            { 10, 100 },
+            { 100, 100 }
+        };
+  }
+
+  @Test(dataProvider = "hostCounts")
+  public void testFairness(int numHosts, int pointsPerHost)
+  {
+    Map<Integer, Integer> pointsMap = new HashMap<>();
+    for (int i = 0; i < numHosts; i++)
+    {
+      pointsMap.put(i, pointsPerHost);
+    }
+    Map<Integer, Integer> dist = getDistribution(new MaglevHashRing<>(pointsMap));
+
+    Assert.assertEquals(dist.size(), numHosts);
+    double avgCount = (double) TOTAL_COUNT / numHosts;
+    for (int count : dist.values())
+    {
+      Assert.assertTrue(count < avgCount * 1.1, "Unbalanced ring: " + dist);
+    }
+  }
+
+  @Test
+  public void testUnequalWeight()
+  {
+    double epsilon = 0.1;
+    Map<Integer, Integer> pointsMap = new HashMap<>();
+    pointsMap.put(1, 10);
+    pointsMap.put(2, 20);
+    pointsMap.put(3, 30);
+    pointsMap.put(4, 40);
+    pointsMap.put(5, 0);
+
+    Map<Integer, Integer> dist = getDistribution(new MaglevHashRing<>(pointsMap));
+
+    Assert.assertNull(dist.get(5));
+    for (int i = 1; i <= 4; i++)
+    {
+      double expected = i / 10.0;
+      double actual = (double) dist.get(i) / TOTAL_COUNT;
+      Assert.assertTrue(Math.abs(actual - expected) < expected * epsilon, "Unexpected share of host " + i + ": " + actual);
+    }
+  }
+
+  @Test
+  public void testIndependentOfPointsMapOrder()
+  {
+    Map<URI, Integer> pointsMap = new LinkedHashMap<>();
+    Map<URI, Integer> reversedPointsMap = new LinkedHashMap<>();
+    for (int i = 0; i < 20; i++)
+    {
+      pointsMap.put(URI.create("http://host-" + i + ":1234"), i % 3 + 1);
+      reversedPointsMap.put(URI.create("http://host-" + (19 - i) + ":1234"), (19 - i) % 3 + 1);
+    }
+
+    MaglevHashRing<URI> ring = new MaglevHashRing<>(pointsMap);
+    MaglevHashRing<URI> reversedRing = new MaglevHashRing<>(reversedPointsMap);
+    for (int key = 0; key < 10000; key++)
+    {
+      Assert.assertEquals(ring.get(key), reversedRing.get(key));
+    }
+  }
+
+  @Test
+  public void testMinimalDisruption()
+  {
+    int numHosts = 50;
+    Map<Integer, Integer> pointsMap = new HashMap<>();
+    for (int i = 0; i < numHosts; i++)
+    {
+      pointsMap.put(i, 100);
+    }
+    MaglevHashRing<Integer> ring = new MaglevHashRing<>(pointsMap);
+    pointsMap.remove(0);
+    MaglevHashRing<Integer> ringWithoutHost = new MaglevHashRing<>(pointsMap);
+
+    int keyCount = 100000;
+    int moved = 0;
+    for (int key = 0; key < keyCount; key++)
+    {
+      Integer host = ring.get(key);
+      if (host != 0 && !host.equals(ringWithoutHost.get(key)))
+      {
+        moved++;
+      }
+    }
+    // only the keys of the removed host should move, give or take the few slots reshuffled by the table rebuild
+    Assert.assertTrue(moved < keyCount / numHosts, "Too many keys moved: " + moved);
+  }
+
+  @Test
+  public void testIterator()
+  {
+    Map<URI, Integer> pointsMap = new HashMap<>();
+    pointsMap.put(URI.create("www.linkedin.com"), 100);
+    pointsMap.put(URI.create("www.google.com"), 67);
+    pointsMap.put(URI.create("www.facebook.com"), 33);
+    pointsMap.put(URI.create("www.microsoft.com"), 15);
+    MaglevHashRing<URI> ring = new MaglevHashRing<>(pointsMap);
+
+    for (int key = 0; key < 100; key++)
+    {
+      Iterator<URI> iterator = ring.getIterator(key);
+      Assert.assertEquals(iterator.next(), ring.get(key));
+      Set<URI> hosts = new HashSet<>();
+      hosts.add(ring.get(key));
+      while (iterator.hasNext())
+      {
+        hosts.add(iterator.next());
+      }
+      Assert.assertEquals(hosts, pointsMap.keySet());
+    }
+  }
+
+  @Test
+  public void testEmptyRing()
+  {
+    MaglevHashRing<URI> ring = new MaglevHashRing<>(new HashMap<>());
+    Assert.assertTrue(ring.isEmpty());
+    Assert.assertNull(ring.get(42));
+    Assert.assertFalse(ring.getIterator(42).hasNext());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testTableSizeNotPrime()
+  {
+    new MaglevHashRing<>(new HashMap<URI, Integer>(), 65536);
+  }
+
+  private static Map<Integer, Integer> getDistribution(Ring<Integer> ring)
+  {
+    Map<Integer, Integer> counts = new HashMap<>();
+    for (int i = 0; i < TOTAL_COUNT; i++)
+    {
+      counts.merge(ring.get(i), 1, Integer::sum);
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,243 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.discovery.event;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.util.None;
+import com.linkedin.d2.discovery.stores.mock.MockStore;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Runs the {@link PropertyEventBusTest} tests against a {@link PropertyEventBusImpl} with several lanes.
+ */
+public class PartitionedPropertyEventBusImplTest extends PropertyEventBusTest
+{
+  @Override
+  public PropertyEventBus<String> getBus()
+  {
+    ScheduledExecutorService executorService = new SynchronousExecutorService();
+    PropertyEventPublisher<String> publisher = new MockStore<>();
+    return new PropertyEventBusImpl<>(executorService, 4, publisher);
+  }
+
+  @Override
+  public void put(PropertyEventBus<String> registry, String listenTo, String discoveryProperties)
+  {
+    getStore(registry).put(listenTo, discoveryProperties);
+  }
+
+  @Override
+  public void remove(PropertyEventBus<String> registry, String listenTo)
+  {
+    getStore(registry).remove(listenTo);
+  }
+
+  private MockStore<String> getStore(PropertyEventBus<String> registry)
+  {
+    PropertyEventBusImpl<String> bus = (PropertyEventBusImpl<String>) registry;
+    return (MockStore<String>) bus.getPublisher();
+  }
+
+  @Test
+  public void testCreate()
+  {
+    ScheduledExecutorService executorService = new SynchronousExecutorService();
+    Assert.assertNull(PropertyEventBusImpl.create(executorService, 1, null).getPartitionedExecutor());
+    Assert.assertEquals(
+        PropertyEventBusImpl.create(executorService, 4, executorService).getPartitionedExecutor().getLaneCount(), 4);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testCreateWithoutLaneExecutor()
+  {
+    PropertyEventBusImpl.create(new SynchronousExecutorService(), 4, null);
+  }
+
+  @Test
+  public void testPublisherCallsAreSerialized() throws InterruptedException
+  {
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try
+    {
+      SerialPublisher publisher = new SerialPublisher();
+      PropertyEventBusImpl<String> bus = new PropertyEventBusImpl<>(executorService, 4, publisher);
+      Set<String> properties = new HashSet<>();
+      for (int i = 0; i < 64; i++)
+      {
+        properties.add("property" + i);
+      }
+      PropertyEventSubscriber<String> subscriber = new PropertyEventTestSubscriber();
+      bus.register(properties, subscriber);
+      bus.unregister(properties, subscriber);
+
+      Assert.assertTrue(publisher._calls.await(10, TimeUnit.SECONDS));
+      Assert.assertFalse(publisher._overlapped, "The publisher was called concurrently");
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testBlockedLaneDoesNotDelayOtherLanes() throws InterruptedException
+  {
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    CountDownLatch release = new CountDownLatch(1);
+    try
+    {
+      MockStore<String> store = new MockStore<>();
+      PropertyEventBusImpl<String> bus = new PropertyEventBusImpl<>(executorService, 2, store);
+      PartitionedPropertyEventExecutor lanes = bus.getPartitionedExecutor();
+      String blocked = "property0";
+      String other = null;
+      for (int i = 1; other == null; i++)
+      {
+        if (lanes.getLane("property" + i) != lanes.getLane(blocked))
+        {
+          other = "property" + i;
+        }
+      }
+
+      store.put(blocked, "value");
+      store.put(other, "value");
+      CountDownLatch blockedInitialized = new CountDownLatch(1);
+      CountDownLatch otherInitialized = new CountDownLatch(1);
+      CountDownLatch otherAdded = new CountDownLatch(1);
+      String otherProperty = other;
+      PropertyEventSubscriber<String> subscriber = new PropertyEventSubscriber<String>()
+      {
+        @Override
+        public void onInitialize(String propertyName, String propertyValue)
+        {
+          if (propertyName.equals(otherProperty))
+          {
+            otherInitialized.countDown();
+            return;
+          }
+          blockedInitialized.countDown();
+          try
+          {
+            release.await();
+          }
+          catch (InterruptedException e)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+
+        @Override
+        public void onAdd(String propertyName, String propertyValue)
+        {
+          otherAdded.countDown();
+        }
+
+        @Override
+        public void onRemove(String propertyName)
+        {
+        }
+      };
+
+      bus.register(Collections.singleton(other), subscriber);
+      Assert.assertTrue(otherInitialized.await(10, TimeUnit.SECONDS));
+      bus.register(Collections.singleton(blocked), subscriber);
+      Assert.assertTrue(blockedInitialized.await(10, TimeUnit.SECONDS));
+      store.put(other, "updated");
+      Assert.assertTrue(otherAdded.await(10, TimeUnit.SECONDS),
+          "The event on the other lane waited for the blocked lane");
+    }
+    finally
+    {
+      release.countDown();
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testNothing()
+  {
+    // this gets Gradle/TestNG to notice this class and run the tests in the superclass
+  }
+
+  /**
+   * A publisher which is not thread-safe, and records whether it has been called concurrently.
+   */
+  private static class SerialPublisher implements PropertyEventPublisher<String>
+  {
+    private final AtomicBoolean _inCall = new AtomicBoolean();
+    private final CountDownLatch _calls = new CountDownLatch(128);
+    private volatile boolean _overlapped = false;
+
+    @Override
+    public void setBus(PropertyEventBus<String> bus)
+    {
+    }
+
+    @Override
+    public void startPublishing(String prop)
+    {
+      call();
+    }
+
+    @Override
+    public void stopPublishing(String prop)
+    {
+      call();
+    }
+
+    private void call()
+    {
+      if (!_inCall.compareAndSet(false, true))
+      {
+        _overlapped = true;
+      }
+      try
+      {
+        Thread.sleep(1);
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+      _inCall.set(false);
+      _calls.countDown();
+    }
+
+    @Override
+    public void start(Callback<None> callback)
+    {
+      callback.onSuccess(None.none());
+    }
+
+    @Override
+    public void shutdown(Callback<None> callback)
+    {
+      callback.onSuccess(None.none());
+    }
+  }
+}
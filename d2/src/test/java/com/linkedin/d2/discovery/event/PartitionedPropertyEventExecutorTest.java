@@ -0,0 +1,165 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.discovery.event;
+
+import com.linkedin.d2.discovery.event.PropertyEventThread.PropertyEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class PartitionedPropertyEventExecutorTest
+{
+  private ExecutorService _executor;
+
+  @BeforeClass
+  public void setUp()
+  {
+    _executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterClass
+  public void tearDown()
+  {
+    _executor.shutdownNow();
+  }
+
+  @Test
+  public void testEventsOfALaneRunInOrder() throws Exception
+  {
+    PartitionedPropertyEventExecutor executor = new PartitionedPropertyEventExecutor("test", _executor, 4);
+    int eventCount = 1000;
+    List<List<Integer>> runOrders = new ArrayList<>();
+    AtomicInteger[] running = new AtomicInteger[executor.getLaneCount()];
+    CountDownLatch done = new CountDownLatch(eventCount * executor.getLaneCount());
+    for (int lane = 0; lane < executor.getLaneCount(); lane++)
+    {
+      runOrders.add(Collections.synchronizedList(new ArrayList<>()));
+      running[lane] = new AtomicInteger();
+    }
+
+    for (int i = 0; i < eventCount; i++)
+    {
+      for (int lane = 0; lane < executor.getLaneCount(); lane++)
+      {
+        final int index = i;
+        final int eventLane = lane;
+        executor.send(lane, new PropertyEvent("event " + i)
+        {
+          @Override
+          public void innerRun()
+          {
+            Assert.assertEquals(running[eventLane].incrementAndGet(), 1, "Events of a lane ran concurrently");
+            runOrders.get(eventLane).add(index);
+            running[eventLane].decrementAndGet();
+            done.countDown();
+          }
+        });
+      }
+    }
+
+    Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+    for (List<Integer> runOrder : runOrders)
+    {
+      Assert.assertEquals(runOrder.size(), eventCount);
+      for (int i = 0; i < eventCount; i++)
+      {
+        Assert.assertEquals(runOrder.get(i).intValue(), i);
+      }
+    }
+    Assert.assertEquals(executor.getQueuedEventCount(), 0);
+    Assert.assertEquals(executor.getProcessingTimeStats(0).getCount(), eventCount);
+  }
+
+  @Test
+  public void testSlowLaneDoesNotBlockOtherLanes() throws Exception
+  {
+    PartitionedPropertyEventExecutor executor = new PartitionedPropertyEventExecutor("test", _executor, 2);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch otherLaneDone = new CountDownLatch(1);
+
+    executor.send(0, new PropertyEvent("slow")
+    {
+      @Override
+      public void innerRun()
+      {
+        try
+        {
+          release.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    executor.send(0, new PropertyEvent("queued behind slow")
+    {
+      @Override
+      public void innerRun()
+      {
+      }
+    });
+    executor.send(1, new PropertyEvent("other lane")
+    {
+      @Override
+      public void innerRun()
+      {
+        otherLaneDone.countDown();
+      }
+    });
+
+    Assert.assertTrue(otherLaneDone.await(10, TimeUnit.SECONDS));
+    Assert.assertEquals(executor.getQueuedEventCount(0), 2);
+    Assert.assertEquals(executor.getMaxQueuedEventCount(), 2);
+
+    release.countDown();
+    for (int i = 0; i < 100 && executor.getQueuedEventCount() > 0; i++)
+    {
+      Thread.sleep(50);
+    }
+    Assert.assertEquals(executor.getQueuedEventCount(), 0);
+  }
+
+  @Test
+  public void testLaneOfProperty()
+  {
+    PartitionedPropertyEventExecutor executor = new PartitionedPropertyEventExecutor("test", _executor, 7);
+    for (int i = 0; i < 100; i++)
+    {
+      String propertyName = "service-" + i;
+      int lane = executor.getLane(propertyName);
+      Assert.assertTrue(lane >= 0 && lane < 7);
+      Assert.assertEquals(executor.getLane(propertyName), lane);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidLaneCount()
+  {
+    new PartitionedPropertyEventExecutor("test", _executor, 0);
+  }
+}
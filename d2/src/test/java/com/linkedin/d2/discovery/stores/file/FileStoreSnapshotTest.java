@@ -0,0 +1,190 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.discovery.stores.file;
+
+import com.linkedin.d2.balancer.util.FileSystemDirectory;
+import com.linkedin.d2.discovery.stores.PropertyStore;
+import com.linkedin.d2.discovery.stores.PropertyStoreTest;
+import com.linkedin.d2.discovery.stores.PropertyStringSerializer;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static com.linkedin.d2.balancer.util.LoadBalancerUtil.createTempDirectory;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Runs the {@link PropertyStoreTest} tests against a {@link FileStore} using a {@link FileStoreSnapshot}, and tests the
+ * snapshot file itself.
+ */
+public class FileStoreSnapshotTest extends PropertyStoreTest
+{
+  @Override
+  public PropertyStore<String> getStore()
+  {
+    try
+    {
+      return createStore(createTempDirectory("file-store-snapshot-test").toString());
+    }
+    catch (IOException e)
+    {
+      fail("unable to create file store");
+    }
+
+    return null;
+  }
+
+  @Test
+  public void testReopen() throws IOException
+  {
+    String path = createTempDirectory("file-store-snapshot-test").toString();
+    FileStore<String> store = createStore(path);
+    store.put("service-1", "value-1");
+    store.put("service-2", "value-2");
+    store.put("service-1", "value-3");
+    store.put("service-3", "value-4");
+    store.remove("service-2");
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put("service-1", "value-3");
+    expected.put("service-3", "value-4");
+    Assert.assertEquals(createStore(path).getAll(), expected);
+    Assert.assertTrue(
+        FileSystemDirectory.getFileListWithoutExtension(path, FileSystemDirectory.FILE_STORE_EXTENSION).isEmpty());
+  }
+
+  @Test
+  public void testImportPropertyFiles() throws IOException
+  {
+    String path = createTempDirectory("file-store-snapshot-test").toString();
+    FileStore<String> fileStore = new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION,
+        new PropertyStringSerializer());
+    fileStore.put("service-1", "value-1");
+    fileStore.put("service-2", "value-2");
+
+    FileStore<String> store = createStore(path);
+    Assert.assertEquals(store.get("service-1"), "value-1");
+    Assert.assertEquals(store.get("service-2"), "value-2");
+    Assert.assertNull(fileStore.get("service-1"), "Imported property files should be removed");
+  }
+
+  @Test
+  public void testCorruptedTail() throws IOException
+  {
+    String path = createTempDirectory("file-store-snapshot-test").toString();
+    FileStore<String> store = createStore(path);
+    store.put("service-1", "value-1");
+    store.put("service-2", "value-2");
+
+    // simulate a crash in the middle of the last append
+    File snapshotFile = new File(path, FileStore.SNAPSHOT_FILE_NAME);
+    try (RandomAccessFile file = new RandomAccessFile(snapshotFile, "rw"))
+    {
+      file.setLength(file.length() - 3);
+    }
+
+    store = createStore(path);
+    Assert.assertEquals(store.get("service-1"), "value-1");
+    Assert.assertNull(store.get("service-2"));
+
+    store.put("service-2", "value-3");
+    Assert.assertEquals(createStore(path).get("service-2"), "value-3");
+  }
+
+  @Test
+  public void testAppendOverDiscardedTail() throws IOException
+  {
+    Path path = createTempDirectory("file-store-snapshot-test").toPath().resolve(FileStore.SNAPSHOT_FILE_NAME);
+    try (FileStoreSnapshot snapshot = new FileStoreSnapshot(path))
+    {
+      snapshot.put("service-1", "value-1".getBytes(StandardCharsets.UTF_8));
+    }
+    // a tail of garbage longer than the records appended after reopening
+    byte[] garbage = new byte[4096];
+    Arrays.fill(garbage, (byte) 0x7f);
+    Files.write(path, garbage, StandardOpenOption.APPEND);
+
+    try (FileStoreSnapshot snapshot = new FileStoreSnapshot(path))
+    {
+      Assert.assertEquals(snapshot.getNames(), Collections.singleton("service-1"));
+      snapshot.put("service-2", "value-2".getBytes(StandardCharsets.UTF_8));
+      snapshot.put("service-1", "value-3".getBytes(StandardCharsets.UTF_8));
+      Assert.assertEquals(new String(snapshot.get("service-1"), StandardCharsets.UTF_8), "value-3");
+      Assert.assertEquals(new String(snapshot.get("service-2"), StandardCharsets.UTF_8), "value-2");
+      Assert.assertEquals(Files.size(path), snapshot.getSize());
+    }
+  }
+
+  @Test
+  public void testUnknownFormat() throws IOException
+  {
+    String path = createTempDirectory("file-store-snapshot-test").toString();
+    File snapshotFile = new File(path, FileStore.SNAPSHOT_FILE_NAME);
+    try (RandomAccessFile file = new RandomAccessFile(snapshotFile, "rw"))
+    {
+      file.writeInt(FileStoreSnapshot.MAGIC);
+      file.writeInt(FileStoreSnapshot.FORMAT_VERSION + 1);
+      file.writeInt(42);
+    }
+
+    FileStore<String> store = createStore(path);
+    Assert.assertEquals(store.getAll().size(), 0);
+    store.put("service-1", "value-1");
+    Assert.assertEquals(createStore(path).get("service-1"), "value-1");
+  }
+
+  @Test
+  public void testCompaction() throws IOException
+  {
+    Path path = new File(createTempDirectory("file-store-snapshot-test"), FileStore.SNAPSHOT_FILE_NAME).toPath();
+    FileStoreSnapshot snapshot = new FileStoreSnapshot(path);
+    byte[] value = new byte[10 * 1024];
+    for (int i = 0; i < 1000; i++)
+    {
+      value[0] = (byte) i;
+      snapshot.put("service-" + i % 10, value.clone());
+    }
+
+    // the ten live records plus at most as much garbage and the compaction threshold
+    Assert.assertTrue(snapshot.getSize() < 3 * 1024 * 1024, "Snapshot wasn't compacted: " + snapshot.getSize());
+    snapshot.close();
+
+    snapshot = new FileStoreSnapshot(path);
+    Assert.assertEquals(snapshot.getNames().size(), 10);
+    for (int i = 990; i < 1000; i++)
+    {
+      Assert.assertEquals(snapshot.get("service-" + i % 10)[0], (byte) i);
+    }
+    snapshot.close();
+  }
+
+  private static FileStore<String> createStore(String path)
+  {
+    return new FileStore<>(path, FileSystemDirectory.FILE_STORE_EXTENSION, new PropertyStringSerializer(), true);
+  }
+}
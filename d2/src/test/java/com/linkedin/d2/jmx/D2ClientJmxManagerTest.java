@@ -28,6 +28,7 @@ import com.linkedin.d2.balancer.simple.SimpleLoadBalancerState;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
 import com.linkedin.d2.balancer.util.canary.CanaryDistributionProvider;
 import com.linkedin.d2.balancer.util.partitions.PartitionAccessor;
+import com.linkedin.d2.discovery.event.PropertyEventBusImpl;
 import com.linkedin.d2.discovery.stores.file.FileStore;
 import java.net.URI;
 import java.util.Collections;
@@ -270,6 +271,23 @@ public class D2ClientJmxManagerTest {
   }
 
   @SuppressWarnings({"unchecked", "rawtypes"})
+  @Test(dataProvider = "nonDualReadD2ClientJmxManagers")
+  public void testSetPropertyEventBus(String prefix, D2ClientJmxManager.DiscoverySourceType sourceType,
+      Boolean isDualReadLB)
+  {
+    D2ClientJmxManagerFixture fixture = new D2ClientJmxManagerFixture();
+    D2ClientJmxManager d2ClientJmxManager = fixture.getD2ClientJmxManager(prefix, sourceType, isDualReadLB);
+
+    PropertyEventBusImpl<UriProperties> partitionedBus = new PropertyEventBusImpl<>(fixture._executorService, 4);
+    d2ClientJmxManager.setPropertyEventBus("Uri", partitionedBus);
+    verify(fixture._jmxManager).registerPartitionedPropertyEventExecutor(eq("Foo-UriPropertyEventBus"),
+        eq(partitionedBus.getPartitionedExecutor()));
+
+    // A bus running all its events serially has no lanes to report.
+    d2ClientJmxManager.setPropertyEventBus("Cluster", new PropertyEventBusImpl<>(fixture._executorService));
+    verify(fixture._jmxManager, times(1)).registerPartitionedPropertyEventExecutor(any(), any());
+  }
+
   @Test
   public void testAddAndRemoveWatcherAtServicePropertiesUpdate()
   {
@@ -0,0 +1,178 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.transform.filter;
+
+
+import com.linkedin.data.DataComplex;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.linkedin.data.transform.filter.FilterConstants.COUNT;
+import static com.linkedin.data.transform.filter.FilterConstants.START;
+import static com.linkedin.data.transform.filter.FilterUtil.getIntegerWithDefaultValue;
+
+
+/**
+ * {@link DataProjection} of a projection mask, such as the data of a {@link com.linkedin.data.transform.filter.request.MaskTree}.
+ *
+ * <p>Encoding a Data object with this projection writes the same data as encoding the result of
+ * {@link CopyFilter#filter(Object, DataMap)} with the same mask, without copying the Data object first.
+ * Invalid masks are reported with an {@link IllegalArgumentException} when the offending node is reached.</p>
+ *
+ * <p>Each node of the projection remembers the decisions it has made, so the mask is interpreted once per field name
+ * rather than once per projected value. Projections are thread-safe and are meant to be shared by every request with
+ * the same mask, see {@link MaskProjectionCache}. The mask must not be modified while the projection is in use.</p>
+ */
+public class MaskProjection implements DataProjection
+{
+  // Bounds the decisions remembered by a node, masks with wildcards may be applied to maps with arbitrary keys.
+  private static final int MAX_CACHED_FIELDS = 256;
+
+  private static final DataProjection EXCLUDED = new DataProjection()
+  {
+    @Override
+    public DataProjection getField(String name, Object value)
+    {
+      return null;
+    }
+
+    @Override
+    public DataProjection getElements()
+    {
+      return null;
+    }
+  };
+
+  private final MaskInterpreter _interpreter;
+  private final DataMap _opNode;
+  private final NodeMode _defaultMode;
+  private final DataMap _complexWildCard;
+  // The decision for a field depends on whether its value is complex.
+  private final Map<String, DataProjection> _complexFields = new ConcurrentHashMap<>();
+  private final Map<String, DataProjection> _primitiveFields = new ConcurrentHashMap<>();
+  private volatile DataProjection _elements;
+
+  /**
+   * @param filter the projection mask.
+   */
+  public MaskProjection(DataMap filter)
+  {
+    this(filter, null);
+  }
+
+  /**
+   * @param filter the projection mask.
+   * @param alwaysIncludedFields Fields to include in the projected data, these fields override the operation specified
+   *                             by the filter data.
+   */
+  public MaskProjection(DataMap filter, Set<String> alwaysIncludedFields)
+  {
+    // The memoizing calculator of the filters is not thread-safe, and the nodes of a projection already remember
+    // their decisions.
+    this(new MaskInterpreter(alwaysIncludedFields,
+                             opNode -> new DefaultNodeModeCalculator().getDefaultNodeMode(opNode),
+                             (field, format, args) -> {
+                               throw new IllegalArgumentException(String.format(format, args));
+                             }),
+         filter);
+  }
+
+  private MaskProjection(MaskInterpreter interpreter, DataMap opNode)
+  {
+    _interpreter = interpreter;
+    _opNode = opNode;
+    _defaultMode = interpreter.getDefaultNodeMode(opNode);
+    _complexWildCard = MaskInterpreter.getComplexWildCard(opNode);
+  }
+
+  @Override
+  public DataProjection getField(String name, Object value)
+  {
+    final Map<String, DataProjection> decisions = value instanceof DataComplex ? _complexFields : _primitiveFields;
+    DataProjection projection = decisions.get(name);
+    if (projection == null)
+    {
+      projection = toProjection(_interpreter.getFieldOperation(_opNode, _defaultMode, _complexWildCard, name, value));
+      if (decisions.size() < MAX_CACHED_FIELDS)
+      {
+        decisions.put(name, projection);
+      }
+    }
+    return projection == EXCLUDED ? null : projection;
+  }
+
+  @Override
+  public DataProjection getElements()
+  {
+    DataProjection elements = _elements;
+    if (elements == null)
+    {
+      elements = toProjection(_interpreter.validateAndGetWildcard(_opNode));
+      _elements = elements;
+    }
+    return elements == EXCLUDED ? null : elements;
+  }
+
+  @Override
+  public int getStart()
+  {
+    return getRangeValue(START, 0);
+  }
+
+  @Override
+  public int getCount()
+  {
+    return getRangeValue(COUNT, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public String toString()
+  {
+    return _opNode.toString();
+  }
+
+  private DataProjection toProjection(Object operation)
+  {
+    if (operation == null || operation == FilterConstants.NEGATIVE)
+    {
+      return EXCLUDED;
+    }
+    else if (operation == FilterConstants.POSITIVE)
+    {
+      return ALL;
+    }
+    else
+    {
+      return new MaskProjection(_interpreter, (DataMap) operation);
+    }
+  }
+
+  private int getRangeValue(String key, int defaultValue)
+  {
+    final Integer value = getIntegerWithDefaultValue(_opNode, key, defaultValue);
+    if (value == null || value < 0)
+    {
+      throw new IllegalArgumentException(
+          String.format("value of %1$s must be positive integer but is equal to %2$d", key, value));
+    }
+    return value;
+  }
+}
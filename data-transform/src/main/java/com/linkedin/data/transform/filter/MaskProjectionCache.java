@@ -0,0 +1,127 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.transform.filter;
+
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.data.DataMap;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * A bounded cache of {@link MaskProjection}s keyed by the content of their mask and the always included fields.
+ *
+ * <p>Applications typically receive the same few projections over and over. Sharing one {@link MaskProjection} per
+ * mask lets every request reuse the decisions that the projection has already made, instead of interpreting the mask
+ * for every projected value. The cache keeps a read-only copy of each mask, so callers may keep modifying theirs.</p>
+ */
+public class MaskProjectionCache
+{
+  /**
+   * The cache shared by the projections of Rest.li responses.
+   */
+  public static final MaskProjectionCache SHARED = new MaskProjectionCache(1024);
+
+  private final Cache<Key, MaskProjection> _cache;
+
+  /**
+   * @param maximumSize the maximum number of projections kept by the cache.
+   */
+  public MaskProjectionCache(long maximumSize)
+  {
+    _cache = Caffeine.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  /**
+   * Return the projection of a mask.
+   *
+   * @param mask the projection mask.
+   * @param alwaysIncludedFields Fields to include in the projected data, these fields override the operation specified
+   *                             by the mask, may be null.
+   * @return the shared {@link MaskProjection} of the mask.
+   */
+  public MaskProjection getProjection(DataMap mask, Set<String> alwaysIncludedFields)
+  {
+    final Set<String> fields = alwaysIncludedFields == null ? Collections.emptySet() : alwaysIncludedFields;
+    MaskProjection projection = _cache.getIfPresent(new Key(mask, fields));
+    if (projection == null)
+    {
+      final DataMap maskCopy;
+      try
+      {
+        maskCopy = mask.copy();
+      }
+      catch (CloneNotSupportedException e)
+      {
+        throw new IllegalArgumentException("Mask must be cloneable in order to cache its projection", e);
+      }
+      maskCopy.makeReadOnly();
+      final Set<String> fieldsCopy = Collections.unmodifiableSet(new HashSet<>(fields));
+      projection = _cache.get(new Key(maskCopy, fieldsCopy), key -> new MaskProjection(maskCopy, fieldsCopy));
+    }
+    return projection;
+  }
+
+  /**
+   * @return the number of cached projections.
+   */
+  public long size()
+  {
+    return _cache.estimatedSize();
+  }
+
+  private static final class Key
+  {
+    private final DataMap _mask;
+    private final Set<String> _alwaysIncludedFields;
+    private final int _hashCode;
+
+    Key(DataMap mask, Set<String> alwaysIncludedFields)
+    {
+      _mask = mask;
+      _alwaysIncludedFields = alwaysIncludedFields;
+      _hashCode = 31 * mask.hashCode() + alwaysIncludedFields.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (this == o)
+      {
+        return true;
+      }
+      if (!(o instanceof Key))
+      {
+        return false;
+      }
+      final Key other = (Key) o;
+      return _hashCode == other._hashCode
+          && _mask.equals(other._mask)
+          && _alwaysIncludedFields.equals(other._alwaysIncludedFields);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _hashCode;
+    }
+  }
+}
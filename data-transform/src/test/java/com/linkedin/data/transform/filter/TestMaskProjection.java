@@ -0,0 +1,73 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.transform.filter;
+
+
+import com.linkedin.data.Data;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.DataCodec;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.transform.DataProcessingException;
+import java.io.IOException;
+import java.util.Set;
+import org.testng.annotations.Test;
+
+import static com.linkedin.data.TestUtil.dataMapFromString;
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Verifies that encoding with a {@link MaskProjection} produces the data of {@link CopyFilter}.
+ */
+public class TestMaskProjection extends TestFilterOnData
+{
+  private static final DataCodec[] CODECS = { new JacksonDataCodec(), new ProtobufDataCodec() };
+
+  @Override
+  protected void genericFilterTest(DataMap data, DataMap filter, DataMap expected, Set<String> alwaysIncludedFields,
+      String description) throws DataProcessingException
+  {
+    final String dataBefore = data.toString();
+    final MaskProjection projection = new MaskProjection(filter, alwaysIncludedFields);
+    final String message = "The following test failed: \n" + description + "\nData: " + dataBefore + "\nFilter: "
+        + filter + "\nAlwaysIncludedFields: " + alwaysIncludedFields + "\nExpected: " + expected;
+
+    assertEquals(Data.project(data, projection), expected, message);
+    for (DataCodec codec : CODECS)
+    {
+      try
+      {
+        assertEquals(codec.readMap(codec.mapToByteString(data, projection)), expected, message + "\nCodec: " + codec);
+        assertEquals(codec.readMap(codec.mapToByteString(data), projection), expected,
+            message + "\nDecoding codec: " + codec);
+      }
+      catch (IOException e)
+      {
+        throw new AssertionError(message, e);
+      }
+    }
+    assertEquals(data.toString(), dataBefore, "Projecting must not modify the data");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testComplexMaskOnPrimitiveValue() throws Exception
+  {
+    new JacksonDataCodec().mapToByteString(dataMapFromString("{\"a\": 1}"),
+        new MaskProjection(dataMapFromString("{\"a\": {\"b\": 1}}")));
+  }
+}
@@ -0,0 +1,73 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.transform.filter;
+
+
+import com.linkedin.data.Data;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
+import java.util.Collections;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static com.linkedin.data.TestUtil.dataMapFromString;
+
+
+public class TestMaskProjectionCache
+{
+  @Test
+  public void testEqualMasksShareProjection() throws Exception
+  {
+    MaskProjectionCache cache = new MaskProjectionCache(10);
+    MaskProjection projection = cache.getProjection(dataMapFromString("{\"a\": 1, \"b\": {\"c\": 1}}"), null);
+
+    Assert.assertSame(cache.getProjection(dataMapFromString("{\"a\": 1, \"b\": {\"c\": 1}}"), null), projection);
+    Assert.assertSame(cache.getProjection(dataMapFromString("{\"a\": 1, \"b\": {\"c\": 1}}"),
+        Collections.emptySet()), projection);
+    Assert.assertNotSame(cache.getProjection(dataMapFromString("{\"a\": 1}"), null), projection);
+    Assert.assertNotSame(cache.getProjection(dataMapFromString("{\"a\": 1, \"b\": {\"c\": 1}}"),
+        Collections.singleton("d")), projection);
+    Assert.assertEquals(cache.size(), 3);
+  }
+
+  @Test
+  public void testModifiedMaskDoesNotAffectCachedProjection() throws Exception
+  {
+    MaskProjectionCache cache = new MaskProjectionCache(10);
+    DataMap mask = dataMapFromString("{\"a\": 1}");
+    MaskProjection projection = cache.getProjection(mask, null);
+    mask.put("b", 1);
+
+    DataMap data = dataMapFromString("{\"a\": 1, \"b\": 2, \"c\": 3}");
+    Assert.assertEquals(Data.project(data, projection), dataMapFromString("{\"a\": 1}"));
+    Assert.assertEquals(Data.project(data, cache.getProjection(mask, null)), dataMapFromString("{\"a\": 1, \"b\": 2}"));
+  }
+
+  @Test
+  public void testProjectionRemembersDecisions() throws Exception
+  {
+    MaskProjection projection = new MaskProjection(dataMapFromString("{\"a\": {\"b\": 1}, \"$*\": {\"c\": 1}}"));
+    DataMap value = new DataMap();
+
+    DataProjection a = projection.getField("a", value);
+    Assert.assertSame(projection.getField("a", value), a);
+    Assert.assertSame(projection.getField("x", value), projection.getField("x", value));
+    Assert.assertSame(a.getField("b", 1), DataProjection.ALL);
+    Assert.assertSame(a.getField("c", 1), DataProjection.ALL);
+    Assert.assertNull(a.getField("d", 1));
+  }
+}
@@ -16,9 +16,13 @@
 
 package com.linkedin.data;
 
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.LazyMap;
+import com.linkedin.data.collections.PrimitiveList;
 import com.linkedin.util.ArgumentUtil;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
@@ -398,6 +402,32 @@ public class Data
     {
     }
 
+    /**
+     * Invoked when the start of a projected {@link DataMap} is traversed,
+     * see {@link Data#traverse(Object, DataProjection, TraverseCallback)}.
+     * The default implementation invokes {@link #startMap(DataMap)}.
+     *
+     * @param map provides the {@link DataMap} to be traversed.
+     * @param size the number of entries of the {@link DataMap} that are traversed.
+     */
+    default void startMap(DataMap map, int size) throws IOException
+    {
+      startMap(map);
+    }
+
+    /**
+     * Invoked instead of {@link #emptyMap} or {@link #startMap} when a {@link DataMap} whose entries have not
+     * been loaded from their serialized source is traversed, see {@link LazyMap}.
+     * If the callback writes the source as is, the entries of the {@link DataMap} are not traversed.
+     *
+     * @param source provides the serialized source of the {@link DataMap}.
+     * @return true if the callback has written the source, false to traverse the {@link DataMap}.
+     */
+    default boolean serializedMap(Object source) throws IOException
+    {
+      return false;
+    }
+
     /**
      * Invoked when the key of {@link DataMap} entry is traversed.
      * This callback is invoked before the value callback.
@@ -444,6 +474,19 @@ public class Data
     {
     }
 
+    /**
+     * Invoked when the start of a projected {@link DataList} is traversed,
+     * see {@link Data#traverse(Object, DataProjection, TraverseCallback)}.
+     * The default implementation invokes {@link #startList(DataList)}.
+     *
+     * @param list provides the {@link DataList} to be traversed.
+     * @param size the number of elements of the {@link DataList} that are traversed.
+     */
+    default void startList(DataList list, int size) throws IOException
+    {
+      startList(list);
+    }
+
     /**
      * Invoked to provide the index of the next {@link DataList} entry.
      * This callback is invoked before the value callback.
@@ -484,6 +527,186 @@ public class Data
     traverse(obj, callback, cycleChecker);
   }
 
+  /**
+   * Traverse the projection of an object and invoke the callback object with parse events.
+   *
+   * <p>The callback receives the same events as when traversing a copy of the object that only contains the
+   * projected data, except that {@link TraverseCallback#startMap(DataMap, int)} and
+   * {@link TraverseCallback#startList(DataList, int)} are invoked with the projected size instead of
+   * {@link TraverseCallback#startMap(DataMap)} and {@link TraverseCallback#startList(DataList)}.</p>
+   *
+   * @param obj object to parse
+   * @param projection selecting the data to traverse, null or {@link DataProjection#ALL} to traverse everything.
+   * @param callback to receive parse events.
+   */
+  public static void traverse(Object obj, DataProjection projection, TraverseCallback callback) throws IOException
+  {
+    CycleChecker cycleChecker = CYCLE_CHECKER_SUPPLIER.get();
+    if (cycleChecker == null)
+    {
+      throw new IllegalArgumentException("Supplier returned a null cycle checker");
+    }
+
+    traverse(obj, projection == null ? DataProjection.ALL : projection, callback, cycleChecker);
+  }
+
+  private static void traverse(Object obj, DataProjection projection, TraverseCallback callback,
+      CycleChecker cycleChecker) throws IOException
+  {
+    if (projection == DataProjection.ALL)
+    {
+      traverse(obj, callback, cycleChecker);
+    }
+    else if (obj instanceof DataMap)
+    {
+      DataMap map = (DataMap) obj;
+
+      // The included entries are counted first since the callback is given the projected size of the map.
+      int size = getProjectedSize(map, projection);
+      if (size == 0)
+      {
+        callback.emptyMap();
+        return;
+      }
+
+      try
+      {
+        cycleChecker.startMap(map);
+        callback.startMap(map, size);
+        Iterable<Map.Entry<String, Object>> orderedEntrySet = callback.orderMap(map);
+        for (Map.Entry<String, Object> entry : orderedEntrySet == null ? map.entrySet() : orderedEntrySet)
+        {
+          DataProjection fieldProjection = projection.getField(entry.getKey(), entry.getValue());
+          if (fieldProjection != null)
+          {
+            callback.key(entry.getKey());
+            traverse(entry.getValue(), fieldProjection, callback, cycleChecker);
+            callback.endKey(entry.getKey());
+          }
+        }
+        callback.endMap();
+      }
+      finally
+      {
+        cycleChecker.endMap(map);
+      }
+    }
+    else if (obj instanceof DataList)
+    {
+      DataList list = (DataList) obj;
+      int start = projection.getStart();
+      int count = projection.getCount();
+      DataProjection elements = projection.getElements();
+      if (elements == null || start >= list.size() || count <= 0)
+      {
+        callback.emptyList();
+        return;
+      }
+
+      int end = start + Math.min(count, list.size() - start);
+      try
+      {
+        cycleChecker.startList(list);
+        callback.startList(list, end - start);
+        PrimitiveList<?> primitiveList = elements == DataProjection.ALL ? CheckedUtil.getPrimitiveList(list) : null;
+        for (int i = start; i < end; i++)
+        {
+          callback.index(i - start);
+          if (primitiveList != null)
+          {
+            primitiveList.traverse(i, callback);
+          }
+          else
+          {
+            traverse(list.get(i), elements, callback, cycleChecker);
+          }
+        }
+        callback.endList();
+      }
+      finally
+      {
+        cycleChecker.endList(list);
+      }
+    }
+    else
+    {
+      throw new IOException("Projection " + projection + " cannot be applied to value: " + obj);
+    }
+  }
+
+  /**
+   * Returns the number of entries of a {@link DataMap} that are included by a projection.
+   *
+   * @param map to project.
+   * @param projection of the map.
+   * @return the number of entries that are included.
+   */
+  public static int getProjectedSize(DataMap map, DataProjection projection)
+  {
+    int size = 0;
+    for (Map.Entry<String, Object> entry : map.entrySet())
+    {
+      if (projection.getField(entry.getKey(), entry.getValue()) != null)
+      {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns a copy of the projection of an object, values that are included as a whole are shared with the object.
+   *
+   * @param obj object to project.
+   * @param projection selecting the data to copy, null or {@link DataProjection#ALL} to return the object itself.
+   * @return the projection of the object.
+   * @throws IllegalArgumentException if a projection of a {@link DataMap} or {@link DataList} applies to other values.
+   */
+  public static Object project(Object obj, DataProjection projection)
+  {
+    if (projection == null || projection == DataProjection.ALL)
+    {
+      return obj;
+    }
+    else if (obj instanceof DataMap)
+    {
+      DataMap map = (DataMap) obj;
+      DataMap result = new DataMap();
+      for (Map.Entry<String, Object> entry : map.entrySet())
+      {
+        DataProjection fieldProjection = projection.getField(entry.getKey(), entry.getValue());
+        if (fieldProjection != null)
+        {
+          CheckedUtil.putWithoutChecking(result, entry.getKey(), project(entry.getValue(), fieldProjection));
+        }
+      }
+      return result;
+    }
+    else if (obj instanceof DataList)
+    {
+      DataList list = (DataList) obj;
+      int start = projection.getStart();
+      int count = projection.getCount();
+      DataProjection elements = projection.getElements();
+      if (elements == null || start >= list.size() || count <= 0)
+      {
+        return new DataList();
+      }
+
+      int end = start + Math.min(count, list.size() - start);
+      DataList result = new DataList(end - start);
+      for (int i = start; i < end; i++)
+      {
+        CheckedUtil.addWithoutChecking(result, project(list.get(i), elements));
+      }
+      return result;
+    }
+    else
+    {
+      throw new IllegalArgumentException("Projection " + projection + " cannot be applied to value: " + obj);
+    }
+  }
+
   /**
    * Traverse object and invoke the callback object with parse events with the given cycle checker.
    *
@@ -511,7 +734,22 @@ public class Data
       case "com.linkedin.data.DataMap":
       {
         DataMap map = (DataMap) obj;
-        if (map.isEmpty())
+        Object source = CheckedUtil.getLazySource(map);
+        if (source != null && callback.serializedMap(source))
+        {
+          return;
+        }
+        boolean isEmpty;
+        try
+        {
+          // loads the entries of a lazy map, which is the only way isEmpty can fail
+          isEmpty = map.isEmpty();
+        }
+        catch (UncheckedIOException e)
+        {
+          throw e.getCause();
+        }
+        if (isEmpty)
         {
           callback.emptyMap();
         }
@@ -590,33 +828,46 @@ public class Data
             cycleChecker.startList(list);
             callback.startList(list);
 
-            // Use Java 8 forEach to minimize intermediary object creation for better performance.
-            final int[] index = {0};
-            try
+            PrimitiveList<?> primitiveList = CheckedUtil.getPrimitiveList(list);
+            if (primitiveList != null)
             {
-              list.forEach((element) ->
+              // Traverse the elements of primitive-backed lists without boxing them.
+              for (int i = 0; i < primitiveList.size(); i++)
               {
-                try
-                {
-                  callback.index(index[0]);
-                  traverse(element, callback, cycleChecker);
-                  index[0]++;
-                }
-                catch (IOException e)
-                {
-                  throw new IllegalStateException(e);
-                }
-              });
+                callback.index(i);
+                primitiveList.traverse(i, callback);
+              }
             }
-            catch (IllegalStateException e)
+            else
             {
-              if (e.getCause() instanceof IOException)
+              // Use Java 8 forEach to minimize intermediary object creation for better performance.
+              final int[] index = {0};
+              try
               {
-                throw (IOException) e.getCause();
+                list.forEach((element) ->
+                {
+                  try
+                  {
+                    callback.index(index[0]);
+                    traverse(element, callback, cycleChecker);
+                    index[0]++;
+                  }
+                  catch (IOException e)
+                  {
+                    throw new IllegalStateException(e);
+                  }
+                });
               }
-              else
+              catch (IllegalStateException e)
               {
-                throw new IOException(e);
+                if (e.getCause() instanceof IOException)
+                {
+                  throw (IOException) e.getCause();
+                }
+                else
+                {
+                  throw new IOException(e);
+                }
               }
             }
             callback.endList();
@@ -906,6 +1157,10 @@ public class Data
    *
    * This method assumes all source complex object is acyclic.
    * It will not terminate if the complex object is not acyclic.
+   * <p>
+   * A {@link DataMap} whose entries have not been loaded from its lazy source is not searched,
+   * since its entries will be decoded from the source and cannot reference any existing object.
+   * This keeps the check from loading lazily decoded maps as they are added.
    *
    * @param source is where to start search for the destination.
    * @param destination is the object to find.
@@ -913,6 +1168,10 @@ public class Data
    */
   private static boolean reachable(DataComplex source, Object destination)
   {
+    if (source instanceof DataMap && CheckedUtil.getLazySource((DataMap) source) != null)
+    {
+      return false;
+    }
     Collection<Object> values = source.values();
     for (Object value : values)
     {
@@ -17,7 +17,9 @@
 package com.linkedin.data;
 
 import com.linkedin.data.collections.CheckedList;
+import com.linkedin.data.collections.CheckedUtil;
 import com.linkedin.data.collections.ListChecker;
+import com.linkedin.data.collections.PrimitiveList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -49,6 +51,12 @@ import java.util.Map;
  * is lazy and may be delayed until the {@link DataList} is about to be modified.
  * <p>
  *
+ * A {@link DataList} constructed from a {@link PrimitiveList}, such as an
+ * {@link com.linkedin.data.collections.IntList}, stores its elements in a primitive array instead of boxing them,
+ * as long as only elements of the same type are added to it. Codecs read and write such
+ * lists without boxing their elements.
+ * <p>
+ *
  * @author slim
  */
 public final class DataList extends CheckedList<Object> implements DataComplex
@@ -71,6 +79,18 @@ public final class DataList extends CheckedList<Object> implements DataComplex
     super(list, _checker);
   }
 
+  /**
+   * Construct a {@link DataList} that stores its elements in the specified {@link PrimitiveList}, which must not be
+   * used afterwards. The elements are not boxed, copied or checked, since the elements of a {@link PrimitiveList}
+   * are always Data objects.
+   *
+   * @param list provides the initial elements in the constructed list.
+   */
+  public DataList(PrimitiveList<?> list)
+  {
+    super(list, _checker);
+  }
+
   /**
    * Construct a {@link DataList} with the specified initial capacity.
    *
@@ -115,6 +135,11 @@ public final class DataList extends CheckedList<Object> implements DataComplex
    */
   public void copyReferencedObjects(DataComplexTable alreadyCopied) throws CloneNotSupportedException
   {
+    if (CheckedUtil.getPrimitiveList(this) != null)
+    {
+      // Primitive elements are immutable and do not need to be copied.
+      return;
+    }
     int count = size();
     for (int i = 0; i < count; ++i)
     {
@@ -136,9 +161,12 @@ public final class DataList extends CheckedList<Object> implements DataComplex
   @Override
   public void makeReadOnly()
   {
-    for (Object o : this)
+    if (CheckedUtil.getPrimitiveList(this) == null)
     {
-      Data.makeReadOnly(o);
+      for (Object o : this)
+      {
+        Data.makeReadOnly(o);
+      }
     }
     setReadOnly();
     _madeReadOnly = true;
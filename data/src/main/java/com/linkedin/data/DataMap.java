@@ -17,6 +17,9 @@
 package com.linkedin.data;
 
 import com.linkedin.data.collections.CheckedMap;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.CompactHashMap;
+import com.linkedin.data.collections.LazyMap;
 import com.linkedin.data.collections.MapChecker;
 import java.util.HashMap;
 import java.util.Map;
@@ -51,6 +54,10 @@ import java.util.Map;
  *
  * Since {@link DataMap} extends {@link CheckedMap}, copying of the {@link DataMap} is lazy and may be
  * delayed until the {@link DataMap} is about to be modified.
+ * <p>
+ *
+ * A {@link DataMap} constructed with a {@link LazyMap} loads its entries from their serialized
+ * source on first access. Until then, codecs may re-emit the source instead of traversing the map.
  *
  * @author slim
  */
@@ -65,12 +72,21 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
 
   public static final String ERROR_KEY = reservedConstant("ERROR");
 
+  /**
+   * System property which, if set to {@code true}, makes {@link DataMap}s constructed without a load factor
+   * use a {@link CompactHashMap} instead of a {@link HashMap} as the underlying map.
+   * The iteration order of a {@link CompactHashMap} differs from a {@link HashMap}.
+   */
+  public static final String COMPACT_PROPERTY = "com.linkedin.data.DataMap.compact";
+
+  private static final boolean COMPACT_BY_DEFAULT = Boolean.getBoolean(COMPACT_PROPERTY);
+
   /**
    * Constructs an empty {@link DataMap}.
    */
   public DataMap()
   {
-    super(_checker);
+    super(_checker, COMPACT_BY_DEFAULT);
   }
 
   /**
@@ -80,7 +96,7 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
    */
   public DataMap(Map<? extends String, ? extends Object> map)
   {
-    super(map, _checker);
+    super(map, _checker, COMPACT_BY_DEFAULT);
   }
 
   /**
@@ -93,7 +109,36 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
    */
   public DataMap(int initialCapacity)
   {
-    super(initialCapacity, _checker);
+    super(initialCapacity, _checker, COMPACT_BY_DEFAULT);
+  }
+
+  private DataMap(int initialCapacity, boolean compact)
+  {
+    super(initialCapacity, _checker, compact);
+  }
+
+  /**
+   * Constructs an empty {@link DataMap} backed by a {@link CompactHashMap}, regardless of {@link #COMPACT_PROPERTY}.
+   * A compact map stores its entries in a single array and is considerably smaller than a {@link HashMap}
+   * for the small maps most records are made of.
+   *
+   * @param expectedSize provides the number of entries the {@link DataMap} can hold without resizing.
+   * @return a new compact {@link DataMap}.
+   */
+  public static DataMap newCompactDataMap(int expectedSize)
+  {
+    return new DataMap(expectedSize, true);
+  }
+
+  /**
+   * Constructs a {@link DataMap} whose entries are loaded by the specified {@link LazyMap} on first access.
+   * The loaded entries are not checked, the {@link LazyMap.Loader} must only produce valid Data objects.
+   *
+   * @param map provides the {@link LazyMap} holding the entries of the {@link DataMap}.
+   */
+  public DataMap(LazyMap<String, Object> map)
+  {
+    super(map, _checker);
   }
 
   /**
@@ -151,6 +196,11 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
    */
   public void copyReferencedObjects(DataComplexTable alreadyCopied) throws CloneNotSupportedException
   {
+    if (CheckedUtil.getLazySource(this) != null)
+    {
+      // The entries of an unloaded clone are loaded from the source, and are already copies.
+      return;
+    }
     for (Map.Entry<String,?> e : entrySet())
     {
       Object value = e.getValue();
@@ -167,9 +217,12 @@ public final class DataMap extends CheckedMap<String,Object> implements DataComp
   {
     if (!_madeReadOnly)
     {
-      for (Map.Entry<String,?> e : entrySet())
+      if (!onLoad(map -> map.values().forEach(Data::makeReadOnly)))
       {
-        Data.makeReadOnly(e.getValue());
+        for (Map.Entry<String,?> e : entrySet())
+        {
+          Data.makeReadOnly(e.getValue());
+        }
       }
       setReadOnly();
       _madeReadOnly = true;
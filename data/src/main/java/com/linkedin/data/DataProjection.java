@@ -0,0 +1,97 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data;
+
+
+/**
+ * Selects the parts of a Data object that are written when it is traversed or encoded with a projection,
+ * see {@link Data#traverse(Object, DataProjection, Data.TraverseCallback)}.
+ *
+ * <p>A projection node applies to one {@link DataMap} or {@link DataList}. For a {@link DataMap}, it decides which
+ * entries are included and which projection applies to the value of each included entry. For a {@link DataList},
+ * it decides which range of elements is included and which projection applies to each included element.</p>
+ *
+ * <p>Projecting while traversing produces the same events as traversing a projected copy of the object, without
+ * materializing the copy.</p>
+ */
+public interface DataProjection
+{
+  /**
+   * The projection that includes everything.
+   */
+  DataProjection ALL = new DataProjection()
+  {
+    @Override
+    public DataProjection getField(String name, Object value)
+    {
+      return ALL;
+    }
+
+    @Override
+    public DataProjection getElements()
+    {
+      return ALL;
+    }
+
+    @Override
+    public String toString()
+    {
+      return "ALL";
+    }
+  };
+
+  /**
+   * Return the projection of an entry of the projected {@link DataMap}.
+   *
+   * <p>Codecs that project while decoding call this method before the value is decoded, with a stand-in value of
+   * the same kind: an empty {@link DataMap} or {@link DataList} for complex values, and {@link Data#NULL} for
+   * primitive values. Projections should therefore only depend on the kind of the value.</p>
+   *
+   * <p>Traversals may call this method more than once for the same entry, for instance to compute the projected size
+   * of the map before writing its entries, so it should be cheap and return the same result each time.</p>
+   *
+   * @param name of the entry.
+   * @param value of the entry.
+   * @return null if the entry is excluded, {@link #ALL} if the entry is included as is,
+   *         otherwise the projection to apply to the value of the entry.
+   */
+  DataProjection getField(String name, Object value);
+
+  /**
+   * Return the projection of the elements of the projected {@link DataList}.
+   *
+   * @return null if no element is included, {@link #ALL} if the elements are included as is,
+   *         otherwise the projection to apply to each element.
+   */
+  DataProjection getElements();
+
+  /**
+   * @return the index of the first element of the projected {@link DataList} that is included.
+   */
+  default int getStart()
+  {
+    return 0;
+  }
+
+  /**
+   * @return the maximum number of elements of the projected {@link DataList} that are included.
+   */
+  default int getCount()
+  {
+    return Integer.MAX_VALUE;
+  }
+}
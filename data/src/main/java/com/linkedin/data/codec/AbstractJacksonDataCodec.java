@@ -22,20 +22,34 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.Data;
 import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.DataMapBuilder;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.DoubleList;
+import com.linkedin.data.collections.FloatList;
+import com.linkedin.data.collections.IntList;
+import com.linkedin.data.collections.LazyMap;
+import com.linkedin.data.collections.LongList;
+import com.linkedin.data.collections.PrimitiveList;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +85,7 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
   protected final JsonFactory _factory;
 
   private boolean _sortKeys;
+  private boolean _primitiveLists;
 
   protected AbstractJacksonDataCodec(JsonFactory factory)
   {
@@ -82,6 +97,15 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     _sortKeys = sortKeys;
   }
 
+  /**
+   * If set to true, arrays of integers, longs, floats or doubles are parsed into {@link DataList}s that store
+   * their elements in primitive arrays, see {@link PrimitiveList}. Disabled by default.
+   */
+  public void setPrimitiveLists(boolean primitiveLists)
+  {
+    _primitiveLists = primitiveLists;
+  }
+
   @Override
   public byte[] mapToBytes(DataMap map) throws IOException
   {
@@ -119,6 +143,15 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     writeObject(map, createJsonGenerator(out));
   }
 
+  @Override
+  public void writeMap(DataMap map, DataProjection projection, OutputStream out) throws IOException
+  {
+    try (Data.TraverseCallback callback = createTraverseCallback(createJsonGenerator(out)))
+    {
+      Data.traverse(map, projection, callback);
+    }
+  }
+
   @Override
   public void writeList(DataList list, OutputStream out) throws IOException
   {
@@ -165,6 +198,12 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     return parse(_factory.createParser(in), DataMap.class);
   }
 
+  @Override
+  public DataMap readMap(InputStream in, DataProjection projection) throws IOException
+  {
+    return projection == null ? readMap(in) : parse(_factory.createParser(in), projection);
+  }
+
   @Override
   public DataList readList(InputStream in) throws IOException
   {
@@ -175,7 +214,23 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
   {
     try
     {
-      return new Parser().parse(jsonParser, expectType);
+      return new Parser(false, _primitiveLists).parse(jsonParser, expectType);
+    }
+    finally
+    {
+      DataCodec.closeQuietly(jsonParser);
+    }
+  }
+
+  /**
+   * Parses the projection of a JSON object, the values that are not projected are skipped without being decoded.
+   * Subclasses that override {@link #parse(JsonParser, Class)} to read another layout should override this method too.
+   */
+  protected DataMap parse(JsonParser jsonParser, DataProjection projection) throws IOException
+  {
+    try
+    {
+      return new Parser(false, _primitiveLists).parse(jsonParser, projection);
     }
     finally
     {
@@ -183,6 +238,61 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     }
   }
 
+  /**
+   * Parses a JSON object into a {@link DataMap} that is decoded on first access, see {@link LazyMap}.
+   * Its nested maps are decoded when they are first accessed too, and are re-encoded as is by
+   * {@link JacksonTraverseCallback}s writing UTF-8 JSON if they have not been accessed.
+   * <p>
+   *
+   * The input is validated, but errors such as duplicate keys are reported when the maps are decoded,
+   * as the {@link DataMap#ERROR_KEY} entry of the map containing the error. The input is retained
+   * until all maps have been accessed or discarded.
+   *
+   * @param input provides the UTF-8 encoded JSON object. The factory of this codec must be a JSON factory.
+   * @return the {@link DataMap} decoded on first access.
+   * @throws IOException if there is a syntax error in the input.
+   */
+  protected DataMap parseLazyMap(byte[] input) throws IOException
+  {
+    final int start;
+    final int end;
+    try (JsonParser parser = _factory.createParser(input))
+    {
+      if (!JsonToken.START_OBJECT.equals(parser.nextToken()))
+      {
+        throw new DataDecodingException("Object must start with start object token.");
+      }
+      start = (int) parser.getTokenLocation().getByteOffset();
+      parser.skipChildren();
+      end = (int) parser.getCurrentLocation().getByteOffset();
+    }
+
+    if (start < 0 || input[start] != '{')
+    {
+      // The offsets of the input are not known, e.g. because it is not encoded in UTF-8.
+      return parse(_factory.createParser(input), DataMap.class);
+    }
+    return new DataMap(new LazyMap<>(new JsonSource(input, start, end), this::loadMap));
+  }
+
+  /**
+   * Decodes the entries of a lazy map, see {@link LazyMap.Loader}.
+   */
+  private Map<String, Object> loadMap(Object source) throws IOException
+  {
+    final JsonSource jsonSource = (JsonSource) source;
+    final JsonParser parser = _factory.createParser(jsonSource._bytes, jsonSource._start,
+        jsonSource._end - jsonSource._start);
+    try
+    {
+      return new Parser(false, _primitiveLists).parseLazyMap(parser, jsonSource, this::loadMap);
+    }
+    finally
+    {
+      DataCodec.closeQuietly(parser);
+    }
+  }
+
   /**
    * Uses the {@link JsonParser} and parses its contents into a list of Data objects.
    *
@@ -350,6 +460,27 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
       }
     }
 
+    /**
+     * Copies the bytes of a map that has not been accessed since it was parsed lazily, if the generator writes
+     * UTF-8 JSON without pretty printing, escaping of non-ASCII characters, or ordering of map entries.
+     *
+     * @param source provides the serialized source of the {@link DataMap}.
+     */
+    @Override
+    public boolean serializedMap(Object source) throws IOException
+    {
+      if (source instanceof JsonSource
+          && _generator instanceof UTF8JsonGenerator
+          && _generator.getPrettyPrinter() == null
+          && !_generator.isEnabled(JsonGenerator.Feature.ESCAPE_NON_ASCII)
+          && !_orderMapEntriesByKey)
+      {
+        _generator.writeRawValue((JsonSource) source);
+        return true;
+      }
+      return false;
+    }
+
     @Override
     public void endMap() throws IOException
     {
@@ -400,20 +531,33 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
      */
     private static final int MAX_DATA_MAP_RECURSION_SIZE = 6;
 
+    private static final DataMap EMPTY_MAP = new DataMap();
+    private static final DataList EMPTY_LIST = new DataList();
+
+    static
+    {
+      EMPTY_MAP.makeReadOnly();
+      EMPTY_LIST.makeReadOnly();
+    }
+
     private StringBuilder _errorBuilder = null;
     private JsonParser _parser = null;
     private boolean _debug = false;
+    private final boolean _primitiveLists;
     private Deque<Object> _nameStack = null;
     private Map<Object, DataLocation> _locationMap = null;
+    private JsonSource _lazySource = null;
+    private LazyMap.Loader<String, Object> _lazyLoader = null;
 
-    Parser()
+    Parser(boolean debug)
     {
-      this(false);
+      this(debug, false);
     }
 
-    Parser(boolean debug)
+    Parser(boolean debug, boolean primitiveLists)
     {
       _debug = debug;
+      _primitiveLists = primitiveLists;
     }
 
     /**
@@ -506,6 +650,157 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
       return result;
     }
 
+    DataMap parse(JsonParser parser, DataProjection projection) throws IOException
+    {
+      _errorBuilder = null;
+      _parser = parser;
+      if (!JsonToken.START_OBJECT.equals(_parser.nextToken()))
+      {
+        throw new DataDecodingException("Object must start with start object token.");
+      }
+
+      final DataMap map = parseProjectedDataMap(projection);
+      if (_errorBuilder != null)
+      {
+        map.addError(_errorBuilder.toString());
+      }
+      return map;
+    }
+
+    private Object parseProjected(JsonToken token, DataProjection projection) throws IOException
+    {
+      if (projection == DataProjection.ALL)
+      {
+        return parse(token);
+      }
+
+      switch (token)
+      {
+        case START_OBJECT:
+          return parseProjectedDataMap(projection);
+        case START_ARRAY:
+          return parseProjectedDataList(projection);
+        default:
+          throw new DataDecodingException(
+              "Projection " + projection + " cannot be applied to value: " + _parser.getText());
+      }
+    }
+
+    private DataMap parseProjectedDataMap(DataProjection projection) throws IOException
+    {
+      final DataMap map = new DataMap();
+      while (_parser.nextToken() != JsonToken.END_OBJECT)
+      {
+        final String key = _parser.getCurrentName();
+        final JsonToken token = _parser.nextToken();
+        final DataProjection fieldProjection = projection.getField(key, standIn(token));
+        if (fieldProjection == null)
+        {
+          _parser.skipChildren();
+          continue;
+        }
+
+        final Object value = parseProjected(token, fieldProjection);
+        if (value != null)
+        {
+          updateParent(map, key, value);
+        }
+      }
+      return map;
+    }
+
+    private DataList parseProjectedDataList(DataProjection projection) throws IOException
+    {
+      final DataProjection elements = projection.getElements();
+      final int start = projection.getStart();
+      final int count = projection.getCount();
+      final DataList list = new DataList();
+      JsonToken token;
+      int index = 0;
+      while ((token = _parser.nextToken()) != JsonToken.END_ARRAY)
+      {
+        if (elements == null || index < start || index - start >= count)
+        {
+          _parser.skipChildren();
+        }
+        else
+        {
+          final Object value = parseProjected(token, elements);
+          if (value != null)
+          {
+            CheckedUtil.addWithoutChecking(list, value);
+          }
+        }
+        index++;
+      }
+      return list;
+    }
+
+    /**
+     * Returns the value that stands in for the value at the specified token, see {@link DataProjection#getField}.
+     */
+    private static Object standIn(JsonToken token)
+    {
+      switch (token)
+      {
+        case START_OBJECT:
+          return EMPTY_MAP;
+        case START_ARRAY:
+          return EMPTY_LIST;
+        default:
+          return Data.NULL;
+      }
+    }
+
+    /**
+     * Parses the entries of the JSON object of the specified source. Nested objects are parsed into
+     * lazy {@link DataMap}s.
+     */
+    Map<String, Object> parseLazyMap(JsonParser parser, JsonSource source, LazyMap.Loader<String, Object> loader)
+        throws IOException
+    {
+      _parser = parser;
+      _lazySource = source;
+      _lazyLoader = loader;
+      if (!JsonToken.START_OBJECT.equals(_parser.nextToken()))
+      {
+        throw new DataDecodingException("Object must start with start object token.");
+      }
+
+      final Map<String, Object> map = new HashMap<>();
+      while (_parser.nextToken() != JsonToken.END_OBJECT)
+      {
+        final String key = _parser.getCurrentName();
+        final Object value = parse(_parser.nextToken());
+        if (value != null && map.put(key, value) != null)
+        {
+          if (_errorBuilder == null)
+          {
+            _errorBuilder = new StringBuilder();
+          }
+          _errorBuilder.append(new Location(_parser.getTokenLocation())).append(": \"").append(key).append("\" defined more than once.\n");
+        }
+      }
+      if (_errorBuilder != null)
+      {
+        final Object error = map.get(DataMap.ERROR_KEY);
+        map.put(DataMap.ERROR_KEY, error instanceof String ? error + _errorBuilder.toString() : _errorBuilder.toString());
+      }
+      return map;
+    }
+
+    /**
+     * Skips the JSON object at the current token, and returns a {@link DataMap} loading it on first access.
+     */
+    private DataMap parseLazyDataMap() throws IOException
+    {
+      final int offset = _lazySource._start;
+      final int start = offset + (int) _parser.getTokenLocation().getByteOffset();
+      _parser.skipChildren();
+      final int end = offset + (int) _parser.getCurrentLocation().getByteOffset();
+      return new DataMap(new LazyMap<>(new JsonSource(_lazySource._bytes, start, end), _lazyLoader));
+    }
+
     private DataLocation currentDataLocation()
     {
       return _locationMap == null ? null : new Location(_parser.getTokenLocation());
@@ -541,7 +836,7 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
       switch (token)
       {
         case START_OBJECT:
-          value = parseDataMap();
+          value = _lazySource == null ? parseDataMap() : parseLazyDataMap();
           if (shouldUpdateParent)
           {
             updateParent(parent, name, value);
@@ -713,6 +1008,11 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
 
     private DataList parseDataList() throws IOException
     {
+      if (_primitiveLists && !_debug)
+      {
+        return parsePrimitiveDataList();
+      }
+
       DataList list = new DataList();
       JsonToken token;
       int index = 0;
@@ -732,6 +1032,87 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
       return list;
     }
 
+    /**
+     * Parses the leading elements of the array into a {@link PrimitiveList} as long as they are numbers of the same
+     * type, and the remaining elements, if any, into a regular list.
+     */
+    private DataList parsePrimitiveDataList() throws IOException
+    {
+      JsonToken token = _parser.nextToken();
+      PrimitiveList<?> primitiveList = null;
+      if (isNumber(token))
+      {
+        switch (_parser.getNumberType())
+        {
+          case INT:
+          {
+            IntList intList = new IntList();
+            do
+            {
+              intList.addInt(_parser.getIntValue());
+            }
+            while (isNumber(token = _parser.nextToken(), JsonParser.NumberType.INT));
+            primitiveList = intList;
+            break;
+          }
+          case LONG:
+          {
+            LongList longList = new LongList();
+            do
+            {
+              longList.addLong(_parser.getLongValue());
+            }
+            while (isNumber(token = _parser.nextToken(), JsonParser.NumberType.LONG));
+            primitiveList = longList;
+            break;
+          }
+          case FLOAT:
+          {
+            FloatList floatList = new FloatList();
+            do
+            {
+              floatList.addFloat(_parser.getFloatValue());
+            }
+            while (isNumber(token = _parser.nextToken(), JsonParser.NumberType.FLOAT));
+            primitiveList = floatList;
+            break;
+          }
+          case DOUBLE:
+          {
+            DoubleList doubleList = new DoubleList();
+            do
+            {
+              doubleList.addDouble(_parser.getDoubleValue());
+            }
+            while (isNumber(token = _parser.nextToken(), JsonParser.NumberType.DOUBLE));
+            primitiveList = doubleList;
+            break;
+          }
+          default:
+            // Big numbers are reported as errors by the regular parsing below.
+            break;
+        }
+      }
+
+      DataList list = primitiveList == null ? new DataList() : new DataList(primitiveList);
+      while (token != JsonToken.END_ARRAY)
+      {
+        parse(list, null, token);
+        token = _parser.nextToken();
+      }
+      return list;
+    }
+
+    private boolean isNumber(JsonToken token, JsonParser.NumberType numberType) throws IOException
+    {
+      return isNumber(token) && _parser.getNumberType() == numberType;
+    }
+
+    private static boolean isNumber(JsonToken token)
+    {
+      return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+    }
+
     private void error(JsonToken token, JsonParser.NumberType type) throws IOException
     {
       if (_errorBuilder == null)
@@ -754,6 +1135,148 @@ public abstract class AbstractJacksonDataCodec implements DataCodec
     }
   }
 
+  /**
+   * The source of a lazy map, the bytes of a JSON object. It is written as a raw value when the map is re-encoded.
+   */
+  private static final class JsonSource implements SerializableString
+  {
+    private final byte[] _bytes;
+    private final int _start;
+    private final int _end;
+
+    private JsonSource(byte[] bytes, int start, int end)
+    {
+      _bytes = bytes;
+      _start = start;
+      _end = end;
+    }
+
+    @Override
+    public String getValue()
+    {
+      return new String(_bytes, _start, _end - _start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int charLength()
+    {
+      return getValue().length();
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8()
+    {
+      return Arrays.copyOfRange(_bytes, _start, _end);
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset)
+    {
+      final int length = _end - _start;
+      if (length > buffer.length - offset)
+      {
+        return -1;
+      }
+      System.arraycopy(_bytes, _start, buffer, offset, length);
+      return length;
+    }
+
+    @Override
+    public int appendUnquoted(char[] buffer, int offset)
+    {
+      final String value = getValue();
+      if (value.length() > buffer.length - offset)
+      {
+        return -1;
+      }
+      value.getChars(0, value.length(), buffer, offset);
+      return value.length();
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException
+    {
+      out.write(_bytes, _start, _end - _start);
+      return _end - _start;
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer)
+    {
+      final int length = _end - _start;
+      if (length > buffer.remaining())
+      {
+        return -1;
+      }
+      buffer.put(_bytes, _start, length);
+      return length;
+    }
+
+    // The quoted forms escape the JSON text as the content of a JSON string, like SerializedString does.
+
+    @Override
+    public char[] asQuotedChars()
+    {
+      return JsonStringEncoder.getInstance().quoteAsString(getValue());
+    }
+
+    @Override
+    public byte[] asQuotedUTF8()
+    {
+      return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset)
+    {
+      final byte[] quoted = asQuotedUTF8();
+      if (quoted.length > buffer.length - offset)
+      {
+        return -1;
+      }
+      System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+      return quoted.length;
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset)
+    {
+      final char[] quoted = asQuotedChars();
+      if (quoted.length > buffer.length - offset)
+      {
+        return -1;
+      }
+      System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+      return quoted.length;
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException
+    {
+      final byte[] quoted = asQuotedUTF8();
+      out.write(quoted);
+      return quoted.length;
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer)
+    {
+      final byte[] quoted = asQuotedUTF8();
+      if (quoted.length > buffer.remaining())
+      {
+        return -1;
+      }
+      buffer.put(quoted);
+      return quoted.length;
+    }
+
+    @Override
+    public String toString()
+    {
+      return "JSON bytes [" + _start + ", " + _end + ")";
+    }
+  }
+
   private static class Location implements DataLocation
   {
     private final JsonLocation _location;
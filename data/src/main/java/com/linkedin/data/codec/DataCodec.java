@@ -18,8 +18,10 @@ package com.linkedin.data.codec;
 
 
 import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
@@ -69,6 +71,22 @@ public interface DataCodec
     return outputStream.toUnsafeByteString();
   }
 
+  /**
+   * Serialize the projection of a {@link DataMap} to a {@link ByteString}, see
+   * {@link #writeMap(DataMap, DataProjection, OutputStream)}.
+   *
+   * @param map to serialize.
+   * @param projection selecting the data to serialize, null to serialize the whole map.
+   * @return the output serialized from the projection of the {@link DataMap}.
+   * @throws IOException if there is a serialization error.
+   */
+  default ByteString mapToByteString(DataMap map, DataProjection projection) throws IOException
+  {
+    FastByteArrayOutputStream outputStream = new FastByteArrayOutputStream();
+    writeMap(map, projection, outputStream);
+    return outputStream.toUnsafeByteString();
+  }
+
   /**
    * Serialize a {@link DataList} to a {@link ByteString}
    *
@@ -110,6 +128,24 @@ public interface DataCodec
    */
   void writeMap(DataMap map, OutputStream out) throws IOException;
 
+  /**
+   * Writes the projection of a {@link DataMap} to the supplied {@link OutputStream}, the data that is not projected
+   * is skipped. The output is the same as writing the projected copy of the {@link DataMap}, see
+   * {@link Data#traverse(Object, DataProjection, Data.TraverseCallback)}.
+   *
+   * <p>The default implementation copies the projected data before writing it, codecs that encode by traversing
+   * the {@link DataMap} override it to skip the data that is not projected while writing.</p>
+   *
+   * @param map the map to write to {@code out}
+   * @param projection selecting the data to write, null to write the whole map.
+   * @param out the {@link OutputStream} to write to
+   * @throws IOException if there is an error during serialization
+   */
+  default void writeMap(DataMap map, DataProjection projection, OutputStream out) throws IOException
+  {
+    writeMap(projection == null ? map : (DataMap) Data.project(map, projection), out);
+  }
+
   /**
    * Returns a {@link DataMap} from data consumed from the given {@link InputStream}.
    *
@@ -119,6 +155,24 @@ public interface DataCodec
    */
   DataMap readMap(InputStream in) throws IOException;
 
+  /**
+   * Returns the projection of a {@link DataMap} from data consumed from the given {@link InputStream}. The result is
+   * the same as projecting the whole {@link DataMap}, see {@link Data#project(Object, DataProjection)}.
+   *
+   * <p>The default implementation decodes the whole {@link DataMap} before projecting it, codecs that decode
+   * incrementally override it to skip the data that is not projected without materializing it.</p>
+   *
+   * @param in the {@link InputStream} from which to read.
+   * @param projection selecting the data to decode, null to decode the whole map.
+   * @return the projection of the {@link DataMap} read from the {@link InputStream}.
+   * @throws IOException if there is an error during de-serialization.
+   */
+  default DataMap readMap(InputStream in, DataProjection projection) throws IOException
+  {
+    final DataMap map = readMap(in);
+    return projection == null ? map : (DataMap) Data.project(map, projection);
+  }
+
   /**
    * Writes a {@link DataList} to the supplied {@link OutputStream}.
    *
@@ -149,6 +203,20 @@ public interface DataCodec
     return readMap(in.asInputStream());
   }
 
+  /**
+   * Returns the projection of a {@link DataMap} from data consumed from the given {@link ByteString}, see
+   * {@link #readMap(InputStream, DataProjection)}.
+   *
+   * @param in the {@link ByteString} from which to read.
+   * @param projection selecting the data to decode, null to decode the whole map.
+   * @return the projection of the {@link DataMap} read from the {@link ByteString}.
+   * @throws IOException if there is an error during de-serialization.
+   */
+  default DataMap readMap(ByteString in, DataProjection projection) throws IOException
+  {
+    return readMap(in.asInputStream(), projection);
+  }
+
   /**
    * Returns a {@link DataList} from data consumed from the given {@link ByteString}.
    *
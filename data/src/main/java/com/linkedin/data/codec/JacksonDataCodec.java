@@ -45,6 +45,7 @@ public class JacksonDataCodec extends AbstractJacksonDataCodec implements TextDa
   protected boolean _allowComments;
   protected PrettyPrinter _prettyPrinter;
   protected JsonEncoding _jsonEncoding = JsonEncoding.UTF8;
+  protected boolean _lazyMaps;
 
   public JacksonDataCodec()
   {
@@ -63,6 +64,16 @@ public class JacksonDataCodec extends AbstractJacksonDataCodec implements TextDa
     _allowComments = allowComments;
   }
 
+  /**
+   * If set to true, maps parsed from byte arrays by {@link #bytesToMap(byte[])} are decoded lazily, on first access,
+   * see {@link #parseLazyMap(byte[])}. Maps that have not been accessed are re-encoded by copying their bytes.
+   * Disabled by default.
+   */
+  public void setLazyMaps(boolean lazyMaps)
+  {
+    _lazyMaps = lazyMaps;
+  }
+
   /**
    * Gets an instance of {@link PrettyPrinter}. If the PrettyPrinter is stateless and doesn't implement {@link Instantiatable},
    * the same instance is returned every time. Otherwise, an instance created by {@link Instantiatable#createInstance()}
@@ -130,6 +141,12 @@ public class JacksonDataCodec extends AbstractJacksonDataCodec implements TextDa
     return generator;
   }
 
+  @Override
+  public DataMap bytesToMap(byte[] input) throws IOException
+  {
+    return _lazyMaps ? parseLazyMap(input) : super.bytesToMap(input);
+  }
+
   @Override
   public DataMap stringToMap(String input) throws IOException
   {
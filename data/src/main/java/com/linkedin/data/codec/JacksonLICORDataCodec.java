@@ -26,6 +26,7 @@ import com.linkedin.data.Data;
 import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.codec.symbol.SymbolTable;
 import com.linkedin.data.collections.CheckedUtil;
 import java.io.IOException;
@@ -100,6 +101,15 @@ public class JacksonLICORDataCodec extends AbstractJacksonDataCodec
     }
   }
 
+  /**
+   * Maps are encoded as arrays, so the projection is applied to the decoded map.
+   */
+  @Override
+  protected DataMap parse(JsonParser jsonParser, DataProjection projection) throws IOException
+  {
+    return (DataMap) Data.project(parse(jsonParser, DataMap.class), projection);
+  }
+
   @Override
   protected List<Object> parse(JsonParser jsonParser, StringBuilder mesg, Map<Object, DataLocation> locationMap)
       throws IOException
@@ -241,6 +251,15 @@ public class JacksonLICORDataCodec extends AbstractJacksonDataCodec
       _symbolTable = symbolTable;
     }
 
+    /**
+     * The serialized source of a lazily decoded map is never copied, as it is not encoded in LICOR.
+     */
+    @Override
+    public boolean serializedMap(Object source)
+    {
+      return false;
+    }
+
     @Override
     public void key(String key) throws IOException {
       int token;
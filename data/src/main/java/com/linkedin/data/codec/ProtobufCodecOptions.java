@@ -76,17 +76,39 @@ public class ProtobufCodecOptions
    */
   private final int _protoWriterBufferSize;
 
+  /**
+   * If true, then lists of integers, longs, floats or doubles are decoded into lists that store their elements in
+   * primitive arrays, see {@link com.linkedin.data.collections.PrimitiveList}. Lists with elements of mixed types
+   * are decoded into regular lists.
+   *
+   * <p>Disabled by default.</p>
+   */
+  private final boolean _enablePrimitiveLists;
+
+  /**
+   * If true, then maps in payloads decoded from byte arrays are decoded lazily, on first access, see
+   * {@link com.linkedin.data.collections.LazyMap}. Maps that have not been accessed are re-encoded by copying
+   * their bytes. The byte array is retained until all such maps have been accessed or discarded.
+   *
+   * <p>Disabled by default.</p>
+   */
+  private final boolean _enableLazyMaps;
+
   private ProtobufCodecOptions(SymbolTable symbolTable,
                                boolean enableASCIIOnlyStrings,
                                boolean enableFixedLengthFloatDoubles,
                                boolean tolerateInvalidSurrogatePairs,
-                               int protoWriterBufferSize)
+                               int protoWriterBufferSize,
+                               boolean enablePrimitiveLists,
+                               boolean enableLazyMaps)
   {
     _symbolTable = symbolTable == null ? EmptySymbolTable.SHARED : symbolTable;
     _enableASCIIOnlyStrings = enableASCIIOnlyStrings;
     _enableFixedLengthFloatDoubles = enableFixedLengthFloatDoubles;
     _shouldTolerateInvalidSurrogatePairs = tolerateInvalidSurrogatePairs;
     _protoWriterBufferSize = protoWriterBufferSize;
+    _enablePrimitiveLists = enablePrimitiveLists;
+    _enableLazyMaps = enableLazyMaps;
   }
 
   /**
@@ -130,6 +152,23 @@ public class ProtobufCodecOptions
     return _protoWriterBufferSize;
   }
 
+  /**
+   * @return True if lists of integers, longs, floats or doubles should be decoded into lists that store their elements
+   * in primitive arrays.
+   */
+  public boolean shouldEnablePrimitiveLists()
+  {
+    return _enablePrimitiveLists;
+  }
+
+  /**
+   * @return True if maps in payloads decoded from byte arrays should be decoded on first access.
+   */
+  public boolean shouldEnableLazyMaps()
+  {
+    return _enableLazyMaps;
+  }
+
   /**
    * Builder to incrementally build options.
    */
@@ -180,6 +219,21 @@ public class ProtobufCodecOptions
      */
     private int _protoWriterBufferSize;
 
+    /**
+     * If true, then lists of integers, longs, floats or doubles are decoded into lists that store their elements in
+     * primitive arrays.
+     *
+     * <p>Disabled by default.</p>
+     */
+    private boolean _enablePrimitiveLists;
+
+    /**
+     * If true, then maps in payloads decoded from byte arrays are decoded on first access.
+     *
+     * <p>Disabled by default.</p>
+     */
+    private boolean _enableLazyMaps;
+
     public Builder()
     {
       _symbolTable = null;
@@ -187,6 +241,8 @@ public class ProtobufCodecOptions
       _enableFixedLengthFloatDoubles = false;
       _shouldTolerateInvalidSurrogatePairs = true;
       _protoWriterBufferSize = DEFAULT_BUFFER_SIZE;
+      _enablePrimitiveLists = false;
+      _enableLazyMaps = false;
     }
 
     /**
@@ -245,6 +301,27 @@ public class ProtobufCodecOptions
       return this;
     }
 
+    /**
+     * If set to true, then lists of integers, longs, floats or doubles are decoded into lists that store their
+     * elements in primitive arrays, see {@link com.linkedin.data.collections.PrimitiveList}.
+     */
+    public Builder setEnablePrimitiveLists(boolean enablePrimitiveLists)
+    {
+      this._enablePrimitiveLists = enablePrimitiveLists;
+      return this;
+    }
+
+    /**
+     * If set to true, then maps in payloads decoded from byte arrays are decoded lazily, on first access, see
+     * {@link com.linkedin.data.collections.LazyMap}. Maps that have not been accessed are re-encoded by copying
+     * their bytes. The byte array is retained until all such maps have been accessed or discarded.
+     */
+    public Builder setEnableLazyMaps(boolean enableLazyMaps)
+    {
+      this._enableLazyMaps = enableLazyMaps;
+      return this;
+    }
+
     /**
      * Build an options instance.
      */
@@ -254,7 +331,9 @@ public class ProtobufCodecOptions
           _enableASCIIOnlyStrings,
           _enableFixedLengthFloatDoubles,
           _shouldTolerateInvalidSurrogatePairs,
-          _protoWriterBufferSize);
+          _protoWriterBufferSize,
+          _enablePrimitiveLists,
+          _enableLazyMaps);
     }
   }
 }
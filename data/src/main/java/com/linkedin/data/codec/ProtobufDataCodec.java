@@ -22,14 +22,25 @@ import com.linkedin.data.Data.TraverseCallback;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.DataMapBuilder;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.codec.symbol.SymbolTable;
 import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.DoubleList;
+import com.linkedin.data.collections.FloatList;
+import com.linkedin.data.collections.IntList;
+import com.linkedin.data.collections.LazyMap;
+import com.linkedin.data.collections.LongList;
+import com.linkedin.data.collections.PrimitiveList;
 import com.linkedin.data.protobuf.ProtoReader;
 import com.linkedin.data.protobuf.ProtoWriter;
+import com.linkedin.util.BufferPool;
 import com.linkedin.util.FastByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 
@@ -75,6 +86,24 @@ public class ProtobufDataCodec implements DataCodec
   @Deprecated
   protected final SymbolTable _symbolTable;
 
+  /**
+   * Maps encoded in fewer bytes are decoded eagerly when lazy maps are enabled, as they are cheaper
+   * to decode than to defer.
+   */
+  private static final int MIN_LAZY_MAP_LENGTH = 64;
+
+  /**
+   * Stand in for the complex values that are not decoded yet when decoding a projection.
+   */
+  private static final DataMap EMPTY_MAP = new DataMap();
+  private static final DataList EMPTY_LIST = new DataList();
+
+  static
+  {
+    EMPTY_MAP.makeReadOnly();
+    EMPTY_LIST.makeReadOnly();
+  }
+
   /**
    * @deprecated Use {@link #_options} and invoke {@link ProtobufCodecOptions#shouldEnableASCIIOnlyStrings()} instead.
    */
@@ -145,24 +174,52 @@ public class ProtobufDataCodec implements DataCodec
   @Override
   public void writeMap(DataMap map, OutputStream out) throws IOException
   {
-    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, _options.getProtoWriterBufferSize())))
+    byte[] buffer = BufferPool.SHARED.acquire(_options.getProtoWriterBufferSize());
+    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, buffer)))
     {
       Data.traverse(map, callback);
     }
+    finally
+    {
+      BufferPool.SHARED.release(buffer);
+    }
+  }
+
+  @Override
+  public void writeMap(DataMap map, DataProjection projection, OutputStream out) throws IOException
+  {
+    byte[] buffer = BufferPool.SHARED.acquire(_options.getProtoWriterBufferSize());
+    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, buffer)))
+    {
+      Data.traverse(map, projection, callback);
+    }
+    finally
+    {
+      BufferPool.SHARED.release(buffer);
+    }
   }
 
   @Override
   public void writeList(DataList list, OutputStream out) throws IOException
   {
-    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, _options.getProtoWriterBufferSize())))
+    byte[] buffer = BufferPool.SHARED.acquire(_options.getProtoWriterBufferSize());
+    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, buffer)))
     {
       Data.traverse(list, callback);
     }
+    finally
+    {
+      BufferPool.SHARED.release(buffer);
+    }
   }
 
   @Override
   public DataMap bytesToMap(byte[] input) throws IOException
   {
+    if (_options.shouldEnableLazyMaps())
+    {
+      return readLazyMap(input);
+    }
     return (DataMap) readValue(ProtoReader.newInstance(input), this::isMap);
   }
 
@@ -204,6 +261,30 @@ public class ProtobufDataCodec implements DataCodec
     return (DataMap) readValue(in.asProtoReader(), this::isMap);
   }
 
+  @Override
+  public DataMap readMap(InputStream in, DataProjection projection) throws IOException
+  {
+    if (projection == null)
+    {
+      return readMap(in);
+    }
+
+    try
+    {
+      return readProjectedMap(ProtoReader.newInstance(in), projection);
+    }
+    finally
+    {
+      DataCodec.closeQuietly(in);
+    }
+  }
+
+  @Override
+  public DataMap readMap(ByteString in, DataProjection projection) throws IOException
+  {
+    return projection == null ? readMap(in) : readProjectedMap(in.asProtoReader(), projection);
+  }
+
   @Override
   public DataList readList(ByteString in) throws IOException
   {
@@ -232,12 +313,100 @@ public class ProtobufDataCodec implements DataCodec
   }
 
   protected final DataList readList(ProtoReader reader) throws IOException
+  {
+    return readList(reader, null);
+  }
+
+  /**
+   * Reads a list, decoding its maps lazily if the index of the maps of the payload is specified.
+   */
+  private DataList readList(ProtoReader reader, LazyIndex index) throws IOException
   {
     int size = reader.readInt32();
+    if (size > 0 && _options.shouldEnablePrimitiveLists())
+    {
+      return readPrimitiveList(reader, size, index);
+    }
+
     DataList dataList = new DataList(size);
     for (int i = 0; i < size; i++)
     {
-      CheckedUtil.addWithoutChecking(dataList, readValue(reader, null));
+      CheckedUtil.addWithoutChecking(dataList, readValue(reader.readRawByte(), reader, index));
+    }
+
+    return dataList;
+  }
+
+  /**
+   * Reads the leading elements of the list of the specified size into a {@link PrimitiveList} as long as they are
+   * of the same numeric type, and the remaining elements, if any, into a regular list.
+   */
+  private DataList readPrimitiveList(ProtoReader reader, int size, LazyIndex index) throws IOException
+  {
+    byte ordinal = reader.readRawByte();
+    int count = 0;
+    PrimitiveList<?> primitiveList = null;
+    switch (ordinal)
+    {
+      case INTEGER_ORDINAL:
+      {
+        IntList intList = new IntList(size);
+        do
+        {
+          intList.addInt(reader.readInt32());
+        }
+        while (++count < size && (ordinal = reader.readRawByte()) == INTEGER_ORDINAL);
+        primitiveList = intList;
+        break;
+      }
+      case LONG_ORDINAL:
+      {
+        LongList longList = new LongList(size);
+        do
+        {
+          longList.addLong(reader.readInt64());
+        }
+        while (++count < size && (ordinal = reader.readRawByte()) == LONG_ORDINAL);
+        primitiveList = longList;
+        break;
+      }
+      case FLOAT_ORDINAL:
+      case FIXED_FLOAT_ORDINAL:
+      {
+        FloatList floatList = new FloatList(size);
+        do
+        {
+          floatList.addFloat(Float.intBitsToFloat(
+              ordinal == FIXED_FLOAT_ORDINAL ? reader.readFixedInt32() : reader.readInt32()));
+        }
+        while (++count < size && isFloat(ordinal = reader.readRawByte()));
+        primitiveList = floatList;
+        break;
+      }
+      case DOUBLE_ORDINAL:
+      case FIXED_DOUBLE_ORDINAL:
+      {
+        DoubleList doubleList = new DoubleList(size);
+        do
+        {
+          doubleList.addDouble(Double.longBitsToDouble(
+              ordinal == FIXED_DOUBLE_ORDINAL ? reader.readFixedInt64() : reader.readInt64()));
+        }
+        while (++count < size && isDouble(ordinal = reader.readRawByte()));
+        primitiveList = doubleList;
+        break;
+      }
+    }
+
+    DataList dataList = primitiveList == null ? new DataList(size) : new DataList(primitiveList);
+    // The ordinal of the next element has already been read.
+    while (count < size)
+    {
+      CheckedUtil.addWithoutChecking(dataList, readValue(ordinal, reader, index));
+      if (++count < size)
+      {
+        ordinal = reader.readRawByte();
+      }
     }
 
     return dataList;
@@ -255,6 +424,202 @@ public class ProtobufDataCodec implements DataCodec
     return dataMap;
   }
 
+  private DataMap readProjectedMap(ProtoReader reader, DataProjection projection) throws IOException
+  {
+    byte ordinal = reader.readRawByte();
+    if (!isMap(ordinal))
+    {
+      throw new DataDecodingException("Unable to find expected ordinal. Read: " + ordinal);
+    }
+    return (DataMap) readProjectedValue(ordinal, reader, projection);
+  }
+
+  /**
+   * Reads the projection of the value with the specified ordinal, the values that are not projected are skipped
+   * without being decoded.
+   */
+  private Object readProjectedValue(byte ordinal, ProtoReader reader, DataProjection projection) throws IOException
+  {
+    if (projection == DataProjection.ALL)
+    {
+      return readValue(ordinal, reader);
+    }
+
+    if (isMap(ordinal))
+    {
+      int size = reader.readInt32();
+      DataMap dataMap = new DataMap();
+      for (int i = 0; i < size; i++)
+      {
+        String key = (String) readValue(reader, this::isString);
+        byte valueOrdinal = reader.readRawByte();
+        DataProjection fieldProjection = projection.getField(key, standIn(valueOrdinal));
+        if (fieldProjection == null)
+        {
+          skipValue(valueOrdinal, reader);
+        }
+        else
+        {
+          CheckedUtil.putWithoutChecking(dataMap, key, readProjectedValue(valueOrdinal, reader, fieldProjection));
+        }
+      }
+      return dataMap;
+    }
+    else if (isList(ordinal))
+    {
+      int size = reader.readInt32();
+      DataProjection elements = projection.getElements();
+      int start = projection.getStart();
+      int end = elements == null || start >= size ? start : start + Math.min(projection.getCount(), size - start);
+      DataList dataList = new DataList(Math.max(end - start, 0));
+      for (int i = 0; i < size; i++)
+      {
+        byte elementOrdinal = reader.readRawByte();
+        if (i < start || i >= end)
+        {
+          skipValue(elementOrdinal, reader);
+        }
+        else
+        {
+          CheckedUtil.addWithoutChecking(dataList, readProjectedValue(elementOrdinal, reader, elements));
+        }
+      }
+      return dataList;
+    }
+    else
+    {
+      throw new DataDecodingException("Projection " + projection + " cannot be applied to value with ordinal: " + ordinal);
+    }
+  }
+
+  /**
+   * Returns the value that stands in for a value with the specified ordinal, see {@link DataProjection#getField}.
+   */
+  private Object standIn(byte ordinal)
+  {
+    if (isMap(ordinal))
+    {
+      return EMPTY_MAP;
+    }
+    return isList(ordinal) ? EMPTY_LIST : Data.NULL;
+  }
+
+  private void skipValue(byte ordinal, ProtoReader reader) throws IOException
+  {
+    indexValue(ordinal, reader, null);
+  }
+
+  /**
+   * Indexes the maps of the payload, and returns a map that is decoded on first access.
+   * Its nested maps are decoded when they are first accessed too.
+   */
+  private DataMap readLazyMap(byte[] input) throws IOException
+  {
+    ProtoReader reader = ProtoReader.newInstance(input);
+    byte ordinal = reader.readRawByte();
+    if (!isMap(ordinal))
+    {
+      throw new DataDecodingException("Unable to find expected ordinal. Read: " + ordinal);
+    }
+
+    LazyIndex index = new LazyIndex(input, _options.getSymbolTable());
+    indexValue(ordinal, reader, index);
+    return newLazyMap(index, 0);
+  }
+
+  /**
+   * Skips the value with the specified ordinal, and records the offsets of the maps it contains if the index is
+   * specified. The value is validated like it would be when decoded, except for the encoding of strings.
+   */
+  private void indexValue(byte ordinal, ProtoReader reader, LazyIndex index) throws IOException
+  {
+    switch (ordinal)
+    {
+      case MAP_ORDINAL:
+      {
+        int map = index == null ? -1 : index.startMap(reader.getPosition() - 1);
+        int size = reader.readInt32();
+        for (int i = 0; i < size; i++)
+        {
+          byte keyOrdinal = reader.readRawByte();
+          if (!isString(keyOrdinal))
+          {
+            throw new DataDecodingException("Unable to find expected ordinal. Read: " + keyOrdinal);
+          }
+          indexValue(keyOrdinal, reader, index);
+          indexValue(reader.readRawByte(), reader, index);
+        }
+        if (index != null)
+        {
+          index.endMap(map, reader.getPosition());
+        }
+        break;
+      }
+      case LIST_ORDINAL:
+      {
+        int size = reader.readInt32();
+        for (int i = 0; i < size; i++)
+        {
+          indexValue(reader.readRawByte(), reader, index);
+        }
+        break;
+      }
+      case ASCII_STRING_LITERAL_ORDINAL:
+      case STRING_LITERAL_ORDINAL:
+      case RAW_BYTES_ORDINAL:
+        reader.skipRawBytes(reader.readInt32());
+        break;
+      case STRING_REFERENCE_ORDINAL:
+        readStringReference(reader);
+        break;
+      case INTEGER_ORDINAL:
+      case FLOAT_ORDINAL:
+        reader.readInt32();
+        break;
+      case LONG_ORDINAL:
+      case DOUBLE_ORDINAL:
+        reader.readInt64();
+        break;
+      case FIXED_FLOAT_ORDINAL:
+        reader.readFixedInt32();
+        break;
+      case FIXED_DOUBLE_ORDINAL:
+        reader.readFixedInt64();
+        break;
+      case BOOLEAN_TRUE_ORDINAL:
+      case BOOLEAN_FALSE_ORDINAL:
+      case NULL_ORDINAL:
+        break;
+      default:
+        readUnknownValue(ordinal, reader);
+        break;
+    }
+  }
+
+  private DataMap newLazyMap(LazyIndex index, int start)
+  {
+    return new DataMap(new LazyMap<>(new LazySource(index, start, index.endOf(start)), this::loadMap));
+  }
+
+  /**
+   * Decodes the entries of a lazy map, see {@link LazyMap.Loader}.
+   */
+  private Map<String, Object> loadMap(Object source) throws IOException
+  {
+    LazySource lazySource = (LazySource) source;
+    // Skip the map ordinal, the values of the map are validated by the index.
+    ProtoReader reader = ProtoReader.newInstance(lazySource._index._bytes, lazySource._start + 1,
+        lazySource._end - lazySource._start - 1);
+    int size = reader.readInt32();
+    Map<String, Object> map = new HashMap<>(DataMapBuilder.getOptimumHashMapCapacityFromSize(size));
+    for (int i = 0; i < size; i++)
+    {
+      map.put((String) readValue(reader, this::isString), readValue(reader.readRawByte(), reader, lazySource._index));
+    }
+
+    return map;
+  }
+
   protected final String readStringReference(ProtoReader reader) throws IOException
   {
     String value;
@@ -283,6 +648,42 @@ public class ProtobufDataCodec implements DataCodec
       throw new DataDecodingException("Unable to find expected ordinal. Read: " + ordinal);
     }
 
+    return readValue(ordinal, reader);
+  }
+
+  /**
+   * Reads the value with the specified ordinal, decoding maps lazily if the index of the maps of the payload
+   * is specified.
+   */
+  private Object readValue(byte ordinal, ProtoReader reader, LazyIndex index) throws IOException
+  {
+    if (index == null)
+    {
+      return readValue(ordinal, reader);
+    }
+
+    switch (ordinal)
+    {
+      case MAP_ORDINAL:
+      {
+        int start = reader.getPosition() - 1;
+        int end = index.endOf(start);
+        if (end - start < MIN_LAZY_MAP_LENGTH)
+        {
+          return readMap(reader);
+        }
+        reader.skipRawBytes(end - start - 1);
+        return newLazyMap(index, start);
+      }
+      case LIST_ORDINAL:
+        return readList(reader, index);
+      default:
+        return readValue(ordinal, reader);
+    }
+  }
+
+  private Object readValue(byte ordinal, ProtoReader reader) throws IOException
+  {
     switch (ordinal)
     {
       case MAP_ORDINAL: return readMap(reader);
@@ -312,6 +713,16 @@ public class ProtobufDataCodec implements DataCodec
         || ordinal == STRING_REFERENCE_ORDINAL;
   }
 
+  private static boolean isFloat(byte ordinal)
+  {
+    return ordinal == FLOAT_ORDINAL || ordinal == FIXED_FLOAT_ORDINAL;
+  }
+
+  private static boolean isDouble(byte ordinal)
+  {
+    return ordinal == DOUBLE_ORDINAL || ordinal == FIXED_DOUBLE_ORDINAL;
+  }
+
   protected boolean isList(byte ordinal)
   {
     return ordinal == LIST_ORDINAL;
@@ -322,6 +733,77 @@ public class ProtobufDataCodec implements DataCodec
     return ordinal == MAP_ORDINAL;
   }
 
+  /**
+   * The offsets of the maps of a payload decoded with lazy maps, in the order they are encoded.
+   */
+  private static final class LazyIndex
+  {
+    private final byte[] _bytes;
+    private final SymbolTable _symbolTable;
+    private int[] _starts = new int[16];
+    private int[] _ends = new int[16];
+    private int _size;
+
+    LazyIndex(byte[] bytes, SymbolTable symbolTable)
+    {
+      _bytes = bytes;
+      _symbolTable = symbolTable;
+    }
+
+    /**
+     * @return the number of the map starting at the specified offset.
+     */
+    int startMap(int start)
+    {
+      if (_size == _starts.length)
+      {
+        _starts = Arrays.copyOf(_starts, _size * 2);
+        _ends = Arrays.copyOf(_ends, _size * 2);
+      }
+      _starts[_size] = start;
+      return _size++;
+    }
+
+    void endMap(int map, int end)
+    {
+      _ends[map] = end;
+    }
+
+    int endOf(int start)
+    {
+      // Maps are indexed in the order they are encoded, so the offsets are sorted.
+      int map = Arrays.binarySearch(_starts, 0, _size, start);
+      if (map < 0)
+      {
+        throw new IllegalStateException("No map at offset " + start);
+      }
+      return _ends[map];
+    }
+  }
+
+  /**
+   * The source of a lazy map, the bytes of the map from its ordinal to its last value.
+   */
+  private static final class LazySource
+  {
+    private final LazyIndex _index;
+    private final int _start;
+    private final int _end;
+
+    LazySource(LazyIndex index, int start, int end)
+    {
+      _index = index;
+      _start = start;
+      _end = end;
+    }
+
+    @Override
+    public String toString()
+    {
+      return "protobuf bytes [" + _start + ", " + _end + ")";
+    }
+  }
+
   public static class ProtobufTraverseCallback implements TraverseCallback
   {
     protected final ProtoWriter _protoWriter;
@@ -516,9 +998,36 @@ public class ProtobufDataCodec implements DataCodec
      * @param map provides the {@link DataMap}to be traversed.
      */
     public void startMap(DataMap map) throws IOException
+    {
+      startMap(map, map.size());
+    }
+
+    @Override
+    public void startMap(DataMap map, int size) throws IOException
     {
       _protoWriter.writeByte(MAP_ORDINAL);
-      _protoWriter.writeUInt32(map.size());
+      _protoWriter.writeUInt32(size);
+    }
+
+    /**
+     * Copies the bytes of a map that has not been accessed since it was decoded with lazy maps enabled,
+     * if it was decoded with the same symbol table.
+     *
+     * @param source provides the serialized source of the {@link DataMap}.
+     */
+    @Override
+    public boolean serializedMap(Object source) throws IOException
+    {
+      if (source instanceof LazySource)
+      {
+        LazySource lazySource = (LazySource) source;
+        if (lazySource._index._symbolTable == _options.getSymbolTable())
+        {
+          _protoWriter.writeBytes(lazySource._index._bytes, lazySource._start, lazySource._end - lazySource._start);
+          return true;
+        }
+      }
+      return false;
     }
 
     /**
@@ -550,9 +1059,15 @@ public class ProtobufDataCodec implements DataCodec
      * @param list provides the {@link DataList}to be traversed.
      */
     public void startList(DataList list) throws IOException
+    {
+      startList(list, list.size());
+    }
+
+    @Override
+    public void startList(DataList list, int size) throws IOException
     {
       _protoWriter.writeByte(LIST_ORDINAL);
-      _protoWriter.writeUInt32(list.size());
+      _protoWriter.writeUInt32(size);
     }
 
     @Override
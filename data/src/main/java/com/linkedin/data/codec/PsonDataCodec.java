@@ -414,11 +414,17 @@ public class PsonDataCodec implements DataCodec
 
     @Override
     public void startMap(DataMap map) throws CharacterCodingException
+    {
+      startMap(map, map.size());
+    }
+
+    @Override
+    public void startMap(DataMap map, int size) throws CharacterCodingException
     {
       if (_encodeCollectionCount)
       {
         start(PSON_OBJECT_WITH_COUNT);
-        _buffer.putVarUnsignedInt(map.size());
+        _buffer.putVarUnsignedInt(size);
       }
       else
       {
@@ -460,11 +466,17 @@ public class PsonDataCodec implements DataCodec
 
     @Override
     public void startList(DataList list) throws CharacterCodingException
+    {
+      startList(list, list.size());
+    }
+
+    @Override
+    public void startList(DataList list, int size) throws CharacterCodingException
     {
       if (_encodeCollectionCount)
       {
         start(PSON_ARRAY_WITH_COUNT);
-        _buffer.putVarUnsignedInt(list.size());
+        _buffer.putVarUnsignedInt(size);
       }
       else
       {
@@ -21,13 +21,18 @@ import com.linkedin.data.Data;
 import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.PrimitiveList;
 import com.linkedin.entitystream.WriteHandle;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +58,7 @@ public abstract class AbstractDataEncoder implements DataEncoder
   private Deque<DataComplex> _stack;
   private Deque<Iterator<?>> _iteratorStack;
   private Deque<Object> _typeStack;
+  private Deque<DataProjection> _projectionStack;
   private WriteHandle<? super ByteString> _writeHandle;
   private boolean _done;
 
@@ -81,6 +87,24 @@ public abstract class AbstractDataEncoder implements DataEncoder
     _typeStack.push(LIST);
   }
 
+  /**
+   * Create an encoder that only writes the projection of the {@link DataMap}, the data that is not projected is
+   * skipped while writing. The output is the same as encoding the projected copy of the {@link DataMap}, see
+   * {@link Data#traverse(Object, DataProjection, Data.TraverseCallback)}.
+   *
+   * @param projection selecting the data to write, null to write the whole map.
+   */
+  protected AbstractDataEncoder(DataMap dataMap, DataProjection projection, int bufferSize)
+  {
+    this(dataMap, bufferSize);
+
+    if (projection != null && projection != DataProjection.ALL)
+    {
+      _projectionStack = new ArrayDeque<>();
+      _projectionStack.push(projection);
+    }
+  }
+
   @Override
   public void onInit(WriteHandle<? super ByteString> wh)
   {
@@ -149,10 +173,13 @@ public abstract class AbstractDataEncoder implements DataEncoder
    * <p>This can be overridden by implementations to control the order in which elements are serialized. It is
    * highly recommended to not modify the iterator or the backing list after this method has been called. Doing so
    * may result in a {@link java.util.ConcurrentModificationException}</p>
+   *
+   * <p>The default implementation writes the elements of primitive-backed lists without boxing them.</p>
    */
   protected Iterator<Object> createIterator(DataList dataList) throws IOException
   {
-    return dataList.iterator();
+    PrimitiveList<?> primitiveList = CheckedUtil.getPrimitiveList(dataList);
+    return primitiveList == null ? dataList.iterator() : new PrimitiveListIterator(primitiveList);
   }
 
   @Override
@@ -182,6 +209,12 @@ public abstract class AbstractDataEncoder implements DataEncoder
         {
           generate();
         }
+        catch (UncheckedIOException e)
+        {
+          // a lazy map failed to load its entries
+          _writeHandle.error(e.getCause());
+          break;
+        }
         catch (Exception e)
         {
           _writeHandle.error(e);
@@ -202,13 +235,15 @@ public abstract class AbstractDataEncoder implements DataEncoder
       {
         if (_typeStack.peek() == MAP)
         {
+          DataProjection projection = currentProjection();
           DataMap dataMap = preProcessMap((DataMap) current);
-          if (dataMap != null)
+          Object source = dataMap == null || projection != DataProjection.ALL ? null : CheckedUtil.getLazySource(dataMap);
+          if (source != null && _traverseCallback.serializedMap(source))
           {
-            _iteratorStack.push(createIterator(dataMap));
-            _traverseCallback.startMap(dataMap);
+            // The map has not been loaded, and its serialized source has been written as is.
+            dataMap = null;
           }
-          else
+          if (dataMap == null)
           {
             removeProcessedEntity();
             if (_done)
@@ -217,16 +252,22 @@ public abstract class AbstractDataEncoder implements DataEncoder
               break;
             }
           }
+          else if (projection == DataProjection.ALL)
+          {
+            _iteratorStack.push(createIterator(dataMap));
+            _traverseCallback.startMap(dataMap);
+          }
+          else
+          {
+            _iteratorStack.push(new ProjectedMapIterator(createIterator(dataMap), projection));
+            _traverseCallback.startMap(dataMap, Data.getProjectedSize(dataMap, projection));
+          }
         }
         else
         {
+          DataProjection projection = currentProjection();
           DataList dataList = preProcessList((DataList) current);
-          if (dataList != null)
-          {
-            _iteratorStack.push(createIterator(dataList));
-            _traverseCallback.startList(dataList);
-          }
-          else
+          if (dataList == null)
           {
             removeProcessedEntity();
             if (_done)
@@ -235,25 +276,52 @@ public abstract class AbstractDataEncoder implements DataEncoder
               break;
             }
           }
+          else if (projection == DataProjection.ALL)
+          {
+            _iteratorStack.push(createIterator(dataList));
+            _traverseCallback.startList(dataList);
+          }
+          else
+          {
+            int start = projection.getStart();
+            int count = projection.getCount();
+            DataProjection elements = projection.getElements();
+            int end = elements == null || start >= dataList.size() || count <= 0
+                ? start : start + Math.min(count, dataList.size() - start);
+            _iteratorStack.push(createIterator(dataList, elements, start, end));
+            _traverseCallback.startList(dataList, end - start);
+          }
         }
 
         continue;
       }
 
       Iterator<?> curr = _iteratorStack.peek();
-      if (curr.hasNext())
+      if (curr instanceof PrimitiveListIterator && curr.hasNext())
+      {
+        // Write as many primitive elements as fit into the buffer without boxing them.
+        PrimitiveListIterator primitiveIterator = (PrimitiveListIterator) curr;
+        do
+        {
+          primitiveIterator.traverseNext(_traverseCallback);
+        }
+        while (primitiveIterator.hasNext() && !_out.isFull());
+      }
+      else if (curr.hasNext())
       {
         Object currItem = curr.next();
+        DataProjection projection =
+            curr instanceof ProjectedIterator ? ((ProjectedIterator) curr).projection() : DataProjection.ALL;
         if (_typeStack.peek() == MAP)
         {
           Map.Entry<String, ?> entry = (Map.Entry<String, ?>) currItem;
           _traverseCallback.key(entry.getKey());
-          writeValue(entry.getValue());
+          writeValue(entry.getValue(), projection);
           _traverseCallback.endKey(entry.getKey());
         }
         else
         {
-          writeValue(currItem);
+          writeValue(currItem, projection);
         }
       }
       else
@@ -279,8 +347,13 @@ public abstract class AbstractDataEncoder implements DataEncoder
     }
   }
 
-  private void writeValue(Object value) throws Exception
+  private void writeValue(Object value, DataProjection projection) throws Exception
   {
+    if (projection != DataProjection.ALL && !(value instanceof DataComplex))
+    {
+      throw new IOException("Projection " + projection + " cannot be applied to value: " + value);
+    }
+
     if (value == null || value == Data.NULL)
     {
       _traverseCallback.nullValue();
@@ -299,10 +372,12 @@ public abstract class AbstractDataEncoder implements DataEncoder
       case "com.linkedin.data.DataMap":
         _stack.push((DataMap) value);
         _typeStack.push(MAP);
+        pushProjection(projection);
         break;
       case "com.linkedin.data.DataList":
         _stack.push((DataList) value);
         _typeStack.push(LIST);
+        pushProjection(projection);
         break;
       case "java.lang.Boolean":
         _traverseCallback.booleanValue((boolean) value);
@@ -324,9 +399,183 @@ public abstract class AbstractDataEncoder implements DataEncoder
     }
   }
 
+  private DataProjection currentProjection()
+  {
+    return _projectionStack == null ? DataProjection.ALL : _projectionStack.peek();
+  }
+
+  private void pushProjection(DataProjection projection)
+  {
+    if (_projectionStack != null)
+    {
+      _projectionStack.push(projection);
+    }
+  }
+
+  private Iterator<Object> createIterator(DataList dataList, DataProjection elements, int start, int end)
+  {
+    PrimitiveList<?> primitiveList = elements == DataProjection.ALL ? CheckedUtil.getPrimitiveList(dataList) : null;
+    return primitiveList == null
+        ? new ProjectedListIterator(dataList, elements, start, end)
+        : new PrimitiveListIterator(primitiveList, start, end);
+  }
+
+  /**
+   * Iterator over the projected items of a {@link DataComplex}.
+   */
+  private interface ProjectedIterator
+  {
+    /**
+     * @return the projection of the item last returned by the iterator.
+     */
+    DataProjection projection();
+  }
+
+  /**
+   * Iterates over the projected entries of a {@link DataMap}, skipping the entries that are excluded.
+   */
+  private static class ProjectedMapIterator implements Iterator<Map.Entry<String, Object>>, ProjectedIterator
+  {
+    private final Iterator<Map.Entry<String, Object>> _iterator;
+    private final DataProjection _projection;
+    private Map.Entry<String, Object> _next;
+    private DataProjection _nextProjection;
+    private DataProjection _lastProjection;
+
+    ProjectedMapIterator(Iterator<Map.Entry<String, Object>> iterator, DataProjection projection)
+    {
+      _iterator = iterator;
+      _projection = projection;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      while (_next == null && _iterator.hasNext())
+      {
+        Map.Entry<String, Object> entry = _iterator.next();
+        DataProjection fieldProjection = _projection.getField(entry.getKey(), entry.getValue());
+        if (fieldProjection != null)
+        {
+          _next = entry;
+          _nextProjection = fieldProjection;
+        }
+      }
+      return _next != null;
+    }
+
+    @Override
+    public Map.Entry<String, Object> next()
+    {
+      if (!hasNext())
+      {
+        throw new NoSuchElementException();
+      }
+      Map.Entry<String, Object> entry = _next;
+      _lastProjection = _nextProjection;
+      _next = null;
+      _nextProjection = null;
+      return entry;
+    }
+
+    @Override
+    public DataProjection projection()
+    {
+      return _lastProjection;
+    }
+  }
+
+  /**
+   * Iterates over a range of the elements of a {@link DataList}, with the same projection for every element.
+   */
+  private static class ProjectedListIterator implements Iterator<Object>, ProjectedIterator
+  {
+    private final DataList _list;
+    private final DataProjection _elements;
+    private final int _end;
+    private int _index;
+
+    ProjectedListIterator(DataList list, DataProjection elements, int start, int end)
+    {
+      _list = list;
+      _elements = elements;
+      _index = start;
+      _end = end;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return _index < _end;
+    }
+
+    @Override
+    public Object next()
+    {
+      if (!hasNext())
+      {
+        throw new NoSuchElementException();
+      }
+      return _list.get(_index++);
+    }
+
+    @Override
+    public DataProjection projection()
+    {
+      return _elements;
+    }
+  }
+
+  /**
+   * Iterates over the elements of a {@link PrimitiveList}, and writes them without boxing with {@link #traverseNext}.
+   */
+  private static class PrimitiveListIterator implements Iterator<Object>
+  {
+    private final PrimitiveList<?> _list;
+    private final int _end;
+    private int _index;
+
+    PrimitiveListIterator(PrimitiveList<?> list)
+    {
+      this(list, 0, list.size());
+    }
+
+    PrimitiveListIterator(PrimitiveList<?> list, int start, int end)
+    {
+      _list = list;
+      _index = start;
+      _end = end;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return _index < _end;
+    }
+
+    @Override
+    public Object next()
+    {
+      if (!hasNext())
+      {
+        throw new NoSuchElementException();
+      }
+      return _list.get(_index++);
+    }
+
+    void traverseNext(Data.TraverseCallback callback) throws IOException
+    {
+      _list.traverse(_index++, callback);
+    }
+  }
+
   private Object removeProcessedEntity()
   {
     _stack.pop();
+    if (_projectionStack != null)
+    {
+      _projectionStack.pop();
+    }
     _done = _stack.isEmpty();
     return _typeStack.pop();
   }
@@ -22,6 +22,7 @@ import com.linkedin.data.ByteString;
 import com.linkedin.data.Data;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.codec.AbstractJacksonDataCodec;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -54,6 +55,13 @@ abstract class AbstractJacksonDataEncoder extends AbstractDataEncoder
     _jsonFactory = jsonFactory;
   }
 
+  protected AbstractJacksonDataEncoder(JsonFactory jsonFactory, DataMap dataMap, DataProjection projection,
+      int bufferSize)
+  {
+    super(dataMap, projection, bufferSize);
+    _jsonFactory = jsonFactory;
+  }
+
   @Override
   protected Data.TraverseCallback createTraverseCallback(OutputStream out) throws IOException
   {
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.codec.AbstractJacksonDataCodec;
 
 
@@ -54,4 +55,14 @@ public class JacksonJsonDataEncoder extends AbstractJacksonDataEncoder implement
   {
     super(jsonFactory, dataList, bufferSize);
   }
+
+  /**
+   * Create an encoder that only writes the projection of the {@link DataMap}.
+   *
+   * @param projection selecting the data to write, null to write the whole map.
+   */
+  public JacksonJsonDataEncoder(JsonFactory jsonFactory, DataMap dataMap, DataProjection projection, int bufferSize)
+  {
+    super(jsonFactory, dataMap, projection, bufferSize);
+  }
 }
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.entitystream.WriteHandle;
 import java.io.IOException;
 import java.util.ArrayDeque;
@@ -53,4 +54,14 @@ public class JacksonSmileDataEncoder extends AbstractJacksonDataEncoder implemen
   {
     super(smileFactory, dataList, bufferSize);
   }
+
+  /**
+   * Create an encoder that only writes the projection of the {@link DataMap}.
+   *
+   * @param projection selecting the data to write, null to write the whole map.
+   */
+  public JacksonSmileDataEncoder(SmileFactory smileFactory, DataMap dataMap, DataProjection projection, int bufferSize)
+  {
+    super(smileFactory, dataMap, projection, bufferSize);
+  }
 }
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.codec.AbstractJacksonDataCodec;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.entitystream.EntityStreams;
@@ -72,6 +73,13 @@ public class JacksonStreamDataCodec implements StreamDataCodec
     return EntityStreams.newEntityStream(encoder);
   }
 
+  @Override
+  public EntityStream<ByteString> encodeMap(DataMap map, DataProjection projection)
+  {
+    JacksonJsonDataEncoder encoder = new JacksonJsonDataEncoder(_jsonFactory, map, projection, _bufferSize);
+    return EntityStreams.newEntityStream(encoder);
+  }
+
   @Override
   public EntityStream<ByteString> encodeList(DataList list)
   {
@@ -19,9 +19,11 @@ package com.linkedin.data.codec.entitystream;
 import com.linkedin.data.Data;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.codec.ProtobufCodecOptions;
 import com.linkedin.data.codec.ProtobufDataCodec;
 import com.linkedin.data.protobuf.ProtoWriter;
+import com.linkedin.util.BufferPool;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -64,9 +66,43 @@ public class ProtobufDataEncoder extends AbstractDataEncoder
     _options = options;
   }
 
+  /**
+   * Create an encoder that only writes the projection of the {@link DataMap}.
+   *
+   * @param projection selecting the data to write, null to write the whole map.
+   */
+  public ProtobufDataEncoder(DataMap dataMap, DataProjection projection, int bufferSize, ProtobufCodecOptions options)
+  {
+    super(dataMap, projection, bufferSize);
+    _options = options;
+  }
+
   @Override
   protected Data.TraverseCallback createTraverseCallback(OutputStream out) throws IOException
   {
-    return new ProtobufDataCodec.ProtobufTraverseCallback(new ProtoWriter(out), _options);
+    byte[] buffer = BufferPool.SHARED.acquire(ProtobufCodecOptions.DEFAULT_BUFFER_SIZE);
+    return new ProtobufDataCodec.ProtobufTraverseCallback(new ProtoWriter(out, buffer), _options)
+    {
+      private boolean _closed;
+
+      @Override
+      public void close() throws IOException
+      {
+        // The callback is closed once the whole payload has been written to the output stream, after which
+        // the buffer of the writer is no longer used.
+        if (!_closed)
+        {
+          _closed = true;
+          try
+          {
+            super.close();
+          }
+          finally
+          {
+            BufferPool.SHARED.release(buffer);
+          }
+        }
+      }
+    };
   }
 }
\ No newline at end of file
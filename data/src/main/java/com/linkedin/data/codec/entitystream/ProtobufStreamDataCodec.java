@@ -20,6 +20,7 @@ package com.linkedin.data.codec.entitystream;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.codec.ProtobufCodecOptions;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.entitystream.EntityStreams;
@@ -71,6 +72,12 @@ public class ProtobufStreamDataCodec implements StreamDataCodec
     return EntityStreams.newEntityStream(new ProtobufDataEncoder(map, _bufferSize, _options));
   }
 
+  @Override
+  public EntityStream<ByteString> encodeMap(DataMap map, DataProjection projection)
+  {
+    return EntityStreams.newEntityStream(new ProtobufDataEncoder(map, projection, _bufferSize, _options));
+  }
+
   @Override
   public EntityStream<ByteString> encodeList(DataList list)
   {
@@ -18,8 +18,10 @@
 package com.linkedin.data.codec.entitystream;
 
 import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.entitystream.EntityStream;
 
 import java.util.concurrent.CompletionStage;
@@ -39,6 +41,18 @@ public interface StreamDataCodec
    */
   CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream);
 
+  /**
+   * Decodes the projection of a <code>DataMap</code> from the <code>EntityStream</code>. The default implementation
+   * projects the whole decoded <code>DataMap</code>, see {@link Data#project(Object, DataProjection)}.
+   *
+   * @param projection selecting the data to decode, null to decode the whole map.
+   */
+  default CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, DataProjection projection)
+  {
+    final CompletionStage<DataMap> result = decodeMap(entityStream);
+    return projection == null ? result : result.thenApply(map -> (DataMap) Data.project(map, projection));
+  }
+
   /**
    * Decodes a <code>DataList</code> from the <code>EntityStream</code>. The result is passed asynchronously in the
    * {@link CompletionStage}.
@@ -50,6 +64,18 @@ public interface StreamDataCodec
    */
   EntityStream<ByteString> encodeMap(DataMap map);
 
+  /**
+   * Encodes the projection of a <code>DataMap</code> to an <code>EntityStream</code>, the data that is not projected
+   * is skipped. The default implementation encodes a projected copy of the <code>DataMap</code>, see
+   * {@link Data#project(Object, DataProjection)}.
+   *
+   * @param projection selecting the data to encode, null to encode the whole map.
+   */
+  default EntityStream<ByteString> encodeMap(DataMap map, DataProjection projection)
+  {
+    return encodeMap(projection == null ? map : (DataMap) Data.project(map, projection));
+  }
+
   /**
    * Encodes a <code>DataList</code> to an <code>EntityStream</code>.
    */
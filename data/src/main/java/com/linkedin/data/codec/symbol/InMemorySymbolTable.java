@@ -17,43 +17,80 @@
 package com.linkedin.data.codec.symbol;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 
 /**
  * A {@link SymbolTable} that stores symbol mappings in memory.
+ *
+ * <p>Symbol ids are looked up in an open-addressing table of parallel arrays that is built once and never
+ * modified, so lookups are lock-free and do not box the ids. Symbol names are typically field names taken from
+ * generated data templates, so the lookup first compares references before falling back to
+ * {@link String#equals(Object)}.</p>
  */
 public class InMemorySymbolTable implements SymbolTable {
 
-  private final Map<String, Integer> _symbolNameToId;
   private final String[] _symbols;
   private final String _symbolTableName;
 
+  /**
+   * Open-addressing table mapping symbol names to ids. The length of the arrays is a power of two, at least twice
+   * the number of symbols, so that probe sequences stay short.
+   */
+  private final String[] _slotNames;
+  private final int[] _slotIds;
+  private final int _mask;
+
   public InMemorySymbolTable(String symbolTableName, List<String> symbols)
   {
     _symbolTableName = symbolTableName;
-    _symbolNameToId = new HashMap<>();
     _symbols = new String[symbols.size()];
 
+    int capacity = Integer.highestOneBit(Math.max(2, symbols.size()) * 2 - 1) << 1;
+    _slotNames = new String[capacity];
+    _slotIds = new int[capacity];
+    _mask = capacity - 1;
+
     for (int i = 0; i < symbols.size(); i++)
     {
       String symbol = symbols.get(i);
-      _symbolNameToId.put(symbol, i);
       _symbols[i] = symbol;
+
+      // Like a map, the last occurrence of a duplicate symbol wins.
+      int slot = slot(symbol);
+      while (_slotNames[slot] != null && !_slotNames[slot].equals(symbol))
+      {
+        slot = (slot + 1) & _mask;
+      }
+      _slotNames[slot] = symbol;
+      _slotIds[slot] = i;
     }
   }
 
+  private int slot(String symbolName)
+  {
+    int hash = symbolName.hashCode();
+    return (hash ^ (hash >>> 16)) & _mask;
+  }
+
   @Override
   public int getSymbolId(String symbolName)
   {
+    if (symbolName == null)
+    {
+      return UNKNOWN_SYMBOL_ID;
+    }
 
-    Integer symbolId = _symbolNameToId.get(symbolName);
-    if (symbolId != null)
+    int slot = slot(symbolName);
+    String slotName;
+    while ((slotName = _slotNames[slot]) != null)
     {
-      return symbolId;
+      if (slotName == symbolName || slotName.equals(symbolName))
+      {
+        return _slotIds[slot];
+      }
+      slot = (slot + 1) & _mask;
     }
 
     return UNKNOWN_SYMBOL_ID;
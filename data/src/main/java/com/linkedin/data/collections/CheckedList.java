@@ -36,6 +36,11 @@ import java.util.function.Consumer;
  * with this {@link CheckedList}.
  * <p>
  *
+ * If the list is constructed from a {@link PrimitiveList}, the underlying list
+ * is that {@link PrimitiveList} instead, until an element that cannot
+ * be stored in it is added. The underlying list is then converted to an {@link ArrayList}.
+ * <p>
+ *
  * A {@link CheckedList} may be marked read-only to disable mutations,
  * and to avoid unintentional changes. It may also be invalidated to
  * release its reference and decrease the reference count on the underlying
@@ -64,7 +69,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     _checker = null;
     checkAll(list);
-    _list = new InternalList<>(list);
+    _list = copyOf(list);
   }
 
   /**
@@ -100,7 +105,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     _checker = checker;
     checkAll(list);
-    _list = new InternalList<>(list);
+    _list = copyOf(list);
   }
 
   /**
@@ -116,11 +121,27 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
     _list = new InternalList<>(initialCapacity);
   }
 
+  /**
+   * Construct a new list that takes ownership of the specified {@link PrimitiveList}, with the specified
+   * {@link ListChecker}. The {@link PrimitiveList} becomes the underlying list and must not be used afterwards.
+   * The elements are not checked, use only if the checker allows all elements of the {@link PrimitiveList}.
+   *
+   * @param list provides the elements of the new list.
+   * @param checker provides the {@link ListChecker}.
+   */
+  @SuppressWarnings("unchecked")
+  protected CheckedList(PrimitiveList<? extends E> list, ListChecker<E> checker)
+  {
+    _checker = checker;
+    _list = (List<E>) list;
+  }
+
   @Override
   public boolean add(E e)
   {
     check(e);
     checkMutability();
+    inflateIfNotAccepted(e);
     return _list.add(e);
   }
 
@@ -129,6 +150,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     check(element);
     checkMutability();
+    inflateIfNotAccepted(element);
     _list.add(index, element);
   }
 
@@ -137,6 +159,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     checkAll(c);
     checkMutability();
+    inflateIfNotAllAccepted(c);
     return _list.addAll(c);
   }
 
@@ -145,6 +168,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     checkAll(c);
     checkMutability();
+    inflateIfNotAllAccepted(c);
     return _list.addAll(index, c);
   }
 
@@ -160,7 +184,8 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   public CheckedList<E> clone() throws CloneNotSupportedException
   {
     CheckedList<E> o = (CheckedList<E>) super.clone();
-    o._list = (InternalList<E>) _list.clone();
+    o._list = _list instanceof PrimitiveList ?
+        ((PrimitiveList<E>) _list).clone() : (InternalList<E>) ((InternalList<E>) _list).clone();
     o._readOnly = false;
     return o;
   }
@@ -245,7 +270,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   public void removeRange(int fromIndex, int toIndex)
   {
     checkMutability();
-    _list.removeRange(fromIndex, toIndex);
+    _list.subList(fromIndex, toIndex).clear();
   }
 
   @Override
@@ -253,6 +278,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   {
     check(element);
     checkMutability();
+    inflateIfNotAccepted(element);
     return _list.set(index, element);
   }
 
@@ -316,6 +342,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected boolean addWithoutChecking(E element)
   {
     checkMutability();
+    inflateIfNotAccepted(element);
     return _list.add(element);
   }
 
@@ -332,6 +359,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected void addWithoutChecking(int index, E element)
   {
     checkMutability();
+    inflateIfNotAccepted(element);
     _list.add(index, element);
   }
 
@@ -347,6 +375,7 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
   protected E setWithoutChecking(int index, E element)
   {
     checkMutability();
+    inflateIfNotAccepted(element);
     return _list.set(index, element);
   }
 
@@ -368,6 +397,42 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
     return setWithoutChecking(index, element);
   }
 
+  /**
+   * Returns the underlying {@link PrimitiveList} if the elements of this list are stored in one.
+   * The returned list must not be modified.
+   *
+   * @return the underlying {@link PrimitiveList}, or null if the underlying list is not a {@link PrimitiveList}.
+   */
+  PrimitiveList<E> getPrimitiveList()
+  {
+    return _list instanceof PrimitiveList ? (PrimitiveList<E>) _list : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> List<E> copyOf(List<? extends E> list)
+  {
+    return list instanceof PrimitiveList ? ((PrimitiveList<E>) list).clone() : new InternalList<>(list);
+  }
+
+  private void inflateIfNotAccepted(E e)
+  {
+    if (_list instanceof PrimitiveList && !((PrimitiveList<E>) _list).accepts(e))
+    {
+      _list = new InternalList<>(_list);
+    }
+  }
+
+  private void inflateIfNotAllAccepted(Collection<? extends E> c)
+  {
+    if (_list instanceof PrimitiveList)
+    {
+      for (E e : c)
+      {
+        inflateIfNotAccepted(e);
+      }
+    }
+  }
+
   private final void checkMutability()
   {
     if (_readOnly)
@@ -432,14 +497,9 @@ public class CheckedList<E> extends AbstractList<E> implements CommonList<E>, Cl
     {
       super(initialCapacity);
     }
-    @Override
-    public void removeRange(int fromIndex, int toIndex)
-    {
-      super.removeRange(fromIndex, toIndex);
-    }
   }
 
   protected ListChecker<E> _checker;
   private boolean _readOnly = false;
-  private InternalList<E> _list;
+  private List<E> _list;
 }
@@ -39,14 +39,16 @@ import java.util.function.Predicate;
  * keys and values being stored into the {@link CheckedMap}.
  * <p>
  *
- * The underlying map implementation is {@link HashMap}. It delegates
- * map operations to the underlying {@link HashMap} associated
+ * The underlying map implementation is {@link HashMap}, or a
+ * {@link CompactHashMap} if the map is constructed as a compact map,
+ * or a {@link LazyMap} if the entries are loaded on first access.
+ * It delegates map operations to the underlying map associated
  * with this {@link CheckedMap}.
  * <P>
  *
  * A {@link CheckedMap} may be marked read-only to disable mutations,
  * and to avoid unintentional changes. It may also be invalidated
- * to release its reference the underlying {@link HashMap}.
+ * to release its reference the underlying map.
  * <p>
  *
  * The {@link #entrySet}, {@link #keySet} and {@link #values}
@@ -161,6 +163,59 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
     _map = new HashMap<>(initialCapacity, loadFactor);
   }
 
+  /**
+   * Construct an empty map with the specified {@link MapChecker}.
+   *
+   * @param checker provides the {@link MapChecker}.
+   * @param compact whether the underlying map is a {@link CompactHashMap}.
+   */
+  public CheckedMap(MapChecker<K,V> checker, boolean compact)
+  {
+    _checker = checker;
+    _map = compact ? new CompactHashMap<>() : new HashMap<>();
+  }
+
+  /**
+   * Construct a map with the initial entries provided by the specified map
+   * and specified {@link MapChecker}.
+   *
+   * @param map provides the initial entries of the new map.
+   * @param checker provides the {@link MapChecker}.
+   * @param compact whether the underlying map is a {@link CompactHashMap}.
+   */
+  public CheckedMap(Map<? extends K,? extends V> map, MapChecker<K,V> checker, boolean compact)
+  {
+    _checker = checker;
+    checkAll(map);
+    _map = compact ? new CompactHashMap<>(map) : new HashMap<>(map);
+  }
+
+  /**
+   * Construct a map with the specified initial capacity and {@link MapChecker}.
+   *
+   * @param initialCapacity provides the initial capacity.
+   * @param checker provides the {@link MapChecker}.
+   * @param compact whether the underlying map is a {@link CompactHashMap}.
+   */
+  public CheckedMap(int initialCapacity, MapChecker<K,V> checker, boolean compact)
+  {
+    _checker = checker;
+    _map = compact ? new CompactHashMap<>(initialCapacity) : new HashMap<>(initialCapacity);
+  }
+
+  /**
+   * Construct a map whose entries are loaded by the specified {@link LazyMap} on first access.
+   * The loaded entries are not checked.
+   *
+   * @param map provides the {@link LazyMap} holding the entries.
+   * @param checker provides the {@link MapChecker}.
+   */
+  protected CheckedMap(LazyMap<K,V> map, MapChecker<K,V> checker)
+  {
+    _checker = checker;
+    _map = map;
+  }
+
   @Override
   public void clear()
   {
@@ -182,7 +237,15 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   public CheckedMap<K,V> clone() throws CloneNotSupportedException
   {
     CheckedMap<K,V> o = (CheckedMap<K,V>) super.clone();
-    o._map = (HashMap<K,V>) _map.clone();
+    if (_map instanceof LazyMap)
+    {
+      o._map = ((LazyMap<K,V>) _map).clone();
+    }
+    else
+    {
+      o._map = _map instanceof CompactHashMap ?
+          ((CompactHashMap<K,V>) _map).clone() : (Map<K,V>) ((HashMap<K,V>) _map).clone();
+    }
     o._readOnly = false;
     o._changeListenerHead = null;
     o._changeListenerReferenceQueue = null;
@@ -460,6 +523,28 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
     putAllWithoutChecking(src);
   }
 
+  /**
+   * If the entries of this map have not been loaded from their source yet, register an action to be applied
+   * to the entries when they are loaded.
+   *
+   * @param action to apply to the loaded entries.
+   * @return true if the action has been registered, false if the entries are already loaded
+   *         and the action has not been registered.
+   * @see LazyMap#onLoad(Consumer)
+   */
+  protected final boolean onLoad(Consumer<? super Map<K,V>> action)
+  {
+    return _map instanceof LazyMap && ((LazyMap<K,V>) _map).onLoad(action);
+  }
+
+  /**
+   * @return the source of the entries of this map if they have not been loaded yet, otherwise null.
+   */
+  Object getLazySource()
+  {
+    return _map instanceof LazyMap ? ((LazyMap<K,V>) _map).getSource() : null;
+  }
+
   /**
    * Unit test use only.
    *
@@ -597,7 +682,7 @@ public class CheckedMap<K,V> implements CommonMap<K,V>, Cloneable
   // Reference queue holds any change listener weak references finalized by GC. It being non-empty is a signal
   // to purge change listeners of stale entries.
   private ReferenceQueue<ChangeListener<K, V>> _changeListenerReferenceQueue;
-  private HashMap<K,V> _map;
+  private Map<K,V> _map;
 
   /**
    * A singly-linked list node that holds weak references to objects.
@@ -53,6 +53,31 @@ public class CheckedUtil
     return list.setWithAssertChecking(index, element);
   }
 
+  /**
+   * Returns the {@link PrimitiveList} holding the elements of a {@link CheckedList}, so that the elements can be
+   * read without boxing. The returned list must not be modified. Use with caution.
+   *
+   * @param list provides the {@link CheckedList}.
+   * @return the underlying {@link PrimitiveList}, or null if the elements are not stored in a {@link PrimitiveList}.
+   */
+  public static <E> PrimitiveList<? extends E> getPrimitiveList(CheckedList<E> list)
+  {
+    return list.getPrimitiveList();
+  }
+
+  /**
+   * Returns the serialized source of the entries of a {@link CheckedMap} backed by a {@link LazyMap}, so that
+   * the source can be copied instead of traversing the map. Use with caution.
+   *
+   * @param map provides the {@link CheckedMap}.
+   * @return the source of the entries, or null if the map is not backed by a {@link LazyMap}
+   *         or its entries have been loaded.
+   */
+  public static Object getLazySource(CheckedMap<?, ?> map)
+  {
+    return map.getLazySource();
+  }
+
   /**
    * Put to {@link CheckedMap} that does not check the added element being valid or allowed. Use with caution.
    *
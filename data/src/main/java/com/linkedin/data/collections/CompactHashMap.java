@@ -0,0 +1,575 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+
+/**
+ * A compact hash map using open addressing with linear probing.
+ * <p>
+ *
+ * Keys and values are stored next to each other in a single array, so that a map does not allocate
+ * any per-entry objects. This makes it considerably smaller than a {@link java.util.HashMap} for the
+ * small maps with a few to a few dozen entries that records are decoded into. Keys are first compared
+ * by identity, which avoids {@link Object#equals(Object)} calls for interned keys such as the field
+ * names of generated data templates and of decoded documents.
+ * <p>
+ *
+ * Null keys are not supported. Null values are supported. Iteration order is unspecified and differs
+ * from {@link java.util.HashMap}. The map is not thread-safe and its iterators are fail-fast.
+ * {@link #entrySet()} allocates an entry object per iterated entry, {@link #forEach(BiConsumer)} does not.
+ */
+public final class CompactHashMap<K,V> extends AbstractMap<K,V> implements Cloneable
+{
+  /**
+   * Marks the key slot of a removed entry, so that probing continues past it.
+   */
+  private static final Object TOMBSTONE = new Object();
+
+  private static final int MINIMUM_SLOTS = 4;
+  private static final int DEFAULT_SLOTS = 8;
+  private static final int MAXIMUM_SLOTS = 1 << 29;
+
+  /**
+   * Keys at even indexes and their values at the following odd indexes. Allocated on first insertion
+   * if no initial capacity is given.
+   */
+  private Object[] _table;
+  private int _size;
+  // Number of slots holding either an entry or a tombstone.
+  private int _usedSlots;
+  private int _modCount;
+
+  /**
+   * Construct an empty map.
+   */
+  public CompactHashMap()
+  {
+  }
+
+  /**
+   * Construct an empty map that can hold the specified number of entries without resizing.
+   *
+   * @param initialCapacity provides the expected number of entries.
+   */
+  public CompactHashMap(int initialCapacity)
+  {
+    if (initialCapacity < 0)
+    {
+      throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+    }
+    if (initialCapacity > 0)
+    {
+      _table = new Object[2 * slotsFor(initialCapacity)];
+    }
+  }
+
+  /**
+   * Construct a map with the entries of the specified map.
+   *
+   * @param map provides the initial entries.
+   */
+  public CompactHashMap(Map<? extends K, ? extends V> map)
+  {
+    this(map.size());
+    putAll(map);
+  }
+
+  @Override
+  public int size()
+  {
+    return _size;
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return _size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value)
+  {
+    final Object[] table = _table;
+    if (table != null && _size > 0)
+    {
+      for (int i = 0; i < table.length; i += 2)
+      {
+        if (isEntry(table[i]) && Objects.equals(value, table[i + 1]))
+        {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key)
+  {
+    final int index = indexOf(key);
+    return index < 0 ? null : (V) _table[index + 1];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(K key, V value)
+  {
+    if (key == null)
+    {
+      throw new NullPointerException("Null keys are not supported");
+    }
+    if (_table == null)
+    {
+      _table = new Object[2 * DEFAULT_SLOTS];
+    }
+
+    final Object[] table = _table;
+    final int mask = table.length - 2;
+    int index = hash(key) & mask;
+    int firstTombstone = -1;
+    Object k;
+    while ((k = table[index]) != null)
+    {
+      if (k == TOMBSTONE)
+      {
+        if (firstTombstone < 0)
+        {
+          firstTombstone = index;
+        }
+      }
+      else if (k == key || k.equals(key))
+      {
+        final V oldValue = (V) table[index + 1];
+        table[index + 1] = value;
+        return oldValue;
+      }
+      index = (index + 2) & mask;
+    }
+
+    if (firstTombstone >= 0)
+    {
+      index = firstTombstone;
+    }
+    else
+    {
+      _usedSlots++;
+    }
+    table[index] = key;
+    table[index + 1] = value;
+    _size++;
+    _modCount++;
+
+    if (_usedSlots > threshold(table.length >> 1))
+    {
+      rehash(slotsFor(_size));
+    }
+    return null;
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> map)
+  {
+    final int expectedSize = _size + map.size();
+    if (_table == null || expectedSize > threshold(_table.length >> 1))
+    {
+      rehash(slotsFor(expectedSize));
+    }
+    for (Map.Entry<? extends K, ? extends V> e : map.entrySet())
+    {
+      put(e.getKey(), e.getValue());
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(Object key)
+  {
+    final int index = indexOf(key);
+    if (index < 0)
+    {
+      return null;
+    }
+    final V oldValue = (V) _table[index + 1];
+    removeAt(index);
+    return oldValue;
+  }
+
+  @Override
+  public void clear()
+  {
+    if (_table != null && _usedSlots > 0)
+    {
+      Arrays.fill(_table, null);
+      _size = 0;
+      _usedSlots = 0;
+      _modCount++;
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<? super K, ? super V> action)
+  {
+    final Object[] table = _table;
+    if (table == null)
+    {
+      return;
+    }
+    final int modCount = _modCount;
+    for (int i = 0; i < table.length && modCount == _modCount; i += 2)
+    {
+      final Object k = table[i];
+      if (isEntry(k))
+      {
+        action.accept((K) k, (V) table[i + 1]);
+      }
+    }
+    if (modCount != _modCount)
+    {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<K,V>> entrySet()
+  {
+    return new EntrySet();
+  }
+
+  @Override
+  public int hashCode()
+  {
+    int h = 0;
+    final Object[] table = _table;
+    if (table != null)
+    {
+      for (int i = 0; i < table.length; i += 2)
+      {
+        final Object k = table[i];
+        if (isEntry(k))
+        {
+          h += k.hashCode() ^ Objects.hashCode(table[i + 1]);
+        }
+      }
+    }
+    return h;
+  }
+
+  @Override
+  public boolean equals(Object object)
+  {
+    if (object == this)
+    {
+      return true;
+    }
+    if (!(object instanceof Map))
+    {
+      return false;
+    }
+    final Map<?,?> other = (Map<?,?>) object;
+    if (other.size() != _size)
+    {
+      return false;
+    }
+    final Object[] table = _table;
+    if (table != null)
+    {
+      for (int i = 0; i < table.length; i += 2)
+      {
+        final Object k = table[i];
+        if (isEntry(k))
+        {
+          final Object value = table[i + 1];
+          if (value == null ? !(other.get(k) == null && other.containsKey(k)) : !value.equals(other.get(k)))
+          {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public CompactHashMap<K,V> clone()
+  {
+    try
+    {
+      final CompactHashMap<K,V> o = (CompactHashMap<K,V>) super.clone();
+      if (_table != null)
+      {
+        o._table = _table.clone();
+      }
+      return o;
+    }
+    catch (CloneNotSupportedException e)
+    {
+      throw new AssertionError(e);
+    }
+  }
+
+  private int indexOf(Object key)
+  {
+    final Object[] table = _table;
+    if (key == null || table == null)
+    {
+      return -1;
+    }
+    final int mask = table.length - 2;
+    int index = hash(key) & mask;
+    Object k;
+    while ((k = table[index]) != null)
+    {
+      if (k == key || (k != TOMBSTONE && k.equals(key)))
+      {
+        return index;
+      }
+      index = (index + 2) & mask;
+    }
+    return -1;
+  }
+
+  private void removeAt(int index)
+  {
+    final Object[] table = _table;
+    final int mask = table.length - 2;
+    table[index + 1] = null;
+    _size--;
+    _modCount++;
+
+    if (table[(index + 2) & mask] == null)
+    {
+      // The entry ends a probe sequence, so it and the tombstones before it can be cleared.
+      do
+      {
+        table[index] = null;
+        _usedSlots--;
+        index = (index - 2) & mask;
+      }
+      while (table[index] == TOMBSTONE);
+    }
+    else
+    {
+      table[index] = TOMBSTONE;
+    }
+  }
+
+  private void rehash(int slots)
+  {
+    final Object[] oldTable = _table;
+    final Object[] table = new Object[2 * slots];
+    final int mask = table.length - 2;
+    if (oldTable != null)
+    {
+      for (int i = 0; i < oldTable.length; i += 2)
+      {
+        final Object k = oldTable[i];
+        if (isEntry(k))
+        {
+          int index = hash(k) & mask;
+          while (table[index] != null)
+          {
+            index = (index + 2) & mask;
+          }
+          table[index] = k;
+          table[index + 1] = oldTable[i + 1];
+        }
+      }
+    }
+    _table = table;
+    _usedSlots = _size;
+  }
+
+  private static boolean isEntry(Object key)
+  {
+    return key != null && key != TOMBSTONE;
+  }
+
+  /**
+   * @return the index of the key slot for the hash code of the key, always an even number.
+   */
+  private static int hash(Object key)
+  {
+    final int h = key.hashCode();
+    return (h ^ (h >>> 16)) << 1;
+  }
+
+  /**
+   * @return the number of used slots above which the table is rehashed, which always leaves an empty slot.
+   */
+  private static int threshold(int slots)
+  {
+    return slots - (slots >> 2);
+  }
+
+  /**
+   * @return the smallest power of two number of slots that can hold the specified number of entries.
+   */
+  private static int slotsFor(int size)
+  {
+    int slots = MINIMUM_SLOTS;
+    while (threshold(slots) < size)
+    {
+      if (slots >= MAXIMUM_SLOTS)
+      {
+        throw new IllegalStateException("Map too large: " + size);
+      }
+      slots <<= 1;
+    }
+    return slots;
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<K,V>>
+  {
+    @Override
+    public Iterator<Map.Entry<K,V>> iterator()
+    {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size()
+    {
+      return _size;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+      if (!(o instanceof Map.Entry))
+      {
+        return false;
+      }
+      final Map.Entry<?,?> e = (Map.Entry<?,?>) o;
+      final int index = indexOf(e.getKey());
+      return index >= 0 && Objects.equals(_table[index + 1], e.getValue());
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+      if (!contains(o))
+      {
+        return false;
+      }
+      removeAt(indexOf(((Map.Entry<?,?>) o).getKey()));
+      return true;
+    }
+
+    @Override
+    public void clear()
+    {
+      CompactHashMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<K,V>>
+  {
+    private int _next = 0;
+    private int _last = -1;
+    private int _expectedModCount = _modCount;
+
+    @Override
+    public boolean hasNext()
+    {
+      final Object[] table = _table;
+      if (table == null)
+      {
+        return false;
+      }
+      while (_next < table.length && !isEntry(table[_next]))
+      {
+        _next += 2;
+      }
+      return _next < table.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K,V> next()
+    {
+      if (_modCount != _expectedModCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+      if (!hasNext())
+      {
+        throw new NoSuchElementException();
+      }
+      _last = _next;
+      _next += 2;
+      return new Entry((K) _table[_last], (V) _table[_last + 1]);
+    }
+
+    @Override
+    public void remove()
+    {
+      if (_last < 0)
+      {
+        throw new IllegalStateException();
+      }
+      if (_modCount != _expectedModCount)
+      {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(_last);
+      _last = -1;
+      _expectedModCount = _modCount;
+    }
+  }
+
+  private final class Entry extends AbstractMap.SimpleEntry<K,V>
+  {
+    private static final long serialVersionUID = 1L;
+
+    Entry(K key, V value)
+    {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value)
+    {
+      // Write through to the map, as long as the entry has not been removed.
+      final int index = indexOf(getKey());
+      if (index >= 0)
+      {
+        _table[index + 1] = value;
+      }
+      return super.setValue(value);
+    }
+  }
+}
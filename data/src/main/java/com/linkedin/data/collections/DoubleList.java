@@ -0,0 +1,148 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.Data;
+import java.io.IOException;
+import java.util.Arrays;
+
+
+/**
+ * A {@link PrimitiveList} of {@link Double}s backed by a double array.
+ */
+public final class DoubleList extends PrimitiveList<Double>
+{
+  private double[] _elements;
+
+  /**
+   * Construct an empty list.
+   */
+  public DoubleList()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Construct an empty list with the specified initial capacity.
+   *
+   * @param initialCapacity provides the initial capacity.
+   */
+  public DoubleList(int initialCapacity)
+  {
+    _elements = new double[initialCapacity];
+  }
+
+  /**
+   * Construct a list with a copy of the specified elements.
+   *
+   * @param elements provides the initial elements.
+   */
+  public DoubleList(double[] elements)
+  {
+    _elements = elements.clone();
+    _size = elements.length;
+  }
+
+  public double getDouble(int index)
+  {
+    checkIndex(index);
+    return _elements[index];
+  }
+
+  public double setDouble(int index, double element)
+  {
+    checkIndex(index);
+    final double oldValue = _elements[index];
+    _elements[index] = element;
+    return oldValue;
+  }
+
+  public void addDouble(double element)
+  {
+    ensureCapacity(_size + 1);
+    _elements[_size++] = element;
+    modCount++;
+  }
+
+  /**
+   * @return a copy of the elements of this list.
+   */
+  public double[] toDoubleArray()
+  {
+    return Arrays.copyOf(_elements, _size);
+  }
+
+  @Override
+  public Double get(int index)
+  {
+    return getDouble(index);
+  }
+
+  @Override
+  public Double set(int index, Double element)
+  {
+    return setDouble(index, element);
+  }
+
+  @Override
+  public boolean add(Double element)
+  {
+    addDouble(element);
+    return true;
+  }
+
+  @Override
+  public DoubleList clone()
+  {
+    final DoubleList o = (DoubleList) super.clone();
+    o._elements = toDoubleArray();
+    return o;
+  }
+
+  @Override
+  public void traverse(int index, Data.TraverseCallback callback) throws IOException
+  {
+    callback.doubleValue(getDouble(index));
+  }
+
+  @Override
+  boolean accepts(Object element)
+  {
+    return element instanceof Double;
+  }
+
+  @Override
+  void store(int index, Double element)
+  {
+    _elements[index] = element;
+  }
+
+  @Override
+  Object array()
+  {
+    return _elements;
+  }
+
+  @Override
+  void ensureCapacity(int minCapacity)
+  {
+    if (minCapacity > _elements.length)
+    {
+      _elements = Arrays.copyOf(_elements, newCapacity(_elements.length, minCapacity));
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.Data;
+import java.io.IOException;
+import java.util.Arrays;
+
+
+/**
+ * A {@link PrimitiveList} of {@link Float}s backed by a float array.
+ */
+public final class FloatList extends PrimitiveList<Float>
+{
+  private float[] _elements;
+
+  /**
+   * Construct an empty list.
+   */
+  public FloatList()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Construct an empty list with the specified initial capacity.
+   *
+   * @param initialCapacity provides the initial capacity.
+   */
+  public FloatList(int initialCapacity)
+  {
+    _elements = new float[initialCapacity];
+  }
+
+  /**
+   * Construct a list with a copy of the specified elements.
+   *
+   * @param elements provides the initial elements.
+   */
+  public FloatList(float[] elements)
+  {
+    _elements = elements.clone();
+    _size = elements.length;
+  }
+
+  public float getFloat(int index)
+  {
+    checkIndex(index);
+    return _elements[index];
+  }
+
+  public float setFloat(int index, float element)
+  {
+    checkIndex(index);
+    final float oldValue = _elements[index];
+    _elements[index] = element;
+    return oldValue;
+  }
+
+  public void addFloat(float element)
+  {
+    ensureCapacity(_size + 1);
+    _elements[_size++] = element;
+    modCount++;
+  }
+
+  /**
+   * @return a copy of the elements of this list.
+   */
+  public float[] toFloatArray()
+  {
+    return Arrays.copyOf(_elements, _size);
+  }
+
+  @Override
+  public Float get(int index)
+  {
+    return getFloat(index);
+  }
+
+  @Override
+  public Float set(int index, Float element)
+  {
+    return setFloat(index, element);
+  }
+
+  @Override
+  public boolean add(Float element)
+  {
+    addFloat(element);
+    return true;
+  }
+
+  @Override
+  public FloatList clone()
+  {
+    final FloatList o = (FloatList) super.clone();
+    o._elements = toFloatArray();
+    return o;
+  }
+
+  @Override
+  public void traverse(int index, Data.TraverseCallback callback) throws IOException
+  {
+    callback.floatValue(getFloat(index));
+  }
+
+  @Override
+  boolean accepts(Object element)
+  {
+    return element instanceof Float;
+  }
+
+  @Override
+  void store(int index, Float element)
+  {
+    _elements[index] = element;
+  }
+
+  @Override
+  Object array()
+  {
+    return _elements;
+  }
+
+  @Override
+  void ensureCapacity(int minCapacity)
+  {
+    if (minCapacity > _elements.length)
+    {
+      _elements = Arrays.copyOf(_elements, newCapacity(_elements.length, minCapacity));
+    }
+  }
+}
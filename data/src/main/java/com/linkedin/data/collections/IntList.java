@@ -0,0 +1,148 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.Data;
+import java.io.IOException;
+import java.util.Arrays;
+
+
+/**
+ * A {@link PrimitiveList} of {@link Integer}s backed by an int array.
+ */
+public final class IntList extends PrimitiveList<Integer>
+{
+  private int[] _elements;
+
+  /**
+   * Construct an empty list.
+   */
+  public IntList()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Construct an empty list with the specified initial capacity.
+   *
+   * @param initialCapacity provides the initial capacity.
+   */
+  public IntList(int initialCapacity)
+  {
+    _elements = new int[initialCapacity];
+  }
+
+  /**
+   * Construct a list with a copy of the specified elements.
+   *
+   * @param elements provides the initial elements.
+   */
+  public IntList(int[] elements)
+  {
+    _elements = elements.clone();
+    _size = elements.length;
+  }
+
+  public int getInt(int index)
+  {
+    checkIndex(index);
+    return _elements[index];
+  }
+
+  public int setInt(int index, int element)
+  {
+    checkIndex(index);
+    final int oldValue = _elements[index];
+    _elements[index] = element;
+    return oldValue;
+  }
+
+  public void addInt(int element)
+  {
+    ensureCapacity(_size + 1);
+    _elements[_size++] = element;
+    modCount++;
+  }
+
+  /**
+   * @return a copy of the elements of this list.
+   */
+  public int[] toIntArray()
+  {
+    return Arrays.copyOf(_elements, _size);
+  }
+
+  @Override
+  public Integer get(int index)
+  {
+    return getInt(index);
+  }
+
+  @Override
+  public Integer set(int index, Integer element)
+  {
+    return setInt(index, element);
+  }
+
+  @Override
+  public boolean add(Integer element)
+  {
+    addInt(element);
+    return true;
+  }
+
+  @Override
+  public IntList clone()
+  {
+    final IntList o = (IntList) super.clone();
+    o._elements = toIntArray();
+    return o;
+  }
+
+  @Override
+  public void traverse(int index, Data.TraverseCallback callback) throws IOException
+  {
+    callback.integerValue(getInt(index));
+  }
+
+  @Override
+  boolean accepts(Object element)
+  {
+    return element instanceof Integer;
+  }
+
+  @Override
+  void store(int index, Integer element)
+  {
+    _elements[index] = element;
+  }
+
+  @Override
+  Object array()
+  {
+    return _elements;
+  }
+
+  @Override
+  void ensureCapacity(int minCapacity)
+  {
+    if (minCapacity > _elements.length)
+    {
+      _elements = Arrays.copyOf(_elements, newCapacity(_elements.length, minCapacity));
+    }
+  }
+}
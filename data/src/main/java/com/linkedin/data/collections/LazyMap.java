@@ -0,0 +1,289 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+
+/**
+ * A map whose entries are loaded from a serialized source the first time the map is accessed.
+ * <p>
+ *
+ * The source is an immutable object, typically a slice of the bytes the map was decoded from, which
+ * the {@link Loader} turns into the entries of the map. Until the entries are loaded, {@link #getSource()}
+ * returns the source, so that an encoder can copy it to its output instead of traversing the map.
+ * Once loaded, the source is released and the map behaves like the map returned by the {@link Loader}.
+ * <p>
+ *
+ * If the entries cannot be loaded, the methods accessing them throw an {@link UncheckedIOException} wrapping
+ * the decoding error. {@link com.linkedin.data.Data#traverse} and the encoders rethrow the decoding error itself.
+ * <p>
+ *
+ * Loading is thread-safe, so an unloaded read-only map may be shared between threads.
+ * Mutations are not synchronized, like the other map implementations.
+ * <p>
+ *
+ * A clone of an unloaded map loads its own entries from the same source, so the clone
+ * and the original do not share nested complex values.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ */
+public final class LazyMap<K,V> extends AbstractMap<K,V> implements Cloneable
+{
+  /**
+   * Loads the entries of a {@link LazyMap} from its source.
+   */
+  @FunctionalInterface
+  public interface Loader<K,V>
+  {
+    /**
+     * @param source provides the source of the map.
+     * @return a new mutable map holding the entries decoded from the source.
+     * @throws IOException if the source cannot be decoded.
+     */
+    Map<K,V> load(Object source) throws IOException;
+  }
+
+  private final Loader<K,V> _loader;
+  private volatile Object _source;
+  private volatile Map<K,V> _map;
+  private Consumer<? super Map<K,V>> _onLoad;
+
+  /**
+   * Construct a map that is loaded from the specified source.
+   *
+   * @param source provides the immutable source of the entries.
+   * @param loader loads the entries from the source.
+   */
+  public LazyMap(Object source, Loader<K,V> loader)
+  {
+    if (source == null || loader == null)
+    {
+      throw new NullPointerException("Source and loader must not be null");
+    }
+    _source = source;
+    _loader = loader;
+  }
+
+  /**
+   * @return the source of the entries if they have not been loaded yet, otherwise null.
+   */
+  public Object getSource()
+  {
+    return _source;
+  }
+
+  /**
+   * @return true if the entries have been loaded.
+   */
+  public boolean isLoaded()
+  {
+    return _map != null;
+  }
+
+  /**
+   * Register an action to be applied to the entries when they are loaded.
+   * <p>
+   *
+   * The action is applied once, before the entries are visible to any other caller.
+   *
+   * @param action to apply to the loaded entries.
+   * @return true if the action has been registered, false if the entries are already loaded
+   *         and the action has not been registered.
+   */
+  public boolean onLoad(Consumer<? super Map<K,V>> action)
+  {
+    if (_map != null)
+    {
+      return false;
+    }
+    synchronized (this)
+    {
+      if (_map != null)
+      {
+        return false;
+      }
+      final Consumer<? super Map<K,V>> previous = _onLoad;
+      _onLoad = previous == null ? action : map -> {
+        previous.accept(map);
+        action.accept(map);
+      };
+      return true;
+    }
+  }
+
+  /**
+   * @return the loaded entries, loading them if needed.
+   * @throws UncheckedIOException wrapping the {@link IOException} thrown by the {@link Loader}, e.g. a
+   *         {@link com.linkedin.data.codec.DataDecodingException}, if the entries cannot be loaded from the source.
+   */
+  private Map<K,V> map()
+  {
+    Map<K,V> map = _map;
+    if (map == null)
+    {
+      synchronized (this)
+      {
+        map = _map;
+        if (map == null)
+        {
+          try
+          {
+            map = _loader.load(_source);
+          }
+          catch (IOException e)
+          {
+            throw new UncheckedIOException("Unable to load map from " + _source, e);
+          }
+          if (_onLoad != null)
+          {
+            _onLoad.accept(map);
+            _onLoad = null;
+          }
+          _map = map;
+          _source = null;
+        }
+      }
+    }
+    return map;
+  }
+
+  @Override
+  public int size()
+  {
+    return map().size();
+  }
+
+  @Override
+  public boolean isEmpty()
+  {
+    return map().isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key)
+  {
+    return map().containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value)
+  {
+    return map().containsValue(value);
+  }
+
+  @Override
+  public V get(Object key)
+  {
+    return map().get(key);
+  }
+
+  @Override
+  public V put(K key, V value)
+  {
+    return map().put(key, value);
+  }
+
+  @Override
+  public V remove(Object key)
+  {
+    return map().remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m)
+  {
+    map().putAll(m);
+  }
+
+  @Override
+  public void clear()
+  {
+    map().clear();
+  }
+
+  @Override
+  public Set<K> keySet()
+  {
+    return map().keySet();
+  }
+
+  @Override
+  public Collection<V> values()
+  {
+    return map().values();
+  }
+
+  @Override
+  public Set<Entry<K,V>> entrySet()
+  {
+    return map().entrySet();
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super K, ? super V> action)
+  {
+    map().forEach(action);
+  }
+
+  @Override
+  public boolean equals(Object o)
+  {
+    return o == this || map().equals(o);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return map().hashCode();
+  }
+
+  @Override
+  public String toString()
+  {
+    return map().toString();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map<K,V> clone()
+  {
+    final Object source = _source;
+    if (source != null)
+    {
+      synchronized (this)
+      {
+        if (_map == null)
+        {
+          return new LazyMap<>(source, _loader);
+        }
+      }
+    }
+
+    final Map<K,V> map = map();
+    return map instanceof CompactHashMap ? ((CompactHashMap<K,V>) map).clone() : new HashMap<>(map);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.Data;
+import java.io.IOException;
+import java.util.Arrays;
+
+
+/**
+ * A {@link PrimitiveList} of {@link Long}s backed by a long array.
+ */
+public final class LongList extends PrimitiveList<Long>
+{
+  private long[] _elements;
+
+  /**
+   * Construct an empty list.
+   */
+  public LongList()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Construct an empty list with the specified initial capacity.
+   *
+   * @param initialCapacity provides the initial capacity.
+   */
+  public LongList(int initialCapacity)
+  {
+    _elements = new long[initialCapacity];
+  }
+
+  /**
+   * Construct a list with a copy of the specified elements.
+   *
+   * @param elements provides the initial elements.
+   */
+  public LongList(long[] elements)
+  {
+    _elements = elements.clone();
+    _size = elements.length;
+  }
+
+  public long getLong(int index)
+  {
+    checkIndex(index);
+    return _elements[index];
+  }
+
+  public long setLong(int index, long element)
+  {
+    checkIndex(index);
+    final long oldValue = _elements[index];
+    _elements[index] = element;
+    return oldValue;
+  }
+
+  public void addLong(long element)
+  {
+    ensureCapacity(_size + 1);
+    _elements[_size++] = element;
+    modCount++;
+  }
+
+  /**
+   * @return a copy of the elements of this list.
+   */
+  public long[] toLongArray()
+  {
+    return Arrays.copyOf(_elements, _size);
+  }
+
+  @Override
+  public Long get(int index)
+  {
+    return getLong(index);
+  }
+
+  @Override
+  public Long set(int index, Long element)
+  {
+    return setLong(index, element);
+  }
+
+  @Override
+  public boolean add(Long element)
+  {
+    addLong(element);
+    return true;
+  }
+
+  @Override
+  public LongList clone()
+  {
+    final LongList o = (LongList) super.clone();
+    o._elements = toLongArray();
+    return o;
+  }
+
+  @Override
+  public void traverse(int index, Data.TraverseCallback callback) throws IOException
+  {
+    callback.longValue(getLong(index));
+  }
+
+  @Override
+  boolean accepts(Object element)
+  {
+    return element instanceof Long;
+  }
+
+  @Override
+  void store(int index, Long element)
+  {
+    _elements[index] = element;
+  }
+
+  @Override
+  Object array()
+  {
+    return _elements;
+  }
+
+  @Override
+  void ensureCapacity(int minCapacity)
+  {
+    if (minCapacity > _elements.length)
+    {
+      _elements = Arrays.copyOf(_elements, newCapacity(_elements.length, minCapacity));
+    }
+  }
+}
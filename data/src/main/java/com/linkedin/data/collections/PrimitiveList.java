@@ -0,0 +1,144 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.Data;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+
+/**
+ * A list of boxed primitives that stores its elements in a primitive array.
+ * <p>
+ *
+ * The {@link java.util.List} methods box and unbox elements, subclasses provide methods to access
+ * the elements without boxing. Null elements are not supported.
+ * <p>
+ *
+ * A {@link CheckedList} constructed with a {@link PrimitiveList} takes ownership of it and keeps its elements
+ * in it, until an element of another type is added to it.
+ *
+ * @param <E> the boxed element type.
+ */
+public abstract class PrimitiveList<E> extends AbstractList<E> implements RandomAccess, Cloneable
+{
+  static final int DEFAULT_CAPACITY = 10;
+
+  protected int _size;
+
+  @Override
+  public int size()
+  {
+    return _size;
+  }
+
+  @Override
+  public void add(int index, E element)
+  {
+    if (index < 0 || index > _size)
+    {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+    }
+    ensureCapacity(_size + 1);
+    System.arraycopy(array(), index, array(), index + 1, _size - index);
+    store(index, element);
+    _size++;
+    modCount++;
+  }
+
+  @Override
+  public E remove(int index)
+  {
+    final E oldValue = get(index);
+    System.arraycopy(array(), index + 1, array(), index, _size - index - 1);
+    _size--;
+    modCount++;
+    return oldValue;
+  }
+
+  @Override
+  public void removeRange(int fromIndex, int toIndex)
+  {
+    System.arraycopy(array(), toIndex, array(), fromIndex, _size - toIndex);
+    _size -= toIndex - fromIndex;
+    modCount++;
+  }
+
+  @Override
+  public void clear()
+  {
+    _size = 0;
+    modCount++;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public PrimitiveList<E> clone()
+  {
+    try
+    {
+      return (PrimitiveList<E>) super.clone();
+    }
+    catch (CloneNotSupportedException e)
+    {
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * Invoke the value method of the callback matching the element type for the element at the specified position,
+   * without boxing the element.
+   *
+   * @param index of the element.
+   * @param callback to invoke.
+   */
+  public abstract void traverse(int index, Data.TraverseCallback callback) throws IOException;
+
+  /**
+   * @return whether the specified element can be stored in this list.
+   */
+  abstract boolean accepts(Object element);
+
+  /**
+   * Store the specified element at the specified position without checking the position.
+   */
+  abstract void store(int index, E element);
+
+  /**
+   * @return the primitive array holding the elements.
+   */
+  abstract Object array();
+
+  /**
+   * Grow the primitive array to hold at least the specified number of elements.
+   */
+  abstract void ensureCapacity(int minCapacity);
+
+  final void checkIndex(int index)
+  {
+    if (index < 0 || index >= _size)
+    {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+    }
+  }
+
+  static int newCapacity(int oldCapacity, int minCapacity)
+  {
+    return Math.max(minCapacity, oldCapacity + (oldCapacity >> 1) + 1);
+  }
+}
@@ -17,6 +17,9 @@
 package com.linkedin.data.template;
 
 import com.linkedin.data.DataList;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.DoubleList;
+import com.linkedin.data.collections.PrimitiveList;
 import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.util.ArgumentUtil;
 import java.util.Arrays;
@@ -51,6 +54,14 @@ public final class DoubleArray extends DirectArrayTemplate<Double>
     super(list, SCHEMA, Double.class, Double.class);
   }
 
+  /**
+   * Constructs an array that stores a copy of the specified elements in a double array, instead of boxing them.
+   */
+  public DoubleArray(double[] elements)
+  {
+    this(new DataList(new DoubleList(elements)));
+  }
+
   public DoubleArray(Double first, Double... rest)
   {
     this(new DataList(rest.length + 1));
@@ -70,6 +81,24 @@ public final class DoubleArray extends DirectArrayTemplate<Double>
     return (DoubleArray) super.copy();
   }
 
+  /**
+   * @return the elements of this array, copied without boxing them if the elements are stored in a double array.
+   */
+  public double[] toDoubleArray()
+  {
+    final PrimitiveList<?> primitiveList = CheckedUtil.getPrimitiveList(data());
+    if (primitiveList instanceof DoubleList)
+    {
+      return ((DoubleList) primitiveList).toDoubleArray();
+    }
+    final double[] elements = new double[size()];
+    for (int i = 0; i < elements.length; i++)
+    {
+      elements[i] = get(i);
+    }
+    return elements;
+  }
+
   @Override
   protected Object coerceInput(Double object) throws ClassCastException
   {
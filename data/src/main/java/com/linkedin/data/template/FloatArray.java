@@ -17,6 +17,9 @@
 package com.linkedin.data.template;
 
 import com.linkedin.data.DataList;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.FloatList;
+import com.linkedin.data.collections.PrimitiveList;
 import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.util.ArgumentUtil;
 import java.util.Arrays;
@@ -51,6 +54,14 @@ public final class FloatArray extends DirectArrayTemplate<Float>
     super(list, SCHEMA, Float.class, Float.class);
   }
 
+  /**
+   * Constructs an array that stores a copy of the specified elements in a float array, instead of boxing them.
+   */
+  public FloatArray(float[] elements)
+  {
+    this(new DataList(new FloatList(elements)));
+  }
+
   public FloatArray(Float first, Float... rest)
   {
     this(new DataList(rest.length + 1));
@@ -70,6 +81,24 @@ public final class FloatArray extends DirectArrayTemplate<Float>
     return (FloatArray) super.copy();
   }
 
+  /**
+   * @return the elements of this array, copied without boxing them if the elements are stored in a float array.
+   */
+  public float[] toFloatArray()
+  {
+    final PrimitiveList<?> primitiveList = CheckedUtil.getPrimitiveList(data());
+    if (primitiveList instanceof FloatList)
+    {
+      return ((FloatList) primitiveList).toFloatArray();
+    }
+    final float[] elements = new float[size()];
+    for (int i = 0; i < elements.length; i++)
+    {
+      elements[i] = get(i);
+    }
+    return elements;
+  }
+
   @Override
   protected Object coerceInput(Float object) throws ClassCastException
   {
@@ -17,6 +17,9 @@
 package com.linkedin.data.template;
 
 import com.linkedin.data.DataList;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.IntList;
+import com.linkedin.data.collections.PrimitiveList;
 import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.util.ArgumentUtil;
 import java.util.Collection;
@@ -50,6 +53,14 @@ public final class IntegerArray extends DirectArrayTemplate<Integer>
     super(list, SCHEMA, Integer.class, Integer.class);
   }
 
+  /**
+   * Constructs an array that stores a copy of the specified elements in an int array, instead of boxing them.
+   */
+  public IntegerArray(int[] elements)
+  {
+    this(new DataList(new IntList(elements)));
+  }
+
   @Override
   public IntegerArray clone() throws CloneNotSupportedException
   {
@@ -62,6 +73,24 @@ public final class IntegerArray extends DirectArrayTemplate<Integer>
     return (IntegerArray) super.copy();
   }
 
+  /**
+   * @return the elements of this array, copied without boxing them if the elements are stored in an int array.
+   */
+  public int[] toIntArray()
+  {
+    final PrimitiveList<?> primitiveList = CheckedUtil.getPrimitiveList(data());
+    if (primitiveList instanceof IntList)
+    {
+      return ((IntList) primitiveList).toIntArray();
+    }
+    final int[] elements = new int[size()];
+    for (int i = 0; i < elements.length; i++)
+    {
+      elements[i] = get(i);
+    }
+    return elements;
+  }
+
   @Override
   protected Object coerceInput(Integer object) throws ClassCastException
   {
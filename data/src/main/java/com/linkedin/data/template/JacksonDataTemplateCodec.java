@@ -19,6 +19,8 @@ package com.linkedin.data.template;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 
 import com.linkedin.data.ByteString;
 import com.linkedin.data.Data;
@@ -31,6 +33,7 @@ import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.schema.MapDataSchema;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.schema.UnionDataSchema;
+import com.linkedin.util.FastByteArrayOutputStream;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -241,7 +244,7 @@ public class JacksonDataTemplateCodec extends JacksonDataCodec
    */
   public void writeDataTemplate(DataTemplate<?> template, OutputStream out) throws IOException
   {
-    writeObject(template.data(), createJsonGenerator(out));
+    writeDataTemplate(template, createJsonGenerator(out));
   }
 
   /**
@@ -256,7 +259,7 @@ public class JacksonDataTemplateCodec extends JacksonDataCodec
    */
   public void writeDataTemplate(DataTemplate<?> template, Writer out) throws IOException
   {
-    writeObject(template.data(), createJsonGenerator(out));
+    writeDataTemplate(template, createJsonGenerator(out));
   }
 
   /**
@@ -317,7 +320,9 @@ public class JacksonDataTemplateCodec extends JacksonDataCodec
    */
   public byte[] dataTemplateToBytes(DataTemplate<?> template) throws IOException
   {
-    return objectToBytes(template.data());
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    writeDataTemplate(template, createJsonGenerator(out));
+    return out.toByteArray();
   }
 
   /**
@@ -330,7 +335,70 @@ public class JacksonDataTemplateCodec extends JacksonDataCodec
    */
   public String dataTemplateToString(DataTemplate<?> template) throws IOException
   {
-    return objectToString(template.data());
+    StringWriter out = new StringWriter(DEFAULT_BUFFER_SIZE);
+    writeDataTemplate(template, createJsonGenerator(out));
+    return out.toString();
+  }
+
+  /**
+   * Serializes the provided {@link com.linkedin.data.template.DataTemplate} to JSON with the provided
+   * {@link com.fasterxml.jackson.core.JsonGenerator}, and closes the generator. The serialized JSON is not ordered.
+   *
+   * If the template is a {@link RecordTemplate} whose {@link RecordSerializer} has been generated, the fields
+   * of the record are written by the serializer in schema order, otherwise the data is traversed generically.
+   *
+   * @param  template the template to write.
+   * @param  generator the underlying JsonGenerator to call when the value is to be output.
+   * @throws IOException
+   */
+  protected void writeDataTemplate(DataTemplate<?> template, JsonGenerator generator) throws IOException
+  {
+    RecordSerializer serializer = RecordSerializer.forTemplate(template);
+    if (serializer == null)
+    {
+      writeObject(template.data(), generator);
+      return;
+    }
+
+    try (Data.TraverseCallback callback = createTraverseCallback(generator))
+    {
+      RecordFieldWriter writer = callback.getClass() == JacksonTraverseCallback.class
+          ? new JsonRecordFieldWriter(callback, generator) : new RecordFieldWriter(callback);
+      writer.write((DataMap) template.data(), serializer);
+    }
+  }
+
+  /**
+   * A {@link RecordFieldWriter} that writes field names pre-encoded as JSON strings.
+   */
+  private static class JsonRecordFieldWriter extends RecordFieldWriter
+  {
+    private static final Object FIELD_NAMES = new Object();
+
+    private final JsonGenerator _generator;
+
+    JsonRecordFieldWriter(Data.TraverseCallback callback, JsonGenerator generator)
+    {
+      super(callback);
+      _generator = generator;
+    }
+
+    @Override
+    protected void writeKey(RecordSerializer serializer, int field) throws IOException
+    {
+      SerializableString[] names = serializer.getEncodedFieldNames(FIELD_NAMES, JsonRecordFieldWriter::encode);
+      _generator.writeFieldName(names[field]);
+    }
+
+    private static SerializableString[] encode(String[] fieldNames)
+    {
+      SerializableString[] names = new SerializableString[fieldNames.length];
+      for (int i = 0; i < fieldNames.length; i++)
+      {
+        names[i] = new SerializedString(fieldNames[i]);
+      }
+      return names;
+    }
   }
 
   /**
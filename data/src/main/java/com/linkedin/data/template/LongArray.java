@@ -17,6 +17,9 @@
 package com.linkedin.data.template;
 
 import com.linkedin.data.DataList;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.LongList;
+import com.linkedin.data.collections.PrimitiveList;
 import com.linkedin.data.schema.ArrayDataSchema;
 import com.linkedin.util.ArgumentUtil;
 import java.util.Arrays;
@@ -51,6 +54,14 @@ public final class LongArray extends DirectArrayTemplate<Long>
     super(list, SCHEMA, Long.class, Long.class);
   }
 
+  /**
+   * Constructs an array that stores a copy of the specified elements in a long array, instead of boxing them.
+   */
+  public LongArray(long[] elements)
+  {
+    this(new DataList(new LongList(elements)));
+  }
+
   public LongArray(Long first, Long... rest)
   {
     this(new DataList(rest.length + 1));
@@ -70,6 +81,24 @@ public final class LongArray extends DirectArrayTemplate<Long>
     return (LongArray) super.copy();
   }
 
+  /**
+   * @return the elements of this array, copied without boxing them if the elements are stored in a long array.
+   */
+  public long[] toLongArray()
+  {
+    final PrimitiveList<?> primitiveList = CheckedUtil.getPrimitiveList(data());
+    if (primitiveList instanceof LongList)
+    {
+      return ((LongList) primitiveList).toLongArray();
+    }
+    final long[] elements = new long[size()];
+    for (int i = 0; i < elements.length; i++)
+    {
+      elements[i] = get(i);
+    }
+    return elements;
+  }
+
   @Override
   protected Object coerceInput(Long object) throws ClassCastException
   {
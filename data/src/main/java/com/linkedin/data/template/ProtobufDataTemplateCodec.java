@@ -0,0 +1,157 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.template;
+
+import com.linkedin.data.Data;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.ProtobufCodecOptions;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.protobuf.ProtoWriter;
+import com.linkedin.util.BufferPool;
+import com.linkedin.util.FastByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * A {@link ProtobufDataCodec} that serializes {@link RecordTemplate}s with their generated {@link RecordSerializer}.
+ * The output can be decoded by any {@link ProtobufDataCodec} with the same options.
+ */
+public class ProtobufDataTemplateCodec extends ProtobufDataCodec
+{
+  // The field names encoded with the options of this codec, which live as long as the codec rather than as long as
+  // the serializers, as codecs are created for every symbol table.
+  private final Map<RecordSerializer, byte[][]> _encodedFieldNames = new ConcurrentHashMap<>();
+
+  public ProtobufDataTemplateCodec()
+  {
+    super();
+  }
+
+  public ProtobufDataTemplateCodec(ProtobufCodecOptions options)
+  {
+    super(options);
+  }
+
+  /**
+   * Serializes the provided {@link DataTemplate} to a byte array.
+   *
+   * @param template the template to serialize.
+   * @return the serialized byte array.
+   * @throws IOException if the template cannot be serialized.
+   */
+  public byte[] dataTemplateToBytes(DataTemplate<?> template) throws IOException
+  {
+    FastByteArrayOutputStream out = new FastByteArrayOutputStream(_options.getProtoWriterBufferSize());
+    writeDataTemplate(template, out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Serializes the provided {@link DataTemplate} to the provided {@link OutputStream}.
+   *
+   * If the template is a {@link RecordTemplate} whose {@link RecordSerializer} has been generated, the fields
+   * of the record are written by the serializer in schema order, otherwise the data is traversed generically.
+   *
+   * @param template the template to write.
+   * @param out the OutputStream to write the serialized data to.
+   * @throws IOException if the template cannot be serialized.
+   */
+  public void writeDataTemplate(DataTemplate<?> template, OutputStream out) throws IOException
+  {
+    byte[] buffer = BufferPool.SHARED.acquire(_options.getProtoWriterBufferSize());
+    ProtoWriter protoWriter = new ProtoWriter(out, buffer);
+    try (Data.TraverseCallback callback = createTraverseCallback(protoWriter))
+    {
+      RecordSerializer serializer = RecordSerializer.forTemplate(template);
+      if (serializer == null)
+      {
+        Data.traverse(template.data(), callback);
+      }
+      else
+      {
+        RecordFieldWriter writer = callback.getClass() == ProtobufTraverseCallback.class
+            ? new ProtobufRecordFieldWriter(callback, protoWriter, _options, _encodedFieldNames)
+            : new RecordFieldWriter(callback);
+        writer.write((DataMap) template.data(), serializer);
+      }
+    }
+    finally
+    {
+      BufferPool.SHARED.release(buffer);
+    }
+  }
+
+  /**
+   * A {@link RecordFieldWriter} that writes field names pre-encoded with the symbol table of the codec options.
+   */
+  private static class ProtobufRecordFieldWriter extends RecordFieldWriter
+  {
+    private final ProtoWriter _protoWriter;
+    private final ProtobufCodecOptions _options;
+    private final Map<RecordSerializer, byte[][]> _encodedFieldNames;
+
+    ProtobufRecordFieldWriter(Data.TraverseCallback callback, ProtoWriter protoWriter, ProtobufCodecOptions options,
+        Map<RecordSerializer, byte[][]> encodedFieldNames)
+    {
+      super(callback);
+      _protoWriter = protoWriter;
+      _options = options;
+      _encodedFieldNames = encodedFieldNames;
+    }
+
+    @Override
+    protected void writeKey(RecordSerializer serializer, int field) throws IOException
+    {
+      byte[][] names = _encodedFieldNames.get(serializer);
+      if (names == null)
+      {
+        names = encode(serializer.getFieldNames());
+        byte[][] previous = _encodedFieldNames.putIfAbsent(serializer, names);
+        if (previous != null)
+        {
+          names = previous;
+        }
+      }
+      _protoWriter.writeBytes(names[field]);
+    }
+
+    private byte[][] encode(List<String> fieldNames)
+    {
+      byte[][] names = new byte[fieldNames.size()][];
+      try
+      {
+        for (int i = 0; i < names.length; i++)
+        {
+          FastByteArrayOutputStream out = new FastByteArrayOutputStream(fieldNames.get(i).length() + 8);
+          ProtoWriter protoWriter = new ProtoWriter(out);
+          new ProtobufTraverseCallback(protoWriter, _options).key(fieldNames.get(i));
+          protoWriter.flush();
+          names[i] = out.toByteArray();
+        }
+      }
+      catch (IOException e)
+      {
+        throw new IllegalStateException("Unable to encode field names", e);
+      }
+      return names;
+    }
+  }
+}
@@ -0,0 +1,223 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.template;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.Data;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.collections.CheckedUtil;
+import java.io.IOException;
+import java.util.Map;
+
+
+/**
+ * Writes the fields of records to a {@link Data.TraverseCallback} on behalf of {@link RecordSerializer}s.
+ * <p>
+ *
+ * The typed methods invoke the value callbacks directly, so the output is the same as the output of
+ * {@link Data#traverse(Object, Data.TraverseCallback)} except for the order of the entries of the records.
+ * Records are traversed generically if they have no registered serializer, if the callback orders map entries,
+ * or if they have not been loaded and the callback copies their serialized source.
+ * <p>
+ *
+ * Subclasses may override {@link #writeKey(RecordSerializer, int)} to write pre-encoded field names.
+ * A writer is not thread-safe.
+ */
+public class RecordFieldWriter
+{
+  protected final Data.TraverseCallback _callback;
+  private RecordSerializer _serializer;
+  private int _written;
+
+  /**
+   * @param callback to write the records to.
+   */
+  public RecordFieldWriter(Data.TraverseCallback callback)
+  {
+    _callback = callback;
+  }
+
+  /**
+   * Write a map holding the data of a record.
+   *
+   * @param map to write.
+   * @param serializer of the record, or null to traverse the map generically.
+   * @throws IOException if the map cannot be written.
+   */
+  public void write(DataMap map, RecordSerializer serializer) throws IOException
+  {
+    final Object source = CheckedUtil.getLazySource(map);
+    if (source != null && _callback.serializedMap(source))
+    {
+      return;
+    }
+    if (serializer == null || map.isEmpty() || _callback.orderMap(map) != null)
+    {
+      Data.traverse(map, _callback);
+      return;
+    }
+
+    final RecordSerializer parent = _serializer;
+    final int parentWritten = _written;
+    _serializer = serializer;
+    _written = 0;
+
+    _callback.startMap(map);
+    serializer.writeFields(map, this);
+    if (_written < map.size())
+    {
+      for (Map.Entry<String, Object> entry : map.entrySet())
+      {
+        if (!serializer.isField(entry.getKey()))
+        {
+          _callback.key(entry.getKey());
+          Data.traverse(entry.getValue(), _callback);
+          _callback.endKey(entry.getKey());
+        }
+      }
+    }
+    _callback.endMap();
+
+    _serializer = parent;
+    _written = parentWritten;
+  }
+
+  public void writeInt(int field, int value) throws IOException
+  {
+    key(field);
+    _callback.integerValue(value);
+    endKey(field);
+  }
+
+  public void writeLong(int field, long value) throws IOException
+  {
+    key(field);
+    _callback.longValue(value);
+    endKey(field);
+  }
+
+  public void writeFloat(int field, float value) throws IOException
+  {
+    key(field);
+    _callback.floatValue(value);
+    endKey(field);
+  }
+
+  public void writeDouble(int field, double value) throws IOException
+  {
+    key(field);
+    _callback.doubleValue(value);
+    endKey(field);
+  }
+
+  public void writeBoolean(int field, boolean value) throws IOException
+  {
+    key(field);
+    _callback.booleanValue(value);
+    endKey(field);
+  }
+
+  public void writeString(int field, String value) throws IOException
+  {
+    key(field);
+    _callback.stringValue(value);
+    endKey(field);
+  }
+
+  public void writeBytes(int field, ByteString value) throws IOException
+  {
+    key(field);
+    _callback.byteStringValue(value);
+    endKey(field);
+  }
+
+  /**
+   * Write a field holding a record, with the registered serializer of the record if there is one.
+   */
+  public void writeRecord(int field, Class<?> recordClass, DataMap value) throws IOException
+  {
+    key(field);
+    write(value, RecordSerializer.forClass(recordClass));
+    endKey(field);
+  }
+
+  /**
+   * Write a field holding an array of records, with the registered serializer of the record if there is one.
+   */
+  public void writeRecordArray(int field, Class<?> recordClass, DataList value) throws IOException
+  {
+    key(field);
+    final RecordSerializer serializer = RecordSerializer.forClass(recordClass);
+    if (serializer == null || value.isEmpty())
+    {
+      Data.traverse(value, _callback);
+    }
+    else
+    {
+      _callback.startList(value);
+      for (int i = 0; i < value.size(); i++)
+      {
+        _callback.index(i);
+        final Object element = value.get(i);
+        if (element instanceof DataMap)
+        {
+          write((DataMap) element, serializer);
+        }
+        else
+        {
+          Data.traverse(element, _callback);
+        }
+      }
+      _callback.endList();
+    }
+    endKey(field);
+  }
+
+  /**
+   * Write a field with the generic traversal.
+   */
+  public void writeValue(int field, Object value) throws IOException
+  {
+    key(field);
+    Data.traverse(value, _callback);
+    endKey(field);
+  }
+
+  /**
+   * Write the name of a field.
+   *
+   * @param serializer of the record being written.
+   * @param field index of the field.
+   * @throws IOException if the name cannot be written.
+   */
+  protected void writeKey(RecordSerializer serializer, int field) throws IOException
+  {
+    _callback.key(serializer.getFieldName(field));
+  }
+
+  private void key(int field) throws IOException
+  {
+    _written++;
+    writeKey(_serializer, field);
+  }
+
+  private void endKey(int field) throws IOException
+  {
+    _callback.endKey(_serializer.getFieldName(field));
+  }
+}
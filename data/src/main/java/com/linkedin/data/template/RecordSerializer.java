@@ -0,0 +1,184 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.template;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.RecordDataSchema;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+
+/**
+ * Serializes the {@link DataMap} of a record with a specific schema, without dispatching on the
+ * runtime type of each value.
+ * <p>
+ *
+ * Subclasses are generated along with the {@link RecordTemplate} of the schema when serializers are enabled
+ * in the data template generator. They write the fields of the schema in schema order with the typed methods
+ * of {@link RecordFieldWriter}, and fall back to the generic traversal for values that do not have the type
+ * declared by the schema. Entries of the map that are not fields of the schema are written after the fields,
+ * so every entry of the map is always written, whichever schema the map actually conforms to.
+ * <p>
+ *
+ * Generated templates register their serializer when they are initialized, see {@link #register(Class, RecordSerializer)}.
+ */
+public abstract class RecordSerializer
+{
+  private static final Map<Class<?>, RecordSerializer> REGISTERED = new ConcurrentHashMap<>();
+  private static final ClassValue<Optional<RecordSerializer>> SERIALIZERS = new ClassValue<Optional<RecordSerializer>>()
+  {
+    @Override
+    protected Optional<RecordSerializer> computeValue(Class<?> type)
+    {
+      // Initialize the template class, so that it registers its serializer if it has one.
+      try
+      {
+        Class.forName(type.getName(), true, type.getClassLoader());
+      }
+      catch (ClassNotFoundException e)
+      {
+        return Optional.empty();
+      }
+      return Optional.ofNullable(REGISTERED.get(type));
+    }
+  };
+
+  private final RecordDataSchema _schema;
+  private final String[] _fieldNames;
+  private final Set<String> _fieldNameSet;
+  private final Map<Object, Object> _encodedFieldNames = new ConcurrentHashMap<>();
+
+  /**
+   * @param schema of the records written by this serializer.
+   * @param fieldNames the names of the fields written by {@link #writeFields}, in the order of their indices.
+   */
+  protected RecordSerializer(RecordDataSchema schema, String... fieldNames)
+  {
+    _schema = schema;
+    _fieldNames = fieldNames;
+    _fieldNameSet = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(fieldNames)));
+  }
+
+  /**
+   * Register the serializer of a record template class. This is invoked by the static initializer of the class.
+   *
+   * @param templateClass the class of the record template.
+   * @param serializer to register.
+   * @return the serializer.
+   */
+  public static RecordSerializer register(Class<? extends RecordTemplate> templateClass, RecordSerializer serializer)
+  {
+    REGISTERED.put(templateClass, serializer);
+    return serializer;
+  }
+
+  /**
+   * @param templateClass the class of a record template.
+   * @return the serializer registered by the class, or null if there is none.
+   */
+  public static RecordSerializer forClass(Class<?> templateClass)
+  {
+    return SERIALIZERS.get(templateClass).orElse(null);
+  }
+
+  /**
+   * @param template a data template.
+   * @return the serializer registered by the class of the template, or null if there is none.
+   */
+  public static RecordSerializer forTemplate(DataTemplate<?> template)
+  {
+    return template instanceof RecordTemplate ? forClass(template.getClass()) : null;
+  }
+
+  /**
+   * @return the schema of the records written by this serializer.
+   */
+  public RecordDataSchema getSchema()
+  {
+    return _schema;
+  }
+
+  /**
+   * @return the names of the fields written by this serializer, in the order of their indices.
+   */
+  public List<String> getFieldNames()
+  {
+    return Collections.unmodifiableList(Arrays.asList(_fieldNames));
+  }
+
+  /**
+   * @param index of a field.
+   * @return the name of the field.
+   */
+  public String getFieldName(int index)
+  {
+    return _fieldNames[index];
+  }
+
+  /**
+   * Returns the field names of this serializer pre-encoded by a {@link RecordFieldWriter}. The encoded names are
+   * computed once per encoding and cached by this serializer.
+   *
+   * @param encoding identifies the encoding, it must be the same object for all equivalent encodings. As the names
+   *                 are cached for the lifetime of the serializer, there must be a bounded number of encodings, e.g.
+   *                 one per codec class rather than one per codec instance or options.
+   * @param encoder encodes the field names, in the order of their indices.
+   * @param <T> the type of the encoded names.
+   * @return the encoded field names.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getEncodedFieldNames(Object encoding, Function<String[], T> encoder)
+  {
+    Object encoded = _encodedFieldNames.get(encoding);
+    if (encoded == null)
+    {
+      encoded = encoder.apply(_fieldNames.clone());
+      final Object previous = _encodedFieldNames.putIfAbsent(encoding, encoded);
+      if (previous != null)
+      {
+        encoded = previous;
+      }
+    }
+    return (T) encoded;
+  }
+
+  /**
+   * @param key of an entry.
+   * @return true if the key is the name of a field written by {@link #writeFields}.
+   */
+  boolean isField(String key)
+  {
+    return _fieldNameSet.contains(key);
+  }
+
+  /**
+   * Write the fields of the record that are present in the map, in schema order.
+   *
+   * @param map holding the data of the record.
+   * @param writer to write the fields with.
+   * @throws IOException if the fields cannot be written.
+   */
+  protected abstract void writeFields(DataMap map, RecordFieldWriter writer) throws IOException;
+}
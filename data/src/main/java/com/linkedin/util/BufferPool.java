@@ -0,0 +1,101 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.util;
+
+
+/**
+ * A pool of scratch byte arrays, used by encoders to avoid allocating a new buffer for every payload.
+ *
+ * <p>Buffers are retained per thread, so acquiring and releasing a buffer never contends with other threads.
+ * Retention is bounded: each thread keeps at most {@code maxRetainedBuffers} buffers, and buffers larger than
+ * {@code maxBufferSize} are never retained. A buffer may be released by a different thread than the one that
+ * acquired it, in which case it is retained by the releasing thread.</p>
+ *
+ * <p>Only buffers whose contents are copied out before they are released may be pooled. In particular, arrays
+ * that are wrapped by a {@link com.linkedin.data.ByteString} must never be released, since the pool has no way
+ * of knowing when the {@link com.linkedin.data.ByteString} is no longer referenced.</p>
+ */
+public final class BufferPool
+{
+  /**
+   * The pool shared by the codecs, retaining up to 4 buffers of up to 64KB per thread.
+   */
+  public static final BufferPool SHARED = new BufferPool(64 * 1024, 4);
+
+  private final int _maxBufferSize;
+  private final ThreadLocal<byte[][]> _buffers;
+
+  /**
+   * @param maxBufferSize the size of the largest buffer that is retained.
+   * @param maxRetainedBuffers the maximum number of buffers retained by each thread.
+   */
+  public BufferPool(int maxBufferSize, int maxRetainedBuffers)
+  {
+    ArgumentUtil.checkArgument(maxBufferSize > 0, "maxBufferSize");
+    ArgumentUtil.checkArgument(maxRetainedBuffers > 0, "maxRetainedBuffers");
+    _maxBufferSize = maxBufferSize;
+    _buffers = ThreadLocal.withInitial(() -> new byte[maxRetainedBuffers][]);
+  }
+
+  /**
+   * Get a buffer of the given size, reusing a buffer retained by the current thread if there is one.
+   * The contents of the returned buffer are undefined.
+   *
+   * @param size of the buffer.
+   * @return a buffer of exactly the given size.
+   */
+  public byte[] acquire(int size)
+  {
+    if (size <= _maxBufferSize)
+    {
+      byte[][] buffers = _buffers.get();
+      for (int i = 0; i < buffers.length; i++)
+      {
+        byte[] buffer = buffers[i];
+        if (buffer != null && buffer.length == size)
+        {
+          buffers[i] = null;
+          return buffer;
+        }
+      }
+    }
+    return new byte[size];
+  }
+
+  /**
+   * Return a buffer to the pool. The caller must not use the buffer after releasing it.
+   *
+   * @param buffer to release.
+   */
+  public void release(byte[] buffer)
+  {
+    if (buffer.length > _maxBufferSize)
+    {
+      return;
+    }
+
+    byte[][] buffers = _buffers.get();
+    for (int i = 0; i < buffers.length; i++)
+    {
+      if (buffers[i] == null)
+      {
+        buffers[i] = buffer;
+        return;
+      }
+    }
+  }
+}
@@ -16,8 +16,14 @@
 
 package com.linkedin.data;
 
+import com.linkedin.data.codec.DataCodec;
 import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.codec.JacksonLICORDataCodec;
+import com.linkedin.data.codec.JacksonSmileDataCodec;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.codec.PsonDataCodec;
 import com.linkedin.data.collections.CheckedMap;
+import com.linkedin.data.collections.IntList;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -1950,4 +1956,69 @@ public class TestData
     list.add(list.clone());
     new JacksonDataCodec().listToString(list);
   }
+
+  @Test
+  public void testProjection() throws Exception
+  {
+    DataMap data = dataMapFromString(
+        "{ \"a\" : 1, \"b\" : { \"c\" : 2, \"d\" : 3 }, \"e\" : { \"c\" : 4 }, "
+            + "\"l\" : [ { \"c\" : 5, \"d\" : 6 }, { \"c\" : 7, \"d\" : 8 }, { \"c\" : 9 } ] }");
+    data.put("ints", new DataList(new IntList(new int[] { 1, 2, 3, 4, 5 })));
+    String dataBefore = data.toString();
+
+    Map<String, DataProjection> d = new HashMap<>();
+    d.put("d", DataProjection.ALL);
+    Map<String, DataProjection> fields = new HashMap<>();
+    fields.put("b", fieldsProjection(d));
+    fields.put("e", fieldsProjection(d));
+    fields.put("l", rangeProjection(1, 5, fieldsProjection(d)));
+    fields.put("ints", rangeProjection(1, 2, DataProjection.ALL));
+    DataProjection projection = fieldsProjection(fields);
+
+    DataMap expected = dataMapFromString(
+        "{ \"b\" : { \"d\" : 3 }, \"e\" : { }, \"l\" : [ { \"d\" : 8 }, { } ], \"ints\" : [ 2, 3 ] }");
+    assertEquals(Data.project(data, projection), expected);
+    assertSame(Data.project(data, DataProjection.ALL), data);
+
+    for (DataCodec codec : new DataCodec[] { new JacksonDataCodec(), new ProtobufDataCodec() })
+    {
+      assertEquals(codec.readMap(codec.mapToByteString(data, projection)), expected);
+      assertEquals(codec.readMap(codec.mapToByteString(data, null)), data);
+    }
+    assertEquals(new PsonDataCodec().readMap(new PsonDataCodec().mapToByteString(data, projection)), expected);
+    assertEquals(data.toString(), dataBefore);
+
+    for (DataCodec codec : new DataCodec[] { new JacksonDataCodec(), new JacksonSmileDataCodec(),
+        new JacksonLICORDataCodec(false), new ProtobufDataCodec(), new PsonDataCodec() })
+    {
+      ByteString bytes = codec.mapToByteString(data);
+      assertEquals(codec.readMap(bytes, projection), expected, codec.toString());
+      assertEquals(codec.readMap(bytes.asInputStream(), projection), expected, codec.toString());
+      assertEquals(codec.readMap(bytes, null), data, codec.toString());
+    }
+
+    fields.put("a", fieldsProjection(d));
+    for (DataCodec codec : new DataCodec[] { new JacksonDataCodec(), new ProtobufDataCodec() })
+    {
+      try
+      {
+        codec.mapToByteString(data, projection);
+        fail("Expected a projection of a primitive value to fail");
+      }
+      catch (IOException e)
+      {
+        // expected
+      }
+
+      try
+      {
+        codec.readMap(codec.mapToByteString(data), projection);
+        fail("Expected a projection of a primitive value to fail");
+      }
+      catch (IOException e)
+      {
+        // expected
+      }
+    }
+  }
 }
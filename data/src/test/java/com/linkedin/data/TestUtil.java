@@ -228,6 +228,60 @@ public class TestUtil
         : codec.listToBytes((DataList) dataComplex);
   }
 
+  /**
+   * Returns a projection that includes the given fields of a {@link DataMap}, and no element of a {@link DataList}.
+   */
+  public static DataProjection fieldsProjection(Map<String, DataProjection> fields)
+  {
+    return new DataProjection()
+    {
+      @Override
+      public DataProjection getField(String name, Object value)
+      {
+        return fields.get(name);
+      }
+
+      @Override
+      public DataProjection getElements()
+      {
+        return null;
+      }
+    };
+  }
+
+  /**
+   * Returns a projection that includes a range of the elements of a {@link DataList}, and no field of a {@link DataMap}.
+   */
+  public static DataProjection rangeProjection(int start, int count, DataProjection elements)
+  {
+    return new DataProjection()
+    {
+      @Override
+      public DataProjection getField(String name, Object value)
+      {
+        return null;
+      }
+
+      @Override
+      public DataProjection getElements()
+      {
+        return elements;
+      }
+
+      @Override
+      public int getStart()
+      {
+        return start;
+      }
+
+      @Override
+      public int getCount()
+      {
+        return count;
+      }
+    };
+  }
+
   public static boolean deleteRecursive(String path, boolean debug) throws FileNotFoundException
   {
     return deleteRecursive(new File(path), debug);
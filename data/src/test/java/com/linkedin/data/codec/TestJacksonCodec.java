@@ -20,14 +20,22 @@ import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import com.fasterxml.jackson.core.util.Instantiatable;
 import com.linkedin.data.Data;
 import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.TestData;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.DoubleList;
+import com.linkedin.data.collections.IntList;
+import com.linkedin.data.collections.LongList;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Map;
 import org.testng.Assert;
@@ -96,6 +104,106 @@ public class TestJacksonCodec extends TestCodec
     }
   }
 
+  @Test
+  public void testPrimitiveLists() throws IOException
+  {
+    JacksonDataCodec codec = new JacksonDataCodec();
+    codec.setPrimitiveLists(true);
+
+    DataMap map = codec.stringToMap(
+        "{ \"ints\" : [ 1, 2, 3 ], \"doubles\" : [ 1.5, 2.5 ], \"mixed\" : [ 1, 2.5, \"a\" ], \"longs\" : [ 10000000000 ] }");
+    assertTrue(CheckedUtil.getPrimitiveList(map.getDataList("ints")) instanceof IntList);
+    assertTrue(CheckedUtil.getPrimitiveList(map.getDataList("doubles")) instanceof DoubleList);
+    assertTrue(CheckedUtil.getPrimitiveList(map.getDataList("longs")) instanceof LongList);
+    assertNull(CheckedUtil.getPrimitiveList(map.getDataList("mixed")));
+    assertEquals(map.getDataList("ints"), Arrays.asList(1, 2, 3));
+    assertEquals(map.getDataList("mixed"), Arrays.asList(1, 2.5, "a"));
+
+    // Primitive-backed lists are encoded the same as boxed lists.
+    DataMap boxed = new JacksonDataCodec().stringToMap(codec.mapToString(map));
+    assertNull(CheckedUtil.getPrimitiveList(boxed.getDataList("ints")));
+    assertEquals(boxed, map);
+    for (String key : map.keySet())
+    {
+      assertEquals(codec.listToBytes(boxed.getDataList(key)), codec.listToBytes(map.getDataList(key)));
+    }
+  }
+
+  @Test
+  public void testLazyMaps() throws Exception
+  {
+    JacksonDataCodec codec = new JacksonDataCodec();
+    codec.setLazyMaps(true);
+
+    String json = "{ \"a\" : { \"b\" : { \"c\" : [ 1, { \"d\" : null } ] } }, \"e\" : [ { } ], \"f\" : \"\u00e9\" }";
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+    // Maps that have not been accessed are re-encoded as is.
+    DataMap lazy = codec.bytesToMap(bytes);
+    assertNotNull(CheckedUtil.getLazySource(lazy));
+    assertEquals(codec.mapToBytes(lazy), bytes);
+
+    DataMap a = lazy.getDataMap("a");
+    assertNotNull(CheckedUtil.getLazySource(a));
+    assertEquals(lazy.getString("f"), "\u00e9");
+    assertEquals(new String(codec.listToBytes(lazy.getDataList("e")), StandardCharsets.UTF_8), "[{ }]");
+    assertEquals(codec.mapToBytes(a), "{ \"b\" : { \"c\" : [ 1, { \"d\" : null } ] } }".getBytes(StandardCharsets.UTF_8));
+
+    DataMap d = a.getDataMap("b").getDataList("c").getDataMap(1);
+    assertNotNull(CheckedUtil.getLazySource(d));
+    assertEquals(new String(codec.mapToBytes(a), StandardCharsets.UTF_8), "{\"b\":{\"c\":[1,{ \"d\" : null }]}}");
+    assertEquals(lazy, new JacksonDataCodec().bytesToMap(bytes));
+
+    // Maps are traversed when they cannot be copied as is.
+    JacksonDataCodec sortingCodec = new JacksonDataCodec();
+    sortingCodec.setSortKeys(true);
+    assertEquals(new String(sortingCodec.mapToBytes(codec.bytesToMap(bytes)), StandardCharsets.UTF_8),
+        "{\"a\":{\"b\":{\"c\":[1,{\"d\":null}]}},\"e\":[{}],\"f\":\"\u00e9\"}");
+    assertEquals(codec.mapToString(codec.bytesToMap(bytes)), sortingCodec.mapToString(lazy));
+
+    // Errors are reported by the map containing them, when it is loaded.
+    DataMap duplicate = codec.bytesToMap("{ \"a\" : { \"b\" : 1, \"b\" : 2 } }".getBytes(StandardCharsets.UTF_8));
+    assertNull(duplicate.getError());
+    assertNotNull(duplicate.getDataMap("a").getError());
+
+    DataMap readOnly = codec.bytesToMap(bytes);
+    readOnly.makeReadOnly();
+    assertThrows(UnsupportedOperationException.class, () -> readOnly.getDataMap("a").put("x", 1));
+
+    assertThrows(IOException.class, () -> codec.bytesToMap("{ \"a\" : { ]".getBytes(StandardCharsets.UTF_8)));
+
+    // The source can be written as a JSON string too.
+    SerializableString source = (SerializableString) CheckedUtil.getLazySource(codec.bytesToMap(bytes));
+    String quoted = new String(JsonStringEncoder.getInstance().quoteAsString(json));
+    assertEquals(new String(source.asQuotedChars()), quoted);
+    assertEquals(new String(source.asQuotedUTF8(), StandardCharsets.UTF_8), quoted);
+    JsonFactory factory = new JsonFactory();
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = factory.createGenerator(writer))
+    {
+      generator.writeString(source);
+    }
+    assertEquals(writer.toString(), "\"" + quoted + "\"");
+  }
+
+  @Test
+  public void testLazyMapsToLICOR() throws Exception
+  {
+    JacksonDataCodec codec = new JacksonDataCodec();
+    codec.setLazyMaps(true);
+    byte[] bytes = "{ \"a\" : { \"b\" : [ 1, { \"c\" : \"d\" } ] }, \"e\" : 2 }".getBytes(StandardCharsets.UTF_8);
+    DataMap expected = new JacksonDataCodec().bytesToMap(bytes);
+
+    // Unaccessed lazy maps are not copied as JSON into LICOR.
+    for (boolean binary : new boolean[]{false, true})
+    {
+      JacksonLICORDataCodec licorCodec = new JacksonLICORDataCodec(binary);
+      DataMap lazy = codec.bytesToMap(bytes);
+      assertNotNull(CheckedUtil.getLazySource(lazy));
+      assertEquals(licorCodec.bytesToMap(licorCodec.mapToBytes(lazy)), expected);
+    }
+  }
+
   @Test
   public void testIntValues() throws IOException
   {
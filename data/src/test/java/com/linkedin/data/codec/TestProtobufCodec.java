@@ -17,9 +17,17 @@
 package com.linkedin.data.codec;
 
 import com.linkedin.data.DataComplex;
+import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.symbol.InMemorySymbolTable;
+import com.linkedin.data.collections.CheckedUtil;
+import com.linkedin.data.collections.DoubleList;
+import com.linkedin.data.collections.FloatList;
+import com.linkedin.data.collections.IntList;
 import com.linkedin.data.protobuf.Utf8Utils;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,6 +48,93 @@ public class TestProtobufCodec extends TestCodec
     testDataCodec(codec, dataComplex);
   }
 
+  @Test
+  public void testPrimitiveLists() throws IOException
+  {
+    DataMap map = new DataMap();
+    map.put("ints", new DataList(new IntList(new int[] { 1, -2, 3 })));
+    map.put("floats", new DataList(new FloatList(new float[] { 1.5f })));
+    map.put("mixed", new DataList(Arrays.asList(1L, 2L, "a", 3L)));
+    map.put("boxed", new DataList(Arrays.asList(1.5, 2.5)));
+
+    for (boolean enableFixedLengthFloatDoubles : new boolean[] { true, false })
+    {
+      ProtobufDataCodec codec = new ProtobufDataCodec(new ProtobufCodecOptions.Builder()
+          .setEnableFixedLengthFloatDoubles(enableFixedLengthFloatDoubles)
+          .setEnablePrimitiveLists(true)
+          .build());
+      DataMap roundtrip = codec.bytesToMap(codec.mapToBytes(map));
+      Assert.assertEquals(roundtrip, map);
+      Assert.assertTrue(CheckedUtil.getPrimitiveList(roundtrip.getDataList("ints")) instanceof IntList);
+      Assert.assertTrue(CheckedUtil.getPrimitiveList(roundtrip.getDataList("floats")) instanceof FloatList);
+      Assert.assertTrue(CheckedUtil.getPrimitiveList(roundtrip.getDataList("boxed")) instanceof DoubleList);
+      Assert.assertNull(CheckedUtil.getPrimitiveList(roundtrip.getDataList("mixed")));
+
+      ProtobufDataCodec boxingCodec = new ProtobufDataCodec(new ProtobufCodecOptions.Builder()
+          .setEnableFixedLengthFloatDoubles(enableFixedLengthFloatDoubles)
+          .build());
+      DataMap boxed = boxingCodec.bytesToMap(codec.mapToBytes(map));
+      Assert.assertNull(CheckedUtil.getPrimitiveList(boxed.getDataList("ints")));
+      for (String key : map.keySet())
+      {
+        Assert.assertEquals(boxingCodec.listToBytes(boxed.getDataList(key)), codec.listToBytes(map.getDataList(key)));
+      }
+    }
+  }
+
+  @Test
+  public void testLazyMaps() throws Exception
+  {
+    DataMap nested = new DataMap();
+    nested.put("name", "a string that is long enough for the map to be decoded lazily");
+    nested.put("child", new DataMap(Collections.singletonMap("value", 1)));
+    DataMap map = new DataMap();
+    map.put("nested", nested);
+    map.put("list", new DataList(Arrays.asList(nested.copy(), 2, "b")));
+    map.put("empty", new DataMap());
+
+    ProtobufDataCodec codec = new ProtobufDataCodec(new ProtobufCodecOptions.Builder()
+        .setEnableLazyMaps(true)
+        .setEnablePrimitiveLists(true)
+        .build());
+    byte[] bytes = codec.mapToBytes(map);
+
+    // Maps that have not been accessed are re-encoded as is.
+    DataMap lazy = codec.bytesToMap(bytes);
+    Assert.assertNotNull(CheckedUtil.getLazySource(lazy));
+    Assert.assertEquals(codec.mapToBytes(lazy), bytes);
+    Assert.assertNotNull(CheckedUtil.getLazySource(lazy));
+
+    DataMap lazyNested = lazy.getDataMap("nested");
+    Assert.assertNull(CheckedUtil.getLazySource(lazy));
+    Assert.assertNotNull(CheckedUtil.getLazySource(lazyNested));
+    Assert.assertNotNull(CheckedUtil.getLazySource(lazy.getDataList("list").getDataMap(0)));
+    Assert.assertNull(CheckedUtil.getLazySource(lazy.getDataMap("empty")));
+    Assert.assertEquals(new ProtobufDataCodec().bytesToMap(codec.mapToBytes(lazy)), map);
+
+    lazyNested.put("name", "changed");
+    Assert.assertEquals(new ProtobufDataCodec().bytesToMap(codec.mapToBytes(lazy)).getDataMap("nested").get("name"),
+        "changed");
+    Assert.assertEquals(lazy.getDataList("list").getDataMap(0), nested);
+
+    // Read-only maps make their nested maps read-only when they are loaded.
+    DataMap readOnly = codec.bytesToMap(bytes);
+    readOnly.makeReadOnly();
+    Assert.assertThrows(UnsupportedOperationException.class, () -> readOnly.getDataMap("nested").put("a", "b"));
+
+    DataMap copy = readOnly.copy();
+    copy.getDataMap("nested").put("a", "b");
+    Assert.assertNull(readOnly.getDataMap("nested").get("a"));
+
+    // Maps decoded with another symbol table are traversed.
+    ProtobufDataCodec symbolCodec = new ProtobufDataCodec(new ProtobufCodecOptions.Builder()
+        .setSymbolTable(new InMemorySymbolTable("table", Collections.singletonList("name")))
+        .build());
+    Assert.assertEquals(symbolCodec.bytesToMap(symbolCodec.mapToBytes(codec.bytesToMap(bytes))), map);
+
+    Assert.assertThrows(IOException.class, () -> codec.bytesToMap(Arrays.copyOf(bytes, bytes.length - 1)));
+  }
+
   @Test(dataProvider = "surrogatePairData", dataProviderClass = CodecDataProviders.class)
   public void testSurrogatePairs(String value, String expectedString, int expectedLength,
       boolean isValidSurrogatePair, boolean tolerateInvalidSurrogatePairs) throws Exception
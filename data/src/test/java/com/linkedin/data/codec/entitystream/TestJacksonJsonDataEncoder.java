@@ -25,15 +25,23 @@ import com.linkedin.data.Data;
 import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.TestUtil;
+import com.linkedin.data.codec.AbstractJacksonDataCodec;
 import com.linkedin.data.codec.CodecDataProviders;
 import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.data.collections.DoubleList;
+import com.linkedin.data.collections.IntList;
 import com.linkedin.entitystream.CollectingReader;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.entitystream.EntityStreams;
 
 import com.linkedin.entitystream.Writer;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.*;
@@ -51,6 +59,35 @@ public class TestJacksonJsonDataEncoder
     assertEquals(actual, expected);
   }
 
+  @Test
+  public void testPrimitiveList() throws Exception
+  {
+    DataMap dataMap = new DataMap();
+    dataMap.put("ints", new DataList(new IntList(new int[] { 1, 22, 333, 4444, 55555 })));
+    dataMap.put("doubles", new DataList(new DoubleList(new double[] { 0.5, -1.25 })));
+
+    DataMap boxed = new DataMap();
+    boxed.put("ints", new DataList(Arrays.asList(1, 22, 333, 4444, 55555)));
+    boxed.put("doubles", new DataList(Arrays.asList(0.5, -1.25)));
+
+    assertEquals(new String(encode(dataMap)), new String(encode(boxed)));
+  }
+
+  @Test
+  public void testLazyMap() throws Exception
+  {
+    JacksonDataCodec codec = new JacksonDataCodec();
+    codec.setLazyMaps(true);
+    String json = "{ \"a\" : { \"b\" : [ 1, 2 ] }, \"c\" : { } }";
+    DataMap lazy = codec.bytesToMap(json.getBytes("UTF-8"));
+
+    assertEquals(new String(encode(lazy), "UTF-8"), json);
+    assertEquals(lazy.getDataMap("c").size(), 0);
+    String encoded = new String(encode(lazy), "UTF-8");
+    assertTrue(encoded.contains("\"a\":{ \"b\" : [ 1, 2 ] }"), encoded);
+    assertEquals(new JacksonDataCodec().stringToMap(encoded), lazy);
+  }
+
   /**
    * Test to make sure that field names are not interned by default.
    */
@@ -87,6 +124,30 @@ public class TestJacksonJsonDataEncoder
     assertNotSame(key, keyName);
   }
 
+  @Test
+  public void testProjection() throws Exception
+  {
+    DataMap data = TestUtil.dataMapFromString(
+        "{ \"a\" : [ { \"b\" : 1, \"c\" : 2 }, { \"b\" : 3 }, { \"c\" : 4 } ], \"d\" : { \"e\" : \"f\" }, \"g\" : 5 }");
+    data.put("ints", new DataList(new IntList(new int[] { 1, 22, 333, 4444, 55555 })));
+
+    Map<String, DataProjection> fields = new HashMap<>();
+    fields.put("a", TestUtil.rangeProjection(1, 1, TestUtil.fieldsProjection(Collections.singletonMap("b", DataProjection.ALL))));
+    fields.put("d", DataProjection.ALL);
+    fields.put("ints", TestUtil.rangeProjection(3, 10, DataProjection.ALL));
+    DataProjection projection = TestUtil.fieldsProjection(fields);
+
+    EntityStream<ByteString> entityStream = EntityStreams.newEntityStream(new JacksonJsonDataEncoder(AbstractJacksonDataCodec.JSON_FACTORY, data, projection, 3));
+    CollectingReader<ByteString, ?, ChunkedByteStringCollector.Result> reader =
+        new CollectingReader<>(new ChunkedByteStringCollector());
+    entityStream.setReader(reader);
+    byte[] encoded = reader.getResult().toCompletableFuture().get().data;
+
+    assertEquals(encoded, new JacksonDataCodec().mapToByteString(data, projection).copyBytes());
+    assertEquals(new JacksonDataCodec().bytesToMap(encoded), TestUtil.dataMapFromString(
+        "{ \"a\" : [ { \"b\" : 3 } ], \"d\" : { \"e\" : \"f\" }, \"ints\" : [ 4444, 55555 ] }"));
+  }
+
   private byte[] encode(DataComplex data)
       throws Exception
   {
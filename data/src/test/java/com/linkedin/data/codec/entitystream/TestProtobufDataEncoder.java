@@ -22,13 +22,18 @@ import com.linkedin.data.ChunkedByteStringCollector;
 import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.TestUtil;
 import com.linkedin.data.codec.CodecDataProviders;
 import com.linkedin.data.codec.ProtobufCodecOptions;
 import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.collections.IntList;
 import com.linkedin.entitystream.CollectingReader;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.entitystream.EntityStreams;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.*;
@@ -45,6 +50,30 @@ public class TestProtobufDataEncoder
     assertEquals(actualEncode(dataComplex), TestUtil.dataComplexToBytes(CODEC, dataComplex));
   }
 
+  @Test
+  public void testProjection() throws Exception
+  {
+    DataMap data = TestUtil.dataMapFromString(
+        "{ \"a\" : [ { \"b\" : 1, \"c\" : 2 }, { \"b\" : 3 }, { \"c\" : 4 } ], \"d\" : { \"e\" : \"f\" }, \"g\" : 5 }");
+    data.put("ints", new DataList(new IntList(new int[] { 1, 22, 333, 4444, 55555 })));
+
+    Map<String, DataProjection> fields = new HashMap<>();
+    fields.put("a", TestUtil.rangeProjection(1, 1, TestUtil.fieldsProjection(Collections.singletonMap("b", DataProjection.ALL))));
+    fields.put("d", DataProjection.ALL);
+    fields.put("ints", TestUtil.rangeProjection(3, 10, DataProjection.ALL));
+    DataProjection projection = TestUtil.fieldsProjection(fields);
+
+    EntityStream<ByteString> entityStream = EntityStreams.newEntityStream(new ProtobufDataEncoder(data, projection, 3, new ProtobufCodecOptions.Builder().build()));
+    CollectingReader<ByteString, ?, ChunkedByteStringCollector.Result> reader =
+        new CollectingReader<>(new ChunkedByteStringCollector());
+    entityStream.setReader(reader);
+    byte[] encoded = reader.getResult().toCompletableFuture().get().data;
+
+    assertEquals(encoded, CODEC.mapToByteString(data, projection).copyBytes());
+    assertEquals(CODEC.bytesToMap(encoded), TestUtil.dataMapFromString(
+        "{ \"a\" : [ { \"b\" : 3 } ], \"d\" : { \"e\" : \"f\" }, \"ints\" : [ 4444, 55555 ] }"));
+  }
+
   private byte[] actualEncode(DataComplex data) throws Exception
   {
     ProtobufDataEncoder
@@ -0,0 +1,83 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.codec.symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestInMemorySymbolTable
+{
+  @Test
+  public void testLookup()
+  {
+    List<String> symbols = new ArrayList<>();
+    for (int i = 0; i < 1000; i++)
+    {
+      symbols.add("symbol" + i);
+    }
+    // "Aa" and "BB" have the same hash code.
+    symbols.add("Aa");
+    symbols.add("BB");
+    InMemorySymbolTable symbolTable = new InMemorySymbolTable("table", symbols);
+
+    Assert.assertEquals(symbolTable.size(), symbols.size());
+    for (int i = 0; i < symbols.size(); i++)
+    {
+      Assert.assertEquals(symbolTable.getSymbolId(new String(symbols.get(i))), i);
+      Assert.assertEquals(symbolTable.getSymbolName(i), symbols.get(i));
+    }
+    Assert.assertEquals(symbolTable.getSymbolId("symbol1000"), SymbolTable.UNKNOWN_SYMBOL_ID);
+    Assert.assertEquals(symbolTable.getSymbolId(null), SymbolTable.UNKNOWN_SYMBOL_ID);
+    Assert.assertNull(symbolTable.getSymbolName(symbols.size()));
+  }
+
+  @Test
+  public void testSmallTables()
+  {
+    InMemorySymbolTable empty = new InMemorySymbolTable("empty", Collections.emptyList());
+    Assert.assertEquals(empty.size(), 0);
+    Assert.assertEquals(empty.getSymbolId("a"), SymbolTable.UNKNOWN_SYMBOL_ID);
+
+    InMemorySymbolTable single = new InMemorySymbolTable("single", Collections.singletonList("a"));
+    Assert.assertEquals(single.getSymbolId("a"), 0);
+    Assert.assertEquals(single.getSymbolId("b"), SymbolTable.UNKNOWN_SYMBOL_ID);
+  }
+
+  @Test
+  public void testDuplicateSymbols()
+  {
+    InMemorySymbolTable symbolTable = new InMemorySymbolTable("table", Arrays.asList("a", "b", "a"));
+    Assert.assertEquals(symbolTable.size(), 3);
+    Assert.assertEquals(symbolTable.getSymbolId("a"), 2);
+    Assert.assertEquals(symbolTable.getSymbolId("b"), 1);
+    Assert.assertEquals(symbolTable.getSymbolName(0), "a");
+  }
+
+  @Test
+  public void testEquality()
+  {
+    InMemorySymbolTable symbolTable = new InMemorySymbolTable("table", Arrays.asList("a", "b"));
+    Assert.assertEquals(symbolTable, new InMemorySymbolTable("table", Arrays.asList("a", "b")));
+    Assert.assertEquals(symbolTable.hashCode(), new InMemorySymbolTable("table", Arrays.asList("a", "b")).hashCode());
+    Assert.assertNotEquals(symbolTable, new InMemorySymbolTable("table", Arrays.asList("b", "a")));
+  }
+}
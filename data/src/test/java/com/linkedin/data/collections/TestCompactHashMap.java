@@ -0,0 +1,146 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.DataMap;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestCompactHashMap
+{
+  @Test
+  public void testRandomOperations()
+  {
+    final Random random = new Random(42);
+    final Map<Integer, String> expected = new HashMap<>();
+    final CompactHashMap<Integer, String> map = new CompactHashMap<>();
+    for (int i = 0; i < 200000; i++)
+    {
+      // A small key space keeps the maps small, and exercises removal and reuse of slots.
+      final Integer key = random.nextInt(i < 100000 ? 64 : 4096);
+      final int op = random.nextInt(10);
+      if (op < 5)
+      {
+        final String value = random.nextInt(8) == 0 ? null : "v" + i;
+        Assert.assertEquals(map.put(key, value), expected.put(key, value));
+      }
+      else if (op < 8)
+      {
+        Assert.assertEquals(map.remove(key), expected.remove(key));
+      }
+      else
+      {
+        Assert.assertEquals(map.get(key), expected.get(key));
+        Assert.assertEquals(map.containsKey(key), expected.containsKey(key));
+      }
+      Assert.assertEquals(map.size(), expected.size());
+    }
+    Assert.assertEquals(map, expected);
+    Assert.assertEquals(expected, map);
+    Assert.assertEquals(map.hashCode(), expected.hashCode());
+  }
+
+  @Test
+  public void testNullKeysAndValues()
+  {
+    final CompactHashMap<String, Object> map = new CompactHashMap<>();
+    map.put("a", null);
+    Assert.assertTrue(map.containsKey("a"));
+    Assert.assertTrue(map.containsValue(null));
+    Assert.assertNull(map.get(null));
+    Assert.assertFalse(map.containsKey(null));
+    Assert.assertNull(map.remove(null));
+    Assert.assertThrows(NullPointerException.class, () -> map.put(null, "b"));
+  }
+
+  @Test
+  public void testEntrySetIterator()
+  {
+    final CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    for (int i = 0; i < 100; i++)
+    {
+      map.put("k" + i, i);
+    }
+
+    final Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+    int count = 0;
+    while (iterator.hasNext())
+    {
+      final Map.Entry<String, Integer> entry = iterator.next();
+      count++;
+      if (entry.getValue() % 2 == 0)
+      {
+        iterator.remove();
+      }
+      else
+      {
+        entry.setValue(-entry.getValue());
+      }
+    }
+    Assert.assertEquals(count, 100);
+    Assert.assertEquals(map.size(), 50);
+    for (int i = 0; i < 100; i++)
+    {
+      Assert.assertEquals(map.get("k" + i), i % 2 == 0 ? null : -i);
+    }
+
+    final Iterator<String> keys = map.keySet().iterator();
+    keys.next();
+    map.put("new", 0);
+    Assert.assertThrows(ConcurrentModificationException.class, keys::next);
+  }
+
+  @Test
+  public void testClone()
+  {
+    final CompactHashMap<String, Integer> map = new CompactHashMap<>();
+    map.put("a", 1);
+    map.put("b", 2);
+    final CompactHashMap<String, Integer> clone = map.clone();
+    clone.put("c", 3);
+    clone.remove("a");
+    Assert.assertEquals(map.size(), 2);
+    Assert.assertEquals(map.get("a"), Integer.valueOf(1));
+    Assert.assertEquals(clone.size(), 2);
+    Assert.assertEquals(clone.get("c"), Integer.valueOf(3));
+  }
+
+  @Test
+  public void testCompactDataMap() throws CloneNotSupportedException
+  {
+    final DataMap dataMap = DataMap.newCompactDataMap(2);
+    Assert.assertTrue(dataMap.getObject() instanceof CompactHashMap);
+    dataMap.put("a", 1);
+    dataMap.put("b", new DataMap());
+    Assert.assertThrows(IllegalArgumentException.class, () -> dataMap.put("c", new Object()));
+
+    final DataMap clone = dataMap.clone();
+    Assert.assertTrue(clone.getObject() instanceof CompactHashMap);
+    clone.remove("a");
+    Assert.assertEquals(dataMap.get("a"), 1);
+
+    final DataMap copy = dataMap.copy();
+    Assert.assertEquals(copy, dataMap);
+    Assert.assertEquals(new DataMap(dataMap), dataMap);
+  }
+}
@@ -0,0 +1,156 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.DataDecodingException;
+import com.linkedin.data.codec.JacksonDataCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestLazyMap
+{
+  private final AtomicInteger _loads = new AtomicInteger();
+
+  private Map<String, Object> load(Object source)
+  {
+    _loads.incrementAndGet();
+    final Map<String, Object> map = new HashMap<>();
+    for (String key : ((String) source).split(","))
+    {
+      map.put(key, key.equals("nested") ? new DataMap(new LazyMap<>("x", this::load)) : key.length());
+    }
+    return map;
+  }
+
+  @Test
+  public void testLoadOnFirstAccess()
+  {
+    _loads.set(0);
+    final LazyMap<String, Object> map = new LazyMap<>("a,bb", this::load);
+    Assert.assertEquals(map.getSource(), "a,bb");
+    Assert.assertFalse(map.isLoaded());
+
+    final List<Map<String, Object>> loaded = new ArrayList<>();
+    Assert.assertTrue(map.onLoad(loaded::add));
+    Assert.assertEquals(map.get("bb"), 2);
+    Assert.assertEquals(_loads.get(), 1);
+    Assert.assertNull(map.getSource());
+    Assert.assertEquals(loaded.size(), 1);
+    Assert.assertFalse(map.onLoad(loaded::add));
+
+    map.put("c", 3);
+    Assert.assertEquals(map.size(), 3);
+    Assert.assertEquals(_loads.get(), 1);
+  }
+
+  @Test
+  public void testClone()
+  {
+    final LazyMap<String, Object> map = new LazyMap<>("a,b", this::load);
+    final Map<String, Object> clone = map.clone();
+    Assert.assertTrue(clone instanceof LazyMap);
+    Assert.assertFalse(map.isLoaded());
+
+    clone.remove("a");
+    Assert.assertEquals(map.size(), 2);
+    final Map<String, Object> loadedClone = map.clone();
+    Assert.assertFalse(loadedClone instanceof LazyMap);
+    Assert.assertEquals(loadedClone, map);
+  }
+
+  @Test
+  public void testLoadFailure()
+  {
+    final LazyMap<String, Object> map = new LazyMap<>("source", source -> {
+      throw new IOException("Malformed");
+    });
+    final UncheckedIOException exception = Assert.expectThrows(UncheckedIOException.class, map::size);
+    Assert.assertEquals(exception.getCause().getMessage(), "Malformed");
+    Assert.assertEquals(map.getSource(), "source");
+
+    // encoders report the decoding error itself
+    final DataMap dataMap = new DataMap(new LazyMap<>("source", source -> {
+      throw new DataDecodingException("Malformed");
+    }));
+    Assert.assertThrows(DataDecodingException.class, () -> new JacksonDataCodec().mapToBytes(dataMap));
+  }
+
+  @Test
+  public void testConcurrentLoad() throws Exception
+  {
+    _loads.set(0);
+    final LazyMap<String, Object> map = new LazyMap<>("a,b,c", this::load);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try
+    {
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<Future<Object>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++)
+      {
+        results.add(executor.submit(() -> {
+          start.await();
+          return map.get("b");
+        }));
+      }
+      start.countDown();
+      for (Future<Object> result : results)
+      {
+        Assert.assertEquals(result.get(), 1);
+      }
+      Assert.assertEquals(_loads.get(), 1);
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testDataMap() throws CloneNotSupportedException
+  {
+    final DataMap dataMap = new DataMap(new LazyMap<>("a,nested", this::load));
+    Assert.assertEquals(CheckedUtil.getLazySource(dataMap), "a,nested");
+    dataMap.makeReadOnly();
+    Assert.assertEquals(CheckedUtil.getLazySource(dataMap), "a,nested");
+
+    final DataMap clone = dataMap.clone();
+    clone.put("b", 2);
+    Assert.assertFalse(dataMap.containsKey("b"));
+
+    final DataMap nested = dataMap.getDataMap("nested");
+    Assert.assertTrue(nested.isReadOnly());
+    Assert.assertThrows(UnsupportedOperationException.class, () -> dataMap.put("c", 3));
+    Assert.assertFalse(clone.getDataMap("nested").isReadOnly());
+
+    final DataMap copy = dataMap.copy();
+    Assert.assertEquals(copy, dataMap);
+    Assert.assertNotSame(copy.getDataMap("nested"), nested);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.collections;
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.template.DoubleArray;
+import com.linkedin.data.template.IntegerArray;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestPrimitiveList
+{
+  @Test
+  public void testRandomOperations()
+  {
+    final Random random = new Random(42);
+    final List<Integer> expected = new ArrayList<>();
+    final IntList list = new IntList(0);
+    for (int i = 0; i < 20000; i++)
+    {
+      final int op = random.nextInt(6);
+      if (op < 2 || expected.isEmpty())
+      {
+        expected.add(i);
+        list.addInt(i);
+      }
+      else if (op == 2)
+      {
+        final int index = random.nextInt(expected.size() + 1);
+        expected.add(index, i);
+        list.add(index, i);
+      }
+      else if (op == 3)
+      {
+        final int index = random.nextInt(expected.size());
+        Assert.assertEquals(list.remove(index), expected.remove(index));
+      }
+      else if (op == 4)
+      {
+        final int index = random.nextInt(expected.size());
+        Assert.assertEquals(list.set(index, -i), expected.set(index, -i));
+      }
+      else
+      {
+        final int from = random.nextInt(expected.size());
+        final int to = Math.min(expected.size(), from + random.nextInt(3));
+        expected.subList(from, to).clear();
+        list.subList(from, to).clear();
+      }
+      Assert.assertEquals(list.size(), expected.size());
+    }
+    Assert.assertEquals(list, expected);
+    Assert.assertEquals(expected, list);
+    Assert.assertEquals(list.hashCode(), expected.hashCode());
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(list.size()));
+    Assert.assertThrows(NullPointerException.class, () -> list.add(null));
+  }
+
+  @Test
+  public void testDataList() throws CloneNotSupportedException
+  {
+    final DoubleList doubleList = new DoubleList(new double[] { 1.5, 2.5 });
+    final DataList list = new DataList(doubleList);
+    final PrimitiveList<?> primitiveList = CheckedUtil.getPrimitiveList(list);
+    Assert.assertSame(primitiveList, doubleList);
+    Assert.assertEquals(list, Arrays.asList(1.5, 2.5));
+
+    list.add(3.5);
+    Assert.assertSame(CheckedUtil.getPrimitiveList(list), primitiveList);
+
+    final DataList clone = list.clone();
+    clone.set(0, 0.5);
+    Assert.assertEquals(list.get(0), 1.5);
+    Assert.assertNotNull(CheckedUtil.getPrimitiveList(clone));
+    Assert.assertEquals(list.copy(), list);
+
+    // Elements of another type convert the list to a regular list.
+    list.add(1, "string");
+    Assert.assertNull(CheckedUtil.getPrimitiveList(list));
+    Assert.assertEquals(list, Arrays.asList(1.5, "string", 2.5, 3.5));
+    Assert.assertThrows(IllegalArgumentException.class, () -> list.add(new Object()));
+
+    clone.makeReadOnly();
+    Assert.assertThrows(UnsupportedOperationException.class, () -> clone.add(4.5));
+  }
+
+  @Test
+  public void testTemplates()
+  {
+    final IntegerArray integers = new IntegerArray(new int[] { 1, 2, 3 });
+    Assert.assertTrue(CheckedUtil.getPrimitiveList(integers.data()) instanceof IntList);
+    integers.add(4);
+    Assert.assertEquals(integers.toIntArray(), new int[] { 1, 2, 3, 4 });
+
+    final DoubleArray doubles = new DoubleArray(Arrays.asList(1.0, 2.0));
+    Assert.assertNull(CheckedUtil.getPrimitiveList(doubles.data()));
+    Assert.assertEquals(doubles.toDoubleArray(), new double[] { 1.0, 2.0 });
+  }
+}
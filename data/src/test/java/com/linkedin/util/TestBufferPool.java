@@ -0,0 +1,75 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.util;
+
+import java.util.concurrent.CompletableFuture;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestBufferPool
+{
+  @Test
+  public void testReuse()
+  {
+    BufferPool pool = new BufferPool(1024, 2);
+    byte[] buffer = pool.acquire(100);
+    Assert.assertEquals(buffer.length, 100);
+    Assert.assertNotSame(pool.acquire(100), buffer);
+
+    pool.release(buffer);
+    Assert.assertEquals(pool.acquire(200).length, 200);
+    Assert.assertSame(pool.acquire(100), buffer);
+    Assert.assertNotSame(pool.acquire(100), buffer);
+  }
+
+  @Test
+  public void testBoundedRetention()
+  {
+    BufferPool pool = new BufferPool(1024, 2);
+    byte[] large = new byte[2048];
+    pool.release(large);
+    Assert.assertNotSame(pool.acquire(2048), large);
+
+    byte[] first = new byte[10];
+    byte[] second = new byte[10];
+    byte[] third = new byte[10];
+    pool.release(first);
+    pool.release(second);
+    pool.release(third);
+    Assert.assertSame(pool.acquire(10), first);
+    Assert.assertSame(pool.acquire(10), second);
+    Assert.assertNotSame(pool.acquire(10), third);
+  }
+
+  @Test
+  public void testThreadConfinement() throws Exception
+  {
+    BufferPool pool = new BufferPool(1024, 2);
+    byte[] buffer = new byte[10];
+    pool.release(buffer);
+    byte[] other = CompletableFuture.supplyAsync(() -> pool.acquire(10)).get();
+    Assert.assertNotSame(other, buffer);
+    Assert.assertSame(pool.acquire(10), buffer);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidRetention()
+  {
+    new BufferPool(1024, 0);
+  }
+}
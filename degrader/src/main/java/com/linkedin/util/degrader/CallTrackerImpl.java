@@ -19,8 +19,8 @@
  */
 package com.linkedin.util.degrader;
 
+import com.linkedin.common.stats.HistogramLongTracking;
 import com.linkedin.common.stats.LongTracker;
-import com.linkedin.common.stats.LongTracking;
 import com.linkedin.common.stats.SimpleLongTracking;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -43,7 +43,7 @@ import com.linkedin.util.clock.SystemClock;
  * periodically.
  * 3.) CallTrackerImpl.CallTrackerStats is the actual data that is being moved around. You can think of
  * CallTrackerStats as an immutable DTO.
- * 4.) LongTracking is used in CallTrackerImpl.Tracker to calculate the statistics of the call.
+ * 4.) HistogramLongTracking is used in CallTrackerImpl.Tracker to calculate the statistics of the call.
  *
  * @author Dave Messink
  * @author Chris Pettitt
@@ -433,7 +433,7 @@ public class CallTrackerImpl implements CallTracker
    * Tracker is used to track the statistics of calls in one interval. Notice that this class is an inner class
    * of CallTrackerImpl. This means some instance variables like totalCall refers to the outer class. This is
    * because CallTrackerImpl keeps track of total call whereas Tracker keeps track of call in one interval.
-   * Tracker uses the helper class LongTracking for keeping track of statistics like percentage error rate,
+   * Tracker uses the helper class HistogramLongTracking for keeping track of statistics like percentage error rate,
    * 95 percentile, max value, etc.
    * Tracker also rollover the call stats every interval to listeners.
    */
@@ -453,7 +453,7 @@ public class CallTrackerImpl implements CallTracker
     {
       if (percentileTrackingEnabled)
       {
-        _callTimeTracking = new LongTracking();
+        _callTimeTracking = new HistogramLongTracking();
       } else
       {
         _callTimeTracking = new SimpleLongTracking();
@@ -560,7 +560,10 @@ public class CallTrackerImpl implements CallTracker
     }
   }
 
-  private static class Pending
+  /**
+   * Events to deliver to listeners once the lock guarding the statistics has been released.
+   */
+  static class Pending
   {
     private static class PendingEvent implements StatsRolloverEvent
     {
@@ -589,18 +592,18 @@ public class CallTrackerImpl implements CallTracker
     private final List<PendingEvent> _pendingEvents;
     private final List<StatsRolloverEventListener> _listeners;
 
-    private Pending(List<StatsRolloverEventListener> listeners)
+    Pending(List<StatsRolloverEventListener> listeners)
     {
       _pendingEvents = new ArrayList<>(4);
       _listeners = listeners;
     }
 
-    private void add(CallStats stats, boolean reset)
+    void add(CallStats stats, boolean reset)
     {
       _pendingEvents.add(new PendingEvent(stats, reset));
     }
 
-    private void deliver()
+    void deliver()
     {
       for (PendingEvent event : _pendingEvents)
       {
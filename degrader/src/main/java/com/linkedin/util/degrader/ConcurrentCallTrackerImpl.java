@@ -0,0 +1,520 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.util.degrader;
+
+import com.linkedin.common.stats.ConcurrentLongTracking;
+import com.linkedin.common.stats.LongTracker;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * {@link CallTracker} for call sites that are heavily used by many threads at once.
+ *
+ * It reports the same {@link CallStats} as {@link CallTrackerImpl}, but starting and ending calls does not take a
+ * tracker-wide lock. Counters are striped {@link LongAdder}s, call times are tracked by a
+ * {@link ConcurrentLongTracking}, whose percentiles are approximated by fixed-size histograms, and outstanding calls
+ * are tracked in per-thread stripes so that their count and start times are always read together. Only the rollover
+ * of the sampling interval, which happens at most once per interval, and {@link #reset()} are serialized.
+ *
+ * A call that ends while another thread rolls over the interval may be left out of the statistics of both intervals.
+ * The totals are not affected.
+ */
+public class ConcurrentCallTrackerImpl implements CallTracker
+{
+  private static final Clock DEFAULT_CLOCK = SystemClock.instance();
+  private static final ErrorType[] ERROR_TYPES = ErrorType.values();
+  private static final int MAX_STRIPES = 16;
+
+  private final Object _rolloverLock = new Object();
+
+  private final Clock _clock;
+  private final long _interval;
+  private final boolean _percentileTrackingEnabled;
+
+  private volatile long _lastStartTime;
+  private volatile long _lastResetTime;
+  private final LongAdder _callCountTotal = new LongAdder();
+  private final LongAdder _callStartCountTotal = new LongAdder();
+  private final LongAdder _errorCountTotal = new LongAdder();
+  private final AtomicIntegerArray _errorTypeCountsTotal = new AtomicIntegerArray(ERROR_TYPES.length);
+  private final AtomicInteger _concurrency = new AtomicInteger();
+  private final OutstandingStripe[] _outstanding;
+
+  // Replaced on every rollover, _stats is published after _current.
+  private volatile Interval _current;
+  private volatile CallStats _stats;
+
+  private CallTrackerImpl.Pending _pending = null;
+
+  // This CallTrackerListener list is immutable and copy-on-write.
+  private volatile List<StatsRolloverEventListener> _listeners = new ArrayList<>();
+
+  public ConcurrentCallTrackerImpl(long interval)
+  {
+    this(interval, DEFAULT_CLOCK);
+  }
+
+  public ConcurrentCallTrackerImpl(long interval, Clock clock)
+  {
+    this(interval, clock, true);
+  }
+
+  public ConcurrentCallTrackerImpl(long interval, Clock clock, boolean percentileTrackingEnabled)
+  {
+    _clock = clock;
+    _interval = interval;
+    _percentileTrackingEnabled = percentileTrackingEnabled;
+    _lastStartTime = -1;
+    _lastResetTime = _clock.currentTimeMillis();
+
+    int stripes = 1;
+    while (stripes < Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES))
+    {
+      stripes <<= 1;
+    }
+    _outstanding = new OutstandingStripe[stripes];
+    for (int i = 0; i < stripes; i++)
+    {
+      _outstanding[i] = new OutstandingStripe();
+    }
+
+    synchronized (_rolloverLock)
+    {
+      resetInterval();
+    }
+  }
+
+  @Override
+  public CallCompletion startCall()
+  {
+    long currentTime = _clock.currentTimeMillis();
+    Interval interval = getIntervalWithCurrentTime(currentTime);
+
+    _callStartCountTotal.increment();
+    interval._callStartCount.increment();
+    interval.updateConcurrentMax(_concurrency.incrementAndGet());
+    _lastStartTime = currentTime;
+
+    OutstandingStripe stripe = _outstanding[(int) Thread.currentThread().getId() & (_outstanding.length - 1)];
+    stripe.add(currentTime);
+    return new CallCompletionImpl(currentTime, stripe);
+  }
+
+  @Override
+  public CallStats getCallStats()
+  {
+    long currentTimeMillis = _clock.currentTimeMillis();
+    rolloverIfStale(currentTimeMillis);
+    return _stats;
+  }
+
+  @Override
+  public long getInterval()
+  {
+    return _interval;
+  }
+
+  @Override
+  public void addStatsRolloverEventListener(StatsRolloverEventListener listener)
+  {
+    synchronized (_rolloverLock)
+    {
+      List<StatsRolloverEventListener> copy = new ArrayList<>(_listeners);
+      copy.add(listener);
+      _listeners = Collections.unmodifiableList(copy);
+    }
+  }
+
+  @Override
+  public boolean removeStatsRolloverEventListener(StatsRolloverEventListener listener)
+  {
+    boolean removed = false;
+    synchronized (_rolloverLock)
+    {
+      if (_listeners.contains(listener))
+      {
+        List<StatsRolloverEventListener> copy = new ArrayList<>(_listeners);
+        removed = copy.remove(listener);
+        _listeners = Collections.unmodifiableList(copy);
+      }
+    }
+    return removed;
+  }
+
+  @Override
+  public long getCurrentCallCountTotal()
+  {
+    return _callCountTotal.sum();
+  }
+
+  @Override
+  public long getCurrentCallStartCountTotal()
+  {
+    return _callStartCountTotal.sum();
+  }
+
+  @Override
+  public long getCurrentErrorCountTotal()
+  {
+    return _errorCountTotal.sum();
+  }
+
+  @Override
+  public Map<ErrorType, Integer> getCurrentErrorTypeCountsTotal()
+  {
+    return Collections.unmodifiableMap(toMap(_errorTypeCountsTotal));
+  }
+
+  @Override
+  public int getCurrentConcurrency()
+  {
+    return _concurrency.get();
+  }
+
+  @Override
+  public long getTimeSinceLastCallStart()
+  {
+    long lastStartTime = _lastStartTime;
+    return lastStartTime == -1 ? -1 : _clock.currentTimeMillis() - lastStartTime;
+  }
+
+  @Override
+  public void reset()
+  {
+    CallTrackerImpl.Pending pending;
+    synchronized (_rolloverLock)
+    {
+      _lastStartTime = -1;
+      _lastResetTime = _clock.currentTimeMillis();
+      _callCountTotal.reset();
+      _callStartCountTotal.reset();
+      _errorCountTotal.reset();
+      for (int i = 0; i < _errorTypeCountsTotal.length(); i++)
+      {
+        _errorTypeCountsTotal.set(i, 0);
+      }
+      resetInterval();
+      pending = checkForPending();
+    }
+    // Always deliver pending events without holding _rolloverLock to avoid deadlocks.
+    if (pending != null)
+    {
+      pending.deliver();
+    }
+  }
+
+  @Override
+  public long getLastResetTime()
+  {
+    return _lastResetTime;
+  }
+
+  @Override
+  public void trackCall(long duration)
+  {
+    trackCall(duration, false);
+  }
+
+  @Override
+  public void trackCallWithError(long duration)
+  {
+    trackCall(duration, true);
+  }
+
+  private void trackCall(long duration, boolean hasError)
+  {
+    addCallData(duration, hasError, _clock.currentTimeMillis(), null);
+  }
+
+  private void addCallData(long duration, boolean hasError, long currentTime, ErrorType errorType)
+  {
+    Interval interval = getIntervalWithCurrentTime(currentTime);
+    interval._callTimeTracking.addValue(duration);
+    if (hasError)
+    {
+      interval._errorCount.increment();
+      _errorCountTotal.increment();
+      if (errorType != null)
+      {
+        interval._errorTypeCounts.incrementAndGet(errorType.ordinal());
+        _errorTypeCountsTotal.incrementAndGet(errorType.ordinal());
+      }
+    }
+    _callCountTotal.increment();
+  }
+
+  private Interval getIntervalWithCurrentTime(long currentTimeMillis)
+  {
+    rolloverIfStale(currentTimeMillis);
+    return _current;
+  }
+
+  private void rolloverIfStale(long currentTimeMillis)
+  {
+    if (_stats.stale(currentTimeMillis))
+    {
+      CallTrackerImpl.Pending pending;
+      synchronized (_rolloverLock)
+      {
+        rolloverIfStaleLocked(currentTimeMillis);
+        pending = checkForPending();
+      }
+      // Always deliver events without holding _rolloverLock to avoid deadlocks.
+      if (pending != null)
+      {
+        pending.deliver();
+      }
+    }
+  }
+
+  /**
+   * Same as CallTrackerImpl.Tracker#getStatsWithCurrentTime. Must be called while holding _rolloverLock.
+   */
+  private void rolloverIfStaleLocked(long currentTime)
+  {
+    if (_stats.stale(currentTime))
+    {
+      long offset = currentTime - _lastResetTime;
+      long currentStartOffset = ((offset / _interval) * _interval);
+      long lastEnd = _lastResetTime + currentStartOffset;
+      long lastStart = lastEnd - _interval;
+      long startTime = _current._startTime;
+      if (startTime == lastStart)
+      {
+        // Current interval has elapsed.
+        // Emit stats and start new current interval.
+        rolloverStats(lastEnd, false);
+      }
+      else if (startTime < lastStart)
+      {
+        // Current interval is stale, emit stale accumulated stats.
+        rolloverStats(startTime + _interval, false);
+        // Start new interval.
+        _current = new Interval(lastStart);
+        rolloverStats(lastEnd, false);
+      }
+    }
+  }
+
+  /**
+   * Emits the empty interval ending at the last reset. Must be called while holding _rolloverLock.
+   */
+  private void resetInterval()
+  {
+    _current = new Interval(_lastResetTime - _interval);
+    rolloverStats(_lastResetTime, true);
+  }
+
+  /**
+   * Publishes the stats of the current interval and starts a new interval. Must be called while holding
+   * _rolloverLock.
+   */
+  private void rolloverStats(long endTime, boolean reset)
+  {
+    Interval interval = _current;
+    _current = new Interval(endTime);
+
+    int outstandingCount = 0;
+    long sumOfOutstandingStartTimes = 0;
+    for (OutstandingStripe stripe : _outstanding)
+    {
+      synchronized (stripe)
+      {
+        outstandingCount += stripe._count;
+        sumOfOutstandingStartTimes += stripe._sumOfStartTimes;
+      }
+    }
+
+    CallStats stats = new CallTrackerImpl.CallTrackerStats(
+      _interval,
+      interval._startTime,
+      endTime,
+      _callCountTotal.sum(),
+      interval._callStartCount.intValue(),
+      _callStartCountTotal.sum(),
+      interval._errorCount.intValue(),
+      _errorCountTotal.sum(),
+      interval._concurrentMax.get(),
+      outstandingCount == 0 ? 0 : (sumOfOutstandingStartTimes / outstandingCount),
+      outstandingCount,
+      interval._callTimeTracking.getStats(),
+      toMap(interval._errorTypeCounts),
+      toMap(_errorTypeCountsTotal));
+    _stats = stats;
+
+    addPending(stats, reset);
+  }
+
+  /**
+   * Add a pending event that will be delivered to listeners after releasing _rolloverLock.
+   */
+  private void addPending(CallStats stats, boolean reset)
+  {
+    if (!_listeners.isEmpty())
+    {
+      if (_pending == null)
+      {
+        _pending = new CallTrackerImpl.Pending(_listeners);
+      }
+      _pending.add(stats, reset);
+    }
+  }
+
+  /**
+   * Returns the pending events and clears them, so that only the caller delivers them. Must be called while
+   * holding _rolloverLock.
+   */
+  private CallTrackerImpl.Pending checkForPending()
+  {
+    CallTrackerImpl.Pending pending = _pending;
+    _pending = null;
+    return pending;
+  }
+
+  private static Map<ErrorType, Integer> toMap(AtomicIntegerArray counts)
+  {
+    Map<ErrorType, Integer> map = new EnumMap<>(ErrorType.class);
+    for (int i = 0; i < counts.length(); i++)
+    {
+      int count = counts.get(i);
+      if (count > 0)
+      {
+        map.put(ERROR_TYPES[i], count);
+      }
+    }
+    return map;
+  }
+
+  private class CallCompletionImpl implements CallCompletion
+  {
+    private final AtomicBoolean _done = new AtomicBoolean();
+    private final long _start;
+    private final OutstandingStripe _stripe;
+    private final AtomicLong _endTime = new AtomicLong(0);
+
+    private CallCompletionImpl(long currentTime, OutstandingStripe stripe)
+    {
+      _start = currentTime;
+      _stripe = stripe;
+    }
+
+    @Override
+    public void record()
+    {
+      _endTime.compareAndSet(0, _clock.currentTimeMillis());
+    }
+
+    @Override
+    public void endCall()
+    {
+      endCall(false, null);
+    }
+
+    @Override
+    public void endCallWithError()
+    {
+      endCall(true, null);
+    }
+
+    @Override
+    public void endCallWithError(ErrorType errorType)
+    {
+      endCall(true, errorType);
+    }
+
+    private void endCall(boolean hasError, ErrorType errorType)
+    {
+      if (_done.compareAndSet(false, true))
+      {
+        _endTime.compareAndSet(0, _clock.currentTimeMillis());
+        long endTime = _endTime.get();
+
+        if (_start >= _lastResetTime)
+        {
+          addCallData(endTime - _start, hasError, endTime, errorType);
+        }
+
+        // Concurrency is not reset
+        _concurrency.decrementAndGet();
+        _stripe.remove(_start);
+      }
+    }
+  }
+
+  /**
+   * Statistics of the current sampling interval.
+   */
+  private class Interval
+  {
+    private final long _startTime;
+    private final LongAdder _callStartCount = new LongAdder();
+    private final LongAdder _errorCount = new LongAdder();
+    private final AtomicInteger _concurrentMax;
+    private final LongTracker _callTimeTracking;
+    // Number of specific errors that happened in this interval, indexed by ErrorType ordinal.
+    private final AtomicIntegerArray _errorTypeCounts = new AtomicIntegerArray(ERROR_TYPES.length);
+
+    private Interval(long startTime)
+    {
+      _startTime = startTime;
+      _concurrentMax = new AtomicInteger(_concurrency.get());
+      _callTimeTracking = new ConcurrentLongTracking(_percentileTrackingEnabled);
+    }
+
+    private void updateConcurrentMax(int concurrency)
+    {
+      int max = _concurrentMax.get();
+      while (concurrency > max && !_concurrentMax.compareAndSet(max, concurrency))
+      {
+        max = _concurrentMax.get();
+      }
+    }
+  }
+
+  /**
+   * Outstanding calls started by a subset of the threads. A call is removed from the stripe it was added to, so the
+   * count and the sum of start times of a stripe are always consistent with each other.
+   */
+  private static class OutstandingStripe
+  {
+    private int _count;
+    private long _sumOfStartTimes;
+
+    private synchronized void add(long startTime)
+    {
+      _count++;
+      _sumOfStartTimes += startTime;
+    }
+
+    private synchronized void remove(long startTime)
+    {
+      _count--;
+      _sumOfStartTimes -= startTime;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.util.degrader;
+
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SettableClock;
+import com.linkedin.util.clock.Time;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Runs the {@link TestCallTracker} tests against {@link ConcurrentCallTrackerImpl}.
+ */
+public class TestConcurrentCallTracker extends TestCallTracker
+{
+  @Override
+  protected CallTracker createCallTracker(long interval, Clock clock)
+  {
+    return new ConcurrentCallTrackerImpl(interval, clock);
+  }
+
+  @Test
+  public void testConcurrentCalls() throws Exception
+  {
+    final int threads = 8;
+    final int callsPerThread = 10000;
+    final SettableClock clock = new SettableClock();
+    final CallTracker callTracker = createCallTracker(Time.minutes(1), clock);
+    final CountDownLatch outstanding = new CountDownLatch(threads);
+    final CountDownLatch done = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try
+    {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++)
+      {
+        futures.add(executor.submit(() ->
+        {
+          for (int call = 0; call < callsPerThread; call++)
+          {
+            CallCompletion completion = callTracker.startCall();
+            if (call % 10 == 0)
+            {
+              completion.endCallWithError(ErrorType.REMOTE_INVOCATION_EXCEPTION);
+            }
+            else
+            {
+              completion.endCall();
+            }
+          }
+          // Leave one call outstanding per thread, ended by another thread.
+          CallCompletion completion = callTracker.startCall();
+          outstanding.countDown();
+          done.await();
+          return completion;
+        }));
+      }
+      outstanding.await();
+
+      Assert.assertEquals(callTracker.getCurrentConcurrency(), threads);
+      Assert.assertEquals(callTracker.getCurrentCallStartCountTotal(), threads * (callsPerThread + 1));
+      Assert.assertEquals(callTracker.getCurrentCallCountTotal(), threads * callsPerThread);
+      Assert.assertEquals(callTracker.getCurrentErrorCountTotal(), threads * callsPerThread / 10);
+      Assert.assertEquals(callTracker.getCurrentErrorTypeCountsTotal().get(ErrorType.REMOTE_INVOCATION_EXCEPTION),
+          Integer.valueOf(threads * callsPerThread / 10));
+
+      clock.addDuration(Time.minutes(1));
+      CallTracker.CallStats stats = callTracker.getCallStats();
+      Assert.assertEquals(stats.getCallCount(), threads * callsPerThread);
+      Assert.assertEquals(stats.getCallStartCount(), threads * (callsPerThread + 1));
+      Assert.assertEquals(stats.getErrorCount(), threads * callsPerThread / 10);
+      Assert.assertEquals(stats.getOutstandingCount(), threads);
+      Assert.assertEquals(stats.getOutstandingStartTimeAvg(), Time.minutes(1));
+      Assert.assertEquals(stats.getConcurrentMax(), threads);
+
+      done.countDown();
+      for (Future<?> future : futures)
+      {
+        ((CallCompletion) future.get()).endCall();
+      }
+      Assert.assertEquals(callTracker.getCurrentConcurrency(), 0);
+      Assert.assertEquals(callTracker.getCurrentCallCountTotal(), threads * (callsPerThread + 1));
+
+      clock.addDuration(Time.minutes(1));
+      stats = callTracker.getCallStats();
+      Assert.assertEquals(stats.getCallCount(), threads);
+      Assert.assertEquals(stats.getOutstandingCount(), 0);
+      Assert.assertEquals(stats.getOutstandingStartTimeAvg(), 0);
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+}
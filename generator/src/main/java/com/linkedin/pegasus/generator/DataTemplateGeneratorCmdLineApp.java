@@ -72,6 +72,11 @@ public class DataTemplateGeneratorCmdLineApp
     OptionBuilder.hasArg(false);
     OptionBuilder.withDescription("Specifies if field mask classes should not be generated for templates.");
     OPTIONS.addOption(OptionBuilder.create('m'));
+    OptionBuilder.withArgName("Generate record serializers");
+    OptionBuilder.withLongOpt("generateRecordSerializers");
+    OptionBuilder.hasArg(false);
+    OptionBuilder.withDescription("Specifies if serializers that write records in schema order should be generated for record templates.");
+    OPTIONS.addOption(OptionBuilder.create('s'));
     OptionBuilder.withArgName("Target directory");
     OptionBuilder.withLongOpt("targetDir");
     OptionBuilder.hasArg();
@@ -131,6 +136,7 @@ public class DataTemplateGeneratorCmdLineApp
       // If not case sensitive, we will use lower case always
       final boolean generateLowercasePath = !Boolean.parseBoolean(cl.getOptionValue('c', "false"));
       final boolean generateFieldMask = !Boolean.parseBoolean(cl.getOptionValue('m', "false"));
+      final boolean generateRecordSerializers = cl.hasOption('s');
       final String targetDirectory = cl.getOptionValue('d');
       final String defaultPackage = cl.getOptionValue('n');
       String resolverPath = cl.getOptionValue('p');
@@ -168,6 +174,7 @@ public class DataTemplateGeneratorCmdLineApp
           sources,
           generateLowercasePath,
           generateFieldMask,
+          generateRecordSerializers,
           resolverSchemaDirectories);
     }
     catch (ParseException | IOException e)
@@ -180,7 +187,7 @@ public class DataTemplateGeneratorCmdLineApp
 
   private static void run(String resolverPath, String defaultPackage, String rootPath, final boolean generateImported,
       String targetDirectoryPath, String[] sources, boolean generateLowercasePath, boolean generateFieldMask,
-      String[] resolverSchemaDirectories)
+      boolean generateRecordSerializers, String[] resolverSchemaDirectories)
       throws IOException
   {
     final DataSchemaParser.Builder schemaParserBuilder = new DataSchemaParser.Builder(resolverPath);
@@ -196,6 +203,7 @@ public class DataTemplateGeneratorCmdLineApp
     config.setDefaultPackage(defaultPackage);
     config.setRootPath(rootPath);
     config.setFieldMaskMethods(generateFieldMask);
+    config.setRecordSerializers(generateRecordSerializers);
 
     for (DataSchema predefinedSchema : JavaDataTemplateGenerator.PredefinedJavaClasses.keySet())
     {
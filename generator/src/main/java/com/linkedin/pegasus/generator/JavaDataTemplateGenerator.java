@@ -51,6 +51,8 @@ import com.linkedin.data.template.IntegerArray;
 import com.linkedin.data.template.IntegerMap;
 import com.linkedin.data.template.LongArray;
 import com.linkedin.data.template.LongMap;
+import com.linkedin.data.template.RecordFieldWriter;
+import com.linkedin.data.template.RecordSerializer;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.RequiredFieldNotPresentException;
 import com.linkedin.data.template.StringArray;
@@ -79,6 +81,7 @@ import com.sun.codemodel.JConditional;
 import com.sun.codemodel.JFieldRef;
 import com.sun.codemodel.JOp;
 import com.sun.codemodel.JSwitch;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -184,6 +187,7 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
   private final boolean _pathSpecMethods;
   private final boolean _fieldMaskMethods;
   private final boolean _copierMethods;
+  private final boolean _recordSerializers;
   private final String _rootPath;
   private final ProjectionMaskApiChecker _projectionMaskApiChecker;
 
@@ -194,6 +198,7 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
                                     boolean copierMethods,
                                     String rootPath,
                                     boolean fieldMaskMethods,
+                                    boolean recordSerializers,
                                     ProjectionMaskApiChecker projectionMaskApiChecker)
   {
     super(defaultPackage);
@@ -211,6 +216,7 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
     _pathSpecMethods = pathSpecMethods;
     _fieldMaskMethods = fieldMaskMethods;
     _copierMethods = copierMethods;
+    _recordSerializers = recordSerializers;
     _rootPath = rootPath;
     _projectionMaskApiChecker = projectionMaskApiChecker;
   }
@@ -224,6 +230,7 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
          config.getCopierMethods(),
          config.getRootPath(),
          config.isFieldMaskMethods(),
+         config.getRecordSerializers(),
          config.getProjectionMaskApiChecker());
   }
 
@@ -249,6 +256,7 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
          true,
          rootPath,
          false,
+         false,
          null);
   }
 
@@ -798,6 +806,11 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
     {
       generateCopierMethods(templateClass, fieldVarMap, changeListenerClass);
     }
+
+    if (_recordSerializers)
+    {
+      generateRecordSerializer(templateClass, recordSpec.getFields(), schemaFieldVar);
+    }
   }
 
   /**
@@ -1795,6 +1808,99 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
     argConstructor.body().invoke("putAll").arg(m);
   }
 
+  /**
+   * Generates a {@link RecordSerializer} that writes the fields of the record in schema order, and registers it
+   * when the record class is initialized.
+   */
+  private void generateRecordSerializer(JDefinedClass templateClass, List<RecordTemplateSpec.Field> fields,
+      JFieldVar schemaFieldVar) throws JClassAlreadyExistsException
+  {
+    final JDefinedClass serializerClass = templateClass._class(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, "Serializer");
+    serializerClass._extends(RecordSerializer.class);
+
+    final JMethod constructor = serializerClass.constructor(JMod.PRIVATE);
+    final JInvocation superInvocation = constructor.body().invoke("super").arg(schemaFieldVar);
+    fields.forEach(field -> superInvocation.arg(JExpr.lit(field.getSchemaField().getName())));
+
+    final JMethod writeFields = serializerClass.method(JMod.PROTECTED, void.class, "writeFields");
+    writeFields.annotate(Override.class);
+    writeFields._throws(IOException.class);
+    final JVar mapParam = writeFields.param(DataMap.class, "map");
+    final JVar writerParam = writeFields.param(RecordFieldWriter.class, "writer");
+    final JBlock body = writeFields.body();
+    if (!fields.isEmpty())
+    {
+      final JVar valueVar = body.decl(_objectClass, "value");
+      for (int i = 0; i < fields.size(); i++)
+      {
+        final RecordTemplateSpec.Field field = fields.get(i);
+        final RecordDataSchema.Field schemaField = field.getSchemaField();
+        body.assign(valueVar, mapParam.invoke("get").arg(JExpr.lit(schemaField.getName())));
+
+        final JExpression index = JExpr.lit(i);
+        final DataSchema schema = schemaField.getType().getDereferencedDataSchema();
+        final JConditional typed;
+        switch (schema.getType())
+        {
+          case INT:
+            typed = writeTypedField(body, valueVar, getCodeModel().ref(Integer.class), writerParam.invoke("writeInt").arg(index));
+            break;
+          case LONG:
+            typed = writeTypedField(body, valueVar, getCodeModel().ref(Long.class), writerParam.invoke("writeLong").arg(index));
+            break;
+          case FLOAT:
+            typed = writeTypedField(body, valueVar, getCodeModel().ref(Float.class), writerParam.invoke("writeFloat").arg(index));
+            break;
+          case DOUBLE:
+            typed = writeTypedField(body, valueVar, getCodeModel().ref(Double.class), writerParam.invoke("writeDouble").arg(index));
+            break;
+          case BOOLEAN:
+            typed = writeTypedField(body, valueVar, getCodeModel().ref(Boolean.class), writerParam.invoke("writeBoolean").arg(index));
+            break;
+          case STRING:
+          case ENUM:
+            typed = writeTypedField(body, valueVar, _stringClass, writerParam.invoke("writeString").arg(index));
+            break;
+          case BYTES:
+          case FIXED:
+            typed = writeTypedField(body, valueVar, _byteStringClass, writerParam.invoke("writeBytes").arg(index));
+            break;
+          case RECORD:
+            typed = field.getType() instanceof RecordTemplateSpec
+                ? writeTypedField(body, valueVar, _dataMapClass, writerParam.invoke("writeRecord").arg(index)
+                    .arg(generate(field.getType()).dotclass()))
+                : null;
+            break;
+          case ARRAY:
+            final ClassTemplateSpec itemClass = field.getType() instanceof ArrayTemplateSpec
+                ? ((ArrayTemplateSpec) field.getType()).getItemClass() : null;
+            typed = itemClass instanceof RecordTemplateSpec
+                ? writeTypedField(body, valueVar, _dataListClass, writerParam.invoke("writeRecordArray").arg(index)
+                    .arg(generate(itemClass).dotclass()))
+                : null;
+            break;
+          default:
+            typed = null;
+        }
+
+        final JBlock generic = typed == null ? body._if(valueVar.ne(JExpr._null()))._then()
+            : typed._elseif(valueVar.ne(JExpr._null()))._then();
+        generic.add(writerParam.invoke("writeValue").arg(index).arg(valueVar));
+      }
+    }
+
+    templateClass.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, RecordSerializer.class, "_serializer",
+        getCodeModel().ref(RecordSerializer.class).staticInvoke("register").arg(templateClass.dotclass())
+            .arg(JExpr._new(serializerClass)));
+  }
+
+  private static JConditional writeTypedField(JBlock body, JVar valueVar, JClass type, JInvocation write)
+  {
+    final JConditional conditional = body._if(valueVar._instanceof(type));
+    conditional._then().add(write.arg(JExpr.cast(type, valueVar)));
+    return conditional;
+  }
+
   private JClass generateChangeListener(JDefinedClass cls, Map<String, JVar> fieldMap) throws JClassAlreadyExistsException
   {
     final JClass changeListenerInterface = getCodeModel().ref(CheckedMap.ChangeListener.class);
@@ -1918,6 +2024,7 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
     private boolean _pathSpecMethods;
     private boolean _fieldMaskMethods;
     private boolean _copierMethods;
+    private boolean _recordSerializers;
     private String _rootPath;
     private ProjectionMaskApiChecker _projectionMaskApiChecker;
 
@@ -1929,6 +2036,7 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
       _pathSpecMethods = true;
       _fieldMaskMethods = false;
       _copierMethods = true;
+      _recordSerializers = false;
       _rootPath = null;
     }
 
@@ -1992,6 +2100,21 @@ public class JavaDataTemplateGenerator extends JavaCodeGeneratorBase
       return _copierMethods;
     }
 
+    /**
+     * @param recordSerializers whether to generate a {@link RecordSerializer} for each record, see
+     *                          {@link com.linkedin.data.template.JacksonDataTemplateCodec} and
+     *                          {@link com.linkedin.data.template.ProtobufDataTemplateCodec}. Disabled by default.
+     */
+    public void setRecordSerializers(boolean recordSerializers)
+    {
+      _recordSerializers = recordSerializers;
+    }
+
+    public boolean getRecordSerializers()
+    {
+      return _recordSerializers;
+    }
+
     public void setRootPath(String rootPath)
     {
       _rootPath = rootPath;
@@ -0,0 +1,215 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.pegasus.generator;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.ProtobufCodecOptions;
+import com.linkedin.data.codec.symbol.InMemorySymbolTable;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.DataSchemaLocation;
+import com.linkedin.data.template.JacksonDataTemplateCodec;
+import com.linkedin.data.template.ProtobufDataTemplateCodec;
+import com.linkedin.data.template.RecordSerializer;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.pegasus.generator.spec.ClassTemplateSpec;
+import com.sun.codemodel.writer.FileCodeWriter;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class TestRecordSerializerGeneration
+{
+  private static final String NAMESPACE = "com.linkedin.pegasus.generator.serializer";
+  private static final String SCHEMA =
+      "namespace " + NAMESPACE + "\n"
+      + "record Greeting {\n"
+      + "  id: long\n"
+      + "  message: string\n"
+      + "  tone: enum Tone { FRIENDLY, SINCERE }\n"
+      + "  score: optional double\n"
+      + "  ratio: float\n"
+      + "  count: int\n"
+      + "  flag: boolean\n"
+      + "  payload: bytes\n"
+      + "  sender: record Sender { name: string, id: int }\n"
+      + "  recipients: array[Sender]\n"
+      + "  attributes: map[string, int]\n"
+      + "}\n";
+
+  private File _tempDir;
+  private Class<? extends RecordTemplate> _greetingClass;
+
+  @BeforeClass
+  public void generateAndCompile() throws Exception
+  {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null)
+    {
+      throw new SkipException("A Java compiler is required to compile the generated templates");
+    }
+
+    _tempDir = Files.createTempDirectory(getClass().getSimpleName()).toFile();
+    final File schemaDir = new File(_tempDir, "pegasus");
+    final File sourceDir = new File(_tempDir, "src");
+    final File classDir = new File(_tempDir, "classes");
+    final File schemaFile = new File(schemaDir, NAMESPACE.replace('.', File.separatorChar) + File.separator + "Greeting.pdl");
+    Assert.assertTrue(schemaFile.getParentFile().mkdirs() && sourceDir.mkdirs() && classDir.mkdirs());
+    Files.write(schemaFile.toPath(), SCHEMA.getBytes(StandardCharsets.UTF_8));
+
+    final DataSchemaParser schemaParser = new DataSchemaParser.Builder(schemaDir.getAbsolutePath()).build();
+    final TemplateSpecGenerator specGenerator = new TemplateSpecGenerator(schemaParser.getSchemaResolver());
+    JavaDataTemplateGenerator.PredefinedJavaClasses.keySet().forEach(specGenerator::registerDefinedSchema);
+    final DataSchemaParser.ParseResult parseResult = schemaParser.parseSources(new String[] { schemaFile.getAbsolutePath() });
+    for (Map.Entry<DataSchema, DataSchemaLocation> entry : parseResult.getSchemaAndLocations().entrySet())
+    {
+      specGenerator.generate(entry.getKey(), entry.getValue());
+    }
+
+    final JavaDataTemplateGenerator.Config config = new JavaDataTemplateGenerator.Config();
+    config.setRecordSerializers(true);
+    final JavaDataTemplateGenerator generator = new JavaDataTemplateGenerator(config);
+    for (ClassTemplateSpec spec : specGenerator.getGeneratedSpecs())
+    {
+      generator.generate(spec);
+    }
+    generator.getCodeModel().build(new FileCodeWriter(sourceDir));
+
+    final List<String> arguments = new ArrayList<>(Arrays.asList(
+        "-classpath", System.getProperty("java.class.path"), "-d", classDir.getAbsolutePath()));
+    try (Stream<Path> paths = Files.walk(sourceDir.toPath()))
+    {
+      arguments.addAll(paths.filter(path -> path.toString().endsWith(".java")).map(Object::toString).collect(Collectors.toList()));
+    }
+    Assert.assertEquals(compiler.run(null, null, null, arguments.toArray(new String[0])), 0);
+
+    final ClassLoader classLoader = new URLClassLoader(new URL[] { classDir.toURI().toURL() }, getClass().getClassLoader());
+    _greetingClass = Class.forName(NAMESPACE + ".Greeting", true, classLoader).asSubclass(RecordTemplate.class);
+  }
+
+  @AfterClass
+  public void deleteTempDir() throws Exception
+  {
+    if (_tempDir != null)
+    {
+      FileUtils.forceDelete(_tempDir);
+    }
+  }
+
+  private static DataMap sender(String name, int id)
+  {
+    final DataMap sender = new DataMap();
+    sender.put("id", id);
+    sender.put("name", name);
+    return sender;
+  }
+
+  private RecordTemplate greeting(DataMap data) throws Exception
+  {
+    return _greetingClass.getConstructor(DataMap.class).newInstance(data);
+  }
+
+  private static DataMap data()
+  {
+    final DataMap data = new DataMap();
+    data.put("attributes", new DataMap(Collections.singletonMap("a", 1)));
+    data.put("recipients", new DataList(Arrays.asList(sender("Bob", 2), sender("Carol", 3))));
+    data.put("sender", sender("Alice", 1));
+    data.put("payload", ByteString.copy(new byte[] { 1, 2 }));
+    data.put("flag", true);
+    data.put("count", 7);
+    data.put("ratio", 0.5f);
+    data.put("tone", "FRIENDLY");
+    data.put("message", "Hello");
+    data.put("id", 42L);
+    return data;
+  }
+
+  @Test
+  public void testJsonSerialization() throws Exception
+  {
+    final RecordTemplate greeting = greeting(data());
+    Assert.assertNotNull(RecordSerializer.forTemplate(greeting));
+    Assert.assertNotNull(RecordSerializer.forClass(Class.forName(NAMESPACE + ".Sender", false, _greetingClass.getClassLoader())));
+
+    final JacksonDataTemplateCodec codec = new JacksonDataTemplateCodec();
+    Assert.assertEquals(codec.dataTemplateToString(greeting),
+        "{\"id\":42,\"message\":\"Hello\",\"tone\":\"FRIENDLY\",\"ratio\":0.5,\"count\":7,\"flag\":true,"
+            + "\"payload\":\"\\u0001\\u0002\",\"sender\":{\"name\":\"Alice\",\"id\":1},"
+            + "\"recipients\":[{\"name\":\"Bob\",\"id\":2},{\"name\":\"Carol\",\"id\":3}],\"attributes\":{\"a\":1}}");
+    Assert.assertEquals(codec.bytesToMap(codec.dataTemplateToBytes(greeting)), codec.bytesToMap(codec.mapToBytes(greeting.data())));
+  }
+
+  @Test
+  public void testUnexpectedValues() throws Exception
+  {
+    final DataMap data = data();
+    data.put("count", "seven");
+    data.put("score", 1);
+    data.put("unknown", new DataMap());
+    data.getDataList("recipients").add("invalid");
+    final RecordTemplate greeting = greeting(data);
+
+    final JacksonDataTemplateCodec codec = new JacksonDataTemplateCodec();
+    final String json = codec.dataTemplateToString(greeting);
+    Assert.assertTrue(json.contains("\"count\":\"seven\",\"flag\":true"), json);
+    Assert.assertTrue(json.endsWith(",\"unknown\":{}}"), json);
+    Assert.assertEquals(codec.stringToMap(json), codec.stringToMap(codec.mapToString(data)));
+  }
+
+  @Test
+  public void testProtobufSerialization() throws Exception
+  {
+    final RecordTemplate greeting = greeting(data());
+    final ProtobufCodecOptions options = new ProtobufCodecOptions.Builder()
+        .setSymbolTable(new InMemorySymbolTable("greetings", Arrays.asList("id", "message", "recipients")))
+        .build();
+    final ProtobufDataTemplateCodec codec = new ProtobufDataTemplateCodec(options);
+    final byte[] bytes = codec.dataTemplateToBytes(greeting);
+    Assert.assertEquals(codec.bytesToMap(bytes), greeting.data());
+    Assert.assertEquals(bytes.length, codec.mapToBytes(greeting.data()).length);
+
+    // field names are encoded with the symbol table of each codec
+    final ProtobufDataTemplateCodec otherCodec = new ProtobufDataTemplateCodec(new ProtobufCodecOptions.Builder()
+        .setSymbolTable(new InMemorySymbolTable("others", Arrays.asList("recipients", "id")))
+        .build());
+    final byte[] otherBytes = otherCodec.dataTemplateToBytes(greeting);
+    Assert.assertEquals(otherCodec.bytesToMap(otherBytes), greeting.data());
+    Assert.assertEquals(otherBytes.length, otherCodec.mapToBytes(greeting.data()).length);
+    Assert.assertEquals(codec.dataTemplateToBytes(greeting), bytes);
+  }
+}
@@ -273,6 +273,68 @@ class PegasusPluginIntegrationTest extends Specification {
     gradleVersion << IntegTestingUtil.ALL_SUPPORTED_GRADLE_VERSIONS
   }
 
+  @Unroll
+  def "generateDataTemplate generates record serializers when enabled with Gradle #gradleVersion"() {
+    setup:
+    tempDir.newFile('build.gradle') << """
+    |plugins {
+    |  id 'pegasus'
+    |}
+    |
+    |repositories {
+    |  mavenCentral()
+    |}
+    |
+    |dependencies {
+    |  dataTemplateCompile files(${System.getProperty('integTest.dataTemplateCompileDependencies')})
+    |  pegasusPlugin files(${System.getProperty('integTest.pegasusPluginDependencies')})
+    |}
+    """.stripMargin()
+
+    tempDir.newFile('settings.gradle') << '''
+    |rootProject.name = 'root'
+    '''.stripMargin()
+
+    def schemaDir = tempDir.newFolder('src', 'main', 'pegasus', 'com', 'linkedin')
+    new File(schemaDir, 'LatLong.pdl') << '''
+    |namespace com.linkedin
+    |
+    |record LatLong {
+    |  latitude: optional float
+    |  longitude: optional float
+    |}
+    '''.stripMargin()
+
+    def runner = GradleRunner.create()
+        .withEnvironment([PEGASUS_INTEGRATION_TESTING: 'true'])
+        .withGradleVersion(gradleVersion)
+        .withProjectDir(tempDir.root)
+        .withPluginClasspath()
+        .forwardOutput()
+    def generatedTemplate = new File(tempDir.root, 'src/mainGeneratedDataTemplate/java/com/linkedin/LatLong.java')
+
+    when:
+    def result = runner
+        .withArguments('compileMainGeneratedDataTemplateJava', '-PpegasusPlugin.generateRecordSerializers=true')
+        .build()
+
+    then:
+    result.task(':generateDataTemplate').outcome == SUCCESS
+    result.task(':compileMainGeneratedDataTemplateJava').outcome == SUCCESS
+    generatedTemplate.text.contains('RecordSerializer.register(')
+
+    when:
+    result = runner.withArguments('compileMainGeneratedDataTemplateJava').build()
+
+    then:
+    // the option is an input of the task, so turning it off generates the templates again
+    result.task(':generateDataTemplate').outcome == SUCCESS
+    !generatedTemplate.text.contains('RecordSerializer')
+
+    where:
+    gradleVersion << IntegTestingUtil.ALL_SUPPORTED_GRADLE_VERSIONS
+  }
+
   private static boolean assertZipContains(File zip, String path) {
     return new ZipFile(zip).getEntry(path)
   }
@@ -597,6 +597,8 @@ public class PegasusPlugin implements Plugin<Project>
   private static final String ENABLE_ARG_FILE = "pegasusPlugin.enableArgFile";
   // Enable the generation of fluent APIs
   private static final String ENABLE_FLUENT_API = "pegasusPlugin.enableFluentApi";
+  // Enable the generation of serializers writing the fields of record templates in schema order
+  private static final String GENERATE_RECORD_SERIALIZERS = "pegasusPlugin.generateRecordSerializers";
 
   // This config impacts GenerateDataTemplateTask and GenerateRestClientTask;
   // If not set, by default all paths generated in these two tasks will be lower-case.
@@ -1680,6 +1682,10 @@ public class PegasusPlugin implements Plugin<Project>
           {
             task.setGenerateLowercasePath(false);
           }
+          if (isPropertyTrue(project, GENERATE_RECORD_SERIALIZERS))
+          {
+            task.setGenerateRecordSerializers(true);
+          }
 
           task.onlyIf(t ->
           {
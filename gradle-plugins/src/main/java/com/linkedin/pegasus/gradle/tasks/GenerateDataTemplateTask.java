@@ -48,6 +48,7 @@ public class GenerateDataTemplateTask extends DefaultTask
   private boolean _enableArgFile;
   private Boolean _generateLowercasePath;
   private Boolean _generateFieldMask;
+  private Boolean _generateRecordSerializers;
   private Boolean _generateImported;
   private List<String> _resolverDirectories;
 
@@ -148,6 +149,22 @@ public class GenerateDataTemplateTask extends DefaultTask
     _generateFieldMask = generateFieldMask;
   }
 
+  /**
+   * Whether to generate a serializer writing the fields in schema order for each record template. Not generated
+   * unless set to true.
+   */
+  @Optional
+  @Input
+  public Boolean isGenerateRecordSerializers()
+  {
+    return _generateRecordSerializers;
+  }
+
+  public void setGenerateRecordSerializers(Boolean generateRecordSerializers)
+  {
+    _generateRecordSerializers = generateRecordSerializers;
+  }
+
   /**
    * @deprecated by {@link #isGenerateLowercasePath()} ()} because Gradle 7
    *     requires input and output properties to be annotated on getters, which
@@ -252,6 +269,10 @@ public class GenerateDataTemplateTask extends DefaultTask
       {
         javaExecSpec.args("--skipFieldMask");
       }
+      if (_generateRecordSerializers != null && _generateRecordSerializers)
+      {
+        javaExecSpec.args("--generateRecordSerializers");
+      }
       if (_resolverDirectories != null)
       {
         javaExecSpec.args("--resolverSchemaDirectories", String.join(",", _resolverDirectories));
@@ -329,4 +329,24 @@ final class ByteArrayReader extends ProtoReader
     }
     return _buffer[_pos++];
   }
+
+  @Override
+  public void skipRawBytes(int length) throws IOException
+  {
+    if (length < 0)
+    {
+      throw new IOException("Negative length: " + length);
+    }
+    if (length > _limit - _pos)
+    {
+      throw new EOFException();
+    }
+    _pos += length;
+  }
+
+  @Override
+  public int getPosition()
+  {
+    return _pos;
+  }
 }
@@ -148,4 +148,31 @@ public abstract class ProtoReader
    * @throws EOFException The end of the stream or the current _limit was reached.
    */
   public abstract byte readRawByte() throws IOException;
+
+  /**
+   * Skip the given number of bytes of the _input.
+   *
+   * @throws EOFException The end of the stream or the current _limit was reached.
+   */
+  public void skipRawBytes(int length) throws IOException
+  {
+    if (length < 0)
+    {
+      throw new IOException("Negative length: " + length);
+    }
+    for (int i = 0; i < length; i++)
+    {
+      readRawByte();
+    }
+  }
+
+  /**
+   * Get the offset of the next byte to read, if the _input is a byte array.
+   *
+   * @return the offset in the byte array of the next byte to read, or -1 if the _input is not a byte array.
+   */
+  public int getPosition()
+  {
+    return -1;
+  }
 }
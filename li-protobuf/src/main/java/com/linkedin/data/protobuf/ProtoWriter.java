@@ -81,10 +81,21 @@ public class ProtoWriter implements Closeable
    * Create a new {@code ProtoWriter} wrapping the given {@code OutputStream} with the given buffer size.
    */
   public ProtoWriter(OutputStream out, int bufferSize)
+  {
+    this(out, new byte[bufferSize]);
+  }
+
+  /**
+   * Create a new {@code ProtoWriter} wrapping the given {@code OutputStream}, using the given array as its buffer.
+   *
+   * <p>The buffer is only used as scratch space: its contents are always copied to the {@code OutputStream} when the
+   * writer is flushed, so the caller may reuse it once this writer has been closed.</p>
+   */
+  public ProtoWriter(OutputStream out, byte[] buffer)
   {
     _out = out;
-    _buffer = new byte[bufferSize];
-    _limit = bufferSize;
+    _buffer = buffer;
+    _limit = buffer.length;
   }
 
   /**
@@ -0,0 +1,127 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.common.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Thread-safe {@link LongTracker} that can be updated by many threads without locking.
+ *
+ * Count, sum and sum of squares are kept in striped adders. Percentiles are computed from a fixed-size histogram of
+ * log-linear buckets, so the memory used does not depend on the number of values added. Percentiles below 32 are
+ * exact, larger ones are reported within about 3% of their actual value up to {@code 2^32 - 1}, and percentiles are
+ * always bounded by the minimum and maximum values.
+ *
+ * The statistics are not an atomic snapshot: values added while {@link #getStats()} or {@link #reset()} is running
+ * may be partially accounted for.
+ */
+public class ConcurrentLongTracking implements LongTracker
+{
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int HIGHEST_EXPONENT = 31;
+  private static final LogLinearBuckets BUCKETS = new LogLinearBuckets(SUB_BUCKET_BITS, HIGHEST_EXPONENT);
+
+  private final LongAdder _count = new LongAdder();
+  private final LongAdder _sum = new LongAdder();
+  private final LongAdder _sumOfSquares = new LongAdder();
+  private final LongAccumulator _min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator _max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+  private final AtomicLongArray _buckets;
+
+  public ConcurrentLongTracking()
+  {
+    this(true);
+  }
+
+  /**
+   * @param percentileTrackingEnabled whether to track percentiles. Percentiles are reported as -1 when disabled,
+   *                                  as {@link SimpleLongTracking} does.
+   */
+  public ConcurrentLongTracking(boolean percentileTrackingEnabled)
+  {
+    _buckets = percentileTrackingEnabled ? new AtomicLongArray(BUCKETS.getBucketCount()) : null;
+  }
+
+  @Override
+  public void addValue(long value)
+  {
+    _count.increment();
+    _sum.add(value);
+    _sumOfSquares.add(value * value);
+    _min.accumulate(value);
+    _max.accumulate(value);
+    if (_buckets != null)
+    {
+      _buckets.incrementAndGet(BUCKETS.indexOf(value));
+    }
+  }
+
+  @Override
+  public LongStats getStats()
+  {
+    final int count = (int) _count.sum();
+    if (count == 0)
+    {
+      final long noPercentile = _buckets == null ? -1L : 0L;
+      return new LongStats(0, 0, 0, 0, 0, noPercentile, noPercentile, noPercentile, noPercentile);
+    }
+
+    final long sum = _sum.sum();
+    final double average = (double) sum / count;
+    final double variation = (_sumOfSquares.sum() - sum * average) / count;
+    final long min = _min.get();
+    final long max = _max.get();
+
+    if (_buckets == null)
+    {
+      return new LongStats(count, average, Math.sqrt(variation), min, max, -1L, -1L, -1L, -1L);
+    }
+
+    final long[] buckets = new long[_buckets.length()];
+    long bucketTotal = 0;
+    for (int i = 0; i < buckets.length; i++)
+    {
+      buckets[i] = _buckets.get(i);
+      bucketTotal += buckets[i];
+    }
+    return new LongStats(count, average, Math.sqrt(variation), min, max,
+        BUCKETS.getPercentile(buckets, bucketTotal, 0.50, min, max),
+        BUCKETS.getPercentile(buckets, bucketTotal, 0.90, min, max),
+        BUCKETS.getPercentile(buckets, bucketTotal, 0.95, min, max),
+        BUCKETS.getPercentile(buckets, bucketTotal, 0.99, min, max));
+  }
+
+  @Override
+  public void reset()
+  {
+    _count.reset();
+    _sum.reset();
+    _sumOfSquares.reset();
+    _min.reset();
+    _max.reset();
+    if (_buckets != null)
+    {
+      for (int i = 0; i < _buckets.length(); i++)
+      {
+        _buckets.set(i, 0);
+      }
+    }
+  }
+}
@@ -0,0 +1,213 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.common.stats;
+
+import java.util.Arrays;
+
+
+/**
+ * Tracks the same statistics as {@link SimpleLongTracking}, plus percentile information computed in bounded memory.
+ *
+ * Instead of recording every value like {@link LongTracking}, values are counted in log-linear histogram buckets.
+ * Each power of two is split into {@code 2^precisionBits} buckets, so percentiles are exact for values below
+ * {@code 2^(precisionBits + 1)} and within {@code 1 / 2^(precisionBits + 1)} of the actual value above, whatever the
+ * number of values added. Percentiles of values above the highest trackable value are reported as the maximum value.
+ * The buckets are allocated up to the largest value added so far, which bounds the memory by the highest trackable
+ * value, and trackers with the same configuration can be merged.
+ *
+ * This class implementation is not synchronized. If concurrent access is required, it
+ * must be synchronized externally.
+ */
+public class HistogramLongTracking implements LongTracker
+{
+  public static final int  DEFAULT_PRECISION_BITS          = 5;
+  public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = (1L << 40) - 1;
+
+  private static final int INITIAL_BUCKET_COUNT = 64;
+
+  private final LogLinearBuckets _buckets;
+  private long[]                 _counts;
+  private long                   _count;
+  private long                   _min;
+  private long                   _max;
+  private long                   _sum;
+  private long                   _sumOfSquares;
+
+  public HistogramLongTracking()
+  {
+    this(DEFAULT_PRECISION_BITS, DEFAULT_HIGHEST_TRACKABLE_VALUE);
+  }
+
+  /**
+   * @param precisionBits base-2 logarithm of the number of buckets per power of two, between 1 and 16. Each
+   *                      additional bit halves the error of the percentiles and doubles the memory used.
+   * @param highestTrackableValue the highest value whose percentiles are tracked accurately.
+   */
+  public HistogramLongTracking(int precisionBits, long highestTrackableValue)
+  {
+    if (highestTrackableValue < 1)
+    {
+      throw new IllegalArgumentException("highestTrackableValue must be positive, got " + highestTrackableValue);
+    }
+    _buckets = new LogLinearBuckets(precisionBits,
+        Math.max(precisionBits, 63 - Long.numberOfLeadingZeros(highestTrackableValue)));
+    _counts = new long[Math.min(INITIAL_BUCKET_COUNT, _buckets.getBucketCount())];
+    reset();
+  }
+
+  @Override
+  public void reset()
+  {
+    Arrays.fill(_counts, 0);
+    _count = 0;
+    _min = 0;
+    _max = 0;
+    _sum = 0;
+    _sumOfSquares = 0;
+  }
+
+  @Override
+  public void addValue(long value)
+  {
+    if (_count == 0)
+    {
+      _min = _max = value;
+    }
+    else if (value < _min)
+    {
+      _min = value;
+    }
+    else if (value > _max)
+    {
+      _max = value;
+    }
+    _sum += value;
+    _sumOfSquares += value * value;
+    _count++;
+
+    final int index = _buckets.indexOf(value);
+    ensureCapacity(index + 1);
+    _counts[index]++;
+  }
+
+  /**
+   * Adds the values tracked by another tracker to this one.
+   *
+   * @param other tracker with the same precision and highest trackable value as this one.
+   */
+  public void merge(HistogramLongTracking other)
+  {
+    if (other._buckets.getSubBucketBits() != _buckets.getSubBucketBits()
+        || other._buckets.getBucketCount() != _buckets.getBucketCount())
+    {
+      throw new IllegalArgumentException("Cannot merge trackers with different precisions or trackable values");
+    }
+    if (other._count == 0)
+    {
+      return;
+    }
+
+    if (_count == 0)
+    {
+      _min = other._min;
+      _max = other._max;
+    }
+    else
+    {
+      _min = Math.min(_min, other._min);
+      _max = Math.max(_max, other._max);
+    }
+    _sum += other._sum;
+    _sumOfSquares += other._sumOfSquares;
+    _count += other._count;
+
+    ensureCapacity(other._counts.length);
+    for (int i = 0; i < other._counts.length; i++)
+    {
+      _counts[i] += other._counts[i];
+    }
+  }
+
+  @Override
+  public LongStats getStats()
+  {
+    return new LongStats(getCount(), getAverage(), getStandardDeviation(), getMinimum(), getMaximum(),
+        getPercentile(0.50), getPercentile(0.90), getPercentile(0.95), getPercentile(0.99));
+  }
+
+  public long getPercentile(double pct)
+  {
+    if (_count == 0)
+    {
+      return 0;
+    }
+    return _buckets.getPercentile(_counts, _count, pct, _min, _max);
+  }
+
+  public int getCount()
+  {
+    return (int) _count;
+  }
+
+  public double getAverage()
+  {
+    return safeDivide(_sum, _count);
+  }
+
+  public double getStandardDeviation()
+  {
+    double variation;
+    variation = safeDivide(_sumOfSquares - _sum * getAverage(), _count);
+    return Math.sqrt(variation);
+  }
+
+  public long getMinimum()
+  {
+    return _min;
+  }
+
+  public long getMaximum()
+  {
+    return _max;
+  }
+
+  /**
+   * @return the number of buckets currently allocated.
+   */
+  public int getBucketCount()
+  {
+    return _counts.length;
+  }
+
+  private void ensureCapacity(int bucketCount)
+  {
+    if (bucketCount > _counts.length)
+    {
+      int newLength = _counts.length;
+      while (newLength < bucketCount)
+      {
+        newLength *= 2;
+      }
+      _counts = Arrays.copyOf(_counts, Math.min(newLength, _buckets.getBucketCount()));
+    }
+  }
+
+  private static double safeDivide(final double numerator, final double denominator)
+  {
+    return denominator != 0 ? numerator / denominator : 0;
+  }
+}
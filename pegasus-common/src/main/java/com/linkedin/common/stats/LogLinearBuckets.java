@@ -0,0 +1,136 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.common.stats;
+
+/**
+ * Maps non-negative {@code long} values to a fixed number of histogram buckets.
+ *
+ * Values smaller than twice the number of sub-buckets have a bucket of their own. Larger values share buckets
+ * whose width doubles with every power of two, each power of two being split into the same number of sub-buckets,
+ * so the width of a bucket never exceeds {@code 1 / subBucketCount} of the values it holds. Negative values are
+ * counted in the first bucket and values above the highest trackable value in the last one.
+ */
+final class LogLinearBuckets
+{
+  private final int _subBucketBits;
+  private final int _subBucketCount;
+  private final int _highestExponent;
+  private final int _bucketCount;
+
+  /**
+   * @param subBucketBits base-2 logarithm of the number of sub-buckets per power of two.
+   * @param highestExponent base-2 logarithm of the highest power of two that is tracked accurately.
+   */
+  LogLinearBuckets(int subBucketBits, int highestExponent)
+  {
+    if (subBucketBits < 1 || subBucketBits > 16)
+    {
+      throw new IllegalArgumentException("subBucketBits must be between 1 and 16, got " + subBucketBits);
+    }
+    if (highestExponent < subBucketBits || highestExponent > 62)
+    {
+      throw new IllegalArgumentException(
+          "highestExponent must be between " + subBucketBits + " and 62, got " + highestExponent);
+    }
+    _subBucketBits = subBucketBits;
+    _subBucketCount = 1 << subBucketBits;
+    _highestExponent = highestExponent;
+    _bucketCount = (highestExponent - subBucketBits + 2) * _subBucketCount;
+  }
+
+  int getSubBucketBits()
+  {
+    return _subBucketBits;
+  }
+
+  int getBucketCount()
+  {
+    return _bucketCount;
+  }
+
+  long getHighestTrackableValue()
+  {
+    return (1L << (_highestExponent + 1)) - 1;
+  }
+
+  int indexOf(long value)
+  {
+    if (value < _subBucketCount)
+    {
+      return value < 0 ? 0 : (int) value;
+    }
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > _highestExponent)
+    {
+      return _bucketCount - 1;
+    }
+    final int shift = exponent - _subBucketBits;
+    return (shift + 1) * _subBucketCount + (int) ((value >>> shift) - _subBucketCount);
+  }
+
+  long lowestValue(int index)
+  {
+    if (index < _subBucketCount)
+    {
+      return index;
+    }
+    final int shift = index / _subBucketCount - 1;
+    return ((long) (_subBucketCount + index % _subBucketCount)) << shift;
+  }
+
+  long highestValue(int index)
+  {
+    if (index < _subBucketCount)
+    {
+      return index;
+    }
+    return lowestValue(index) + (1L << (index / _subBucketCount - 1)) - 1;
+  }
+
+  /**
+   * @return the value reported for the values counted in a bucket, the middle of the bucket.
+   */
+  long medianValue(int index)
+  {
+    final long lowest = lowestValue(index);
+    return lowest + (highestValue(index) - lowest) / 2;
+  }
+
+  /**
+   * Returns the value at the same rank as {@link LongTracking#getPercentile(double)} would, approximated by the
+   * middle of the bucket holding it and bounded by the minimum and maximum values. Percentiles in the highest bucket
+   * are reported as the maximum value.
+   *
+   * @param counts the number of values counted in each bucket, may be shorter than the number of buckets.
+   * @param total the sum of counts, must be positive.
+   */
+  long getPercentile(long[] counts, long total, double pct, long min, long max)
+  {
+    final long rank = Math.round(Math.max(0.0, Math.min(1.0, pct)) * (total - 1));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++)
+    {
+      seen += counts[i];
+      if (seen > rank)
+      {
+        // The highest bucket also counts the values above the highest trackable value.
+        return i == _bucketCount - 1 ? max : Math.max(min, Math.min(max, medianValue(i)));
+      }
+    }
+    return max;
+  }
+}
@@ -24,7 +24,8 @@ import java.util.Arrays;
  *
  * To calculate the percentiles, all values added are recorded in a resizable
  * long array buffer. For memory efficiency, use {@link SimpleLongTracking}
- * when percentile information is nonessential.
+ * when percentile information is nonessential, or {@link HistogramLongTracking}
+ * when approximate percentiles are sufficient.
  *
  * This class implementation is not synchronized. If concurrent access is required, it
  * must be synchronized externally.
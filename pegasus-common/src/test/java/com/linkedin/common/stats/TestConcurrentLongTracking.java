@@ -0,0 +1,174 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.common.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class TestConcurrentLongTracking
+{
+  @Test
+  public void testBuckets()
+  {
+    LogLinearBuckets buckets = new LogLinearBuckets(4, 31);
+    assertEquals(buckets.getBucketCount(), 29 * 16);
+    assertEquals(buckets.getHighestTrackableValue(), (1L << 32) - 1);
+
+    for (long value = 0; value < 32; value++)
+    {
+      int index = buckets.indexOf(value);
+      assertEquals(buckets.lowestValue(index), value);
+      assertEquals(buckets.highestValue(index), value);
+    }
+
+    int previousIndex = buckets.indexOf(31);
+    for (long value = 32; value <= buckets.getHighestTrackableValue(); value += 1 + value / 7)
+    {
+      int index = buckets.indexOf(value);
+      assertTrue(index >= previousIndex, "Buckets must be ordered like their values");
+      assertTrue(buckets.lowestValue(index) <= value && value <= buckets.highestValue(index),
+          value + " is not within its bucket");
+      assertTrue(buckets.highestValue(index) - buckets.lowestValue(index) < buckets.lowestValue(index) / 16 + 1,
+          "Bucket of " + value + " is too wide");
+      previousIndex = index;
+    }
+
+    assertEquals(buckets.indexOf(-1), 0);
+    assertEquals(buckets.indexOf(Long.MAX_VALUE), buckets.getBucketCount() - 1);
+    assertEquals(buckets.indexOf(buckets.getHighestTrackableValue()), buckets.getBucketCount() - 1);
+  }
+
+  @Test
+  public void testSmallValuesAreExact()
+  {
+    LongTracking tracking = new LongTracking();
+    ConcurrentLongTracking concurrentTracking = new ConcurrentLongTracking();
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++)
+    {
+      long value = random.nextInt(32);
+      tracking.addValue(value);
+      concurrentTracking.addValue(value);
+    }
+
+    LongStats expected = tracking.getStats();
+    LongStats stats = concurrentTracking.getStats();
+    assertEquals(stats.getCount(), expected.getCount());
+    assertEquals(stats.getAverage(), expected.getAverage(), 0.0001);
+    assertEquals(stats.getStandardDeviation(), expected.getStandardDeviation(), 0.0001);
+    assertEquals(stats.getMinimum(), expected.getMinimum());
+    assertEquals(stats.getMaximum(), expected.getMaximum());
+    assertEquals(stats.get50Pct(), expected.get50Pct());
+    assertEquals(stats.get90Pct(), expected.get90Pct());
+    assertEquals(stats.get95Pct(), expected.get95Pct());
+    assertEquals(stats.get99Pct(), expected.get99Pct());
+  }
+
+  @Test
+  public void testPercentilesAreApproximated()
+  {
+    LongTracking tracking = new LongTracking(100000, 100000, 2.0);
+    ConcurrentLongTracking concurrentTracking = new ConcurrentLongTracking();
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++)
+    {
+      long value = (long) Math.abs(random.nextGaussian() * 1000) + 50;
+      tracking.addValue(value);
+      concurrentTracking.addValue(value);
+    }
+
+    LongStats expected = tracking.getStats();
+    LongStats stats = concurrentTracking.getStats();
+    assertEquals(stats.getCount(), expected.getCount());
+    assertEquals(stats.getMinimum(), expected.getMinimum());
+    assertEquals(stats.getMaximum(), expected.getMaximum());
+    assertEquals(stats.get50Pct(), expected.get50Pct(), expected.get50Pct() * 0.04);
+    assertEquals(stats.get90Pct(), expected.get90Pct(), expected.get90Pct() * 0.04);
+    assertEquals(stats.get95Pct(), expected.get95Pct(), expected.get95Pct() * 0.04);
+    assertEquals(stats.get99Pct(), expected.get99Pct(), expected.get99Pct() * 0.04);
+  }
+
+  @Test
+  public void testEmptyAndReset()
+  {
+    ConcurrentLongTracking tracking = new ConcurrentLongTracking();
+    assertEquals(tracking.getStats().getCount(), 0);
+    assertEquals(tracking.getStats().get99Pct(), 0);
+
+    tracking.addValue(100);
+    tracking.reset();
+    tracking.addValue(5);
+    LongStats stats = tracking.getStats();
+    assertEquals(stats.getCount(), 1);
+    assertEquals(stats.getMinimum(), 5);
+    assertEquals(stats.getMaximum(), 5);
+    assertEquals(stats.get50Pct(), 5);
+    assertEquals(stats.get99Pct(), 5);
+
+    ConcurrentLongTracking simpleTracking = new ConcurrentLongTracking(false);
+    simpleTracking.addValue(5);
+    assertEquals(simpleTracking.getStats().getCount(), 1);
+    assertEquals(simpleTracking.getStats().get50Pct(), -1);
+  }
+
+  @Test
+  public void testConcurrentUpdates() throws Exception
+  {
+    final int threads = 8;
+    final int valuesPerThread = 100000;
+    final ConcurrentLongTracking tracking = new ConcurrentLongTracking();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try
+    {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++)
+      {
+        futures.add(executor.submit(() ->
+        {
+          for (int value = 1; value <= valuesPerThread; value++)
+          {
+            tracking.addValue(value);
+          }
+        }));
+      }
+      for (Future<?> future : futures)
+      {
+        future.get();
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+
+    LongStats stats = tracking.getStats();
+    assertEquals(stats.getCount(), threads * valuesPerThread);
+    assertEquals(stats.getAverage(), (valuesPerThread + 1) / 2.0, 0.0001);
+    assertEquals(stats.getMinimum(), 1);
+    assertEquals(stats.getMaximum(), valuesPerThread);
+    assertEquals(stats.get50Pct(), valuesPerThread / 2, valuesPerThread * 0.02);
+  }
+}
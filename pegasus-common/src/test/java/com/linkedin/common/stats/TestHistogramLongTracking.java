@@ -0,0 +1,179 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.common.stats;
+
+import java.util.Random;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+
+public class TestHistogramLongTracking
+{
+  @Test
+  public void testIncreasingLinearly()
+  {
+    long begin = 1000000;
+    long count = 1000000;
+    long end   = begin + count;
+
+    HistogramLongTracking tracking = new HistogramLongTracking();
+    SimpleLongTracking simpleTracking = new SimpleLongTracking();
+    for (long i = begin; i < end; ++i)
+    {
+      tracking.addValue(i);
+      simpleTracking.addValue(i);
+    }
+
+    LongStats expected = simpleTracking.getStats();
+    LongStats stats = tracking.getStats();
+    assertEquals(stats.getCount(), count, "Count is incorrect");
+    assertEquals(stats.getAverage(), expected.getAverage(), 0.0001, "Average is incorrect");
+    assertEquals(stats.getStandardDeviation(), expected.getStandardDeviation(), 0.0001,
+        "Standard deviation is incorrect");
+    assertEquals(stats.getMinimum(), begin, "Minimum is incorrect");
+    assertEquals(stats.getMaximum(), end - 1, "Maximum is incorrect");
+
+    double error = (end - 1) / 64.0;
+    assertEquals(stats.get50Pct(), begin + count * 0.50, error, "50 percentile is incorrect");
+    assertEquals(stats.get90Pct(), begin + count * 0.90, error, "90 percentile is incorrect");
+    assertEquals(stats.get95Pct(), begin + count * 0.95, error, "95 percentile is incorrect");
+    assertEquals(stats.get99Pct(), begin + count * 0.99, error, "99 percentile is incorrect");
+  }
+
+  @DataProvider
+  public Object[][] precisions()
+  {
+    return new Object[][] { { 2 }, { 5 }, { 8 } };
+  }
+
+  @Test(dataProvider = "precisions")
+  public void testPrecision(int precisionBits)
+  {
+    LongTracking exactTracking = new LongTracking(100000, 100000, 2.0);
+    HistogramLongTracking tracking = new HistogramLongTracking(precisionBits, Integer.MAX_VALUE);
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++)
+    {
+      long value = (long) Math.exp(random.nextDouble() * 15);
+      exactTracking.addValue(value);
+      tracking.addValue(value);
+    }
+
+    double maxError = 1.0 / (1 << (precisionBits + 1));
+    for (double pct : new double[] { 0.0, 0.25, 0.5, 0.9, 0.95, 0.99, 1.0 })
+    {
+      long expected = exactTracking.getPercentile(pct);
+      assertEquals(tracking.getPercentile(pct), expected, Math.max(1.0, expected * maxError), "Percentile " + pct);
+    }
+  }
+
+  @Test
+  public void testSmallValuesAreExact()
+  {
+    LongTracking exactTracking = new LongTracking();
+    HistogramLongTracking tracking = new HistogramLongTracking();
+    for (long value = 0; value < 64; value++)
+    {
+      exactTracking.addValue(value);
+      tracking.addValue(value);
+    }
+    assertStatsEqual(tracking.getStats(), exactTracking.getStats());
+  }
+
+  @Test
+  public void testBoundedMemory()
+  {
+    HistogramLongTracking tracking = new HistogramLongTracking(5, 1000);
+    int initialBucketCount = tracking.getBucketCount();
+    for (int i = 0; i < 100000; i++)
+    {
+      tracking.addValue(i % 10);
+    }
+    assertEquals(tracking.getBucketCount(), initialBucketCount, "Buckets are allocated up to the largest value");
+
+    tracking.addValue(Long.MAX_VALUE);
+    assertEquals(tracking.getBucketCount(), (9 - 5 + 2) * 32, "Buckets are bounded by the highest trackable value");
+    assertEquals(tracking.getPercentile(1.0), Long.MAX_VALUE);
+    assertEquals(tracking.getPercentile(0.5), 5);
+  }
+
+  @Test
+  public void testMerge()
+  {
+    HistogramLongTracking merged = new HistogramLongTracking();
+    HistogramLongTracking first = new HistogramLongTracking();
+    HistogramLongTracking second = new HistogramLongTracking();
+    HistogramLongTracking all = new HistogramLongTracking();
+    for (long value = 1; value <= 1000; value++)
+    {
+      (value % 2 == 0 ? first : second).addValue(value * 7);
+      all.addValue(value * 7);
+    }
+
+    merged.merge(first);
+    merged.merge(second);
+    merged.merge(new HistogramLongTracking());
+    assertEquals(merged.getCount(), all.getCount());
+    assertEquals(merged.getAverage(), all.getAverage(), 0.0001);
+    assertEquals(merged.getStandardDeviation(), all.getStandardDeviation(), 0.0001);
+    assertEquals(merged.getMinimum(), 7);
+    assertEquals(merged.getMaximum(), 7000);
+    assertStatsEqual(merged.getStats(), all.getStats());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testMergeDifferentPrecisions()
+  {
+    new HistogramLongTracking(5, 1000).merge(new HistogramLongTracking(6, 1000));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testMergeDifferentTrackableValues()
+  {
+    new HistogramLongTracking(5, 1000).merge(new HistogramLongTracking(5, 100000));
+  }
+
+  @Test
+  public void testReset()
+  {
+    HistogramLongTracking tracking = new HistogramLongTracking();
+    assertEquals(tracking.getStats().get50Pct(), 0);
+    tracking.addValue(1000);
+    tracking.reset();
+    tracking.addValue(3);
+    LongStats stats = tracking.getStats();
+    assertEquals(stats.getCount(), 1);
+    assertEquals(stats.getMinimum(), 3);
+    assertEquals(stats.getMaximum(), 3);
+    assertEquals(stats.get99Pct(), 3);
+  }
+
+  private static void assertStatsEqual(LongStats stats, LongStats expected)
+  {
+    assertEquals(stats.getCount(), expected.getCount());
+    assertEquals(stats.getAverage(), expected.getAverage(), 0.0001);
+    assertEquals(stats.getStandardDeviation(), expected.getStandardDeviation(), 0.0001);
+    assertEquals(stats.getMinimum(), expected.getMinimum());
+    assertEquals(stats.getMaximum(), expected.getMaximum());
+    assertEquals(stats.get50Pct(), expected.get50Pct());
+    assertEquals(stats.get90Pct(), expected.get90Pct());
+    assertEquals(stats.get95Pct(), expected.get95Pct());
+    assertEquals(stats.get99Pct(), expected.get99Pct());
+  }
+}
@@ -0,0 +1,140 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.transport;
+
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.filter.message.rest.RestFilter;
+import com.linkedin.r2.filter.message.stream.StreamFilter;
+import com.linkedin.r2.message.Request;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.Response;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.transport.http.client.AdaptiveConcurrencyLimiter;
+import java.util.Map;
+
+
+/**
+ * Client side filter limiting the number of requests in flight to a downstream with an
+ * {@link AdaptiveConcurrencyLimiter}. Requests exceeding the limit fail right away with a
+ * {@link RetriableRequestException} instead of queueing up behind a slow downstream, so that they can be retried on
+ * another host.
+ *
+ * The round trip time of a stream request is measured until its response headers arrive.
+ */
+public class ClientConcurrencyLimitFilter implements RestFilter, StreamFilter
+{
+  private static final String START_NANOS_KEY = "CLIENT_CONCURRENCY_LIMIT_START_NANOS";
+
+  private final AdaptiveConcurrencyLimiter _limiter;
+
+  public ClientConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter)
+  {
+    _limiter = limiter;
+  }
+
+  public AdaptiveConcurrencyLimiter getLimiter()
+  {
+    return _limiter;
+  }
+
+  @Override
+  public void onRestRequest(RestRequest req,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    processRequest(req, requestContext, wireAttrs, nextFilter);
+  }
+
+  @Override
+  public void onRestResponse(RestResponse res,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    release(requestContext, true);
+    nextFilter.onResponse(res, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onRestError(Throwable ex,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    release(requestContext, false);
+    nextFilter.onError(ex, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onStreamRequest(StreamRequest req,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    processRequest(req, requestContext, wireAttrs, nextFilter);
+  }
+
+  @Override
+  public void onStreamResponse(StreamResponse res,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    release(requestContext, true);
+    nextFilter.onResponse(res, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onStreamError(Throwable ex,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    release(requestContext, false);
+    nextFilter.onError(ex, requestContext, wireAttrs);
+  }
+
+  private <REQ extends Request, RES extends Response> void processRequest(REQ req,
+      RequestContext requestContext,
+      Map<String, String> wireAttrs,
+      NextFilter<REQ, RES> nextFilter)
+  {
+    if (!_limiter.tryAcquire())
+    {
+      nextFilter.onError(new RetriableRequestException("Concurrency limit of " + _limiter.getLimit() + " exceeded",
+          null, false), requestContext, wireAttrs);
+      return;
+    }
+    requestContext.putLocalAttr(START_NANOS_KEY, System.nanoTime());
+    nextFilter.onRequest(req, requestContext, wireAttrs);
+  }
+
+  private void release(RequestContext requestContext, boolean success)
+  {
+    // the attribute is missing when the request was rejected by this filter, whose error goes through onError too
+    Object startNanos = requestContext.removeLocalAttr(START_NANOS_KEY);
+    if (startNanos != null)
+    {
+      _limiter.release(success ? System.nanoTime() - (Long) startNanos : -1);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Limits the number of requests in flight to a downstream, adapting the limit to the round trip times it observes in
+ * the way of the gradient algorithm of <a href="https://github.com/Netflix/concurrency-limits">concurrency-limits</a>.
+ *
+ * The round trip times are averaged over windows of {@link #WINDOW_SIZE} requests. At the end of every window the
+ * average is compared to a slowly moving average of the previous windows, which stands for the round trip time of the
+ * downstream when it isn't queueing. While the recent round trip time stays within {@link #RTT_TOLERANCE} times the
+ * long term one, the limit grows by about its square root; beyond that it shrinks in proportion of how much the
+ * downstream slowed down, by at most half. The limit doesn't grow while less than half of it is used, so that a lightly
+ * loaded client doesn't build up a limit it never verified.
+ *
+ * Permits are taken with {@link #tryAcquire()}, which never blocks, and must be returned with {@link #release(long)}.
+ */
+public class AdaptiveConcurrencyLimiter
+{
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+  public static final int DEFAULT_MIN_LIMIT = 10;
+  public static final int DEFAULT_MAX_LIMIT = 1000;
+
+  static final int WINDOW_SIZE = 10;
+  static final double RTT_TOLERANCE = 1.5;
+  private static final double SMOOTHING = 0.2;
+  private static final double LONG_RTT_WEIGHT = 2.0 / (600 + 1);
+  private static final double MIN_GRADIENT = 0.5;
+
+  private final int _minLimit;
+  private final int _maxLimit;
+  private final AtomicInteger _inFlight = new AtomicInteger();
+  private volatile int _limit;
+
+  // guarded by this
+  private double _estimatedLimit;
+  private double _longRtt;
+  private long _windowRttSum;
+  private int _windowSamples;
+  private int _windowMaxInFlight;
+
+  public AdaptiveConcurrencyLimiter(int maxLimit)
+  {
+    this(Math.min(DEFAULT_INITIAL_LIMIT, maxLimit), Math.min(DEFAULT_MIN_LIMIT, maxLimit), maxLimit);
+  }
+
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit)
+  {
+    if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit)
+    {
+      throw new IllegalArgumentException("Limits must verify 1 <= minLimit <= initialLimit <= maxLimit: minLimit="
+          + minLimit + ", initialLimit=" + initialLimit + ", maxLimit=" + maxLimit);
+    }
+    _minLimit = minLimit;
+    _maxLimit = maxLimit;
+    _limit = initialLimit;
+    _estimatedLimit = initialLimit;
+  }
+
+  /**
+   * @return true if a permit was taken, false if the limit of requests in flight is reached.
+   */
+  public boolean tryAcquire()
+  {
+    while (true)
+    {
+      int inFlight = _inFlight.get();
+      if (inFlight >= _limit)
+      {
+        return false;
+      }
+      if (_inFlight.compareAndSet(inFlight, inFlight + 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Returns a permit taken by {@link #tryAcquire()} and records the round trip time of its request.
+   *
+   * @param rttNanos round trip time of the request in nanoseconds, or a negative value if the request didn't complete
+   *                 normally and mustn't be taken into account.
+   */
+  public void release(long rttNanos)
+  {
+    int inFlight = _inFlight.getAndDecrement();
+    if (rttNanos >= 0)
+    {
+      addSample(rttNanos, inFlight);
+    }
+  }
+
+  public int getLimit()
+  {
+    return _limit;
+  }
+
+  public int getInFlight()
+  {
+    return _inFlight.get();
+  }
+
+  private synchronized void addSample(long rttNanos, int inFlight)
+  {
+    _windowRttSum += rttNanos;
+    _windowSamples++;
+    _windowMaxInFlight = Math.max(_windowMaxInFlight, inFlight);
+    if (_windowSamples < WINDOW_SIZE)
+    {
+      return;
+    }
+
+    double shortRtt = Math.max(1.0, (double) _windowRttSum / _windowSamples);
+    int maxInFlight = _windowMaxInFlight;
+    _windowRttSum = 0;
+    _windowSamples = 0;
+    _windowMaxInFlight = 0;
+
+    if (_longRtt == 0)
+    {
+      _longRtt = shortRtt;
+    }
+    else
+    {
+      _longRtt += (shortRtt - _longRtt) * LONG_RTT_WEIGHT;
+    }
+    // when the downstream got much faster, e.g. after recovering from a brownout, don't keep holding on to the limit
+    // while the long term average slowly catches up
+    if (_longRtt / shortRtt > 2)
+    {
+      _longRtt *= 0.95;
+    }
+
+    if (maxInFlight < _estimatedLimit / 2)
+    {
+      return;
+    }
+
+    double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * _longRtt / shortRtt));
+    double newLimit = _estimatedLimit * gradient + Math.sqrt(_estimatedLimit);
+    _estimatedLimit = _estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    _estimatedLimit = Math.max(_minLimit, Math.min(_maxLimit, _estimatedLimit));
+    _limit = (int) _estimatedLimit;
+  }
+}
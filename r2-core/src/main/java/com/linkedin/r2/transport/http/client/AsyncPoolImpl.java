@@ -20,8 +20,8 @@
 
 package com.linkedin.r2.transport.http.client;
 
+import com.linkedin.common.stats.HistogramLongTracking;
 import com.linkedin.common.stats.LongTracker;
-import com.linkedin.common.stats.LongTracking;
 import com.linkedin.r2.util.SingleTimeout;
 import com.linkedin.util.ArgumentUtil;
 import com.linkedin.util.clock.Clock;
@@ -160,7 +160,7 @@ public class AsyncPoolImpl<T> implements AsyncPool<T>
       RateLimiter rateLimiter)
   {
     this(name, lifecycle, maxSize, idleTimeout, timeoutExecutor,
-        maxWaiters, strategy, minSize, rateLimiter, SystemClock.instance(), new LongTracking());
+        maxWaiters, strategy, minSize, rateLimiter, SystemClock.instance(), new HistogramLongTracking());
   }
 
   @Deprecated
@@ -16,19 +16,22 @@
 
 package com.linkedin.r2.transport.http.client;
 
+import com.linkedin.common.stats.HistogramLongTracking;
 import com.linkedin.common.stats.LongStats;
 import com.linkedin.common.stats.LongTracker;
-import com.linkedin.common.stats.LongTracking;
 import com.linkedin.util.clock.Clock;
 import com.linkedin.util.clock.SystemClock;
 import com.linkedin.util.clock.Time;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 
 /**
  * Tracks statistics from a {@link com.linkedin.r2.transport.http.client.AsyncPool} and produces
- * a {@link com.linkedin.r2.transport.http.client.AsyncPoolStats} upon request. The implementation
- * itself is not thread safe. Use external synchronization if needed.
+ * a {@link com.linkedin.r2.transport.http.client.AsyncPoolStats} upon request. Counters and sampled maximums
+ * can be updated concurrently without external synchronization, provided the wait time tracker is thread safe.
+ * Sampling in {@link #getStats()} is synchronized.
  *
  * @author Sean Sheng
  * @version $Revision: $
@@ -46,14 +49,14 @@ public class AsyncPoolStatsTracker
   /**
    * These are total counts over the entire lifetime of the pool
    */
-  private int _totalCreated = 0;
-  private int _totalDestroyed = 0;
-  private int _totalCreateErrors = 0;
-  private int _totalDestroyErrors = 0;
-  private int _totalBadDestroyed = 0;
-  private int _totalTimedOut = 0;
-  private int _totalWaiterTimedOut = 0;
-  private int _totalCreationIgnored = 0;
+  private final AtomicInteger _totalCreated = new AtomicInteger();
+  private final AtomicInteger _totalDestroyed = new AtomicInteger();
+  private final AtomicInteger _totalCreateErrors = new AtomicInteger();
+  private final AtomicInteger _totalDestroyErrors = new AtomicInteger();
+  private final AtomicInteger _totalBadDestroyed = new AtomicInteger();
+  private final AtomicInteger _totalTimedOut = new AtomicInteger();
+  private final AtomicInteger _totalWaiterTimedOut = new AtomicInteger();
+  private final AtomicInteger _totalCreationIgnored = new AtomicInteger();
 
 
   /**
@@ -62,9 +65,9 @@ public class AsyncPoolStatsTracker
   private int _sampleMaxCheckedOut = 0;
   private int _sampleMaxPoolSize = 0;
   private long _sampleMaxWaitTime = 0;
-  private int _currentMaxCheckedOut = 0;
-  private int _currentMaxPoolSize = 0;
-  private long _currentMaxWaitTime = 0;
+  private final AtomicInteger _currentMaxCheckedOut = new AtomicInteger();
+  private final AtomicInteger _currentMaxPoolSize = new AtomicInteger();
+  private final AtomicLong _currentMaxWaitTime = new AtomicLong();
 
   private final Supplier<PoolStats.LifecycleStats> _lifecycleStatsSupplier;
   private final Supplier<Integer> _maxSizeSupplier;
@@ -93,7 +96,7 @@ public class AsyncPoolStatsTracker
         checkedOutSupplier,
         idleSizeSupplier,
         SystemClock.instance(),
-        new LongTracking());
+        new HistogramLongTracking());
   }
 
   public AsyncPoolStatsTracker(
@@ -118,57 +121,57 @@ public class AsyncPoolStatsTracker
 
   public void incrementCreated()
   {
-    _totalCreated++;
+    _totalCreated.incrementAndGet();
   }
 
   public void incrementIgnoredCreation()
   {
-    _totalCreationIgnored++;
+    _totalCreationIgnored.incrementAndGet();
   }
 
   public void incrementDestroyed()
   {
-    _totalDestroyed++;
+    _totalDestroyed.incrementAndGet();
   }
 
   public void incrementCreateErrors()
   {
-    _totalCreateErrors++;
+    _totalCreateErrors.incrementAndGet();
   }
 
   public void incrementDestroyErrors()
   {
-    _totalDestroyErrors++;
+    _totalDestroyErrors.incrementAndGet();
   }
 
   public void incrementBadDestroyed()
   {
-    _totalBadDestroyed++;
+    _totalBadDestroyed.incrementAndGet();
   }
 
   public void incrementTimedOut()
   {
-    _totalTimedOut++;
+    _totalTimedOut.incrementAndGet();
   }
 
   public void incrementWaiterTimedOut()
   {
-    _totalWaiterTimedOut++;
+    _totalWaiterTimedOut.incrementAndGet();
   }
 
   public void sampleMaxPoolSize()
   {
-    _currentMaxPoolSize = Math.max(_poolSizeSupplier.get(), _currentMaxPoolSize);
+    _currentMaxPoolSize.accumulateAndGet(_poolSizeSupplier.get(), Math::max);
   }
 
   public void sampleMaxCheckedOut()
   {
-    _currentMaxCheckedOut = Math.max(_checkedOutSupplier.get(), _currentMaxCheckedOut);
+    _currentMaxCheckedOut.accumulateAndGet(_checkedOutSupplier.get(), Math::max);
   }
 
   public void sampleMaxWaitTime(long waitTimeMillis)
   {
-    _currentMaxWaitTime = Math.max(waitTimeMillis, _currentMaxWaitTime);
+    _currentMaxWaitTime.accumulateAndGet(waitTimeMillis, Math::max);
   }
 
   public void trackWaitTime(long waitTimeMillis)
@@ -176,32 +179,28 @@ public class AsyncPoolStatsTracker
     _waitTimeTracker.addValue(waitTimeMillis);
   }
 
-  public AsyncPoolStats getStats()
+  public synchronized AsyncPoolStats getStats()
   {
     long now = _clock.currentTimeMillis();
     if (now - _lastSamplingTime > MINIMUM_SAMPLING_PERIOD)
     {
-      _sampleMaxCheckedOut = _currentMaxCheckedOut;
-      _sampleMaxPoolSize = _currentMaxPoolSize;
-      _sampleMaxWaitTime = _currentMaxWaitTime;
-
-      _currentMaxCheckedOut = _checkedOutSupplier.get();
-      _currentMaxPoolSize = _poolSizeSupplier.get();
-      _currentMaxWaitTime = 0L;
+      _sampleMaxCheckedOut = _currentMaxCheckedOut.getAndSet(_checkedOutSupplier.get());
+      _sampleMaxPoolSize = _currentMaxPoolSize.getAndSet(_poolSizeSupplier.get());
+      _sampleMaxWaitTime = _currentMaxWaitTime.getAndSet(0L);
 
       _lastSamplingTime = now;
     }
 
     LongStats waitTimeStats = _waitTimeTracker.getStats();
     AsyncPoolStats stats = new AsyncPoolStats(
-        _totalCreated,
-        _totalDestroyed,
-        _totalCreateErrors,
-        _totalDestroyErrors,
-        _totalBadDestroyed,
-        _totalTimedOut,
-        _totalWaiterTimedOut,
-        _totalCreationIgnored,
+        _totalCreated.get(),
+        _totalDestroyed.get(),
+        _totalCreateErrors.get(),
+        _totalDestroyErrors.get(),
+        _totalBadDestroyed.get(),
+        _totalTimedOut.get(),
+        _totalWaiterTimedOut.get(),
+        _totalCreationIgnored.get(),
         _checkedOutSupplier.get(),
         _maxSizeSupplier.get(),
         _minSizeSupplier.get(),
@@ -0,0 +1,796 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.SimpleCallback;
+import com.linkedin.common.stats.LongTracker;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.SizeLimitExceededException;
+import com.linkedin.r2.transport.http.client.RateLimiter.Task;
+import com.linkedin.r2.util.Cancellable;
+import com.linkedin.util.ArgumentUtil;
+import com.linkedin.util.clock.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * An {@link AsyncPool} with the same behavior, configuration and statistics as {@link AsyncPoolImpl} that does
+ * not serialize callers on a lock.
+ *
+ * Idle objects and waiters live in lock-free queues and the pool state is kept in atomic counters, so concurrent
+ * {@link #get(Callback)} and {@link #put(Object)} calls only contend on compare-and-set operations. Handing idle
+ * objects over to waiters is done by a single thread at a time: a thread that finds another one already doing it
+ * leaves its work to that thread instead of waiting, so no object stays idle while a waiter is queued.
+ *
+ * The wait time tracker is updated concurrently and must be thread safe.
+ */
+public class ConcurrentAsyncPoolImpl<T> implements AsyncPool<T>
+{
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentAsyncPoolImpl.class);
+
+  // Configured
+  private final String _poolName;
+  private final Lifecycle<T> _lifecycle;
+  private final int _maxSize;
+  private final int _maxWaiters;
+  private final long _idleTimeout;
+  private final long _waiterTimeout;
+  private final long _creationTimeout;
+  private final ScheduledExecutorService _timeoutExecutor;
+  private final int _minSize;
+  private volatile ScheduledFuture<?> _objectTimeoutFuture;
+  private final RateLimiter _rateLimiter;
+  private final AsyncPoolImpl.Strategy _strategy;
+
+  private enum State { NOT_YET_STARTED, RUNNING, SHUTTING_DOWN, STOPPED }
+
+  private final AtomicReference<State> _state = new AtomicReference<>(State.NOT_YET_STARTED);
+  private final AtomicReference<Callback<None>> _shutdownCallback = new AtomicReference<>();
+  // Including idle, checked out, and creations/destructions in progress
+  private final AtomicInteger _poolSize = new AtomicInteger();
+  private final AtomicInteger _checkedOut = new AtomicInteger();
+  // Unused objects live here, sorted by age.
+  // The first object is the least recently added object.
+  // An object is counted after it is added and uncounted before it is removed, so a thread that decrements a
+  // positive count is guaranteed to find an object to remove.
+  private final ConcurrentLinkedDeque<TimedObject<T>> _idle = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger _idleCount = new AtomicInteger();
+  // When no unused objects are available, callbacks live here while they wait
+  // for a new object (either returned by another user, or newly created).
+  // A waiter is counted before it is added and uncounted when it is completed; completed waiters may remain
+  // in the queue until they are polled.
+  private final ConcurrentLinkedQueue<Waiter> _waiters = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger _waiterCount = new AtomicInteger();
+  // Number of requests to hand idle objects over to waiters since the thread doing it last looked at the queues
+  private final AtomicInteger _drainRequests = new AtomicInteger();
+  private final AsyncPoolStatsTracker _statsTracker;
+  private final Clock _clock;
+
+  /**
+   * Creates a pool with the same configuration as
+   * {@link AsyncPoolImpl#AsyncPoolImpl(String, Lifecycle, int, long, long, ScheduledExecutorService, int,
+   * AsyncPoolImpl.Strategy, int, RateLimiter, Clock, LongTracker)}.
+   *
+   * @param waitTimeTracker thread safe tracker of the time spent waiting for pool objects.
+   */
+  public ConcurrentAsyncPoolImpl(String name,
+      Lifecycle<T> lifecycle,
+      int maxSize,
+      long idleTimeout,
+      long waiterTimeout,
+      ScheduledExecutorService timeoutExecutor,
+      int maxWaiters,
+      AsyncPoolImpl.Strategy strategy,
+      int minSize,
+      RateLimiter rateLimiter,
+      Clock clock,
+      LongTracker waitTimeTracker)
+  {
+    ArgumentUtil.notNull(lifecycle, "lifecycle");
+    ArgumentUtil.notNull(timeoutExecutor, "timeoutExecutor");
+    ArgumentUtil.notNull(strategy, "strategy");
+    ArgumentUtil.notNull(rateLimiter, "rateLimiter");
+
+    _poolName = name + "/" + Integer.toHexString(hashCode());
+    _lifecycle = lifecycle;
+    _maxSize = maxSize;
+    _idleTimeout = idleTimeout;
+    _waiterTimeout = waiterTimeout;
+    _creationTimeout = AsyncPoolImpl.DEFAULT_OBJECT_CREATION_TIMEOUT;
+    _timeoutExecutor = timeoutExecutor;
+    _maxWaiters = maxWaiters;
+    _strategy = strategy;
+    _minSize = minSize;
+    _rateLimiter = rateLimiter;
+    _clock = clock;
+    _statsTracker = new AsyncPoolStatsTracker(
+        () -> _lifecycle.getStats(),
+        () -> _maxSize,
+        () -> _minSize,
+        _poolSize::get,
+        _checkedOut::get,
+        _idleCount::get,
+        clock,
+        waitTimeTracker);
+  }
+
+  @Override
+  public String getName()
+  {
+    return _poolName;
+  }
+
+  @Override
+  public void start()
+  {
+    if (!_state.compareAndSet(State.NOT_YET_STARTED, State.RUNNING))
+    {
+      throw new IllegalStateException(_poolName + " is " + _state.get());
+    }
+    if (_idleTimeout > 0)
+    {
+      long freq = Math.min(_idleTimeout / 10, 1000);
+      _objectTimeoutFuture = _timeoutExecutor.scheduleAtFixedRate(this::timeoutObjects, freq, freq,
+          TimeUnit.MILLISECONDS);
+    }
+
+    // Make the minimum required number of connections now
+    for (int i = 0; i < _minSize; i++)
+    {
+      if (shouldCreate())
+      {
+        create();
+      }
+    }
+  }
+
+  @Override
+  public void shutdown(Callback<None> callback)
+  {
+    if (!_state.compareAndSet(State.RUNNING, State.SHUTTING_DOWN))
+    {
+      callback.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+      return;
+    }
+    _shutdownCallback.set(callback);
+    LOG.info("{}: {}", _poolName, "shutdown requested");
+    shutdownIfNeeded();
+  }
+
+  @Override
+  public Collection<Callback<T>> cancelWaiters()
+  {
+    List<Callback<T>> cancelled = new ArrayList<>();
+    for (Waiter waiter; (waiter = pollWaiter()) != null;)
+    {
+      cancelled.add(waiter.getCallback());
+    }
+    return cancelled;
+  }
+
+  @Override
+  public Cancellable get(final Callback<T> callback)
+  {
+    final Callback<T> callbackWithTracking = new TimeTrackingCallback(callback);
+    for (;;)
+    {
+      if (_state.get() != State.RUNNING)
+      {
+        callbackWithTracking.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+        return () -> false;
+      }
+      // Queue up behind existing waiters, which may be waiting for the objects that are created for them
+      TimedObject<T> obj = _waiterCount.get() == 0 ? pollIdle() : null;
+      if (obj == null)
+      {
+        break;
+      }
+      if (_state.get() != State.RUNNING)
+      {
+        // The pool is shutting down and may be waiting for this object to be idle
+        add(obj);
+        callbackWithTracking.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+        return () -> false;
+      }
+      T rawObj = obj.get();
+      if (_lifecycle.validateGet(rawObj))
+      {
+        trc("dequeued an idle object");
+        // Valid object; done
+        _checkedOut.incrementAndGet();
+        _statsTracker.sampleMaxCheckedOut();
+        callbackWithTracking.onSuccess(rawObj);
+        return () -> false;
+      }
+      // Invalid object, discard it and keep trying
+      destroy(rawObj, true);
+      trc("dequeued and disposed an invalid idle object");
+    }
+
+    if (!reserveWaiter())
+    {
+      // This is a recoverable exception. User can simply retry the failed get() operation.
+      callbackWithTracking.onError(
+          new SizeLimitExceededException("AsyncPool " + _poolName + " reached maximum waiter size: " + _maxWaiters));
+      return () -> false;
+    }
+    final Waiter waiter = new Waiter(callbackWithTracking);
+    _waiters.offer(waiter);
+    trc("enqueued a waiter");
+    if (_state.get() != State.RUNNING)
+    {
+      // The pool started shutting down after the state was checked; this waiter may have been missed
+      if (waiter.cancel())
+      {
+        callbackWithTracking.onError(new IllegalStateException(_poolName + " is " + _state.get()));
+      }
+      return () -> false;
+    }
+
+    // Same as AsyncPoolImpl, every waiter initiates an object creation when the pool is not full, whether or not
+    // it is handed an object that has become idle since the idle queue was polled
+    boolean create = shouldCreate(true);
+    drain();
+    if (create)
+    {
+      create();
+    }
+    return waiter::cancel;
+  }
+
+  private boolean isWaiterTimeoutEnabled()
+  {
+    // Do not enable waiter timeout if the configured value is not within the fail fast threshold
+    return _waiterTimeout >= AsyncPoolImpl.MIN_WAITER_TIMEOUT && _waiterTimeout <= AsyncPoolImpl.MAX_WAITER_TIMEOUT;
+  }
+
+  @Override
+  public void put(T obj)
+  {
+    _checkedOut.decrementAndGet();
+    if (!_lifecycle.validatePut(obj))
+    {
+      destroy(obj, true);
+      return;
+    }
+    // A channel made it through a complete request lifecycle
+    _rateLimiter.setPeriod(0);
+    add(new TimedObject<>(obj));
+  }
+
+  private void add(TimedObject<T> obj)
+  {
+    addIdle(obj);
+    trc("enqueued an idle object");
+    // A waiter added after this check hands the object over itself
+    if (_waiterCount.get() > 0)
+    {
+      drain();
+    }
+    shutdownIfNeeded();
+  }
+
+  @Override
+  public void dispose(T obj)
+  {
+    _checkedOut.decrementAndGet();
+    destroy(obj, true);
+  }
+
+  @Override
+  public AsyncPoolStats getStats()
+  {
+    return _statsTracker.getStats();
+  }
+
+  /**
+   * Hands idle objects over to waiters until either queue is empty. Only one thread does it at a time; a thread
+   * calling this method while another one is in the loop makes that thread look at the queues again and returns.
+   * Callbacks are invoked once the loop is done.
+   */
+  private void drain()
+  {
+    if (_drainRequests.getAndIncrement() != 0)
+    {
+      return;
+    }
+
+    List<Runnable> handoffs = Collections.emptyList();
+    int requests = 1;
+    for (;;)
+    {
+      while (_waiterCount.get() > 0)
+      {
+        TimedObject<T> obj = pollIdle();
+        if (obj == null)
+        {
+          break;
+        }
+        Waiter waiter = pollWaiter();
+        if (waiter == null)
+        {
+          // The waiters are completed, or not added yet and will call this method once added
+          pushBackIdle(obj);
+          break;
+        }
+        _checkedOut.incrementAndGet();
+        _statsTracker.sampleMaxCheckedOut();
+        if (handoffs.isEmpty())
+        {
+          handoffs = new ArrayList<>();
+        }
+        handoffs.add(() -> waiter.getCallback().onSuccess(obj.get()));
+      }
+
+      requests = _drainRequests.addAndGet(-requests);
+      if (requests == 0)
+      {
+        break;
+      }
+    }
+
+    for (Runnable handoff : handoffs)
+    {
+      trc("dequeued a waiter");
+      handoff.run();
+    }
+  }
+
+  private TimedObject<T> pollIdle()
+  {
+    if (!reserveIdle())
+    {
+      return null;
+    }
+    return _strategy == AsyncPoolImpl.Strategy.LRU ? _idle.pollFirst() : _idle.pollLast();
+  }
+
+  private void pushBackIdle(TimedObject<T> obj)
+  {
+    // Put the object back where it was taken from, to keep the idle queue sorted by age
+    if (_strategy == AsyncPoolImpl.Strategy.LRU)
+    {
+      _idle.offerFirst(obj);
+    }
+    else
+    {
+      _idle.offerLast(obj);
+    }
+    _idleCount.incrementAndGet();
+  }
+
+  private void addIdle(TimedObject<T> obj)
+  {
+    _idle.offerLast(obj);
+    _idleCount.incrementAndGet();
+  }
+
+  private boolean reserveIdle()
+  {
+    for (;;)
+    {
+      int idle = _idleCount.get();
+      if (idle <= 0)
+      {
+        return false;
+      }
+      if (_idleCount.compareAndSet(idle, idle - 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  private boolean reserveWaiter()
+  {
+    for (;;)
+    {
+      int waiters = _waiterCount.get();
+      if (waiters >= _maxWaiters)
+      {
+        return false;
+      }
+      if (_waiterCount.compareAndSet(waiters, waiters + 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return the first waiter of the queue that is not completed yet, after marking it completed.
+   */
+  private Waiter pollWaiter()
+  {
+    for (Waiter waiter; (waiter = _waiters.poll()) != null;)
+    {
+      if (waiter.complete())
+      {
+        return waiter;
+      }
+    }
+    return null;
+  }
+
+  private void destroy(T obj, boolean bad)
+  {
+    if (bad)
+    {
+      _statsTracker.incrementBadDestroyed();
+    }
+    trc("disposing a pooled object");
+    _lifecycle.destroy(obj, bad, new Callback<T>()
+    {
+      @Override
+      public void onSuccess(T t)
+      {
+        _statsTracker.incrementDestroyed();
+        if (objectDestroyed(1))
+        {
+          create();
+        }
+      }
+
+      @Override
+      public void onError(Throwable e)
+      {
+        _statsTracker.incrementDestroyErrors();
+        if (objectDestroyed(1))
+        {
+          create();
+        }
+      }
+    });
+  }
+
+  /**
+   * @param num number of objects have been destroyed
+   * @return true if another object creation should be initiated
+   */
+  private boolean objectDestroyed(int num)
+  {
+    _poolSize.getAndUpdate(size -> Math.max(size - num, 0));
+    boolean create = shouldCreate();
+    shutdownIfNeeded();
+    return create;
+  }
+
+  /**
+   * DO NOT call any callbacks in this method!
+   * @return true if another object creation should be initiated, in which case the pool size has been incremented.
+   */
+  private boolean shouldCreate()
+  {
+    return shouldCreate(false);
+  }
+
+  /**
+   * @param waiterAdded whether the caller has just added a waiter, which may have been completed since.
+   */
+  private boolean shouldCreate(boolean waiterAdded)
+  {
+    if (_state.get() != State.RUNNING)
+    {
+      return false;
+    }
+    for (;;)
+    {
+      int poolSize = _poolSize.get();
+      if (poolSize >= _maxSize || (!waiterAdded && _waiterCount.get() == 0 && poolSize >= _minSize))
+      {
+        return false;
+      }
+      if (_poolSize.compareAndSet(poolSize, poolSize + 1))
+      {
+        _statsTracker.sampleMaxPoolSize();
+        return true;
+      }
+    }
+  }
+
+  /**
+   * It invokes user code.
+   */
+  private void create()
+  {
+    trc("initiating object creation");
+    _rateLimiter.submit(new Task()
+    {
+      @Override
+      public void run(final SimpleCallback callback)
+      {
+        // Ignore the object creation if no one is waiting for the object and the pool already has _minSize objects
+        int totalObjects = _checkedOut.get() + _idleCount.get();
+        if (_waiterCount.get() == 0 && totalObjects >= _minSize)
+        {
+          _statsTracker.incrementIgnoredCreation();
+          // _poolSize also include the count of creation requests pending. So we have to make sure the pool size
+          // count is updated when we ignore the creation request.
+          _poolSize.getAndUpdate(size -> size >= 1 ? size - 1 : size);
+          shutdownIfNeeded();
+          callback.onDone();
+          return;
+        }
+
+        // Embedding the callback inside a timeout callback to force a response within creationTimeout deadline
+        // to reclaim the object slot in the pool
+        _lifecycle.create(new TimeoutCallback<>(_timeoutExecutor, _creationTimeout, TimeUnit.MILLISECONDS, new Callback<T>()
+        {
+          @Override
+          public void onSuccess(T t)
+          {
+            _statsTracker.incrementCreated();
+            add(new TimedObject<>(t));
+            callback.onDone();
+          }
+
+          @Override
+          public void onError(final Throwable e)
+          {
+            // Same as AsyncPoolImpl, all waiters are denied and pending creations cancelled when a create fails
+            final Collection<Task> cancelledCreate = _rateLimiter.cancelPendingTasks();
+            _statsTracker.incrementCreateErrors();
+            final Collection<Callback<T>> waitersDenied = cancelWaiters();
+
+            // reclaim the slot in the pool
+            boolean create = objectDestroyed(1 + cancelledCreate.size());
+
+            // lets fail all the waiters with the object creation error
+            for (Callback<T> denied : waitersDenied)
+            {
+              try
+              {
+                denied.onError(e);
+              }
+              catch (Exception ex)
+              {
+                LOG.error("Encountered error while invoking error waiter callback", ex);
+              }
+            }
+
+            // Now after cancelling all the pending tasks, lets make sure to back off on the creation
+            _rateLimiter.incrementPeriod();
+
+            // since all waiters are cancelled, the only condition that makes this true is when the pool is below
+            // the min poolSize
+            if (create)
+            {
+              create();
+            }
+            LOG.debug(_poolName + ": object creation failed", e);
+            callback.onDone();
+          }
+        }, () -> new ObjectCreationTimeoutException(
+            "Exceeded creation timeout of " + _creationTimeout + "ms: in Pool: " + _poolName)));
+      }
+    });
+  }
+
+  private void timeoutObjects()
+  {
+    Collection<T> expiredObjects = getExpiredObjects();
+    if (expiredObjects.size() > 0)
+    {
+      LOG.debug("{}: disposing {} objects due to idle timeout", _poolName, expiredObjects.size());
+      for (T obj : expiredObjects)
+      {
+        destroy(obj, false);
+      }
+    }
+  }
+
+  private Collection<T> getExpiredObjects()
+  {
+    List<T> expiredObjects = new ArrayList<>();
+    long deadline = _clock.currentTimeMillis() - _idleTimeout;
+    for (int excess = _poolSize.get() - _minSize; excess > 0 && reserveIdle(); excess--)
+    {
+      TimedObject<T> obj = _idle.pollFirst();
+      if (obj.getTime() >= deadline)
+      {
+        _idle.offerFirst(obj);
+        _idleCount.incrementAndGet();
+        // A waiter may have missed the object while it was out of the queue
+        if (_waiterCount.get() > 0)
+        {
+          drain();
+        }
+        break;
+      }
+      expiredObjects.add(obj.get());
+      _statsTracker.incrementTimedOut();
+    }
+    return expiredObjects;
+  }
+
+  private void shutdownIfNeeded()
+  {
+    if (_state.get() != State.SHUTTING_DOWN)
+    {
+      return;
+    }
+
+    // The pool size is read before the idle count: it does not grow while shutting down and is never smaller
+    // than the idle count, so reading the same value means all objects were idle when the idle count was read.
+    final int waiters = _waiterCount.get();
+    final int poolSize = _poolSize.get();
+    final int idle = _idleCount.get();
+    if (waiters == 0 && idle == poolSize)
+    {
+      Callback<None> shutdown = _shutdownCallback.getAndSet(null);
+      if (shutdown != null)
+      {
+        _state.set(State.STOPPED);
+        finishShutdown(shutdown);
+      }
+    }
+    else
+    {
+      LOG.info("{}: {} waiters and {} objects outstanding before shutdown", new Object[]{ _poolName, waiters, poolSize - idle });
+    }
+  }
+
+  private void finishShutdown(Callback<None> shutdown)
+  {
+    ScheduledFuture<?> future = _objectTimeoutFuture;
+    if (future != null)
+    {
+      future.cancel(false);
+    }
+
+    LOG.info("{}: {}", _poolName, "shutdown complete");
+
+    shutdown.onSuccess(None.none());
+  }
+
+  private class TimedObject<T>
+  {
+    private final T _obj;
+    private final long _time;
+
+    public TimedObject(T obj)
+    {
+      _obj = obj;
+      _time = _clock.currentTimeMillis();
+    }
+
+    public T get()
+    {
+      return _obj;
+    }
+
+    public long getTime()
+    {
+      return _time;
+    }
+  }
+
+  /**
+   * A callback waiting for an object. A waiter is completed exactly once, by handing it an object, cancelling it,
+   * timing it out or returning it from {@link #cancelWaiters()}.
+   */
+  private class Waiter
+  {
+    private final Callback<T> _callback;
+    private final AtomicBoolean _completed = new AtomicBoolean();
+    private final ScheduledFuture<?> _timeoutFuture;
+
+    private Waiter(Callback<T> callback)
+    {
+      _callback = callback;
+      _timeoutFuture = isWaiterTimeoutEnabled()
+          ? _timeoutExecutor.schedule(this::timeout, _waiterTimeout, TimeUnit.MILLISECONDS)
+          : null;
+    }
+
+    private Callback<T> getCallback()
+    {
+      return _callback;
+    }
+
+    /**
+     * @return true if this call completed the waiter, false if it was already completed.
+     */
+    private boolean complete()
+    {
+      if (!_completed.compareAndSet(false, true))
+      {
+        return false;
+      }
+      _waiterCount.decrementAndGet();
+      if (_timeoutFuture != null)
+      {
+        _timeoutFuture.cancel(false);
+      }
+      return true;
+    }
+
+    private boolean cancel()
+    {
+      if (!complete())
+      {
+        return false;
+      }
+      _waiters.remove(this);
+      shutdownIfNeeded();
+      return true;
+    }
+
+    private void timeout()
+    {
+      if (!complete())
+      {
+        return;
+      }
+      _waiters.remove(this);
+      _statsTracker.incrementWaiterTimedOut();
+      LOG.debug("{}: failing waiter due to waiter timeout", _poolName);
+      _callback.onError(new WaiterTimeoutException(
+          "Exceeded waiter timeout of " + _waiterTimeout + "ms: in Pool: " + _poolName));
+      shutdownIfNeeded();
+    }
+  }
+
+  private class TimeTrackingCallback implements Callback<T>
+  {
+    private final long _startTime;
+    private final Callback<T> _callback;
+
+    public TimeTrackingCallback(Callback<T> callback)
+    {
+      _callback = callback;
+      _startTime = _clock.currentTimeMillis();
+    }
+
+    @Override
+    public void onError(Throwable e)
+    {
+      long waitTime = _clock.currentTimeMillis() - _startTime;
+      _statsTracker.trackWaitTime(waitTime);
+      _statsTracker.sampleMaxWaitTime(waitTime);
+      _callback.onError(e);
+    }
+
+    @Override
+    public void onSuccess(T result)
+    {
+      long waitTime = _clock.currentTimeMillis() - _startTime;
+      _statsTracker.trackWaitTime(waitTime);
+      _statsTracker.sampleMaxWaitTime(waitTime);
+      _callback.onSuccess(result);
+    }
+  }
+
+  private void trc(Object toLog)
+  {
+    LOG.trace("{}: {}", _poolName, toLog);
+  }
+}
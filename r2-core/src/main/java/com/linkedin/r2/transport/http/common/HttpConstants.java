@@ -5,12 +5,19 @@ public interface HttpConstants
   public static final String ACCEPT_ENCODING = "Accept-Encoding";
   public static final String CONTENT_ENCODING = "Content-Encoding";
   public static final String CONTENT_LENGTH = "Content-Length";
+  public static final String CONTENT_TYPE = "Content-Type";
   public static final String TRANSFER_ENCODING = "Transfer-Encoding";
+  public static final String VARY = "Vary";
   /**
    * Custom header for the size threshold for encoding(compressing) responses.
    */
   public static final String HEADER_RESPONSE_COMPRESSION_THRESHOLD = "X-Response-Compression-Threshold";
 
+  /**
+   * Custom header for the ids of the zstd dictionaries the sender can decompress responses with.
+   */
+  public static final String HEADER_ZSTD_DICTIONARY_IDS = "X-Zstd-Dictionary-Ids";
+
   /**
    * Custom header for the number of retries.
    */
@@ -0,0 +1,114 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestAdaptiveConcurrencyLimiter
+{
+  private static final long FAST_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW_RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+  @Test
+  public void testRejectsOverLimit()
+  {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(5, 1, 100);
+    for (int i = 0; i < 5; i++)
+    {
+      Assert.assertTrue(limiter.tryAcquire());
+    }
+    Assert.assertFalse(limiter.tryAcquire());
+    Assert.assertEquals(limiter.getInFlight(), 5);
+
+    limiter.release(-1);
+    Assert.assertEquals(limiter.getInFlight(), 4);
+    Assert.assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  public void testLimitGrowsWhileLatencyIsSteady()
+  {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 10, 100);
+    for (int i = 0; i < 100; i++)
+    {
+      runSaturated(limiter, FAST_RTT);
+    }
+    Assert.assertEquals(limiter.getLimit(), 100);
+  }
+
+  @Test
+  public void testLimitShrinksWhenLatencyIncreases()
+  {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 10, 100);
+    for (int i = 0; i < 100; i++)
+    {
+      runSaturated(limiter, FAST_RTT);
+    }
+    Assert.assertEquals(limiter.getLimit(), 100);
+
+    for (int i = 0; i < 30; i++)
+    {
+      runSaturated(limiter, SLOW_RTT);
+    }
+    Assert.assertEquals(limiter.getLimit(), 10);
+
+    // recovers once the downstream is fast again
+    for (int i = 0; i < 300; i++)
+    {
+      runSaturated(limiter, FAST_RTT);
+    }
+    Assert.assertEquals(limiter.getLimit(), 100);
+  }
+
+  @Test
+  public void testLimitDoesNotGrowWhenUnderused()
+  {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 10, 100);
+    for (int i = 0; i < 1000; i++)
+    {
+      Assert.assertTrue(limiter.tryAcquire());
+      limiter.release(FAST_RTT);
+    }
+    Assert.assertEquals(limiter.getLimit(), 20);
+    Assert.assertEquals(limiter.getInFlight(), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidLimits()
+  {
+    new AdaptiveConcurrencyLimiter(5, 10, 100);
+  }
+
+  /**
+   * Sends as many requests as allowed and completes them all with the given round trip time.
+   */
+  private static void runSaturated(AdaptiveConcurrencyLimiter limiter, long rttNanos)
+  {
+    int acquired = 0;
+    while (limiter.tryAcquire())
+    {
+      acquired++;
+    }
+    for (int i = 0; i < acquired; i++)
+    {
+      limiter.release(rttNanos);
+    }
+  }
+}
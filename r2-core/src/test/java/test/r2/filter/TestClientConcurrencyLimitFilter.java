@@ -0,0 +1,121 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package test.r2.filter;
+
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.filter.FilterChain;
+import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.filter.message.rest.RestFilter;
+import com.linkedin.r2.filter.message.stream.StreamFilter;
+import com.linkedin.r2.filter.transport.ClientConcurrencyLimitFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.testutils.filter.FilterUtil;
+import com.linkedin.r2.transport.http.client.AdaptiveConcurrencyLimiter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestClientConcurrencyLimitFilter
+{
+  @Test
+  public void testRestRequestReleasedOnResponse()
+  {
+    ClientConcurrencyLimitFilter filter = new ClientConcurrencyLimitFilter(new AdaptiveConcurrencyLimiter(1, 1, 1));
+    FilterChain filterChain = FilterChains.createRestChain(filter);
+    RequestContext requestContext = new RequestContext();
+
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), requestContext, new HashMap<>());
+    Assert.assertEquals(filter.getLimiter().getInFlight(), 1);
+
+    FilterUtil.fireRestResponse(filterChain, FilterUtil.simpleRestResponse(), requestContext, new HashMap<>());
+    Assert.assertEquals(filter.getLimiter().getInFlight(), 0);
+  }
+
+  @Test
+  public void testRestRequestReleasedOnError()
+  {
+    ClientConcurrencyLimitFilter filter = new ClientConcurrencyLimitFilter(new AdaptiveConcurrencyLimiter(1, 1, 1));
+    FilterChain filterChain = FilterChains.createRestChain(filter);
+    RequestContext requestContext = new RequestContext();
+
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), requestContext, new HashMap<>());
+    FilterUtil.fireRestError(filterChain, FilterUtil.simpleError(), requestContext, new HashMap<>());
+    Assert.assertEquals(filter.getLimiter().getInFlight(), 0);
+
+    // an error of a request which didn't go through the filter doesn't release a permit
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), new RequestContext(), new HashMap<>());
+    FilterUtil.fireRestError(filterChain, FilterUtil.simpleError(), new RequestContext(), new HashMap<>());
+    Assert.assertEquals(filter.getLimiter().getInFlight(), 1);
+  }
+
+  @Test
+  public void testRestRequestOverLimit()
+  {
+    ClientConcurrencyLimitFilter filter = new ClientConcurrencyLimitFilter(new AdaptiveConcurrencyLimiter(1, 1, 1));
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    RestFilter captureFilter = new RestFilter()
+    {
+      @Override
+      public void onRestError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<RestRequest, RestResponse> nextFilter)
+      {
+        error.set(ex);
+      }
+    };
+    FilterChain filterChain = FilterChains.createRestChain(captureFilter, filter);
+
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), new RequestContext(), new HashMap<>());
+    Assert.assertNull(error.get());
+
+    FilterUtil.fireRestRequest(filterChain, FilterUtil.simpleRestRequest(), new RequestContext(), new HashMap<>());
+    Assert.assertTrue(error.get() instanceof RetriableRequestException);
+    Assert.assertEquals(filter.getLimiter().getInFlight(), 1);
+  }
+
+  @Test
+  public void testStreamRequestOverLimit()
+  {
+    ClientConcurrencyLimitFilter filter = new ClientConcurrencyLimitFilter(new AdaptiveConcurrencyLimiter(1, 1, 1));
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    StreamFilter captureFilter = new StreamFilter()
+    {
+      @Override
+      public void onStreamError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<StreamRequest, StreamResponse> nextFilter)
+      {
+        error.set(ex);
+      }
+    };
+    FilterChain filterChain = FilterChains.createStreamChain(captureFilter, filter);
+    RequestContext requestContext = new RequestContext();
+
+    FilterUtil.fireStreamRequest(filterChain, FilterUtil.simpleStreamRequest(), requestContext, new HashMap<>());
+    FilterUtil.fireStreamRequest(filterChain, FilterUtil.simpleStreamRequest(), new RequestContext(), new HashMap<>());
+    Assert.assertTrue(error.get() instanceof RetriableRequestException);
+
+    FilterUtil.fireStreamResponse(filterChain, FilterUtil.simpleStreamResponse(), requestContext, new HashMap<>());
+    Assert.assertEquals(filter.getLimiter().getInFlight(), 0);
+  }
+}
@@ -22,6 +22,8 @@ package test.r2.transport.http.client;
 
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.stats.HistogramLongTracking;
+import com.linkedin.common.stats.LongTracker;
 import com.linkedin.common.stats.LongTracking;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
@@ -30,11 +32,14 @@ import com.linkedin.r2.transport.http.client.ExponentialBackOffRateLimiter;
 import com.linkedin.r2.transport.http.client.NoopRateLimiter;
 import com.linkedin.r2.transport.http.client.ObjectCreationTimeoutException;
 import com.linkedin.r2.transport.http.client.PoolStats;
+import com.linkedin.r2.transport.http.client.RateLimiter;
 import com.linkedin.r2.util.Cancellable;
 import com.linkedin.test.util.AssertionMethods;
 import com.linkedin.test.util.ClockedExecutor;
 import com.linkedin.test.util.retry.SingleRetry;
+import com.linkedin.util.clock.Clock;
 import com.linkedin.util.clock.SettableClock;
+import com.linkedin.util.clock.SystemClock;
 import com.linkedin.util.clock.Time;
 import java.util.LinkedList;
 import java.util.Random;
@@ -72,15 +77,33 @@ public class TestAsyncPool
     _executor.shutdown();
   }
 
+  protected <T> AsyncPool<T> createPool(String name,
+      AsyncPool.Lifecycle<T> lifecycle,
+      int maxSize,
+      long idleTimeout,
+      long waiterTimeout,
+      ScheduledExecutorService timeoutExecutor,
+      int maxWaiters,
+      AsyncPoolImpl.Strategy strategy,
+      int minSize,
+      RateLimiter rateLimiter,
+      Clock clock,
+      LongTracker waitTimeTracker)
+  {
+    return new AsyncPoolImpl<>(name, lifecycle, maxSize, idleTimeout, waiterTimeout, timeoutExecutor, maxWaiters,
+        strategy, minSize, rateLimiter, clock, waitTimeTracker);
+  }
+
+  private <T> AsyncPool<T> createPool(String name, AsyncPool.Lifecycle<T> lifecycle, int maxSize, long idleTimeout)
+  {
+    return createPool(name, lifecycle, maxSize, idleTimeout, Integer.MAX_VALUE, _executor, Integer.MAX_VALUE,
+        AsyncPoolImpl.Strategy.MRU, 0, new NoopRateLimiter(), SystemClock.instance(), new HistogramLongTracking());
+  }
+
   @Test
   public void testMustStart() throws TimeoutException, InterruptedException
   {
-    AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
-        new SynchronousLifecycle(),
-        1,
-        100,
-        _executor
-    );
+    AsyncPool<Object> pool = createPool("object pool", new SynchronousLifecycle(), 1, 100);
     FutureCallback<Object> cb = new FutureCallback<>();
     pool.get(cb);
     try
@@ -97,12 +120,7 @@ public class TestAsyncPool
   @Test
   public void testCreate()
   {
-    AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
-        new SynchronousLifecycle(),
-        1,
-        100,
-        _executor
-    );
+    AsyncPool<Object> pool = createPool("object pool", new SynchronousLifecycle(), 1, 100);
     pool.start();
     FutureCallback<Object> cb = new FutureCallback<>();
     pool.get(cb);
@@ -126,12 +144,7 @@ public class TestAsyncPool
     final int POOL_SIZE = 25;
     final int DELAY = 1;
     SynchronousLifecycle lifecycle = new SynchronousLifecycle();
-    final AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
-        lifecycle,
-        POOL_SIZE,
-        100,
-        _executor
-    );
+    final AsyncPool<Object> pool = createPool("object pool", lifecycle, POOL_SIZE, 100);
     pool.start();
 
     Runnable r = new Runnable()
@@ -186,12 +199,7 @@ public class TestAsyncPool
     final int POOL_SIZE = 25;
     final int CHECKOUT = POOL_SIZE;
     SynchronousLifecycle lifecycle = new SynchronousLifecycle();
-    final AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
-        lifecycle,
-        POOL_SIZE,
-        100,
-        _executor
-    );
+    final AsyncPool<Object> pool = createPool("object pool", lifecycle, POOL_SIZE, 100);
     pool.start();
 
     List<Object> objects = new ArrayList<>(CHECKOUT);
@@ -238,7 +246,7 @@ public class TestAsyncPool
   public void testCancelTriggerShutdown() throws Exception
   {
     SynchronousLifecycle lifecycle = new SynchronousLifecycle();
-    AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool", lifecycle, 1, 100, _executor);
+    AsyncPool<Object> pool = createPool("object pool", lifecycle, 1, 100);
     pool.start();
 
     FutureCallback<Object> callback1 = new FutureCallback<>();
@@ -267,8 +275,9 @@ public class TestAsyncPool
     final int POOL_SIZE = 25;
     final int GET = 15;
     SynchronousLifecycle lifecycle = new SynchronousLifecycle();
-    final AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
-        lifecycle, POOL_SIZE, 1000, _executor, _executor, Integer.MAX_VALUE, AsyncPoolImpl.Strategy.LRU, 0);
+    final AsyncPool<Object> pool = createPool("object pool",
+        lifecycle, POOL_SIZE, 1000, Integer.MAX_VALUE, _executor, Integer.MAX_VALUE, AsyncPoolImpl.Strategy.LRU, 0,
+        new NoopRateLimiter(), SystemClock.instance(), new HistogramLongTracking());
 
     pool.start();
 
@@ -308,8 +317,9 @@ public class TestAsyncPool
     for(AsyncPoolImpl.Strategy strategy : AsyncPoolImpl.Strategy.values()) {
 
       SynchronousLifecycle lifecycle = new SynchronousLifecycle();
-      final AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
-          lifecycle, POOL_SIZE, 100, _executor, _executor, Integer.MAX_VALUE, strategy, MIN_SIZE);
+      final AsyncPool<Object> pool = createPool("object pool",
+          lifecycle, POOL_SIZE, 100, Integer.MAX_VALUE, _executor, Integer.MAX_VALUE, strategy, MIN_SIZE,
+          new NoopRateLimiter(), SystemClock.instance(), new HistogramLongTracking());
 
       pool.start();
 
@@ -353,7 +363,7 @@ public class TestAsyncPool
     final int DELAY = 1200;
 
     final UnreliableLifecycle lifecycle = new UnreliableLifecycle();
-    final AsyncPool<AtomicBoolean> pool = new AsyncPoolImpl<>(
+    final AsyncPool<AtomicBoolean> pool = createPool(
         "object pool", lifecycle, POOL_SIZE, TIMEOUT, WAITER_TIMEOUT, _executor, MAX_WAITER_SIZE, AsyncPoolImpl.Strategy.MRU,
         MIN_SIZE, new NoopRateLimiter(), clock, waitTimeTracker);
     PoolStats stats;
@@ -494,9 +504,7 @@ public class TestAsyncPool
     final int TIMEOUT = 100;
 
     final UnreliableLifecycle lifecycle = new UnreliableLifecycle();
-    final AsyncPool<AtomicBoolean> pool = new AsyncPoolImpl<>(
-        "object pool", lifecycle, POOL_SIZE, TIMEOUT, _executor
-    );
+    final AsyncPool<AtomicBoolean> pool = createPool("object pool", lifecycle, POOL_SIZE, TIMEOUT);
     PoolStats stats;
     final List<AtomicBoolean> objects = new ArrayList<>();
 
@@ -559,12 +567,7 @@ public class TestAsyncPool
     final long DELAY = 100;
     final double DELTA = 0.1;
     DelayedLifecycle lifecycle = new DelayedLifecycle(DELAY);
-    final AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
-        lifecycle,
-        POOL_SIZE,
-        100,
-        _executor
-    );
+    final AsyncPool<Object> pool = createPool("object pool", lifecycle, POOL_SIZE, 100);
     pool.start();
 
     PoolStats stats;
@@ -614,14 +617,15 @@ public class TestAsyncPool
     ExponentialBackOffRateLimiter rateLimiter = new ExponentialBackOffRateLimiter(0, 5000,
         10, executor, concurrency);
 
-    final AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
+    final AsyncPool<Object> pool = createPool("object pool",
         blockableObjectCreator,
         poolSize,
         Integer.MAX_VALUE,
+        Integer.MAX_VALUE,
         _executor,
         Integer.MAX_VALUE,
         AsyncPoolImpl.Strategy.MRU,
-        0, rateLimiter
+        0, rateLimiter, SystemClock.instance(), new HistogramLongTracking()
     );
 
     pool.start();
@@ -718,7 +722,7 @@ public class TestAsyncPool
 
     ClockedExecutor clockedExecutor = new ClockedExecutor();
 
-    final AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
+    final AsyncPool<Object> pool = createPool("object pool",
         blockableObjectCreator,
         poolSize,
         Integer.MAX_VALUE,
@@ -796,7 +800,7 @@ public class TestAsyncPool
     ClockedExecutor clockedExecutor = new ClockedExecutor();
     ExponentialBackOffRateLimiter rateLimiter = new ExponentialBackOffRateLimiter(0, 5000,
         10, clockedExecutor, concurrency);
-    final AsyncPool<Object> pool = new AsyncPoolImpl<>("object pool",
+    final AsyncPool<Object> pool = createPool("object pool",
         objectCreatorThatNeverCreates,
         poolSize,
         Integer.MAX_VALUE,
@@ -0,0 +1,184 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package test.r2.transport.http.client;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.stats.ConcurrentLongTracking;
+import com.linkedin.common.stats.LongTracker;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.transport.http.client.AsyncPool;
+import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.ConcurrentAsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.NoopRateLimiter;
+import com.linkedin.r2.transport.http.client.PoolStats;
+import com.linkedin.r2.transport.http.client.RateLimiter;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+/**
+ * Runs the {@link TestAsyncPool} tests against {@link ConcurrentAsyncPoolImpl}.
+ */
+public class TestConcurrentAsyncPool extends TestAsyncPool
+{
+  private final ScheduledExecutorService _scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterClass
+  public void stopScheduler()
+  {
+    _scheduler.shutdown();
+  }
+
+  @Override
+  protected <T> AsyncPool<T> createPool(String name,
+      AsyncPool.Lifecycle<T> lifecycle,
+      int maxSize,
+      long idleTimeout,
+      long waiterTimeout,
+      ScheduledExecutorService timeoutExecutor,
+      int maxWaiters,
+      AsyncPoolImpl.Strategy strategy,
+      int minSize,
+      RateLimiter rateLimiter,
+      Clock clock,
+      LongTracker waitTimeTracker)
+  {
+    return new ConcurrentAsyncPoolImpl<>(name, lifecycle, maxSize, idleTimeout, waiterTimeout, timeoutExecutor,
+        maxWaiters, strategy, minSize, rateLimiter, clock, waitTimeTracker);
+  }
+
+  @DataProvider
+  public Object[][] strategies()
+  {
+    return new Object[][] { { AsyncPoolImpl.Strategy.MRU }, { AsyncPoolImpl.Strategy.LRU } };
+  }
+
+  @Test(dataProvider = "strategies")
+  public void testContention(AsyncPoolImpl.Strategy strategy) throws Exception
+  {
+    final int threads = 16;
+    final int iterations = 5000;
+    final int poolSize = 4;
+    final SynchronousLifecycle lifecycle = new SynchronousLifecycle();
+    final AsyncPool<Object> pool = createPool("object pool", lifecycle, poolSize, 100, Integer.MAX_VALUE,
+        _scheduler, Integer.MAX_VALUE, strategy, 0, new NoopRateLimiter(), SystemClock.instance(),
+        new ConcurrentLongTracking());
+    pool.start();
+
+    final Set<Object> checkedOut = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try
+    {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++)
+      {
+        futures.add(executor.submit(() ->
+        {
+          for (int j = 0; j < iterations; j++)
+          {
+            FutureCallback<Object> cb = new FutureCallback<>();
+            pool.get(cb);
+            // A waiter that is never handed an idle object would time out here
+            Object obj = cb.get(30, TimeUnit.SECONDS);
+            Assert.assertTrue(checkedOut.add(obj), "Object checked out twice");
+            Assert.assertTrue(checkedOut.remove(obj));
+            if (j % 100 == 0)
+            {
+              pool.dispose(obj);
+            }
+            else
+            {
+              pool.put(obj);
+            }
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures)
+      {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+
+    Assert.assertTrue(lifecycle.getHighWaterMark() <= poolSize, "High water mark exceeded " + poolSize);
+    PoolStats stats = pool.getStats();
+    Assert.assertEquals(stats.getCheckedOut(), 0);
+    Assert.assertEquals(stats.getIdleCount(), stats.getPoolSize());
+    Assert.assertEquals(stats.getTotalBadDestroyed(), threads * iterations / 100);
+
+    FutureCallback<None> shutdown = new FutureCallback<>();
+    pool.shutdown(shutdown);
+    shutdown.get(30, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testShutdownWaitsForWaiters() throws Exception
+  {
+    final AsyncPool<Object> pool = createPool("object pool", new SynchronousLifecycle(), 1, 100, Integer.MAX_VALUE,
+        _scheduler, Integer.MAX_VALUE, AsyncPoolImpl.Strategy.MRU, 0, new NoopRateLimiter(), SystemClock.instance(),
+        new ConcurrentLongTracking());
+    pool.start();
+
+    FutureCallback<Object> first = new FutureCallback<>();
+    pool.get(first);
+    Object obj = first.get(30, TimeUnit.SECONDS);
+    FutureCallback<Object> waiter = new FutureCallback<>();
+    pool.get(waiter);
+
+    FutureCallback<None> shutdown = new FutureCallback<>();
+    pool.shutdown(shutdown);
+    Assert.assertFalse(shutdown.isDone());
+
+    // Waiters queued before the shutdown are still served
+    pool.put(obj);
+    Assert.assertSame(waiter.get(30, TimeUnit.SECONDS), obj);
+    Assert.assertFalse(shutdown.isDone());
+
+    pool.put(obj);
+    shutdown.get(30, TimeUnit.SECONDS);
+
+    FutureCallback<Object> rejected = new FutureCallback<>();
+    pool.get(rejected);
+    try
+    {
+      rejected.get(30, TimeUnit.SECONDS);
+      Assert.fail("Get succeeded on stopped pool");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+}
@@ -0,0 +1,382 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+
+/**
+ * Decides how {@link ServerCompressionFilter} compresses each response, on top of the compression threshold and the
+ * encodings accepted by the client:
+ * <ul>
+ *   <li>Responses whose content type is already compact, such as protobuf or images, are not compressed.</li>
+ *   <li>The compression ratio of the responses of every resource is tracked, and the responses of a resource which
+ *   don't compress well are not compressed anymore, except one in {@link #PROBE_INTERVAL} to notice if they start to.</li>
+ *   <li>While the CPU utilization of the host is above the high watermark, responses are only compressed with a cheap
+ *   encoding accepted by the client (lz4 or snappy), or not at all.</li>
+ *   <li>While the CPU utilization is below the low watermark, zstd compresses at a higher level.</li>
+ * </ul>
+ *
+ * The policy also keeps metrics on the bytes saved and the time spent compressing.
+ *
+ * This class is thread-safe.
+ */
+public class AdaptiveCompressionPolicy
+{
+  public static final double DEFAULT_HIGH_CPU_UTILIZATION = 0.8;
+  public static final double DEFAULT_LOW_CPU_UTILIZATION = 0.3;
+  public static final double DEFAULT_MAX_COMPRESSION_RATIO = 0.9;
+  public static final Set<String> DEFAULT_INCOMPRESSIBLE_CONTENT_TYPES = Collections.unmodifiableSet(new HashSet<>(
+      Arrays.asList("application/x-protobuf", "application/x-protobuf2", "application/zip", "application/gzip",
+          "image/", "video/", "audio/")));
+  public static final int AGGRESSIVE_ZSTD_LEVEL = 9;
+
+  static final int MIN_SAMPLES = 10;
+  static final int PROBE_INTERVAL = 100;
+  private static final int MAX_RESOURCES = 1000;
+  private static final double RATIO_WEIGHT = 0.1;
+  private static final long CPU_SAMPLE_INTERVAL_MS = 1000;
+  private static final List<EncodingType> CHEAP_ENCODINGS =
+      Arrays.asList(EncodingType.LZ4_FRAMED, EncodingType.SNAPPY_FRAMED, EncodingType.SNAPPY);
+
+  /**
+   * Why a response wasn't compressed.
+   */
+  public enum SkipReason
+  {
+    CONTENT_TYPE,
+    LOW_COMPRESSION_RATIO,
+    HIGH_CPU_UTILIZATION
+  }
+
+  private final double _highCpuUtilization;
+  private final double _lowCpuUtilization;
+  private final double _maxCompressionRatio;
+  private final Set<String> _incompressibleContentTypes;
+  private final DoubleSupplier _cpuUtilization;
+  private final Map<String, ResourceHistory> _histories = new ConcurrentHashMap<>();
+
+  private final LongAdder _compressedCount = new LongAdder();
+  private final LongAdder _uncompressedBytes = new LongAdder();
+  private final LongAdder _compressedBytes = new LongAdder();
+  private final LongAdder _compressionNanos = new LongAdder();
+  private final Map<SkipReason, LongAdder> _skippedCounts = new EnumMap<>(SkipReason.class);
+
+  public AdaptiveCompressionPolicy()
+  {
+    this(DEFAULT_HIGH_CPU_UTILIZATION, DEFAULT_LOW_CPU_UTILIZATION, DEFAULT_MAX_COMPRESSION_RATIO,
+        DEFAULT_INCOMPRESSIBLE_CONTENT_TYPES);
+  }
+
+  /**
+   * @param highCpuUtilization system CPU utilization, between 0 and 1, above which only cheap encodings are used.
+   * @param lowCpuUtilization system CPU utilization, between 0 and 1, below which zstd compresses more aggressively.
+   * @param maxCompressionRatio compressed to uncompressed size ratio above which the responses of a resource aren't
+   *                            worth compressing.
+   * @param incompressibleContentTypes content types, or content type prefixes ending with a '/', of the responses
+   *                                   which aren't compressed.
+   */
+  public AdaptiveCompressionPolicy(double highCpuUtilization, double lowCpuUtilization, double maxCompressionRatio,
+      Set<String> incompressibleContentTypes)
+  {
+    this(highCpuUtilization, lowCpuUtilization, maxCompressionRatio, incompressibleContentTypes,
+        new CpuUtilizationSampler(SystemClock.instance()));
+  }
+
+  AdaptiveCompressionPolicy(double highCpuUtilization, double lowCpuUtilization, double maxCompressionRatio,
+      Set<String> incompressibleContentTypes, DoubleSupplier cpuUtilization)
+  {
+    if (lowCpuUtilization > highCpuUtilization)
+    {
+      throw new IllegalArgumentException("Low CPU utilization " + lowCpuUtilization
+          + " is higher than high CPU utilization " + highCpuUtilization);
+    }
+    _highCpuUtilization = highCpuUtilization;
+    _lowCpuUtilization = lowCpuUtilization;
+    _maxCompressionRatio = maxCompressionRatio;
+    _incompressibleContentTypes = new HashSet<>(incompressibleContentTypes);
+    _cpuUtilization = cpuUtilization;
+    for (SkipReason reason : SkipReason.values())
+    {
+      _skippedCounts.put(reason, new LongAdder());
+    }
+  }
+
+  /**
+   * @param resource resource of the request, see {@link #getResource(URI)}.
+   * @param contentType content type of the response, or null.
+   * @param acceptedEncodings encodings accepted by the client.
+   * @param preferredEncoding encoding the response would be compressed with without this policy.
+   * @return the encoding to compress the response with, or null not to compress it.
+   */
+  public EncodingType chooseEncoding(String resource, String contentType, List<AcceptEncoding> acceptedEncodings,
+      EncodingType preferredEncoding)
+  {
+    if (isIncompressible(contentType))
+    {
+      return skip(SkipReason.CONTENT_TYPE);
+    }
+
+    ResourceHistory history = getHistory(resource);
+    if (history != null && history.isIncompressible(_maxCompressionRatio))
+    {
+      return skip(SkipReason.LOW_COMPRESSION_RATIO);
+    }
+
+    if (_cpuUtilization.getAsDouble() >= _highCpuUtilization)
+    {
+      for (EncodingType cheapEncoding : CHEAP_ENCODINGS)
+      {
+        for (AcceptEncoding acceptedEncoding : acceptedEncodings)
+        {
+          if (acceptedEncoding.getType() == cheapEncoding && acceptedEncoding.getQuality() > 0)
+          {
+            return cheapEncoding;
+          }
+        }
+      }
+      return skip(SkipReason.HIGH_CPU_UTILIZATION);
+    }
+    return preferredEncoding;
+  }
+
+  /**
+   * @return the level to compress with when zstd is chosen.
+   */
+  public int getZstdLevel()
+  {
+    // a negative utilization is unknown, in which case there is no reason to spend more CPU than by default
+    double cpuUtilization = _cpuUtilization.getAsDouble();
+    return cpuUtilization >= 0 && cpuUtilization <= _lowCpuUtilization
+        ? AGGRESSIVE_ZSTD_LEVEL : ZstdCompressor.DEFAULT_LEVEL;
+  }
+
+  /**
+   * Records the outcome of compressing a response.
+   *
+   * @param used whether the compressed response was sent, i.e. whether it was smaller than the original one.
+   */
+  public void recordCompression(String resource, int uncompressedLength, int compressedLength, long compressionNanos,
+      boolean used)
+  {
+    _compressionNanos.add(compressionNanos);
+    if (used)
+    {
+      _compressedCount.increment();
+      _uncompressedBytes.add(uncompressedLength);
+      _compressedBytes.add(compressedLength);
+    }
+
+    ResourceHistory history = getHistory(resource);
+    if (history != null && uncompressedLength > 0)
+    {
+      history.addRatio((double) compressedLength / uncompressedLength);
+    }
+  }
+
+  /**
+   * @return the resource of the request, i.e. the first segment of its path, under which compression ratios are tracked.
+   */
+  public static String getResource(URI uri)
+  {
+    String path = uri.getRawPath();
+    if (path == null)
+    {
+      return "";
+    }
+    int start = path.startsWith("/") ? 1 : 0;
+    int end = path.indexOf('/', start);
+    return path.substring(start, end < 0 ? path.length() : end);
+  }
+
+  /**
+   * @return the number of responses sent compressed.
+   */
+  public long getCompressedCount()
+  {
+    return _compressedCount.sum();
+  }
+
+  /**
+   * @return the number of responses this policy decided not to compress for the given reason.
+   */
+  public long getSkippedCount(SkipReason reason)
+  {
+    return _skippedCounts.get(reason).sum();
+  }
+
+  /**
+   * @return the size of the responses sent compressed, before compression.
+   */
+  public long getUncompressedBytes()
+  {
+    return _uncompressedBytes.sum();
+  }
+
+  /**
+   * @return the size of the responses sent compressed, after compression.
+   */
+  public long getCompressedBytes()
+  {
+    return _compressedBytes.sum();
+  }
+
+  public long getBytesSaved()
+  {
+    return getUncompressedBytes() - getCompressedBytes();
+  }
+
+  /**
+   * @return the time spent compressing responses in nanoseconds, including the ones which weren't sent compressed.
+   */
+  public long getCompressionNanos()
+  {
+    return _compressionNanos.sum();
+  }
+
+  /**
+   * @return the average compression ratio of the responses of the resource, or NaN if it is unknown.
+   */
+  public double getCompressionRatio(String resource)
+  {
+    ResourceHistory history = _histories.get(resource);
+    return history == null ? Double.NaN : history.getRatio();
+  }
+
+  private EncodingType skip(SkipReason reason)
+  {
+    _skippedCounts.get(reason).increment();
+    return null;
+  }
+
+  private boolean isIncompressible(String contentType)
+  {
+    if (contentType == null)
+    {
+      return false;
+    }
+    String mimeType = contentType.split(";", 2)[0].trim().toLowerCase();
+    int slash = mimeType.indexOf('/');
+    return _incompressibleContentTypes.contains(mimeType)
+        || (slash >= 0 && _incompressibleContentTypes.contains(mimeType.substring(0, slash + 1)));
+  }
+
+  private ResourceHistory getHistory(String resource)
+  {
+    ResourceHistory history = _histories.get(resource);
+    // stop tracking new resources past a limit, in case the first segment of the paths isn't a resource name
+    if (history == null && _histories.size() < MAX_RESOURCES)
+    {
+      history = _histories.computeIfAbsent(resource, key -> new ResourceHistory());
+    }
+    return history;
+  }
+
+  private static class ResourceHistory
+  {
+    private final AtomicLong _skipped = new AtomicLong();
+    private double _ratio;
+    private int _samples;
+
+    private synchronized void addRatio(double ratio)
+    {
+      _ratio = _samples == 0 ? ratio : _ratio + (ratio - _ratio) * RATIO_WEIGHT;
+      _samples = Math.min(_samples + 1, MIN_SAMPLES);
+    }
+
+    private synchronized double getRatio()
+    {
+      return _samples == 0 ? Double.NaN : _ratio;
+    }
+
+    private boolean isIncompressible(double maxCompressionRatio)
+    {
+      synchronized (this)
+      {
+        if (_samples < MIN_SAMPLES || _ratio <= maxCompressionRatio)
+        {
+          return false;
+        }
+      }
+      // compress a response once in a while to notice when the responses become compressible again
+      return _skipped.incrementAndGet() % PROBE_INTERVAL != 0;
+    }
+  }
+
+  /**
+   * Samples the system CPU utilization at most once per {@link #CPU_SAMPLE_INTERVAL_MS}. The utilization is negative
+   * when it is unknown, e.g. when the JVM doesn't provide it.
+   */
+  static class CpuUtilizationSampler implements DoubleSupplier
+  {
+    private final Clock _clock;
+    private final DoubleSupplier _systemCpuLoad;
+    private volatile double _utilization = -1;
+    private volatile boolean _sampled = false;
+    private volatile long _lastSampleTime;
+
+    CpuUtilizationSampler(Clock clock)
+    {
+      this(clock, getSystemCpuLoadSupplier());
+    }
+
+    CpuUtilizationSampler(Clock clock, DoubleSupplier systemCpuLoad)
+    {
+      _clock = clock;
+      _systemCpuLoad = systemCpuLoad;
+    }
+
+    @Override
+    public double getAsDouble()
+    {
+      long now = _clock.currentTimeMillis();
+      if (!_sampled || now - _lastSampleTime >= CPU_SAMPLE_INTERVAL_MS)
+      {
+        _lastSampleTime = now;
+        _sampled = true;
+        double utilization = _systemCpuLoad.getAsDouble();
+        _utilization = Double.isNaN(utilization) ? -1 : utilization;
+      }
+      return _utilization;
+    }
+
+    private static DoubleSupplier getSystemCpuLoadSupplier()
+    {
+      OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+      if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean)
+      {
+        return ((com.sun.management.OperatingSystemMXBean) operatingSystem)::getSystemCpuLoad;
+      }
+      return () -> -1;
+    }
+  }
+}
@@ -29,6 +29,7 @@ import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -50,6 +51,8 @@ public class ClientCompressionFilter implements RestFilter
   private final CompressionConfig _responseCompressionConfig;
   private final String _acceptEncodingHeader;
   private final ClientCompressionHelper _helper;
+  private final ZstdDictionaryRegistry _zstdDictionaryRegistry;
+  private final Compressor _zstdDecompressor;
 
 
   /**
@@ -67,6 +70,30 @@ public class ClientCompressionFilter implements RestFilter
                                  EncodingType[] acceptedEncodings,
                                  CompressionConfig responseCompressionConfig,
                                  List<String> responseCompressionOperations)
+  {
+    this(requestContentEncoding, requestCompressionConfig, acceptedEncodings, responseCompressionConfig,
+        responseCompressionOperations, null);
+  }
+
+  /**
+   * Instantiates a client compression filter.
+   *
+   * @param requestContentEncoding the encoding that should be used to compress requests.
+   * @param requestCompressionConfig config for determining when to compress requests.
+   * @param acceptedEncodings encodings accepted by the client, used to generate Accept-Encoding header.
+   * @param responseCompressionConfig config for determining when to ask the server to compress responses.
+   *                                  This overrides the config in the server.
+   * @param responseCompressionOperations the set of operations for which response compression will be turned on.
+   * @param zstdDictionaryRegistry dictionaries the server may compress zstd responses with, which are advertised in
+   *                               the {@link HttpConstants#HEADER_ZSTD_DICTIONARY_IDS} header when zstd is accepted.
+   *                               Null to only accept zstd without dictionary.
+   */
+  public ClientCompressionFilter(EncodingType requestContentEncoding,
+                                 CompressionConfig requestCompressionConfig,
+                                 EncodingType[] acceptedEncodings,
+                                 CompressionConfig responseCompressionConfig,
+                                 List<String> responseCompressionOperations,
+                                 ZstdDictionaryRegistry zstdDictionaryRegistry)
   {
     if (requestContentEncoding == null)
     {
@@ -101,6 +128,8 @@ public class ClientCompressionFilter implements RestFilter
     _acceptEncodingHeader = buildAcceptEncodingHeader(acceptedEncodings);
     _responseCompressionConfig = responseCompressionConfig;
     _helper = new ClientCompressionHelper(requestCompressionConfig, responseCompressionOperations);
+    _zstdDictionaryRegistry = Arrays.asList(acceptedEncodings).contains(EncodingType.ZSTD) ? zstdDictionaryRegistry : null;
+    _zstdDecompressor = new ZstdCompressor(null, _zstdDictionaryRegistry);
   }
 
   /**
@@ -167,6 +196,11 @@ public class ClientCompressionFilter implements RestFilter
     }
 
     RestRequestBuilder builder = req.builder();
+    if (responseCompressionOverride != CompressionOption.FORCE_OFF && _zstdDictionaryRegistry != null
+        && !_zstdDictionaryRegistry.isEmpty())
+    {
+      builder.setHeader(HttpConstants.HEADER_ZSTD_DICTIONARY_IDS, _zstdDictionaryRegistry.getDictionaryIdsHeader());
+    }
     if (responseCompressionOverride == null)
     {
       builder.addHeaderValue(HttpConstants.ACCEPT_ENCODING, _acceptEncodingHeader);
@@ -260,7 +294,8 @@ public class ClientCompressionFilter implements RestFilter
           {
             throw new CompressionException(CompressionConstants.SERVER_ENCODING_ERROR + compressionHeader);
           }
-          ByteString inflated = encoding.getCompressor().inflate(res.getEntity());
+          Compressor compressor = encoding == EncodingType.ZSTD ? _zstdDecompressor : encoding.getCompressor();
+          ByteString inflated = compressor.inflate(res.getEntity());
           Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
           headers.putAll(res.getHeaders());
           headers.remove(HttpConstants.CONTENT_ENCODING);
@@ -31,6 +31,8 @@ public enum EncodingType
   BZIP2(new Bzip2Compressor()),
   SNAPPY(new SnappyCompressor()),
   SNAPPY_FRAMED(new SnappyFramedCompressor()),
+  ZSTD(new ZstdCompressor()),
+  LZ4_FRAMED(new Lz4FramedCompressor()),
   IDENTITY("identity"),
   ANY("*");
 
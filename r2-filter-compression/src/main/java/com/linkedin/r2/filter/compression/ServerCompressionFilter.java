@@ -50,8 +50,11 @@ public class ServerCompressionFilter implements RestFilter
 
   private final Set<EncodingType> _supportedEncoding;
   private final ServerCompressionHelper _serverCompressionHelper;
+  private final ZstdDictionaryRegistry _zstdDictionaryRegistry;
+  private final AdaptiveCompressionPolicy _compressionPolicy;
 
   private static final String EMPTY = "";
+  private static final String COMPRESSION_RESOURCE = "COMPRESSION_RESOURCE";
 
   /**
    * Instantiates an empty compression filter that does no compression.
@@ -81,6 +84,35 @@ public class ServerCompressionFilter implements RestFilter
    * @param supportedEncoding
    */
   public ServerCompressionFilter(EncodingType[] supportedEncoding, CompressionConfig defaultResponseCompressionConfig)
+  {
+    this(supportedEncoding, defaultResponseCompressionConfig, null);
+  }
+
+  /** Instantiates a compression filter
+   * that supports the compression methods in the given set in argument.
+   * @param supportedEncoding
+   * @param defaultResponseCompressionConfig
+   * @param zstdDictionaryRegistry dictionaries to compress zstd responses with when the client has them too, and to
+   *                               decompress zstd requests with. Null to only use zstd without dictionary.
+   */
+  public ServerCompressionFilter(EncodingType[] supportedEncoding, CompressionConfig defaultResponseCompressionConfig,
+      ZstdDictionaryRegistry zstdDictionaryRegistry)
+  {
+    this(supportedEncoding, defaultResponseCompressionConfig, zstdDictionaryRegistry, null);
+  }
+
+  /** Instantiates a compression filter
+   * that supports the compression methods in the given set in argument.
+   * @param supportedEncoding
+   * @param defaultResponseCompressionConfig
+   * @param zstdDictionaryRegistry dictionaries to compress zstd responses with when the client has them too, and to
+   *                               decompress zstd requests with. Null to only use zstd without dictionary.
+   * @param compressionPolicy policy choosing how to compress each response above the compression threshold, depending
+   *                          on its content type, its resource and the CPU utilization. Null to always compress with
+   *                          the encoding preferred by the client.
+   */
+  public ServerCompressionFilter(EncodingType[] supportedEncoding, CompressionConfig defaultResponseCompressionConfig,
+      ZstdDictionaryRegistry zstdDictionaryRegistry, AdaptiveCompressionPolicy compressionPolicy)
   {
     if (defaultResponseCompressionConfig == null)
     {
@@ -90,6 +122,8 @@ public class ServerCompressionFilter implements RestFilter
     _supportedEncoding.add(EncodingType.IDENTITY);
     _supportedEncoding.add(EncodingType.ANY);
     _serverCompressionHelper = new ServerCompressionHelper(defaultResponseCompressionConfig);
+    _zstdDictionaryRegistry = zstdDictionaryRegistry;
+    _compressionPolicy = compressionPolicy;
   }
 
   /**
@@ -127,7 +161,9 @@ public class ServerCompressionFilter implements RestFilter
         //Process the correct compression types only
         if (encoding.hasCompressor())
         {
-          ByteString decompressedContent = encoding.getCompressor().inflate(req.getEntity());
+          Compressor compressor = encoding == EncodingType.ZSTD && _zstdDictionaryRegistry != null
+              ? new ZstdCompressor(null, _zstdDictionaryRegistry) : encoding.getCompressor();
+          ByteString decompressedContent = compressor.inflate(req.getEntity());
           Map<String, String> headers = new HashMap<>(req.getHeaders());
           headers.remove(HttpConstants.CONTENT_ENCODING);
           headers.put(HttpConstants.CONTENT_LENGTH, Integer.toString(decompressedContent.length()));
@@ -147,6 +183,15 @@ public class ServerCompressionFilter implements RestFilter
       {
         requestContext.putLocalAttr(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD,
             _serverCompressionHelper.getResponseCompressionThreshold(req));
+        String zstdDictionaryIds = req.getHeader(HttpConstants.HEADER_ZSTD_DICTIONARY_IDS);
+        if (zstdDictionaryIds != null)
+        {
+          requestContext.putLocalAttr(HttpConstants.HEADER_ZSTD_DICTIONARY_IDS, zstdDictionaryIds);
+        }
+        if (_compressionPolicy != null)
+        {
+          requestContext.putLocalAttr(COMPRESSION_RESOURCE, AdaptiveCompressionPolicy.getResource(req.getURI()));
+        }
       }
       nextFilter.onRequest(req, requestContext, wireAttrs);
     }
@@ -183,17 +228,41 @@ public class ServerCompressionFilter implements RestFilter
         //Check if there exists an acceptable encoding
         if (selectedEncoding != null)
         {
+          String resource = (String) requestContext.getLocalAttr(COMPRESSION_RESOURCE);
+          if (selectedEncoding.hasCompressor() && _compressionPolicy != null && resource != null &&
+              res.getEntity().length() > (Integer) requestContext.getLocalAttr(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD))
+          {
+            selectedEncoding = _compressionPolicy.chooseEncoding(resource, res.getHeader(HttpConstants.CONTENT_TYPE),
+                parsedEncodings, selectedEncoding);
+            if (selectedEncoding == null)
+            {
+              selectedEncoding = EncodingType.IDENTITY;
+            }
+          }
+
           if (selectedEncoding.hasCompressor() &&
               res.getEntity().length() > (Integer) requestContext.getLocalAttr(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD))
           {
-            Compressor compressor = selectedEncoding.getCompressor();
+            Compressor compressor = getResponseCompressor(selectedEncoding, requestContext);
+            long startTime = System.nanoTime();
             ByteString compressed = compressor.deflate(res.getEntity());
+            boolean smaller = compressed.length() < res.getEntity().length();
+            if (_compressionPolicy != null && resource != null)
+            {
+              _compressionPolicy.recordCompression(resource, res.getEntity().length(), compressed.length(),
+                  System.nanoTime() - startTime, smaller);
+            }
 
-            if (compressed.length() < res.getEntity().length())
+            if (smaller)
             {
               RestResponseBuilder resCompress = res.builder();
               resCompress.removeHeader(HttpConstants.CONTENT_LENGTH);
               resCompress.addHeaderValue(HttpConstants.CONTENT_ENCODING, compressor.getContentEncodingName());
+              if (compressor instanceof ZstdCompressor && ((ZstdCompressor) compressor).getDictionary() != null)
+              {
+                // the entity can only be decoded by clients holding the dictionary advertised in the request
+                resCompress.addHeaderValue(HttpConstants.VARY, HttpConstants.HEADER_ZSTD_DICTIONARY_IDS);
+              }
               resCompress.setEntity(compressed);
               res = resCompress.build();
             }
@@ -214,6 +283,23 @@ public class ServerCompressionFilter implements RestFilter
     nextFilter.onResponse(res, requestContext, wireAttrs);
   }
 
+  private Compressor getResponseCompressor(EncodingType encoding, RequestContext requestContext)
+  {
+    if (encoding == EncodingType.ZSTD && _zstdDictionaryRegistry != null)
+    {
+      ZstdDictionary dictionary = _zstdDictionaryRegistry.select(
+          (String) requestContext.getLocalAttr(HttpConstants.HEADER_ZSTD_DICTIONARY_IDS));
+      if (dictionary != null)
+      {
+        return new ZstdCompressor(dictionary, null);
+      }
+    }
+    if (encoding == EncodingType.ZSTD && _compressionPolicy != null)
+    {
+      return new ZstdCompressor(_compressionPolicy.getZstdLevel());
+    }
+    return encoding.getCompressor();
+  }
 
   @Override
   public void onRestError(Throwable ex, RequestContext requestContext,
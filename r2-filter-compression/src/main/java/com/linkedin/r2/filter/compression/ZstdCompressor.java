@@ -0,0 +1,122 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.Arrays;
+import org.apache.commons.io.IOUtils;
+
+
+/**
+ * Compressor for "zstd" Encoding, optionally compressing with a {@link ZstdDictionary} and decompressing frames
+ * compressed with any of the dictionaries of a {@link ZstdDictionaryRegistry}.
+ */
+public class ZstdCompressor extends AbstractCompressor
+{
+  public static final int DEFAULT_LEVEL = 3;
+
+  private static final String HTTP_NAME = "zstd";
+  private static final int MAX_FRAME_HEADER_SIZE = 18;
+
+  private final int _level;
+  private final ZstdDictionary _dictionary;
+  private final ZstdDictionaryRegistry _registry;
+
+  public ZstdCompressor()
+  {
+    this(DEFAULT_LEVEL);
+  }
+
+  public ZstdCompressor(int level)
+  {
+    _level = level;
+    _dictionary = null;
+    _registry = null;
+  }
+
+  /**
+   * @param dictionary dictionary to compress with, at the level it was created with, or null to compress without
+   *                   dictionary at the default level.
+   * @param registry dictionaries to decompress with, or null to only decompress frames compressed without dictionary.
+   */
+  public ZstdCompressor(ZstdDictionary dictionary, ZstdDictionaryRegistry registry)
+  {
+    _level = DEFAULT_LEVEL;
+    _dictionary = dictionary;
+    _registry = registry;
+  }
+
+  /**
+   * @return the dictionary this compressor compresses with, or null if it compresses without dictionary.
+   */
+  public ZstdDictionary getDictionary()
+  {
+    return _dictionary;
+  }
+
+  @Override
+  public String getContentEncodingName()
+  {
+    return HTTP_NAME;
+  }
+
+  @Override
+  protected InputStream createInflaterInputStream(InputStream compressedDataStream) throws IOException
+  {
+    if (_registry == null)
+    {
+      return new ZstdInputStream(compressedDataStream);
+    }
+
+    // peek at the frame header to find out which dictionary the frame was compressed with
+    PushbackInputStream in = new PushbackInputStream(compressedDataStream, MAX_FRAME_HEADER_SIZE);
+    byte[] header = new byte[MAX_FRAME_HEADER_SIZE];
+    int headerLength = IOUtils.read(in, header);
+    in.unread(header, 0, headerLength);
+    long dictionaryId = Zstd.getDictIdFromFrame(Arrays.copyOf(header, headerLength));
+
+    ZstdInputStream zstd = new ZstdInputStream(in);
+    if (dictionaryId != 0)
+    {
+      ZstdDictionary dictionary = _registry.get(dictionaryId);
+      if (dictionary == null)
+      {
+        zstd.close();
+        throw new IOException("Unknown zstd dictionary: " + dictionaryId);
+      }
+      zstd.setDict(dictionary.getDecompressDictionary());
+    }
+    return zstd;
+  }
+
+  @Override
+  protected OutputStream createDeflaterOutputStream(OutputStream decompressedDataStream) throws IOException
+  {
+    ZstdOutputStream zstd = new ZstdOutputStream(decompressedDataStream, _level);
+    if (_dictionary != null)
+    {
+      zstd.setDict(_dictionary.getCompressDictionary());
+    }
+    return zstd;
+  }
+}
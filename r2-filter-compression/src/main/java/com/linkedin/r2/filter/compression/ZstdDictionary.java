@@ -0,0 +1,112 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
+import java.util.Collection;
+
+
+/**
+ * A zstd dictionary, used to compress small payloads which look alike, such as the responses of a resource, much
+ * better than they would be on their own.
+ *
+ * Dictionaries are identified by the id zstd stores in them, which is also written in the header of every frame they
+ * compress so that the receiver knows which dictionary to decompress it with. Only dictionaries with an id, such as
+ * the ones returned by {@link #train(Collection, int)}, are supported.
+ */
+public class ZstdDictionary
+{
+  private final byte[] _bytes;
+  private final long _id;
+  private final ZstdDictCompress _compressDictionary;
+  private final ZstdDictDecompress _decompressDictionary;
+
+  public ZstdDictionary(byte[] bytes)
+  {
+    this(bytes, ZstdCompressor.DEFAULT_LEVEL);
+  }
+
+  /**
+   * @param bytes the dictionary, as written by zstd.
+   * @param level compression level used when compressing with the dictionary.
+   */
+  public ZstdDictionary(byte[] bytes, int level)
+  {
+    _id = Zstd.getDictIdFromDict(bytes);
+    if (_id == 0)
+    {
+      throw new IllegalArgumentException("Not a zstd dictionary with an id");
+    }
+    _bytes = bytes.clone();
+    _compressDictionary = new ZstdDictCompress(_bytes, level);
+    _decompressDictionary = new ZstdDictDecompress(_bytes);
+  }
+
+  /**
+   * Trains a dictionary from sample payloads, e.g. captured responses of the resources it will be used for.
+   *
+   * @param samples payloads to train the dictionary with. zstd needs a few hundreds of them to build a good dictionary.
+   * @param dictionarySize maximum size of the dictionary in bytes.
+   * @throws CompressionException if zstd could not build a dictionary, e.g. because there are too few samples.
+   */
+  public static ZstdDictionary train(Collection<byte[]> samples, int dictionarySize) throws CompressionException
+  {
+    int samplesSize = 0;
+    for (byte[] sample : samples)
+    {
+      samplesSize += sample.length;
+    }
+
+    ZstdDictTrainer trainer = new ZstdDictTrainer(samplesSize, dictionarySize);
+    for (byte[] sample : samples)
+    {
+      trainer.addSample(sample);
+    }
+    try
+    {
+      return new ZstdDictionary(trainer.trainSamples());
+    }
+    catch (ZstdException e)
+    {
+      throw new CompressionException("Failed to train a zstd dictionary from " + samples.size() + " samples", e);
+    }
+  }
+
+  public long getId()
+  {
+    return _id;
+  }
+
+  public byte[] getBytes()
+  {
+    return _bytes.clone();
+  }
+
+  ZstdDictCompress getCompressDictionary()
+  {
+    return _compressDictionary;
+  }
+
+  ZstdDictDecompress getDecompressDictionary()
+  {
+    return _decompressDictionary;
+  }
+}
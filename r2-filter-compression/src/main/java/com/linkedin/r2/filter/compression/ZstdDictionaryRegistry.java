@@ -0,0 +1,115 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.linkedin.r2.transport.http.common.HttpConstants;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+
+/**
+ * The zstd dictionaries known by a client or a server.
+ *
+ * Clients list the ids of their dictionaries in the {@link HttpConstants#HEADER_ZSTD_DICTIONARY_IDS} request header,
+ * see {@link #getDictionaryIdsHeader()}, and servers compress the response with the most recently registered
+ * dictionary they share with the client, see {@link #select(String)}. Dictionaries can be rotated by registering the
+ * new one on both sides, then unregistering the old one once no client uses it anymore.
+ *
+ * This class is thread-safe.
+ */
+public class ZstdDictionaryRegistry
+{
+  // most recently registered first
+  private final List<ZstdDictionary> _dictionaries = new CopyOnWriteArrayList<>();
+
+  public synchronized void register(ZstdDictionary dictionary)
+  {
+    unregister(dictionary.getId());
+    _dictionaries.add(0, dictionary);
+  }
+
+  public synchronized void unregister(long id)
+  {
+    _dictionaries.removeIf(dictionary -> dictionary.getId() == id);
+  }
+
+  /**
+   * @return the dictionary with the given id, or null if it isn't registered.
+   */
+  public ZstdDictionary get(long id)
+  {
+    for (ZstdDictionary dictionary : _dictionaries)
+    {
+      if (dictionary.getId() == id)
+      {
+        return dictionary;
+      }
+    }
+    return null;
+  }
+
+  public boolean isEmpty()
+  {
+    return _dictionaries.isEmpty();
+  }
+
+  /**
+   * @return the value of the {@link HttpConstants#HEADER_ZSTD_DICTIONARY_IDS} header listing the registered dictionaries.
+   */
+  public String getDictionaryIdsHeader()
+  {
+    return _dictionaries.stream()
+        .map(dictionary -> Long.toString(dictionary.getId()))
+        .collect(Collectors.joining(CompressionConstants.ENCODING_DELIMITER));
+  }
+
+  /**
+   * @param dictionaryIdsHeader value of the {@link HttpConstants#HEADER_ZSTD_DICTIONARY_IDS} header sent by the peer.
+   * @return the most recently registered dictionary listed in the header, or null if there is none.
+   */
+  public ZstdDictionary select(String dictionaryIdsHeader)
+  {
+    if (dictionaryIdsHeader == null || dictionaryIdsHeader.isEmpty())
+    {
+      return null;
+    }
+
+    Set<Long> ids = new HashSet<>();
+    for (String id : dictionaryIdsHeader.split(CompressionConstants.ENCODING_DELIMITER))
+    {
+      try
+      {
+        ids.add(Long.parseLong(id.trim()));
+      }
+      catch (NumberFormatException e)
+      {
+        // ignore the ids we don't understand
+      }
+    }
+    for (ZstdDictionary dictionary : _dictionaries)
+    {
+      if (ids.contains(dictionary.getId()))
+      {
+        return dictionary;
+      }
+    }
+    return null;
+  }
+}
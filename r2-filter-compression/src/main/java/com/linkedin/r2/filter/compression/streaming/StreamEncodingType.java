@@ -31,6 +31,8 @@ public enum StreamEncodingType
   DEFLATE("deflate"),
   SNAPPY_FRAMED("x-snappy-framed"),
   BZIP2("bzip2"),
+  ZSTD("zstd"),
+  LZ4_FRAMED("x-lz4-framed"),
   IDENTITY("identity"),
   ANY("*");
 
@@ -70,6 +72,10 @@ public enum StreamEncodingType
         return new Bzip2Compressor(executor);
       case SNAPPY_FRAMED:
         return new SnappyCompressor(executor);
+      case ZSTD:
+        return new ZstdCompressor(executor);
+      case LZ4_FRAMED:
+        return new Lz4Compressor(executor);
       case IDENTITY:
         return new NoopCompressor();
       default:
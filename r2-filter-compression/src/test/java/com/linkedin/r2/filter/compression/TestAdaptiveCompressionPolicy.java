@@ -0,0 +1,288 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.linkedin.r2.filter.CompressionConfig;
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.http.common.HttpConstants;
+import com.linkedin.util.clock.SettableClock;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestAdaptiveCompressionPolicy
+{
+  private static final EncodingType[] SUPPORTED_ENCODINGS =
+      {EncodingType.ZSTD, EncodingType.GZIP, EncodingType.LZ4_FRAMED, EncodingType.SNAPPY_FRAMED};
+
+  private final AtomicReference<Double> _cpuUtilization = new AtomicReference<>(0.5);
+
+  @Test
+  public void testIncompressibleContentType() throws CompressionException
+  {
+    AdaptiveCompressionPolicy policy = createPolicy();
+    List<AcceptEncoding> accepted = parse("gzip");
+
+    Assert.assertNull(policy.chooseEncoding("photos", "application/x-protobuf2", accepted, EncodingType.GZIP));
+    Assert.assertNull(policy.chooseEncoding("photos", "image/jpeg", accepted, EncodingType.GZIP));
+    Assert.assertEquals(policy.chooseEncoding("photos", "application/json; charset=UTF-8", accepted, EncodingType.GZIP),
+        EncodingType.GZIP);
+    Assert.assertEquals(policy.chooseEncoding("photos", null, accepted, EncodingType.GZIP), EncodingType.GZIP);
+    Assert.assertEquals(policy.getSkippedCount(AdaptiveCompressionPolicy.SkipReason.CONTENT_TYPE), 2);
+  }
+
+  @Test
+  public void testCompressionRatioHistory() throws CompressionException
+  {
+    AdaptiveCompressionPolicy policy = createPolicy();
+    List<AcceptEncoding> accepted = parse("gzip");
+
+    for (int i = 0; i < AdaptiveCompressionPolicy.MIN_SAMPLES; i++)
+    {
+      Assert.assertEquals(policy.chooseEncoding("random", null, accepted, EncodingType.GZIP), EncodingType.GZIP);
+      policy.recordCompression("random", 1000, 990, 10, true);
+      policy.recordCompression("text", 1000, 200, 10, true);
+    }
+    Assert.assertEquals(policy.getCompressionRatio("random"), 0.99, 0.001);
+    Assert.assertEquals(policy.getCompressionRatio("text"), 0.2, 0.001);
+    Assert.assertTrue(Double.isNaN(policy.getCompressionRatio("unknown")));
+
+    // the responses of the resource which don't compress well are only compressed once in a while
+    int compressed = 0;
+    for (int i = 0; i < AdaptiveCompressionPolicy.PROBE_INTERVAL; i++)
+    {
+      if (policy.chooseEncoding("random", null, accepted, EncodingType.GZIP) != null)
+      {
+        compressed++;
+      }
+      Assert.assertEquals(policy.chooseEncoding("text", null, accepted, EncodingType.GZIP), EncodingType.GZIP);
+    }
+    Assert.assertEquals(compressed, 1);
+    Assert.assertEquals(policy.getSkippedCount(AdaptiveCompressionPolicy.SkipReason.LOW_COMPRESSION_RATIO),
+        AdaptiveCompressionPolicy.PROBE_INTERVAL - 1);
+
+    // once they compress well again, they are always compressed
+    for (int i = 0; i < 30; i++)
+    {
+      policy.recordCompression("random", 1000, 300, 10, true);
+    }
+    Assert.assertEquals(policy.chooseEncoding("random", null, accepted, EncodingType.GZIP), EncodingType.GZIP);
+  }
+
+  @Test
+  public void testCpuUtilization() throws CompressionException
+  {
+    AdaptiveCompressionPolicy policy = createPolicy();
+
+    _cpuUtilization.set(0.9);
+    Assert.assertEquals(policy.chooseEncoding("a", null, parse("zstd, x-lz4-framed;q=0.5, gzip"), EncodingType.ZSTD),
+        EncodingType.LZ4_FRAMED);
+    Assert.assertEquals(policy.chooseEncoding("a", null, parse("gzip, x-snappy-framed;q=0.1"), EncodingType.GZIP),
+        EncodingType.SNAPPY_FRAMED);
+    Assert.assertNull(policy.chooseEncoding("a", null, parse("zstd, gzip"), EncodingType.ZSTD));
+    Assert.assertEquals(policy.getSkippedCount(AdaptiveCompressionPolicy.SkipReason.HIGH_CPU_UTILIZATION), 1);
+    Assert.assertEquals(policy.getZstdLevel(), ZstdCompressor.DEFAULT_LEVEL);
+
+    _cpuUtilization.set(0.5);
+    Assert.assertEquals(policy.chooseEncoding("a", null, parse("zstd, x-lz4-framed"), EncodingType.ZSTD),
+        EncodingType.ZSTD);
+    Assert.assertEquals(policy.getZstdLevel(), ZstdCompressor.DEFAULT_LEVEL);
+
+    _cpuUtilization.set(0.1);
+    Assert.assertEquals(policy.getZstdLevel(), AdaptiveCompressionPolicy.AGGRESSIVE_ZSTD_LEVEL);
+
+    // unknown CPU utilization
+    _cpuUtilization.set(-1.0);
+    Assert.assertEquals(policy.chooseEncoding("a", null, parse("zstd"), EncodingType.ZSTD), EncodingType.ZSTD);
+    Assert.assertEquals(policy.getZstdLevel(), ZstdCompressor.DEFAULT_LEVEL);
+  }
+
+  @Test
+  public void testCpuUtilizationSampler() throws CompressionException
+  {
+    SettableClock clock = new SettableClock(0);
+    AtomicInteger samples = new AtomicInteger();
+    AtomicReference<Double> systemCpuLoad = new AtomicReference<>(0.9);
+    AdaptiveCompressionPolicy.CpuUtilizationSampler sampler =
+        new AdaptiveCompressionPolicy.CpuUtilizationSampler(clock, () -> {
+          samples.incrementAndGet();
+          return systemCpuLoad.get();
+        });
+    AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(
+        AdaptiveCompressionPolicy.DEFAULT_HIGH_CPU_UTILIZATION, AdaptiveCompressionPolicy.DEFAULT_LOW_CPU_UTILIZATION,
+        AdaptiveCompressionPolicy.DEFAULT_MAX_COMPRESSION_RATIO,
+        AdaptiveCompressionPolicy.DEFAULT_INCOMPRESSIBLE_CONTENT_TYPES, sampler);
+
+    // the first call samples, whatever the time
+    Assert.assertEquals(policy.chooseEncoding("a", null, parse("zstd, x-lz4-framed"), EncodingType.ZSTD),
+        EncodingType.LZ4_FRAMED);
+    Assert.assertEquals(samples.get(), 1);
+
+    // the utilization is cached until the sample interval elapses
+    systemCpuLoad.set(0.1);
+    clock.addDuration(999);
+    Assert.assertEquals(sampler.getAsDouble(), 0.9);
+    Assert.assertEquals(policy.getZstdLevel(), ZstdCompressor.DEFAULT_LEVEL);
+    Assert.assertEquals(samples.get(), 1);
+    clock.addDuration(1);
+    Assert.assertEquals(policy.getZstdLevel(), AdaptiveCompressionPolicy.AGGRESSIVE_ZSTD_LEVEL);
+    Assert.assertEquals(samples.get(), 2);
+
+    // an unavailable utilization is unknown
+    systemCpuLoad.set(Double.NaN);
+    clock.addDuration(1000);
+    Assert.assertEquals(sampler.getAsDouble(), -1.0);
+    Assert.assertEquals(policy.getZstdLevel(), ZstdCompressor.DEFAULT_LEVEL);
+  }
+
+  @Test
+  public void testSystemCpuUtilizationSampler()
+  {
+    SettableClock clock = new SettableClock(Long.MIN_VALUE + 1);
+    double utilization = new AdaptiveCompressionPolicy.CpuUtilizationSampler(clock).getAsDouble();
+    Assert.assertTrue(utilization == -1.0 || (utilization >= 0 && utilization <= 1), "Utilization: " + utilization);
+  }
+
+  @Test
+  public void testGetResource()
+  {
+    Assert.assertEquals(AdaptiveCompressionPolicy.getResource(URI.create("/greetings/1?fields=id")), "greetings");
+    Assert.assertEquals(AdaptiveCompressionPolicy.getResource(URI.create("/greetings")), "greetings");
+    Assert.assertEquals(AdaptiveCompressionPolicy.getResource(URI.create("greetings/1")), "greetings");
+    Assert.assertEquals(AdaptiveCompressionPolicy.getResource(URI.create("/")), "");
+  }
+
+  @Test
+  public void testServerCompressionFilter()
+  {
+    AdaptiveCompressionPolicy policy = createPolicy();
+    ServerCompressionFilter filter =
+        new ServerCompressionFilter(SUPPORTED_ENCODINGS, new CompressionConfig(0), null, policy);
+    byte[] json = createJson();
+
+    RestResponse response = filter(filter, "/json", "zstd, x-lz4-framed", "application/json", json);
+    Assert.assertEquals(response.getHeader(HttpConstants.CONTENT_ENCODING), EncodingType.ZSTD.getHttpName());
+    Assert.assertEquals(policy.getCompressedCount(), 1);
+    Assert.assertEquals(policy.getUncompressedBytes(), json.length);
+    Assert.assertEquals(policy.getCompressedBytes(), response.getEntity().length());
+    Assert.assertEquals(policy.getBytesSaved(), json.length - response.getEntity().length());
+    Assert.assertTrue(policy.getCompressionNanos() > 0);
+
+    response = filter(filter, "/json", "zstd, x-lz4-framed", "application/x-protobuf2", json);
+    Assert.assertNull(response.getHeader(HttpConstants.CONTENT_ENCODING));
+    Assert.assertEquals(response.getEntity().copyBytes(), json);
+
+    _cpuUtilization.set(0.9);
+    response = filter(filter, "/json", "zstd, x-lz4-framed", "application/json", json);
+    Assert.assertEquals(response.getHeader(HttpConstants.CONTENT_ENCODING), EncodingType.LZ4_FRAMED.getHttpName());
+    response = filter(filter, "/json", "zstd", "application/json", json);
+    Assert.assertNull(response.getHeader(HttpConstants.CONTENT_ENCODING));
+    Assert.assertEquals(policy.getCompressedCount(), 2);
+
+    // responses which are not compressed because they are larger once compressed still count toward the ratio
+    _cpuUtilization.set(0.5);
+    byte[] random = new byte[json.length];
+    new Random(1).nextBytes(random);
+    for (int i = 0; i < AdaptiveCompressionPolicy.MIN_SAMPLES; i++)
+    {
+      Assert.assertNull(filter(filter, "/random", "gzip", null, random).getHeader(HttpConstants.CONTENT_ENCODING));
+    }
+    Assert.assertTrue(policy.getCompressionRatio("random") > AdaptiveCompressionPolicy.DEFAULT_MAX_COMPRESSION_RATIO);
+    filter(filter, "/random", "gzip", null, random);
+    Assert.assertEquals(policy.getSkippedCount(AdaptiveCompressionPolicy.SkipReason.LOW_COMPRESSION_RATIO), 1);
+  }
+
+  private AdaptiveCompressionPolicy createPolicy()
+  {
+    _cpuUtilization.set(0.5);
+    return new AdaptiveCompressionPolicy(AdaptiveCompressionPolicy.DEFAULT_HIGH_CPU_UTILIZATION,
+        AdaptiveCompressionPolicy.DEFAULT_LOW_CPU_UTILIZATION, AdaptiveCompressionPolicy.DEFAULT_MAX_COMPRESSION_RATIO,
+        AdaptiveCompressionPolicy.DEFAULT_INCOMPRESSIBLE_CONTENT_TYPES, _cpuUtilization::get);
+  }
+
+  private static List<AcceptEncoding> parse(String acceptEncoding) throws CompressionException
+  {
+    return AcceptEncoding.parseAcceptEncodingHeader(acceptEncoding,
+        new HashSet<>(Arrays.asList(SUPPORTED_ENCODINGS)));
+  }
+
+  private static RestResponse filter(ServerCompressionFilter filter, String path, String acceptEncoding,
+      String contentType, byte[] entity)
+  {
+    RestRequest request = new RestRequestBuilder(URI.create(path))
+        .setHeader(HttpConstants.ACCEPT_ENCODING, acceptEncoding)
+        .build();
+    RestResponseBuilder response = new RestResponseBuilder().setEntity(entity);
+    if (contentType != null)
+    {
+      response.setHeader(HttpConstants.CONTENT_TYPE, contentType);
+    }
+
+    CaptureFilter capture = new CaptureFilter();
+    RequestContext requestContext = new RequestContext();
+    filter.onRestRequest(request, requestContext, new HashMap<>(), capture);
+    filter.onRestResponse(response.build(), requestContext, new HashMap<>(), capture);
+    return capture._response;
+  }
+
+  private static byte[] createJson()
+  {
+    StringBuilder json = new StringBuilder("{\"elements\":[");
+    for (int i = 0; i < 100; i++)
+    {
+      json.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"message\":\"Hello world\"}");
+    }
+    return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static class CaptureFilter implements NextFilter<RestRequest, RestResponse>
+  {
+    private RestResponse _response;
+
+    @Override
+    public void onRequest(RestRequest restRequest, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+    }
+
+    @Override
+    public void onResponse(RestResponse restResponse, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+      _response = restResponse;
+    }
+
+    @Override
+    public void onError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+      Assert.fail("Unexpected error", ex);
+    }
+  }
+}
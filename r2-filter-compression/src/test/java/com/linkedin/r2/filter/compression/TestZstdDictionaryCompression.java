@@ -0,0 +1,190 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.filter.CompressionConfig;
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.http.common.HttpConstants;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class TestZstdDictionaryCompression
+{
+  private static final int DICTIONARY_SIZE = 16 * 1024;
+
+  private ZstdDictionary _dictionary;
+  private ZstdDictionary _otherDictionary;
+
+  @BeforeClass
+  public void setUp() throws CompressionException
+  {
+    _dictionary = ZstdDictionary.train(createSamples(new Random(1), 1000), DICTIONARY_SIZE);
+    _otherDictionary = ZstdDictionary.train(createSamples(new Random(2), 1000), DICTIONARY_SIZE);
+    Assert.assertNotEquals(_dictionary.getId(), _otherDictionary.getId());
+  }
+
+  @Test
+  public void testCompressWithDictionary() throws CompressionException
+  {
+    ByteString payload = ByteString.copy(createSample(new Random(3)));
+    ZstdDictionaryRegistry registry = new ZstdDictionaryRegistry();
+    registry.register(_dictionary);
+
+    ByteString compressed = new ZstdCompressor(_dictionary, null).deflate(payload);
+    Assert.assertTrue(compressed.length() < EncodingType.ZSTD.getCompressor().deflate(payload).length());
+    Assert.assertEquals(Zstd.getDictIdFromFrame(compressed.copyBytes()), _dictionary.getId());
+    Assert.assertEquals(new ZstdCompressor(null, registry).inflate(compressed), payload);
+
+    // frames compressed without dictionary can still be decompressed
+    Assert.assertEquals(new ZstdCompressor(null, registry).inflate(EncodingType.ZSTD.getCompressor().deflate(payload)),
+        payload);
+  }
+
+  @Test(expectedExceptions = CompressionException.class)
+  public void testUnknownDictionary() throws CompressionException
+  {
+    ZstdDictionaryRegistry registry = new ZstdDictionaryRegistry();
+    registry.register(_otherDictionary);
+    ByteString compressed = new ZstdCompressor(_dictionary, null).deflate(ByteString.copy(createSample(new Random(4))));
+    new ZstdCompressor(null, registry).inflate(compressed);
+  }
+
+  @Test
+  public void testSelectDictionary()
+  {
+    ZstdDictionaryRegistry registry = new ZstdDictionaryRegistry();
+    Assert.assertTrue(registry.isEmpty());
+    registry.register(_dictionary);
+    registry.register(_otherDictionary);
+
+    Assert.assertEquals(registry.getDictionaryIdsHeader(), _otherDictionary.getId() + "," + _dictionary.getId());
+    Assert.assertSame(registry.select(_dictionary.getId() + ", " + _otherDictionary.getId()), _otherDictionary);
+    Assert.assertSame(registry.select("unknown," + _dictionary.getId()), _dictionary);
+    Assert.assertNull(registry.select("42"));
+    Assert.assertNull(registry.select(null));
+
+    registry.unregister(_otherDictionary.getId());
+    Assert.assertNull(registry.get(_otherDictionary.getId()));
+    Assert.assertSame(registry.select(_dictionary.getId() + "," + _otherDictionary.getId()), _dictionary);
+  }
+
+  @Test
+  public void testNegotiateDictionary()
+  {
+    ZstdDictionaryRegistry clientRegistry = new ZstdDictionaryRegistry();
+    clientRegistry.register(_dictionary);
+    ZstdDictionaryRegistry serverRegistry = new ZstdDictionaryRegistry();
+    serverRegistry.register(_dictionary);
+    serverRegistry.register(_otherDictionary);
+
+    ClientCompressionFilter clientFilter = new ClientCompressionFilter(EncodingType.IDENTITY,
+        new CompressionConfig(Integer.MAX_VALUE), new EncodingType[]{EncodingType.ZSTD}, null,
+        Collections.singletonList("*"), clientRegistry);
+    ServerCompressionFilter serverFilter = new ServerCompressionFilter(new EncodingType[]{EncodingType.ZSTD},
+        new CompressionConfig(0), serverRegistry);
+
+    RestRequest request = clientFilter.addResponseCompressionHeaders(null,
+        new RestRequestBuilder(URI.create("/resource")).build());
+    Assert.assertEquals(request.getHeader(HttpConstants.HEADER_ZSTD_DICTIONARY_IDS), Long.toString(_dictionary.getId()));
+
+    CaptureFilter capture = new CaptureFilter();
+    RequestContext requestContext = new RequestContext();
+    serverFilter.onRestRequest(request, requestContext, new HashMap<>(), capture);
+    byte[] payload = createSample(new Random(5));
+    serverFilter.onRestResponse(new RestResponseBuilder().setEntity(payload).build(), requestContext, new HashMap<>(),
+        capture);
+    RestResponse compressed = capture._response;
+    Assert.assertEquals(compressed.getHeader(HttpConstants.CONTENT_ENCODING), EncodingType.ZSTD.getHttpName());
+    Assert.assertEquals(Zstd.getDictIdFromFrame(compressed.getEntity().copyBytes()), _dictionary.getId());
+    Assert.assertEquals(compressed.getHeader(HttpConstants.VARY), HttpConstants.HEADER_ZSTD_DICTIONARY_IDS);
+
+    clientFilter.onRestResponse(compressed, new RequestContext(), new HashMap<>(), capture);
+    Assert.assertEquals(capture._response.getEntity().copyBytes(), payload);
+  }
+
+  private static List<byte[]> createSamples(Random random, int count)
+  {
+    List<byte[]> samples = new ArrayList<>(count);
+    for (int i = 0; i < count; i++)
+    {
+      samples.add(createSample(random));
+    }
+    return samples;
+  }
+
+  /**
+   * A Rest.li like JSON response, made of the same field names and a few random values.
+   */
+  private static byte[] createSample(Random random)
+  {
+    StringBuilder sample = new StringBuilder("{\"elements\":[");
+    for (int i = 0; i < 5; i++)
+    {
+      int id = random.nextInt(1000000);
+      sample.append(i > 0 ? "," : "")
+          .append("{\"id\":").append(id)
+          .append(",\"firstName\":\"first").append(random.nextInt(100))
+          .append("\",\"lastName\":\"last").append(random.nextInt(100))
+          .append("\",\"headline\":\"Member ").append(id).append(" of group ").append(random.nextInt(50))
+          .append("\",\"location\":{\"country\":\"c").append(random.nextInt(20))
+          .append("\",\"postalCode\":\"").append(10000 + random.nextInt(90000))
+          .append("\"},\"created\":").append(1700000000000L + random.nextInt())
+          .append(",\"active\":").append(random.nextBoolean()).append("}");
+    }
+    sample.append("],\"paging\":{\"start\":0,\"count\":5,\"total\":").append(random.nextInt(1000)).append("}}");
+    return sample.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static class CaptureFilter implements NextFilter<RestRequest, RestResponse>
+  {
+    private RestResponse _response;
+
+    @Override
+    public void onRequest(RestRequest restRequest, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+    }
+
+    @Override
+    public void onResponse(RestResponse restResponse, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+      _response = restResponse;
+    }
+
+    @Override
+    public void onError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+      Assert.fail("Unexpected error", ex);
+    }
+  }
+}
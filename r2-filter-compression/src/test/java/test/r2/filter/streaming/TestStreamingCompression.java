@@ -17,6 +17,7 @@
 package test.r2.filter.streaming;
 
 
+import com.github.luben.zstd.ZstdOutputStream;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.FutureCallback;
 import com.linkedin.data.ByteString;
@@ -24,8 +25,10 @@ import com.linkedin.r2.filter.compression.CompressionException;
 import com.linkedin.r2.filter.compression.streaming.Bzip2Compressor;
 import com.linkedin.r2.filter.compression.streaming.DeflateCompressor;
 import com.linkedin.r2.filter.compression.streaming.GzipCompressor;
+import com.linkedin.r2.filter.compression.streaming.Lz4Compressor;
 import com.linkedin.r2.filter.compression.streaming.SnappyCompressor;
 import com.linkedin.r2.filter.compression.streaming.StreamingCompressor;
+import com.linkedin.r2.filter.compression.streaming.ZstdCompressor;
 import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
 import com.linkedin.r2.message.stream.entitystream.EntityStream;
 import com.linkedin.r2.message.stream.entitystream.EntityStreams;
@@ -40,6 +43,7 @@ import java.util.concurrent.Executors;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
 import org.apache.commons.io.IOUtils;
 import org.iq80.snappy.SnappyFramedOutputStream;
 import org.testng.Assert;
@@ -144,6 +148,44 @@ public class TestStreamingCompression
     testCompressThenDecompress(compressor, origin);
   }
 
+  @Test
+  public void testZstdCompressor()
+      throws IOException, InterruptedException, CompressionException, ExecutionException
+  {
+    StreamingCompressor compressor = new ZstdCompressor(_executor);
+    final byte[] origin = new byte[BUF_SIZE];
+    Arrays.fill(origin, (byte)'d');
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ZstdOutputStream zstd = new ZstdOutputStream(out);
+    IOUtils.write(origin, zstd);
+    zstd.close();
+    byte[] compressed = out.toByteArray();
+
+    testCompress(compressor, origin, compressed);
+    testDecompress(compressor, origin, compressed);
+    testCompressThenDecompress(compressor, origin);
+  }
+
+  @Test
+  public void testLz4Compressor()
+      throws IOException, InterruptedException, CompressionException, ExecutionException
+  {
+    StreamingCompressor compressor = new Lz4Compressor(_executor);
+    final byte[] origin = new byte[BUF_SIZE];
+    Arrays.fill(origin, (byte)'e');
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    LZ4FrameOutputStream lz4 = new LZ4FrameOutputStream(out);
+    IOUtils.write(origin, lz4);
+    lz4.close();
+    byte[] compressed = out.toByteArray();
+
+    testCompress(compressor, origin, compressed);
+    testDecompress(compressor, origin, compressed);
+    testCompressThenDecompress(compressor, origin);
+  }
+
   private void testCompress(StreamingCompressor compressor, byte[] uncompressed, byte[] compressed)
       throws CompressionException, ExecutionException, InterruptedException
   {
@@ -17,15 +17,15 @@
 package com.linkedin.r2.netty.client;
 
 import com.linkedin.common.stats.LongStats;
+import com.linkedin.common.stats.HistogramLongTracking;
 import com.linkedin.common.stats.LongTracker;
-import com.linkedin.common.stats.LongTracking;
 import java.util.concurrent.atomic.AtomicLong;
 
 
 public class JmxDnsMetricsCallback implements HttpNettyClientJmxMBean, DnsMetricsCallback {
   private final AtomicLong _dnsResolutionErrors = new AtomicLong(0);
   private final AtomicLong _dnsResolutions = new AtomicLong(0);
-  private final LongTracker _dnsResolutionLatencyMs = new LongTracking();
+  private final LongTracker _dnsResolutionLatencyMs = new HistogramLongTracking();
 
   @Override
   public long getDnsResolutions() {
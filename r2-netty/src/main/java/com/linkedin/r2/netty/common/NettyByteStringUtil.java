@@ -0,0 +1,88 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import com.linkedin.data.ByteString;
+import io.netty.buffer.ByteBuf;
+
+
+/**
+ * Utilities to copy the readable bytes of a Netty {@link ByteBuf} into a {@link ByteString} on the heap.
+ *
+ * The bytes are copied with bulk {@link ByteBuf#readBytes(byte[], int, int)} calls instead of going through a
+ * {@link io.netty.buffer.ByteBufInputStream}. Large payloads are copied into a segmented {@link ByteString} whose
+ * segments are at most {@link #MAX_SEGMENT_SIZE} bytes, so that multi-megabyte entities do not require a single
+ * contiguous (and, with G1, humongous) byte array. {@link ByteString#feed} and {@link ByteString#asProtoReader()}
+ * consume segmented {@link ByteString}s without reassembling them.
+ *
+ * Every byte is copied exactly once, and the resulting {@link ByteString} never references the buffer. The buffer
+ * remains owned, and released, by the caller: inbound buffers are typically pooled or retained slices of the decoder
+ * cumulation buffer, which are recycled once the decoder releases them, while {@link ByteString}s have no release
+ * point to tie the lifetime of a buffer to.
+ */
+public class NettyByteStringUtil
+{
+  /**
+   * Maximum size of a single segment of the resulting {@link ByteString}. Kept well below half of the smallest
+   * G1 region size so that segments are never allocated as humongous objects.
+   */
+  public static final int MAX_SEGMENT_SIZE = 256 * 1024;
+
+  private NettyByteStringUtil()
+  {
+  }
+
+  /**
+   * Reads all the readable bytes of the given {@link ByteBuf} into a new {@link ByteString}. The reader index of the
+   * buffer is advanced by the number of bytes read. The buffer is not released.
+   *
+   * @param buf the buffer to read from
+   * @return a {@link ByteString} holding a copy of the readable bytes of the buffer
+   */
+  public static ByteString read(ByteBuf buf)
+  {
+    return read(buf, MAX_SEGMENT_SIZE);
+  }
+
+  static ByteString read(ByteBuf buf, int maxSegmentSize)
+  {
+    final int size = buf.readableBytes();
+    if (size == 0)
+    {
+      return ByteString.empty();
+    }
+
+    if (size <= maxSegmentSize)
+    {
+      final byte[] bytes = new byte[size];
+      buf.readBytes(bytes, 0, size);
+      return ByteString.unsafeWrap(bytes);
+    }
+
+    final ByteString.Builder builder = new ByteString.Builder();
+    int remaining = size;
+    while (remaining > 0)
+    {
+      final int segmentSize = Math.min(remaining, maxSegmentSize);
+      final byte[] bytes = new byte[segmentSize];
+      buf.readBytes(bytes, 0, segmentSize);
+      builder.append(ByteString.unsafeWrap(bytes));
+      remaining -= segmentSize;
+    }
+    return builder.build();
+  }
+}
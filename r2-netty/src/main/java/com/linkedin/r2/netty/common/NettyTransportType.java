@@ -0,0 +1,193 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.kqueue.KQueueServerSocketChannel;
+import io.netty.channel.kqueue.KQueueSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * The Netty transport used by R2 servers and clients for TCP channels.
+ *
+ * Native transports are only usable if the corresponding native library can be loaded on the current platform.
+ * Requesting a transport that is not available falls back to {@link #NIO}; {@link #AUTO} picks the best available
+ * native transport.
+ */
+public enum NettyTransportType
+{
+  /**
+   * Java NIO selector based transport. Always available.
+   */
+  NIO,
+
+  /**
+   * Linux epoll based transport. Supports {@code SO_REUSEPORT}.
+   */
+  EPOLL,
+
+  /**
+   * BSD/macOS kqueue based transport.
+   */
+  KQUEUE,
+
+  /**
+   * Picks {@link #EPOLL} or {@link #KQUEUE} when available, and {@link #NIO} otherwise.
+   */
+  AUTO;
+
+  private static final Logger LOG = LoggerFactory.getLogger(NettyTransportType.class);
+
+  /**
+   * @return true if this transport can be used on the current platform.
+   */
+  public boolean isAvailable()
+  {
+    switch (this)
+    {
+      case EPOLL:
+        return Epoll.isAvailable();
+      case KQUEUE:
+        return KQueue.isAvailable();
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * Resolves this transport to a concrete transport that is available on the current platform.
+   *
+   * @return this transport if it is available, the best available native transport for {@link #AUTO},
+   *         and {@link #NIO} otherwise.
+   */
+  public NettyTransportType resolve()
+  {
+    if (this == AUTO)
+    {
+      if (EPOLL.isAvailable())
+      {
+        return EPOLL;
+      }
+      return KQUEUE.isAvailable() ? KQUEUE : NIO;
+    }
+
+    if (!isAvailable())
+    {
+      LOG.warn("Netty transport {} is not available on this platform, falling back to {}", this, NIO);
+      return NIO;
+    }
+    return this;
+  }
+
+  /**
+   * @return true if server channels of this transport support {@code SO_REUSEPORT}.
+   */
+  public boolean supportsReusePort()
+  {
+    return resolve() == EPOLL;
+  }
+
+  /**
+   * Creates an {@link EventLoopGroup} for this transport.
+   *
+   * @param threads the number of threads, or 0 to use the Netty default
+   * @param threadFactory the thread factory
+   */
+  public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory)
+  {
+    switch (resolve())
+    {
+      case EPOLL:
+        return new EpollEventLoopGroup(threads, threadFactory);
+      case KQUEUE:
+        return new KQueueEventLoopGroup(threads, threadFactory);
+      default:
+        return new NioEventLoopGroup(threads, threadFactory);
+    }
+  }
+
+  /**
+   * @return the server socket channel class of this transport.
+   */
+  public Class<? extends ServerSocketChannel> getServerSocketChannelClass()
+  {
+    switch (resolve())
+    {
+      case EPOLL:
+        return EpollServerSocketChannel.class;
+      case KQUEUE:
+        return KQueueServerSocketChannel.class;
+      default:
+        return NioServerSocketChannel.class;
+    }
+  }
+
+  /**
+   * @return the socket channel class of this transport.
+   */
+  public Class<? extends SocketChannel> getSocketChannelClass()
+  {
+    switch (resolve())
+    {
+      case EPOLL:
+        return EpollSocketChannel.class;
+      case KQUEUE:
+        return KQueueSocketChannel.class;
+      default:
+        return NioSocketChannel.class;
+    }
+  }
+
+  /**
+   * Returns the transport an {@link EventLoopGroup} was created for, so that channels registered with it are of a
+   * compatible type. Unknown event loop group implementations are assumed to be {@link #NIO}.
+   */
+  public static NettyTransportType of(EventLoopGroup eventLoopGroup)
+  {
+    if (eventLoopGroup instanceof EpollEventLoopGroup)
+    {
+      return EPOLL;
+    }
+    if (eventLoopGroup instanceof KQueueEventLoopGroup)
+    {
+      return KQUEUE;
+    }
+    return NIO;
+  }
+
+  /**
+   * @return the socket channel class that is compatible with the given {@link EventLoopGroup}.
+   */
+  public static Class<? extends SocketChannel> socketChannelClassFor(EventLoopGroup eventLoopGroup)
+  {
+    return of(eventLoopGroup).getSocketChannelClass();
+  }
+}
@@ -18,9 +18,9 @@ package com.linkedin.r2.netty.handler.http;
 
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.netty.common.NettyByteStringUtil;
 import com.linkedin.r2.netty.entitystream.StreamWriter;
 import com.linkedin.r2.transport.http.common.HttpConstants;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
@@ -116,7 +116,7 @@ public class HttpMessageDecoders
 
       if (chunk.content().isReadable())
       {
-        out.add(ByteString.read(new ByteBufInputStream(chunk.content()), chunk.content().readableBytes()));
+        out.add(NettyByteStringUtil.read(chunk.content()));
       }
 
       if (chunk instanceof LastHttpContent)
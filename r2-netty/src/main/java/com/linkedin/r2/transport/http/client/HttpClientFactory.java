@@ -32,7 +32,9 @@ import com.linkedin.r2.filter.compression.ClientCompressionFilter;
 import com.linkedin.r2.filter.compression.ClientCompressionHelper;
 import com.linkedin.r2.filter.compression.ClientStreamCompressionFilter;
 import com.linkedin.r2.filter.compression.EncodingType;
+import com.linkedin.r2.filter.compression.ZstdDictionaryRegistry;
 import com.linkedin.r2.filter.compression.streaming.StreamEncodingType;
+import com.linkedin.r2.filter.transport.ClientConcurrencyLimitFilter;
 import com.linkedin.r2.filter.transport.ClientQueryTunnelFilter;
 import com.linkedin.r2.filter.transport.FilterChainClient;
 import com.linkedin.r2.message.RequestContext;
@@ -41,6 +43,7 @@ import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.netty.client.DnsMetricsCallback;
+import com.linkedin.r2.netty.common.NettyTransportType;
 import com.linkedin.r2.transport.common.TransportClientFactory;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
@@ -138,6 +141,8 @@ public class HttpClientFactory implements TransportClientFactory
   public static final String HTTP_TCP_NO_DELAY = "http.tcpNoDelay";
   public static final String HTTP_PROTOCOL_VERSION = "http.protocolVersion";
   public static final String HTTP_MAX_CLIENT_REQUEST_RETRY_RATIO = "http.maxClientRequestRetryRatio";
+  public static final String HTTP_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = "http.adaptiveConcurrencyLimitEnabled";
+  public static final String HTTP_MAX_CONCURRENCY_LIMIT = "http.maxConcurrencyLimit";
 
   public static final int DEFAULT_QUERY_POST_THRESHOLD = Integer.MAX_VALUE;
   public static final int DEFAULT_POOL_WAITER_SIZE = Integer.MAX_VALUE;
@@ -161,6 +166,8 @@ public class HttpClientFactory implements TransportClientFactory
   public static final int DEFAULT_CHANNELPOOL_WAITER_TIMEOUT = Integer.MAX_VALUE;
   public static final double DEFAULT_MAX_CLIENT_REQUEST_RETRY_RATIO = 0.2;
   public static final double UNLIMITED_CLIENT_REQUEST_RETRY_RATIO = 1.0;
+  public static final boolean DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = false;
+  public static final int DEFAULT_MAX_CONCURRENCY_LIMIT = AdaptiveConcurrencyLimiter.DEFAULT_MAX_LIMIT;
   /**
    * Helper constant to allow specify which version of pipeline v2 the code is running on. Since it is a feature in active development,
    * we want to be able to enable the pipeline through configs, only for clients that have loaded a specific version of code
@@ -204,6 +211,10 @@ public class HttpClientFactory implements TransportClientFactory
   private final int _sslHandShakeTimeout;
   private final int _channelPoolWaiterTimeout;
   private final String _udsAddress;
+  /** If set to true, HTTP/1.1 channel pools are {@link ConcurrentAsyncPoolImpl} instead of {@link AsyncPoolImpl}. */
+  private final boolean _useConcurrentAsyncPool;
+  /** Zstd dictionaries rest clients advertise and decompress responses with, may be null. */
+  private final ZstdDictionaryRegistry _zstdDictionaryRegistry;
   /** Request compression config for each http service. */
   private final Map<String, CompressionConfig> _requestCompressionConfigs;
   /** Response compression config for each http service. */
@@ -657,7 +668,7 @@ public class HttpClientFactory implements TransportClientFactory
         shutdownCallbackExecutor, jmxManager, requestCompressionThresholdDefault, requestCompressionConfigs,
         responseCompressionConfigs, compressionExecutor, defaultHttpVersion, shareConnection, eventProviderRegistry,
         enableSSLSessionResumption, usePipelineV2, executorsToShutDown, DEFAULT_CONNECT_TIMEOUT,
-        DEFAULT_SSL_HANDSHAKE_TIMEOUT, DEFAULT_CHANNELPOOL_WAITER_TIMEOUT, udsAddress, null);
+        DEFAULT_SSL_HANDSHAKE_TIMEOUT, DEFAULT_CHANNELPOOL_WAITER_TIMEOUT, udsAddress, null, false);
   }
 
   private HttpClientFactory(FilterChain filters,
@@ -682,7 +693,41 @@ public class HttpClientFactory implements TransportClientFactory
                             int sslHandShakeTimeout,
                             int channelPoolWaiterTimeout,
                             String udsAddress,
-                            DnsMetricsCallback dnsMetricsCallback)
+                            DnsMetricsCallback dnsMetricsCallback,
+                            boolean useConcurrentAsyncPool)
+  {
+    this(filters, eventLoopGroup, shutdownFactory, executor, shutdownExecutor, callbackExecutorGroup,
+        shutdownCallbackExecutor, jmxManager, requestCompressionThresholdDefault, requestCompressionConfigs,
+        responseCompressionConfigs, compressionExecutor, defaultHttpVersion, shareConnection, eventProviderRegistry,
+        enableSSLSessionResumption, usePipelineV2, executorsToShutDown, connectTimeout, sslHandShakeTimeout,
+        channelPoolWaiterTimeout, udsAddress, dnsMetricsCallback, useConcurrentAsyncPool, null);
+  }
+
+  private HttpClientFactory(FilterChain filters,
+                            EventLoopGroup eventLoopGroup,
+                            boolean shutdownFactory,
+                            ScheduledExecutorService executor,
+                            boolean shutdownExecutor,
+                            ExecutorService callbackExecutorGroup,
+                            boolean shutdownCallbackExecutor,
+                            AbstractJmxManager jmxManager,
+                            final int requestCompressionThresholdDefault,
+                            final Map<String, CompressionConfig> requestCompressionConfigs,
+                            final Map<String, CompressionConfig> responseCompressionConfigs,
+                            Executor compressionExecutor,
+                            HttpProtocolVersion defaultHttpVersion,
+                            boolean shareConnection,
+                            EventProviderRegistry eventProviderRegistry,
+                            boolean enableSSLSessionResumption,
+                            boolean usePipelineV2,
+                            List<ExecutorService> executorsToShutDown,
+                            int connectTimeout,
+                            int sslHandShakeTimeout,
+                            int channelPoolWaiterTimeout,
+                            String udsAddress,
+                            DnsMetricsCallback dnsMetricsCallback,
+                            boolean useConcurrentAsyncPool,
+                            ZstdDictionaryRegistry zstdDictionaryRegistry)
   {
     _filters = filters;
     _eventLoopGroup = eventLoopGroup;
@@ -700,6 +745,8 @@ public class HttpClientFactory implements TransportClientFactory
     _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
     _udsAddress = udsAddress;
     _dnsMetricsCallback = dnsMetricsCallback;
+    _useConcurrentAsyncPool = useConcurrentAsyncPool;
+    _zstdDictionaryRegistry = zstdDictionaryRegistry;
     if (requestCompressionConfigs == null)
     {
       throw new IllegalArgumentException("requestCompressionConfigs should not be null.");
@@ -715,7 +762,7 @@ public class HttpClientFactory implements TransportClientFactory
     _defaultHttpVersion = defaultHttpVersion;
     _channelPoolManagerFactory = new ChannelPoolManagerFactoryImpl(
         _eventLoopGroup, _executor, enableSSLSessionResumption,_usePipelineV2, _channelPoolWaiterTimeout,
-        _connectTimeout, _sslHandShakeTimeout);
+        _connectTimeout, _sslHandShakeTimeout, _useConcurrentAsyncPool);
 
     if (eventProviderRegistry != null)
     {
@@ -747,6 +794,9 @@ public class HttpClientFactory implements TransportClientFactory
     private boolean                    _useClientCompression = true;
     private boolean                    _usePipelineV2 = false;
     private String                     _udsAddress = null;
+    private boolean                    _useConcurrentAsyncPool = false;
+    private ZstdDictionaryRegistry     _zstdDictionaryRegistry = null;
+    private NettyTransportType         _transportType = NettyTransportType.NIO;
     private int                        _pipelineV2MinimumMaturityLevel = PIPELINE_V2_MATURITY_LEVEL;
     private Executor                   _customCompressionExecutor = null;
     private AbstractJmxManager         _jmxManager = AbstractJmxManager.NULL_JMX_MANAGER;
@@ -949,12 +999,47 @@ public class HttpClientFactory implements TransportClientFactory
       return this;
     }
 
+    /**
+     * @param useConcurrentAsyncPool if true, HTTP/1.1 channel pools are lock-free {@link ConcurrentAsyncPoolImpl}
+     *                               instead of {@link AsyncPoolImpl}, which serializes every get and put on a
+     *                               single lock. Defaults to false.
+     */
+    public Builder setUseConcurrentAsyncPool(boolean useConcurrentAsyncPool)
+    {
+      _useConcurrentAsyncPool = useConcurrentAsyncPool;
+      return this;
+    }
+
+    /**
+     * @param transportType the Netty transport of the {@link EventLoopGroup} created by the factory when none is
+     *                      provided with {@link #setEventLoopGroup}. Native transports fall back to NIO when they
+     *                      are not available on the current platform. If an {@link EventLoopGroup} is provided,
+     *                      channels use the transport that group was created for.
+     */
+    public Builder setTransportType(NettyTransportType transportType)
+    {
+      _transportType = transportType;
+      return this;
+    }
+
     public Builder setPipelineV2MinimumMaturityLevel(int pipelineV2MinimumMaturityLevel)
     {
       _pipelineV2MinimumMaturityLevel = pipelineV2MinimumMaturityLevel;
       return this;
     }
 
+    /**
+     * Sets the zstd dictionaries the clients can decompress responses with. Their ids are sent in the
+     * {@link com.linkedin.r2.transport.http.common.HttpConstants#HEADER_ZSTD_DICTIONARY_IDS} header of the requests
+     * accepting zstd responses, so that servers with the same dictionaries may compress with one of them. Only applies
+     * to rest requests, streaming clients accept zstd responses compressed without dictionary.
+     */
+    public Builder setZstdDictionaryRegistry(ZstdDictionaryRegistry zstdDictionaryRegistry)
+    {
+      _zstdDictionaryRegistry = zstdDictionaryRegistry;
+      return this;
+    }
+
     public HttpClientFactory build()
     {
       List<ExecutorService> executorsToShutDown = new ArrayList<>();
@@ -962,9 +1047,16 @@ public class HttpClientFactory implements TransportClientFactory
       EventLoopGroup eventLoopGroup = _eventLoopGroup;
       if (eventLoopGroup == null)
       {
-        eventLoopGroup = StringUtils.isEmpty(_udsAddress) ?
-              new NioEventLoopGroup(0 /* use default settings */, new NamedThreadFactory("R2 Nio Event Loop"))
-            : new EpollEventLoopGroup(0, new NamedThreadFactory("R2 Domain Socket Loop"));
+        if (!StringUtils.isEmpty(_udsAddress))
+        {
+          eventLoopGroup = new EpollEventLoopGroup(0, new NamedThreadFactory("R2 Domain Socket Loop"));
+        }
+        else
+        {
+          NettyTransportType transportType = _transportType.resolve();
+          eventLoopGroup = transportType.newEventLoopGroup(0 /* use default settings */,
+              new NamedThreadFactory(transportType == NettyTransportType.NIO ? "R2 Nio Event Loop" : "R2 Native Event Loop"));
+        }
       }
 
       ScheduledExecutorService scheduledExecutorService = _executor;
@@ -1007,7 +1099,7 @@ public class HttpClientFactory implements TransportClientFactory
         _requestCompressionThresholdDefault, _requestCompressionConfigs, _responseCompressionConfigs,
         compressionExecutor, _defaultHttpVersion, _shareConnection, eventProviderRegistry, _enableSSLSessionResumption,
           _usePipelineV2, executorsToShutDown, _connectTimeout, _sslHandShakeTimeout, _channelPoolWaiterTimeout,
-          _udsAddress, _dnsMetricsCallback);
+          _udsAddress, _dnsMetricsCallback, _useConcurrentAsyncPool, _zstdDictionaryRegistry);
     }
 
   }
@@ -1122,6 +1214,19 @@ public class HttpClientFactory implements TransportClientFactory
 
     FilterChain filters = _filters;
 
+    // Add the concurrency limit filter first so that rejected requests fail before doing any other work
+    Boolean adaptiveConcurrencyLimitEnabled = chooseNewOverDefault(
+        getBooleanValue(properties, HTTP_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED), DEFAULT_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED);
+    if (adaptiveConcurrencyLimitEnabled)
+    {
+      Integer maxConcurrencyLimit = chooseNewOverDefault(getIntValue(properties, HTTP_MAX_CONCURRENCY_LIMIT),
+          DEFAULT_MAX_CONCURRENCY_LIMIT);
+      ClientConcurrencyLimitFilter concurrencyLimitFilter =
+          new ClientConcurrencyLimitFilter(new AdaptiveConcurrencyLimiter(maxConcurrencyLimit));
+      filters = filters.addLastRest(concurrencyLimitFilter);
+      filters = filters.addLast(concurrencyLimitFilter);
+    }
+
     if (_useClientCompression)
     {
       List<String> responseEncodings = null;
@@ -1141,7 +1246,8 @@ public class HttpClientFactory implements TransportClientFactory
             getRestRequestCompressionConfig(httpServiceName, restRequestContentEncoding),
             buildRestAcceptEncodingSchemaNames(responseEncodings),
             _responseCompressionConfigs.get(httpServiceName),
-            httpResponseCompressionOperations));
+            httpResponseCompressionOperations,
+            _zstdDictionaryRegistry));
       }
       else
       {
@@ -56,6 +56,7 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
   private final int _channelPoolWaiterTimeout;
   private final int _connectTimeout;
   private final int _sslHandShakeTimeout;
+  private final boolean _useConcurrentAsyncPool;
 
   /**
    * @param eventLoopGroup The EventLoopGroup; it is the caller's responsibility to shut
@@ -68,6 +69,18 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
   public ChannelPoolManagerFactoryImpl(EventLoopGroup eventLoopGroup, ScheduledExecutorService scheduler,
       boolean enableSSLSessionResumption, boolean usePipelineV2, int channelPoolWaiterTimeout,
       int connectTimeout, int sslHandShakeTimeout)
+  {
+    this(eventLoopGroup, scheduler, enableSSLSessionResumption, usePipelineV2, channelPoolWaiterTimeout, connectTimeout,
+        sslHandShakeTimeout, false);
+  }
+
+  /**
+   * @param useConcurrentAsyncPool use {@link com.linkedin.r2.transport.http.client.ConcurrentAsyncPoolImpl} instead of
+   *                               {@link com.linkedin.r2.transport.http.client.AsyncPoolImpl} for HTTP/1.1 pools.
+   */
+  public ChannelPoolManagerFactoryImpl(EventLoopGroup eventLoopGroup, ScheduledExecutorService scheduler,
+      boolean enableSSLSessionResumption, boolean usePipelineV2, int channelPoolWaiterTimeout,
+      int connectTimeout, int sslHandShakeTimeout, boolean useConcurrentAsyncPool)
   {
     _eventLoopGroup = eventLoopGroup;
     _scheduler = scheduler;
@@ -76,6 +89,7 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
     _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
     _connectTimeout = connectTimeout;
     _sslHandShakeTimeout = sslHandShakeTimeout;
+    _useConcurrentAsyncPool = useConcurrentAsyncPool;
   }
 
   @Override
@@ -111,7 +125,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
         channelGroup,
         _channelPoolWaiterTimeout,
         _connectTimeout,
-        _sslHandShakeTimeout),
+        _sslHandShakeTimeout,
+        _useConcurrentAsyncPool),
       channelPoolManagerKey.getName(),
       channelGroup,
       _scheduler);
@@ -145,7 +160,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
           _channelPoolWaiterTimeout,
           _connectTimeout,
           _sslHandShakeTimeout,
-          channelPoolManagerKey.getUdsAddress());
+          channelPoolManagerKey.getUdsAddress(),
+          _useConcurrentAsyncPool);
     }
     else
     {
@@ -168,7 +184,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
           channelGroup,
           _channelPoolWaiterTimeout,
           _connectTimeout,
-          _sslHandShakeTimeout);
+          _sslHandShakeTimeout,
+          _useConcurrentAsyncPool);
     }
     return new ChannelPoolManagerImpl(
         channelPoolFactory,
@@ -23,10 +23,10 @@ package com.linkedin.r2.transport.http.client.rest;
 import com.linkedin.data.ByteString;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.netty.common.NettyByteStringUtil;
 import com.linkedin.r2.netty.common.NettyRequestAdapter;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -124,7 +124,7 @@ class RAPClientCodec extends ChannelDuplexHandler
       }
 
       ByteBuf buf = nettyResponse.content();
-      ByteString entity = ByteString.read(new ByteBufInputStream(buf), buf.readableBytes());
+      ByteString entity = NettyByteStringUtil.read(buf);
       builder.setEntity(entity);
       /**
        * Note: no need to release the incoming {@link ByteBuf} because {@link MessageToMessageDecoder}
@@ -17,11 +17,14 @@
 package com.linkedin.r2.transport.http.client.stream.http;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.NettyTransportType;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
+import com.linkedin.r2.transport.http.client.ConcurrentAsyncPoolImpl;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolFactory;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolLifecycle;
 import com.linkedin.r2.transport.http.client.ExponentialBackOffRateLimiter;
+import com.linkedin.r2.transport.http.client.RateLimiter;
 import com.linkedin.r2.transport.http.client.stream.http2.Http2NettyStreamClient;
 import com.linkedin.util.clock.SystemClock;
 import io.netty.bootstrap.Bootstrap;
@@ -30,7 +33,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -53,7 +56,9 @@ public class HttpNettyStreamChannelPoolFactory implements ChannelPoolFactory
   private final ScheduledExecutorService _scheduler;
   private final int _maxConcurrentConnectionInitializations;
   private final int _channelPoolWaiterTimeout;
+  private final boolean _useConcurrentAsyncPool;
 
+  @Deprecated
   public HttpNettyStreamChannelPoolFactory(int maxPoolSize,
                                            long idleTimeout,
                                            int maxPoolWaiterSize,
@@ -74,12 +79,44 @@ public class HttpNettyStreamChannelPoolFactory implements ChannelPoolFactory
                                            int connectTimeout,
                                            int sslHandShakeTimeout)
   {
-    ChannelInitializer<NioSocketChannel> initializer =
+    this(maxPoolSize, idleTimeout, maxPoolWaiterSize, strategy, minPoolSize, tcpNoDelay, scheduler,
+        maxConcurrentConnectionInitializations, sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize,
+        enableSSLSessionResumption, eventLoopGroup, channelGroup, channelPoolWaiterTimeout, connectTimeout,
+        sslHandShakeTimeout, false);
+  }
+
+  /**
+   * @param useConcurrentAsyncPool whether to create {@link ConcurrentAsyncPoolImpl} pools instead of
+   *                               {@link AsyncPoolImpl} ones.
+   */
+  public HttpNettyStreamChannelPoolFactory(int maxPoolSize,
+                                           long idleTimeout,
+                                           int maxPoolWaiterSize,
+                                           AsyncPoolImpl.Strategy strategy,
+                                           int minPoolSize,
+                                           boolean tcpNoDelay,
+                                           ScheduledExecutorService scheduler,
+                                           int maxConcurrentConnectionInitializations,
+                                           SSLContext sslContext,
+                                           SSLParameters sslParameters,
+                                           int maxHeaderSize,
+                                           int maxChunkSize,
+                                           long maxResponseSize,
+                                           boolean enableSSLSessionResumption,
+                                           EventLoopGroup eventLoopGroup,
+                                           ChannelGroup channelGroup,
+                                           int channelPoolWaiterTimeout,
+                                           int connectTimeout,
+                                           int sslHandShakeTimeout,
+                                           boolean useConcurrentAsyncPool)
+  {
+    _useConcurrentAsyncPool = useConcurrentAsyncPool;
+    ChannelInitializer<SocketChannel> initializer =
       new RAPStreamClientPipelineInitializer(sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize,
           enableSSLSessionResumption, sslHandShakeTimeout);
 
     Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
-      .channel(NioSocketChannel.class)
+      .channel(NettyTransportType.socketChannelClassFor(eventLoopGroup))
       .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
       .handler(initializer);
 
@@ -99,25 +136,20 @@ public class HttpNettyStreamChannelPoolFactory implements ChannelPoolFactory
   @Override
   public AsyncPool<Channel> getPool(SocketAddress address)
   {
-    return new AsyncPoolImpl<>(address.toString(),
-      new ChannelPoolLifecycle(address,
-        _bootstrap,
-        _allChannels,
-        _tcpNoDelay),
-      _maxPoolSize,
-      _idleTimeout,
-      _channelPoolWaiterTimeout,
-      _scheduler,
-      _maxPoolWaiterSize,
-      _strategy,
-      _minPoolSize,
-      new ExponentialBackOffRateLimiter(0,
+    ChannelPoolLifecycle lifecycle = new ChannelPoolLifecycle(address, _bootstrap, _allChannels, _tcpNoDelay);
+    RateLimiter rateLimiter = new ExponentialBackOffRateLimiter(0,
         ChannelPoolLifecycle.MAX_PERIOD_BEFORE_RETRY_CONNECTIONS,
         ChannelPoolLifecycle.INITIAL_PERIOD_BEFORE_RETRY_CONNECTIONS,
         _scheduler,
-        _maxConcurrentConnectionInitializations),
-      SystemClock.instance(),
-      NoopLongTracker.instance()
-    );
+        _maxConcurrentConnectionInitializations);
+    if (_useConcurrentAsyncPool)
+    {
+      return new ConcurrentAsyncPoolImpl<>(address.toString(), lifecycle, _maxPoolSize, _idleTimeout,
+          _channelPoolWaiterTimeout, _scheduler, _maxPoolWaiterSize, _strategy, _minPoolSize, rateLimiter,
+          SystemClock.instance(), NoopLongTracker.instance());
+    }
+    return new AsyncPoolImpl<>(address.toString(), lifecycle, _maxPoolSize, _idleTimeout,
+        _channelPoolWaiterTimeout, _scheduler, _maxPoolWaiterSize, _strategy, _minPoolSize, rateLimiter,
+        SystemClock.instance(), NoopLongTracker.instance());
   }
 }
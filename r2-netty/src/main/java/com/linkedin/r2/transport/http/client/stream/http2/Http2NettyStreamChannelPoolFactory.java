@@ -17,6 +17,7 @@
 package com.linkedin.r2.transport.http.client.stream.http2;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.NettyTransportType;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncSharedPoolImpl;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolFactory;
@@ -30,7 +31,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -66,11 +67,11 @@ public class Http2NettyStreamChannelPoolFactory implements ChannelPoolFactory
     EventLoopGroup eventLoopGroup,
     ChannelGroup channelGroup, int connectTimeout, int sslHandShakeTimeout)
   {
-    ChannelInitializer<NioSocketChannel> initializer = new Http2ClientPipelineInitializer(
+    ChannelInitializer<SocketChannel> initializer = new Http2ClientPipelineInitializer(
       sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize, gracefulShutdownTimeout,
         enableSSLSessionResumption, sslHandShakeTimeout);
 
-    _bootstrap = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class).
+    _bootstrap = new Bootstrap().group(eventLoopGroup).channel(NettyTransportType.socketChannelClassFor(eventLoopGroup)).
         option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout).handler(initializer);
     _idleTimeout = idleTimeout;
     _maxPoolWaiterSize = maxPoolWaiterSize;
@@ -0,0 +1,76 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+
+/**
+ * Sets up the pipeline of a server side HTTP/2 stream channel created by the
+ * {@link io.netty.handler.codec.http2.Http2MultiplexHandler}. Each stream carries exactly one request, which is
+ * converted to HTTP/1.1 objects so that the same codec and dispatch handlers as the HTTP/1.1 pipeline can be used.
+ *
+ * Http2MultiplexHandler$DefaultHttp2StreamChannel {
+ *   (codec = {@link Http2StreamFrameToHttpObjectCodec}),
+ *   (aggregator = {@link HttpObjectAggregator} or streamDecoder = {@link RAPStreamRequestDecoder}),
+ *   (rapi = {@link RAPServerCodec}),
+ *   (handler = {@link PipelineRestHandler} or {@link PipelineStreamHandler})
+ * }
+ */
+class Http2ServerStreamChannelInitializer extends ChannelInitializer<Channel>
+{
+  private static final boolean IS_SERVER = true;
+
+  private final HttpDispatcher _dispatcher;
+  private final EventExecutorGroup _eventExecutors;
+  private final boolean _restOverStream;
+  private final long _maxRequestSize;
+  private final boolean _streamRequests;
+
+  Http2ServerStreamChannelInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
+      boolean restOverStream, long maxRequestSize, boolean streamRequests)
+  {
+    _dispatcher = dispatcher;
+    _eventExecutors = eventExecutors;
+    _restOverStream = restOverStream;
+    _maxRequestSize = maxRequestSize;
+    _streamRequests = streamRequests;
+  }
+
+  @Override
+  protected void initChannel(Channel channel)
+  {
+    final ChannelPipeline pipeline = channel.pipeline();
+    pipeline.addLast("codec", new Http2StreamFrameToHttpObjectCodec(IS_SERVER));
+    if (_streamRequests)
+    {
+      pipeline.addLast("streamDecoder", new RAPStreamRequestDecoder(_maxRequestSize));
+    }
+    else
+    {
+      pipeline.addLast("aggregator", new HttpObjectAggregator((int) Math.min(_maxRequestSize, Integer.MAX_VALUE)));
+    }
+    pipeline.addLast("rapi", new RAPServerCodec());
+    pipeline.addLast(_eventExecutors, "handler", _restOverStream || _streamRequests ?
+        new PipelineStreamHandler(_dispatcher) : new PipelineRestHandler(_dispatcher));
+  }
+}
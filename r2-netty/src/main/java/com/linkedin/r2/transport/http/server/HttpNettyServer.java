@@ -21,12 +21,15 @@
 package com.linkedin.r2.transport.http.server;
 
 import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.netty.common.NettyTransportType;
 import com.linkedin.r2.util.NamedThreadFactory;
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -47,9 +50,15 @@ import javax.net.ssl.SSLParameters;
   private final SSLContext _sslContext;
   private final SSLParameters _sslParameters;
   private final int _startupTimeoutMillis;
-
-  private NioEventLoopGroup _bossGroup;
-  private NioEventLoopGroup _workerGroup;
+  private final NettyTransportType _transportType;
+  private final int _acceptThreads;
+  private final boolean _reusePort;
+  private final boolean _enableHttp2;
+  private final long _maxRequestSize;
+  private final boolean _streamRequests;
+
+  private EventLoopGroup _bossGroup;
+  private EventLoopGroup _workerGroup;
   private EventExecutorGroup _eventExecutors;
 
   public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher)
@@ -76,6 +85,30 @@ import javax.net.ssl.SSLParameters;
 
   public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher, boolean restOverStream,
                          SSLContext sslContext, SSLParameters sslParameters, int startupTimeoutMillis)
+  {
+    this(port, threadPoolSize, dispatcher, restOverStream, sslContext, sslParameters, startupTimeoutMillis,
+        NettyTransportType.NIO, 1, false, false, HttpNettyServerPipelineInitializer.DEFAULT_MAX_REQUEST_SIZE, false);
+  }
+
+  /**
+   * @param transportType the Netty transport to accept and serve connections with. Falls back to NIO if the
+   *                      requested transport is not available.
+   * @param acceptThreads the number of threads accepting connections. More than one accept thread is only useful
+   *                      together with {@code reusePort}.
+   * @param reusePort whether to bind {@code acceptThreads} server channels to the same port with
+   *                  {@code SO_REUSEPORT}, letting the kernel balance incoming connections between them. Only
+   *                  supported by the epoll transport and ignored otherwise.
+   * @param enableHttp2 whether to accept HTTP/2 connections in addition to HTTP/1.1 ones. HTTP/2 is negotiated with
+   *                    ALPN over TLS, and with prior knowledge or an {@code h2c} upgrade over clear text.
+   * @param maxRequestSize the maximum size in bytes of a request entity. Larger requests are rejected.
+   * @param streamRequests whether to dispatch requests as soon as their headers are received and stream their
+   *                       entity, instead of aggregating the entity first. Streamed requests are always dispatched
+   *                       as stream requests.
+   */
+  public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher, boolean restOverStream,
+                         SSLContext sslContext, SSLParameters sslParameters, int startupTimeoutMillis,
+                         NettyTransportType transportType, int acceptThreads, boolean reusePort, boolean enableHttp2,
+                         long maxRequestSize, boolean streamRequests)
   {
     _port = port;
     _threadPoolSize = threadPoolSize;
@@ -84,22 +117,52 @@ import javax.net.ssl.SSLParameters;
     _sslContext = sslContext;
     _sslParameters = sslParameters;
     _startupTimeoutMillis = startupTimeoutMillis;
+    _transportType = transportType.resolve();
+    _acceptThreads = Math.max(1, acceptThreads);
+    _reusePort = reusePort && _transportType.supportsReusePort();
+    _enableHttp2 = enableHttp2;
+    _maxRequestSize = maxRequestSize;
+    _streamRequests = streamRequests;
   }
 
   @Override
-  public void start()
+  public void start() throws IOException
   {
     _eventExecutors =  new DefaultEventExecutorGroup(_threadPoolSize);
-    _bossGroup = new NioEventLoopGroup(1, new NamedThreadFactory("R2 Nio Boss"));
-    _workerGroup = new NioEventLoopGroup(0, new NamedThreadFactory("R2 Nio Worker"));
+    // Without SO_REUSEPORT a single server channel is bound, which is served by a single boss thread.
+    final int serverChannels = _reusePort ? _acceptThreads : 1;
+    final String threadNamePrefix = _transportType == NettyTransportType.NIO ? "R2 Nio" : "R2 Native";
+    _bossGroup = _transportType.newEventLoopGroup(serverChannels, new NamedThreadFactory(threadNamePrefix + " Boss"));
+    _workerGroup = _transportType.newEventLoopGroup(0, new NamedThreadFactory(threadNamePrefix + " Worker"));
 
     final HttpNettyServerPipelineInitializer pipelineInitializer = new HttpNettyServerPipelineInitializer(
-        _dispatcher, _eventExecutors, _sslContext, _sslParameters, _restOverStream);
+        _dispatcher, _eventExecutors, _sslContext, _sslParameters, _restOverStream, _enableHttp2, _maxRequestSize,
+        _streamRequests);
     ServerBootstrap bootstrap = new ServerBootstrap()
                                       .group(_bossGroup, _workerGroup)
-                                      .channel(NioServerSocketChannel.class)
+                                      .channel(_transportType.getServerSocketChannelClass())
                                       .childHandler(pipelineInitializer);
-    bootstrap.bind(new InetSocketAddress(_port)).awaitUninterruptibly(_startupTimeoutMillis);
+    if (_reusePort)
+    {
+      bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+    }
+
+    for (int i = 0; i < serverChannels; i++)
+    {
+      ChannelFuture bindFuture = bootstrap.bind(new InetSocketAddress(_port));
+      if (!bindFuture.awaitUninterruptibly(_startupTimeoutMillis) || !bindFuture.isSuccess())
+      {
+        // Release the channels already bound and the thread pools rather than leaving a partially started server.
+        stop();
+        if (bindFuture.cause() != null)
+        {
+          throw new IOException("Failed to bind server channel " + (i + 1) + " of " + serverChannels
+              + " to port " + _port, bindFuture.cause());
+        }
+        throw new IOException("Timed out after " + _startupTimeoutMillis + "ms binding server channel " + (i + 1)
+            + " of " + serverChannels + " to port " + _port);
+      }
+    }
   }
 
   @Override
@@ -19,6 +19,7 @@ package com.linkedin.r2.transport.http.server;
 import com.linkedin.r2.filter.FilterChain;
 import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.filter.transport.FilterChainDispatcher;
+import com.linkedin.r2.netty.common.NettyTransportType;
 import com.linkedin.r2.transport.common.bridge.server.TransportDispatcher;
 import com.linkedin.util.ArgumentUtil;
 import javax.net.ssl.SSLContext;
@@ -36,6 +37,8 @@ public class HttpNettyServerBuilder
 {
   public static final int DEFAULT_NETTY_HTTP_SERVER_PORT = 8080;
   public static final int DEFAULT_THREAD_POOL_SIZE = 256;
+  public static final int DEFAULT_STARTUP_TIMEOUT_MILLIS = 10000;
+  public static final long DEFAULT_MAX_REQUEST_SIZE = HttpNettyServerPipelineInitializer.DEFAULT_MAX_REQUEST_SIZE;
 
   // The following fields are required.
   private TransportDispatcher _transportDispatcher = null;
@@ -45,6 +48,12 @@ public class HttpNettyServerBuilder
   private int _port = DEFAULT_NETTY_HTTP_SERVER_PORT;
   private int _threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
   private boolean _restOverStream = R2Constants.DEFAULT_REST_OVER_STREAM;
+  private NettyTransportType _transportType = NettyTransportType.NIO;
+  private int _acceptThreads = 1;
+  private boolean _reusePort = false;
+  private boolean _enableHttp2 = false;
+  private long _maxRequestSize = DEFAULT_MAX_REQUEST_SIZE;
+  private boolean _streamRequests = false;
 
   // The following fields are optional.
   private SSLContext _sslContext = null;
@@ -80,6 +89,68 @@ public class HttpNettyServerBuilder
     return this;
   }
 
+  /**
+   * Sets the Netty transport used to accept and serve connections. Native transports fall back to NIO when they
+   * are not available on the current platform.
+   */
+  public HttpNettyServerBuilder transportType(NettyTransportType transportType)
+  {
+    _transportType = transportType;
+    return this;
+  }
+
+  /**
+   * Sets the number of threads accepting connections. Values greater than one only take effect together with
+   * {@link #reusePort(boolean)}.
+   */
+  public HttpNettyServerBuilder acceptThreads(int acceptThreads)
+  {
+    _acceptThreads = acceptThreads;
+    return this;
+  }
+
+  /**
+   * Binds one server channel per accept thread to the same port with {@code SO_REUSEPORT}, so that the kernel
+   * balances new connections between them. Only supported by the epoll transport and ignored otherwise.
+   */
+  public HttpNettyServerBuilder reusePort(boolean reusePort)
+  {
+    _reusePort = reusePort;
+    return this;
+  }
+
+  /**
+   * Accepts HTTP/2 connections in addition to HTTP/1.1 ones. Over TLS, HTTP/2 is negotiated with ALPN. Over clear
+   * text, clients can either start with the HTTP/2 connection preface (prior knowledge) or upgrade an HTTP/1.1
+   * connection with {@code Upgrade: h2c}.
+   */
+  public HttpNettyServerBuilder enableHttp2(boolean enableHttp2)
+  {
+    _enableHttp2 = enableHttp2;
+    return this;
+  }
+
+  /**
+   * Sets the maximum size in bytes of a request entity. Larger requests are rejected.
+   */
+  public HttpNettyServerBuilder maxRequestSize(long maxRequestSize)
+  {
+    _maxRequestSize = maxRequestSize;
+    return this;
+  }
+
+  /**
+   * Dispatches requests as soon as their headers are received and streams their entity to the entity stream of
+   * the request, instead of aggregating the whole entity in memory first. Reading from the connection is paused
+   * while the reader of the entity stream is not keeping up. Streamed requests are always dispatched as stream
+   * requests, regardless of {@link #_restOverStream(boolean)}.
+   */
+  public HttpNettyServerBuilder streamRequests(boolean streamRequests)
+  {
+    _streamRequests = streamRequests;
+    return this;
+  }
+
   public HttpNettyServerBuilder sslContext(SSLContext sslContext)
   {
     _sslContext = sslContext;
@@ -97,12 +168,17 @@ public class HttpNettyServerBuilder
     validateParameters();
     final TransportDispatcher filterDispatcher = new FilterChainDispatcher(_transportDispatcher, _filters);
     final HttpDispatcher dispatcher = HttpDispatcherFactory.create((filterDispatcher));
-    return new HttpNettyServer(_port, _threadPoolSize, dispatcher, _sslContext, _sslParameters);
+    return new HttpNettyServer(_port, _threadPoolSize, dispatcher, _restOverStream, _sslContext, _sslParameters,
+        DEFAULT_STARTUP_TIMEOUT_MILLIS, _transportType, _acceptThreads, _reusePort, _enableHttp2, _maxRequestSize,
+        _streamRequests);
   }
 
   private void validateParameters()
   {
     ArgumentUtil.notNull(_transportDispatcher, "transportDispatcher");
     ArgumentUtil.notNull(_filters, "filters");
+    ArgumentUtil.notNull(_transportType, "transportType");
+    ArgumentUtil.checkArgument(_acceptThreads > 0, "acceptThreads");
+    ArgumentUtil.checkArgument(_maxRequestSize > 0, "maxRequestSize");
   }
 }
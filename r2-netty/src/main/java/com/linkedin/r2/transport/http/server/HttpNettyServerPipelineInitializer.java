@@ -16,58 +16,319 @@
 
 package com.linkedin.r2.transport.http.server;
 
-import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.netty.common.SslHandlerUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AsciiString;
 import io.netty.util.concurrent.EventExecutorGroup;
+import java.util.Arrays;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 
 
-public class HttpNettyServerPipelineInitializer extends ChannelInitializer<NioSocketChannel>
+/**
+ * Sets up the pipeline of a server channel.
+ *
+ * Without HTTP/2, the channel speaks HTTP/1.1 only. With HTTP/2 enabled, the protocol is negotiated per connection:
+ * <ul>
+ *   <li>over TLS, with ALPN, falling back to HTTP/1.1 if the client does not negotiate h2;</li>
+ *   <li>over clear text, with either the HTTP/2 connection preface (prior knowledge) or an HTTP/1.1
+ *   {@code Upgrade: h2c} request, falling back to HTTP/1.1 otherwise.</li>
+ * </ul>
+ * HTTP/2 streams are dispatched on child channels set up by {@link Http2ServerStreamChannelInitializer}.
+ *
+ * Request content is either aggregated up to the maximum request size before dispatching, or, with streaming
+ * enabled, dispatched right after the request headers and streamed by {@link RAPStreamRequestDecoder}.
+ */
+public class HttpNettyServerPipelineInitializer extends ChannelInitializer<SocketChannel>
 {
+  static final int DEFAULT_MAX_REQUEST_SIZE = 1048576;
+  private static final long MAX_INITIAL_STREAM_WINDOW_SIZE = 8 * 1024 * 1024;
+  private static final boolean IS_CLIENT = false;
+
   private final SSLContext _sslContext;
   private final SSLParameters _sslParameters;
   private final EventExecutorGroup _eventExecutors;
   private final boolean _restOverStream;
   private final HttpDispatcher _dispatcher;
-
+  private final boolean _enableHttp2;
+  private final long _maxRequestSize;
+  private final boolean _streamRequests;
+  // Context negotiating h2 or http/1.1 with ALPN, shared by all the TLS channels when HTTP/2 is enabled.
+  private final JdkSslContext _alpnSslContext;
 
   HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
                                      SSLContext sslContext, SSLParameters sslParameters,
                                      boolean restOverStream)
+  {
+    this(dispatcher, eventExecutors, sslContext, sslParameters, restOverStream, false, DEFAULT_MAX_REQUEST_SIZE,
+        false);
+  }
+
+  HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
+                                     SSLContext sslContext, SSLParameters sslParameters,
+                                     boolean restOverStream, boolean enableHttp2, long maxRequestSize,
+                                     boolean streamRequests)
   {
     _dispatcher = dispatcher;
     _sslContext = sslContext;
     _sslParameters = sslParameters;
     _eventExecutors = eventExecutors;
     _restOverStream = restOverStream;
+    _enableHttp2 = enableHttp2;
+    _maxRequestSize = maxRequestSize;
+    _streamRequests = streamRequests;
+    _alpnSslContext = _enableHttp2 && _sslContext != null ? createAlpnSslContext() : null;
   }
 
   @Override
-  protected void initChannel(NioSocketChannel ch) throws Exception
+  protected void initChannel(SocketChannel ch) throws Exception
   {
     SslHandlerUtil.validateSslParameters(_sslContext, _sslParameters);
-    // If _sslContext is not NULL, we should first add SSL handler to the pipeline to secure the channel.
-    if (_sslContext != null)
+
+    if (!_enableHttp2)
+    {
+      // If _sslContext is not NULL, we should first add SSL handler to the pipeline to secure the channel.
+      if (_sslContext != null)
+      {
+        final SslHandler sslHandler = SslHandlerUtil.getServerSslHandler(_sslContext, _sslParameters);
+        ch.pipeline().addLast(SslHandlerUtil.PIPELINE_SSL_HANDLER, sslHandler);
+      }
+
+      ch.pipeline().addLast("decoder", new HttpRequestDecoder());
+      ch.pipeline().addLast("encoder", new HttpResponseEncoder());
+      addHttp1DispatchHandlers(ch.pipeline());
+    }
+    else if (_sslContext != null)
+    {
+      configureHttp2Ssl(ch);
+    }
+    else
+    {
+      configureHttp2ClearText(ch);
+    }
+  }
+
+  /**
+   * Configures the pipeline for TLS with ALPN negotiation of h2 or http/1.1.
+   */
+  private void configureHttp2Ssl(SocketChannel ch)
+  {
+    final SSLEngine sslEngine = _alpnSslContext.newEngine(ch.alloc());
+    if (_sslParameters != null)
+    {
+      setSslParameters(sslEngine, _sslParameters);
+    }
+
+    ch.pipeline().addLast(SslHandlerUtil.PIPELINE_SSL_HANDLER, new SslHandler(sslEngine));
+    ch.pipeline().addLast("alpnHandler", new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1)
+    {
+      @Override
+      protected void configurePipeline(ChannelHandlerContext ctx, String protocol)
+      {
+        switch (protocol)
+        {
+          case ApplicationProtocolNames.HTTP_2:
+            addHttp2Handlers(ctx.pipeline());
+            break;
+          case ApplicationProtocolNames.HTTP_1_1:
+            ctx.pipeline().addLast("codec", new HttpServerCodec());
+            addHttp1DispatchHandlers(ctx.pipeline());
+            break;
+          default:
+            throw new IllegalStateException("Unsupported protocol '" + protocol + "' is negotiated.");
+        }
+      }
+    });
+  }
+
+  /**
+   * Configures the pipeline for clear text HTTP/2, either with prior knowledge or upgraded from HTTP/1.1.
+   */
+  private void configureHttp2ClearText(SocketChannel ch)
+  {
+    final HttpServerCodec sourceCodec = new HttpServerCodec();
+    final HttpServerUpgradeHandler.UpgradeCodecFactory upgradeCodecFactory = protocol ->
+    {
+      if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol))
+      {
+        return new Http2ServerUpgradeCodec(Http2FrameCodecBuilder.forServer().initialSettings(createHttp2Settings()).build(),
+            createHttp2MultiplexHandler());
+      }
+      return null;
+    };
+    final HttpServerUpgradeHandler upgradeHandler =
+        new HttpServerUpgradeHandler(sourceCodec, upgradeCodecFactory, getMaxAggregatedRequestSize());
+    final ChannelInitializer<Channel> priorKnowledgeHandler = new ChannelInitializer<Channel>()
+    {
+      @Override
+      protected void initChannel(Channel channel)
+      {
+        addHttp2Handlers(channel.pipeline());
+      }
+    };
+
+    ch.pipeline().addLast("h2cHandler", new CleartextHttp2ServerUpgradeHandler(sourceCodec, upgradeHandler,
+        priorKnowledgeHandler));
+    ch.pipeline().addLast("http1Handler", new Http1FallbackHandler());
+  }
+
+  private void addHttp2Handlers(ChannelPipeline pipeline)
+  {
+    pipeline.addLast("http2FrameCodec", Http2FrameCodecBuilder.forServer().initialSettings(createHttp2Settings()).build());
+    pipeline.addLast("http2MultiplexHandler", createHttp2MultiplexHandler());
+  }
+
+  private Http2MultiplexHandler createHttp2MultiplexHandler()
+  {
+    return new Http2MultiplexHandler(
+        new Http2ServerStreamChannelInitializer(_dispatcher, _eventExecutors, _restOverStream, _maxRequestSize,
+            _streamRequests));
+  }
+
+  private void addHttp1DispatchHandlers(ChannelPipeline pipeline)
+  {
+    final ChannelHandler restHandler;
+    if (_streamRequests)
     {
-      final SslHandler sslHandler = SslHandlerUtil.getServerSslHandler(_sslContext, _sslParameters);
-      ch.pipeline().addLast(SslHandlerUtil.PIPELINE_SSL_HANDLER, sslHandler);
+      // Streamed requests are always dispatched as stream requests.
+      pipeline.addLast("streamDecoder", new RAPStreamRequestDecoder(_maxRequestSize));
+      restHandler = new PipelineStreamHandler(_dispatcher);
     }
+    else
+    {
+      pipeline.addLast("aggregator", new HttpObjectAggregator(getMaxAggregatedRequestSize()));
+      restHandler = _restOverStream ? new PipelineStreamHandler(_dispatcher) : new PipelineRestHandler(_dispatcher);
+    }
+    pipeline.addLast("rapi", new RAPServerCodec());
+    pipeline.addLast(_eventExecutors, "handler", restHandler);
+  }
+
+  private int getMaxAggregatedRequestSize()
+  {
+    return (int) Math.min(_maxRequestSize, Integer.MAX_VALUE);
+  }
+
+  private Http2Settings createHttp2Settings()
+  {
+    // Streamed requests keep the default window, so that a stream which is not read holds back little data.
+    final long initialWindowSize = _streamRequests ? Http2CodecUtil.DEFAULT_WINDOW_SIZE
+        : Math.min(MAX_INITIAL_STREAM_WINDOW_SIZE, _maxRequestSize);
+    return new Http2Settings().initialWindowSize((int) initialWindowSize);
+  }
 
-    ch.pipeline().addLast("decoder", new HttpRequestDecoder());
-    ch.pipeline().addLast("aggregator", new HttpObjectAggregator(1048576));
-    ch.pipeline().addLast("encoder", new HttpResponseEncoder());
-    ch.pipeline().addLast("rapi", new RAPServerCodec());
+  @SuppressWarnings("deprecation")
+  private JdkSslContext createAlpnSslContext()
+  {
+    final SSLParameters sslParameters = _sslParameters != null ? _sslParameters : _sslContext.getDefaultSSLParameters();
+    final ClientAuth clientAuth = sslParameters.getNeedClientAuth() ? ClientAuth.REQUIRE
+        : sslParameters.getWantClientAuth() ? ClientAuth.OPTIONAL : ClientAuth.NONE;
+
+    // Same as the client side, the non deprecated constructor does not accept an existing SSLContext.
+    return new JdkSslContext(
+        _sslContext,
+        IS_CLIENT,
+        Arrays.asList(sslParameters.getCipherSuites()),
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2,
+            ApplicationProtocolNames.HTTP_1_1),
+        clientAuth);
+  }
 
-    final SimpleChannelInboundHandler<RestRequest> restHandler = _restOverStream ?
-        new PipelineStreamHandler(_dispatcher) : new PipelineRestHandler(_dispatcher);
-    ch.pipeline().addLast(_eventExecutors, "handler", restHandler);
+  /**
+   * Applies the given parameters to an engine of the ALPN context like {@link SSLEngine#setSSLParameters} would,
+   * except for the application protocols which are configured by the context.
+   */
+  private static void setSslParameters(SSLEngine sslEngine, SSLParameters sslParameters)
+  {
+    final SSLParameters engineParameters = sslEngine.getSSLParameters();
+    if (sslParameters.getCipherSuites() != null)
+    {
+      engineParameters.setCipherSuites(sslParameters.getCipherSuites());
+    }
+    if (sslParameters.getProtocols() != null)
+    {
+      engineParameters.setProtocols(sslParameters.getProtocols());
+    }
+    if (sslParameters.getNeedClientAuth())
+    {
+      engineParameters.setNeedClientAuth(true);
+    }
+    else
+    {
+      engineParameters.setWantClientAuth(sslParameters.getWantClientAuth());
+    }
+    engineParameters.setAlgorithmConstraints(sslParameters.getAlgorithmConstraints());
+    engineParameters.setEndpointIdentificationAlgorithm(sslParameters.getEndpointIdentificationAlgorithm());
+    if (sslParameters.getServerNames() != null)
+    {
+      engineParameters.setServerNames(sslParameters.getServerNames());
+    }
+    if (sslParameters.getSNIMatchers() != null)
+    {
+      engineParameters.setSNIMatchers(sslParameters.getSNIMatchers());
+    }
+    engineParameters.setUseCipherSuitesOrder(sslParameters.getUseCipherSuitesOrder());
+    sslEngine.setSSLParameters(engineParameters);
+  }
+
+  /**
+   * Installs the HTTP/1.1 dispatch handlers once a clear text connection turns out to be neither prior knowledge
+   * HTTP/2 nor upgraded to HTTP/2. The {@link HttpServerCodec} is left in the pipeline by
+   * {@link CleartextHttp2ServerUpgradeHandler} in that case.
+   */
+  private class Http1FallbackHandler extends ChannelInboundHandlerAdapter
+  {
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg)
+    {
+      if (msg instanceof HttpMessage)
+      {
+        final ChannelPipeline pipeline = ctx.pipeline();
+        addHttp1DispatchHandlers(pipeline);
+        pipeline.remove(this);
+      }
+      ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt)
+    {
+      if (evt instanceof CleartextHttp2ServerUpgradeHandler.PriorKnowledgeUpgradeEvent
+          || evt instanceof HttpServerUpgradeHandler.UpgradeEvent)
+      {
+        ctx.pipeline().remove(this);
+      }
+      ctx.fireUserEventTriggered(evt);
+    }
   }
 }
@@ -18,10 +18,12 @@ package com.linkedin.r2.transport.http.server;
 
 import com.linkedin.common.callback.Callback;
 import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
 import com.linkedin.r2.message.rest.RestStatus;
+import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.transport.common.WireAttributeHelper;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
@@ -35,7 +37,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
-class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
+/**
+ * Dispatches requests as {@link StreamRequest}s. Both aggregated {@link RestRequest}s and streamed
+ * {@link StreamRequest}s are accepted.
+ */
+class PipelineStreamHandler extends SimpleChannelInboundHandler<Request>
 {
   private static final Logger LOG = LoggerFactory.getLogger(PipelineStreamHandler.class);
   private final HttpDispatcher _dispatcher;
@@ -63,7 +69,7 @@ class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
   }
 
   @Override
-  protected void channelRead0(ChannelHandlerContext ctx, RestRequest request) throws Exception
+  protected void channelRead0(ChannelHandlerContext ctx, Request request) throws Exception
   {
     final Channel ch = ctx.channel();
     TransportCallback<StreamResponse> writeResponseCallback = new TransportCallback<StreamResponse>()
@@ -103,7 +109,9 @@ class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
     };
     try
     {
-      _dispatcher.handleRequest(Messages.toStreamRequest(request), writeResponseCallback);
+      final StreamRequest streamRequest = request instanceof StreamRequest ?
+          (StreamRequest) request : Messages.toStreamRequest((RestRequest) request);
+      _dispatcher.handleRequest(streamRequest, writeResponseCallback);
     }
     catch (Exception ex)
     {
@@ -22,12 +22,13 @@ package com.linkedin.r2.transport.http.server;
 
 
 import com.linkedin.data.ByteString;
+import com.linkedin.r2.message.BaseMessageBuilder;
 import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.netty.common.NettyByteStringUtil;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -37,12 +38,16 @@ import io.netty.handler.codec.MessageToMessageEncoder;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.HttpConversionUtil;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 
 /**
@@ -51,6 +56,18 @@ import java.util.Map;
 */
 class RAPServerCodec extends ChannelDuplexHandler
 {
+  /**
+   * Pseudo headers added by {@link HttpConversionUtil} when converting HTTP/2 streams to HTTP/1.1 objects.
+   */
+  private static final Set<String> HTTP2_EXTENSION_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+  static
+  {
+    for (HttpConversionUtil.ExtensionHeaderNames name : HttpConversionUtil.ExtensionHeaderNames.values())
+    {
+      HTTP2_EXTENSION_HEADERS.add(name.text().toString());
+    }
+  }
+
   private final RAPResponseEncoder _encoder = new RAPResponseEncoder();
   private final RAPRequestDecoder _decoder = new RAPRequestDecoder();
 
@@ -66,6 +83,24 @@ class RAPServerCodec extends ChannelDuplexHandler
     _encoder.write(ctx, msg, promise);
   }
 
+  /**
+   * Copies the headers and cookies of a Netty request to an R2 message builder.
+   */
+  static void copyHeaders(HttpRequest nettyRequest, BaseMessageBuilder<?> builder)
+  {
+    for (Map.Entry<String, String> e : nettyRequest.headers())
+    {
+      if (e.getKey().equalsIgnoreCase(HttpConstants.REQUEST_COOKIE_HEADER_NAME))
+      {
+        builder.addCookie(e.getValue());
+      }
+      else if (!HTTP2_EXTENSION_HEADERS.contains(e.getKey()))
+      {
+        builder.unsafeAddHeaderValue(e.getKey(), e.getValue());
+      }
+    }
+  }
+
   private class RAPRequestDecoder extends MessageToMessageDecoder<FullHttpRequest>
   {
     @Override
@@ -81,21 +116,11 @@ class RAPServerCodec extends ChannelDuplexHandler
       URI uri = new URI(nettyRequest.uri());
       RestRequestBuilder builder = new RestRequestBuilder(uri);
       builder.setMethod(nettyRequest.method().name());
-      for (Map.Entry<String, String> e : nettyRequest.headers())
-      {
-        if (e.getKey().equalsIgnoreCase(HttpConstants.REQUEST_COOKIE_HEADER_NAME))
-        {
-          builder.addCookie(e.getValue());
-        }
-        else
-        {
-          builder.unsafeAddHeaderValue(e.getKey(), e.getValue());
-        }
-      }
+      copyHeaders(nettyRequest, builder);
       ByteBuf buf = nettyRequest.content();
       if (buf != null)
       {
-        ByteString entity = ByteString.read(new ByteBufInputStream(buf), buf.readableBytes());
+        ByteString entity = NettyByteStringUtil.read(buf);
         builder.setEntity(entity);
       }
       out.add(builder.build());
@@ -0,0 +1,332 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.RemoteInvocationException;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.rest.RestStatus;
+import com.linkedin.r2.message.stream.StreamException;
+import com.linkedin.r2.message.stream.StreamRequestBuilder;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.message.stream.entitystream.WriteHandle;
+import com.linkedin.r2.message.stream.entitystream.Writer;
+import com.linkedin.r2.netty.common.NettyByteStringUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.net.URI;
+import java.nio.channels.ClosedChannelException;
+import java.util.LinkedList;
+import java.util.List;
+
+
+/**
+ * Decodes HTTP requests into {@link com.linkedin.r2.message.stream.StreamRequest}s without aggregating their
+ * content. The request is fired down the pipeline as soon as its headers are received, and the content chunks
+ * are written to its entity stream as they arrive.
+ *
+ * Reading from the channel is paused once more than {@link #BUFFER_HIGH_WATER_MARK} bytes are buffered because
+ * the reader of the entity stream has not requested them yet, and resumed once the reader has caught up below
+ * {@link #BUFFER_LOW_WATER_MARK} bytes. On HTTP/2 stream channels this also holds back the flow control window
+ * updates of the stream.
+ *
+ * A request whose Content-Length exceeds the maximum size is rejected with 413 before it is dispatched. Once
+ * dispatched, a request whose content turns out to exceed the maximum size has its entity stream failed with a
+ * {@link StreamException} carrying a 413 response, which the dispatcher responds with, and the rest of its content
+ * is discarded.
+ */
+class RAPStreamRequestDecoder extends SimpleChannelInboundHandler<HttpObject>
+{
+  private static final FullHttpResponse CONTINUE =
+      new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER);
+
+  private static final int BUFFER_HIGH_WATER_MARK = 3 * R2Constants.DEFAULT_DATA_CHUNK_SIZE;
+  private static final int BUFFER_LOW_WATER_MARK = R2Constants.DEFAULT_DATA_CHUNK_SIZE;
+
+  private final long _maxContentLength;
+
+  private BufferedWriter _chunkedMessageWriter;
+
+  RAPStreamRequestDecoder(long maxContentLength)
+  {
+    _maxContentLength = maxContentLength;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, HttpObject msg) throws Exception
+  {
+    if (msg.decoderResult().isFailure())
+    {
+      failWriter(msg.decoderResult().cause());
+      ctx.fireExceptionCaught(msg.decoderResult().cause());
+      return;
+    }
+
+    if (msg instanceof HttpRequest)
+    {
+      final HttpRequest nettyRequest = (HttpRequest) msg;
+      if (HttpUtil.getContentLength(nettyRequest, -1L) > _maxContentLength)
+      {
+        // Reject requests which are known to be too large before dispatching them.
+        rejectTooLarge(ctx);
+        return;
+      }
+
+      if (HttpUtil.is100ContinueExpected(nettyRequest))
+      {
+        ctx.writeAndFlush(CONTINUE.retainedDuplicate()).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        HttpUtil.set100ContinueExpected(nettyRequest, false);
+      }
+
+      final StreamRequestBuilder builder = new StreamRequestBuilder(new URI(nettyRequest.uri()));
+      builder.setMethod(nettyRequest.method().name());
+      RAPServerCodec.copyHeaders(nettyRequest, builder);
+
+      final BufferedWriter writer = new BufferedWriter(ctx);
+      _chunkedMessageWriter = writer;
+      ctx.fireChannelRead(builder.build(EntityStreams.newEntityStream(writer)));
+    }
+
+    if (msg instanceof HttpContent)
+    {
+      final BufferedWriter currentWriter = _chunkedMessageWriter;
+      if (currentWriter == null)
+      {
+        // The request was rejected or has failed, drop the rest of its content.
+        return;
+      }
+
+      final HttpContent chunk = (HttpContent) msg;
+      if (msg instanceof LastHttpContent)
+      {
+        _chunkedMessageWriter = null;
+      }
+      currentWriter.processHttpChunk(chunk);
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception
+  {
+    failWriter(new ClosedChannelException());
+    ctx.fireChannelInactive();
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception
+  {
+    failWriter(cause);
+    ctx.fireExceptionCaught(cause);
+  }
+
+  /**
+   * Same as {@link io.netty.handler.codec.http.HttpObjectAggregator}, responds with 413 and closes the channel
+   * since the rest of the request content cannot be skipped reliably.
+   */
+  private static void rejectTooLarge(ChannelHandlerContext ctx)
+  {
+    final FullHttpResponse tooLarge = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+        HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE, Unpooled.EMPTY_BUFFER);
+    tooLarge.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+    ctx.writeAndFlush(tooLarge).addListener(ChannelFutureListener.CLOSE);
+  }
+
+  private void failWriter(Throwable cause)
+  {
+    if (_chunkedMessageWriter != null)
+    {
+      _chunkedMessageWriter.fail(cause);
+      _chunkedMessageWriter = null;
+    }
+  }
+
+  /**
+   * A buffered writer that stops reading from the channel if the buffered bytes are more than the high water mark
+   * and resumes reading from the channel once the buffered bytes are less than the low water mark.
+   */
+  private class BufferedWriter implements Writer
+  {
+    private final ChannelHandlerContext _ctx;
+    private final List<ByteString> _buffer = new LinkedList<>();
+    private volatile WriteHandle _wh;
+    private boolean _lastChunkReceived = false;
+    private boolean _closed = false;
+    private long _totalBytesReceived = 0L;
+    private int _bufferedBytes = 0;
+    private volatile Throwable _errorBeforeInit;
+
+    BufferedWriter(ChannelHandlerContext ctx)
+    {
+      _ctx = ctx;
+    }
+
+    @Override
+    public void onInit(WriteHandle wh)
+    {
+      _wh = wh;
+    }
+
+    @Override
+    public void onWritePossible()
+    {
+      if (_errorBeforeInit != null)
+      {
+        _wh.error(_errorBeforeInit);
+        return;
+      }
+
+      // Ensure #doWrite is invoked by the event loop thread instead of the reader thread
+      if (_ctx.executor().inEventLoop())
+      {
+        doWrite();
+      }
+      else
+      {
+        _ctx.executor().execute(this::doWrite);
+      }
+    }
+
+    @Override
+    public void onAbort(Throwable ex)
+    {
+      // The reader is no longer interested in the content. Discard it and keep reading from the channel, so that
+      // the connection can still be used for the following requests.
+      if (_ctx.executor().inEventLoop())
+      {
+        discard();
+      }
+      else
+      {
+        _ctx.executor().execute(this::discard);
+      }
+    }
+
+    void processHttpChunk(HttpContent chunk)
+    {
+      if (_closed)
+      {
+        return;
+      }
+
+      _totalBytesReceived += chunk.content().readableBytes();
+      if (_totalBytesReceived > _maxContentLength)
+      {
+        // The request has already been dispatched, so the dispatcher writes the 413 response.
+        final TooLongFrameException ex =
+            new TooLongFrameException("HTTP content length exceeded " + _maxContentLength + " bytes.");
+        error(new StreamException(Messages.toStreamResponse(
+            RestStatus.responseForError(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code(), ex)), ex));
+        return;
+      }
+
+      if (chunk.content().isReadable())
+      {
+        final ByteString data = NettyByteStringUtil.read(chunk.content());
+        _buffer.add(data);
+        _bufferedBytes += data.length();
+        if (_bufferedBytes > BUFFER_HIGH_WATER_MARK && _ctx.channel().config().isAutoRead())
+        {
+          // stop reading from the channel until the entity stream reader catches up
+          _ctx.channel().config().setAutoRead(false);
+        }
+      }
+      if (chunk instanceof LastHttpContent)
+      {
+        _lastChunkReceived = true;
+      }
+      if (_wh != null)
+      {
+        doWrite();
+      }
+    }
+
+    void fail(Throwable ex)
+    {
+      error(new RemoteInvocationException(ex));
+    }
+
+    private void error(Throwable error)
+    {
+      if (_closed)
+      {
+        return;
+      }
+
+      discard();
+      if (_wh != null)
+      {
+        _wh.error(error);
+      }
+      else
+      {
+        _errorBeforeInit = error;
+      }
+    }
+
+    private void discard()
+    {
+      _closed = true;
+      _buffer.clear();
+      _bufferedBytes = 0;
+      if (!_ctx.channel().config().isAutoRead())
+      {
+        _ctx.channel().config().setAutoRead(true);
+      }
+    }
+
+    private void doWrite()
+    {
+      while (!_closed && _wh.remaining() > 0)
+      {
+        if (!_buffer.isEmpty())
+        {
+          final ByteString data = _buffer.remove(0);
+          _wh.write(data);
+          _bufferedBytes -= data.length();
+          if (!_ctx.channel().config().isAutoRead() && _bufferedBytes < BUFFER_LOW_WATER_MARK)
+          {
+            // resume reading from the channel
+            _ctx.channel().config().setAutoRead(true);
+          }
+        }
+        else
+        {
+          if (_lastChunkReceived)
+          {
+            _wh.done();
+            _closed = true;
+          }
+          break;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import com.linkedin.data.ByteString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.Arrays;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestNettyByteStringUtil
+{
+  @DataProvider
+  public Object[][] sizes()
+  {
+    return new Object[][] {
+        { 0 },
+        { 1 },
+        { 1023 },
+        { 1024 },
+        { 1025 },
+        { 4096 + 17 }
+    };
+  }
+
+  @Test(dataProvider = "sizes")
+  public void testRead(int size)
+  {
+    final byte[] bytes = randomBytes(size);
+    final ByteBuf buf = Unpooled.wrappedBuffer(bytes);
+
+    final ByteString byteString = NettyByteStringUtil.read(buf, 1024);
+
+    Assert.assertEquals(byteString.copyBytes(), bytes);
+    Assert.assertEquals(buf.readableBytes(), 0);
+    Assert.assertEquals(byteString.decompose().size(), Math.max(1, (size + 1023) / 1024));
+    buf.release();
+  }
+
+  @Test
+  public void testReadCompositeBuffer()
+  {
+    final byte[] bytes = randomBytes(3000);
+    final CompositeByteBuf buf = Unpooled.compositeBuffer();
+    buf.addComponent(true, Unpooled.wrappedBuffer(Arrays.copyOfRange(bytes, 0, 700)));
+    buf.addComponent(true, Unpooled.directBuffer().writeBytes(bytes, 700, 1600));
+    buf.addComponent(true, Unpooled.wrappedBuffer(Arrays.copyOfRange(bytes, 2300, 3000)));
+    buf.skipBytes(100);
+
+    final ByteString byteString = NettyByteStringUtil.read(buf, 1024);
+
+    Assert.assertEquals(byteString.copyBytes(), Arrays.copyOfRange(bytes, 100, 3000));
+    Assert.assertEquals(buf.readableBytes(), 0);
+    buf.release();
+  }
+
+  @Test
+  public void testDefaultSegmentSize()
+  {
+    final byte[] bytes = randomBytes(NettyByteStringUtil.MAX_SEGMENT_SIZE + 1);
+    final ByteBuf buf = Unpooled.wrappedBuffer(bytes);
+
+    final ByteString byteString = NettyByteStringUtil.read(buf);
+
+    Assert.assertEquals(byteString.length(), bytes.length);
+    Assert.assertEquals(byteString.decompose().size(), 2);
+    Assert.assertEquals(byteString.copyBytes(), bytes);
+  }
+
+  private static byte[] randomBytes(int size)
+  {
+    final byte[] bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import com.linkedin.r2.util.NamedThreadFactory;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+
+public class TestNettyTransportType
+{
+  @Test
+  public void testNio()
+  {
+    Assert.assertTrue(NettyTransportType.NIO.isAvailable());
+    Assert.assertEquals(NettyTransportType.NIO.resolve(), NettyTransportType.NIO);
+    Assert.assertEquals(NettyTransportType.NIO.getSocketChannelClass(), NioSocketChannel.class);
+    Assert.assertEquals(NettyTransportType.NIO.getServerSocketChannelClass(), NioServerSocketChannel.class);
+    Assert.assertFalse(NettyTransportType.NIO.supportsReusePort());
+  }
+
+  @Test
+  public void testResolve()
+  {
+    for (NettyTransportType transportType : NettyTransportType.values())
+    {
+      NettyTransportType resolved = transportType.resolve();
+      Assert.assertNotEquals(resolved, NettyTransportType.AUTO);
+      Assert.assertTrue(resolved.isAvailable());
+      if (transportType != NettyTransportType.AUTO)
+      {
+        Assert.assertEquals(resolved, transportType.isAvailable() ? transportType : NettyTransportType.NIO);
+      }
+    }
+  }
+
+  @Test
+  public void testSocketChannelClassFollowsEventLoopGroup() throws Exception
+  {
+    EventLoopGroup nioGroup = new NioEventLoopGroup(1, new NamedThreadFactory("test"));
+    try
+    {
+      Assert.assertEquals(NettyTransportType.of(nioGroup), NettyTransportType.NIO);
+      Assert.assertEquals(NettyTransportType.socketChannelClassFor(nioGroup), NioSocketChannel.class);
+    }
+    finally
+    {
+      nioGroup.shutdownGracefully().sync();
+    }
+  }
+
+  @Test
+  public void testEpoll() throws Exception
+  {
+    if (!Epoll.isAvailable())
+    {
+      throw new SkipException("Epoll is not available on this platform");
+    }
+
+    Assert.assertEquals(NettyTransportType.AUTO.resolve(), NettyTransportType.EPOLL);
+    Assert.assertTrue(NettyTransportType.EPOLL.supportsReusePort());
+
+    EventLoopGroup epollGroup = NettyTransportType.EPOLL.newEventLoopGroup(1, new NamedThreadFactory("test"));
+    try
+    {
+      Assert.assertEquals(NettyTransportType.of(epollGroup), NettyTransportType.EPOLL);
+      Assert.assertEquals(NettyTransportType.socketChannelClassFor(epollGroup), EpollSocketChannel.class);
+    }
+    finally
+    {
+      epollGroup.shutdownGracefully().sync();
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.r2.transport.common.bridge.server.TransportDispatcherBuilder;
+import java.io.IOException;
+import java.net.ServerSocket;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestHttpNettyServer
+{
+  @Test
+  public void testStartFailsWhenPortIsInUse() throws Exception
+  {
+    try (ServerSocket socket = new ServerSocket(0))
+    {
+      HttpServer server = new HttpNettyServer(socket.getLocalPort(), 1,
+          new HttpDispatcher(new TransportDispatcherBuilder().build()));
+      try
+      {
+        server.start();
+        Assert.fail("Expected start to fail while the port is bound by another socket");
+      }
+      catch (IOException e)
+      {
+        Assert.assertTrue(e.getMessage().contains(String.valueOf(socket.getLocalPort())), e.getMessage());
+        Assert.assertNotNull(e.getCause());
+      }
+      // The thread pools have been released, so waiting for the server to stop returns.
+      server.waitForStop();
+    }
+  }
+}
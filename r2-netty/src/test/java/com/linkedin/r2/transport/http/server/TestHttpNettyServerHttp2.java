@@ -0,0 +1,312 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.util.None;
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.r2.transport.common.bridge.client.TransportClientAdapter;
+import com.linkedin.r2.transport.common.bridge.server.TransportDispatcherBuilder;
+import com.linkedin.r2.transport.http.client.HttpClientFactory;
+import com.linkedin.r2.transport.http.common.HttpProtocolVersion;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrame;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.TrustManagerFactory;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestHttpNettyServerHttp2
+{
+  private static final URI ECHO_URI = URI.create("/echo");
+  private static final char[] KEY_PASSWORD = "password".toCharArray();
+  // The first TLS handshake of the JVM alone can take about as long as the default request timeout.
+  private static final String TLS_REQUEST_TIMEOUT = "10000";
+
+  @DataProvider
+  public Object[][] configs()
+  {
+    return new Object[][] {
+        { false, HttpProtocolVersion.HTTP_2 },
+        { true, HttpProtocolVersion.HTTP_2 },
+        { false, HttpProtocolVersion.HTTP_1_1 },
+        { true, HttpProtocolVersion.HTTP_1_1 },
+    };
+  }
+
+  @Test(dataProvider = "configs")
+  public void testEcho(boolean restOverStream, HttpProtocolVersion protocolVersion) throws Exception
+  {
+    runWithServer(restOverStream, null, null, (factory, port) -> {
+      final Client client = new TransportClientAdapter(factory.getClient(
+          Collections.singletonMap(HttpClientFactory.HTTP_PROTOCOL_VERSION, protocolVersion.name())), restOverStream);
+      assertEcho(client, "http://localhost:" + port);
+    });
+  }
+
+  /**
+   * The HTTP/2 stream client fails unless h2 is negotiated with ALPN, while the HTTP/1.1 client does not use ALPN.
+   * Rest requests are always sent by the HTTP/1.1 client, whatever the protocol version, and exercise the
+   * http/1.1 fallback of the server.
+   */
+  @Test(dataProvider = "configs")
+  public void testAlpn(boolean restOverStream, HttpProtocolVersion protocolVersion) throws Exception
+  {
+    final SSLContext sslContext = createSslContext();
+    final SSLParameters sslParameters = sslContext.getDefaultSSLParameters();
+    sslParameters.setProtocols(new String[] { "TLSv1.2" });
+    sslParameters.setUseCipherSuitesOrder(true);
+    runWithServer(restOverStream, sslContext, sslParameters, (factory, port) -> {
+      final Map<String, Object> properties = new HashMap<>();
+      properties.put(HttpClientFactory.HTTP_PROTOCOL_VERSION, protocolVersion.name());
+      properties.put(HttpClientFactory.HTTP_SSL_CONTEXT, sslContext);
+      properties.put(HttpClientFactory.HTTP_SSL_PARAMS, sslContext.getDefaultSSLParameters());
+      properties.put(HttpClientFactory.HTTP_REQUEST_TIMEOUT, TLS_REQUEST_TIMEOUT);
+      final Client client = new TransportClientAdapter(factory.getClient(properties), restOverStream);
+      assertEcho(client, "https://localhost:" + port);
+    });
+  }
+
+  @Test
+  public void testPriorKnowledge() throws Exception
+  {
+    runWithServer(false, null, null, (factory, port) -> {
+      final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+      try
+      {
+        // the client sends the connection preface right away instead of upgrading from HTTP/1.1
+        final Channel channel = new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(NioSocketChannel.class)
+            .handler(new ChannelInitializer<Channel>()
+            {
+              @Override
+              protected void initChannel(Channel ch)
+              {
+                ch.pipeline().addLast(Http2FrameCodecBuilder.forClient().build());
+                ch.pipeline().addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+              }
+            })
+            .connect("localhost", port).sync().channel();
+
+        final ResponseCollector collector = new ResponseCollector();
+        final Http2StreamChannel stream = new Http2StreamChannelBootstrap(channel).handler(collector).open().sync()
+            .getNow();
+        stream.write(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers()
+            .method("POST")
+            .scheme("http")
+            .authority("localhost:" + port)
+            .path(ECHO_URI.getPath())));
+        stream.writeAndFlush(new DefaultHttp2DataFrame(Unpooled.copiedBuffer("prior knowledge", StandardCharsets.UTF_8),
+            true));
+
+        Assert.assertEquals(collector._body.get(30, TimeUnit.SECONDS), "prior knowledge");
+        Assert.assertEquals(collector._status, "200");
+        channel.close().sync();
+      }
+      finally
+      {
+        eventLoopGroup.shutdownGracefully().sync();
+      }
+    });
+  }
+
+  private void runWithServer(boolean restOverStream, SSLContext sslContext, SSLParameters sslParameters,
+      ServerTask task) throws Exception
+  {
+    final int port = findFreePort();
+    final HttpNettyServer server = new HttpNettyServerBuilder()
+        .port(port)
+        .threadPoolSize(4)
+        .transportDispatcher(new TransportDispatcherBuilder(restOverStream)
+            .addRestHandler(ECHO_URI, (request, requestContext, callback) ->
+                callback.onSuccess(new RestResponseBuilder().setEntity(request.getEntity()).build()))
+            .build())
+        .filters(FilterChains.empty())
+        ._restOverStream(restOverStream)
+        .enableHttp2(true)
+        .sslContext(sslContext)
+        .sslParameters(sslParameters)
+        .build();
+    final HttpClientFactory factory = new HttpClientFactory.Builder().build();
+
+    server.start();
+    try
+    {
+      task.run(factory, port);
+    }
+    finally
+    {
+      final FutureCallback<None> factoryShutdown = new FutureCallback<>();
+      factory.shutdown(factoryShutdown);
+      factoryShutdown.get(30, TimeUnit.SECONDS);
+      server.stop();
+      server.waitForStop();
+    }
+  }
+
+  /**
+   * Sends requests to the echo resource, then shuts the client down. The client is shut down even if a request
+   * fails, since the factory otherwise waits for it to shut down and the failure is reported as a shutdown timeout.
+   */
+  private static void assertEcho(Client client, String baseUri) throws Exception
+  {
+    try
+    {
+      final List<Future<RestResponse>> futures = new ArrayList<>();
+      for (int i = 0; i < 10; i++)
+      {
+        final RestRequest request = new RestRequestBuilder(URI.create(baseUri + ECHO_URI))
+            .setMethod("POST")
+            .setEntity(ByteString.copyString("request " + i, "UTF-8"))
+            .build();
+        futures.add(client.restRequest(request));
+      }
+      for (int i = 0; i < futures.size(); i++)
+      {
+        final RestResponse response = futures.get(i).get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(response.getStatus(), 200);
+        Assert.assertEquals(response.getEntity().asString("UTF-8"), "request " + i);
+      }
+    }
+    finally
+    {
+      final FutureCallback<None> clientShutdown = new FutureCallback<>();
+      client.shutdown(clientShutdown);
+      clientShutdown.get(30, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * A context trusting the self-signed certificate it presents, used by both the server and the clients.
+   */
+  private static SSLContext createSslContext() throws Exception
+  {
+    final SelfSignedCertificate certificate = new SelfSignedCertificate();
+    final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    keyStore.load(null, null);
+    keyStore.setKeyEntry("server", certificate.key(), KEY_PASSWORD, new Certificate[] { certificate.cert() });
+
+    final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagerFactory.init(keyStore, KEY_PASSWORD);
+    final TrustManagerFactory trustManagerFactory =
+        TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    trustManagerFactory.init(keyStore);
+
+    final SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
+    return sslContext;
+  }
+
+  private static int findFreePort() throws IOException
+  {
+    try (ServerSocket socket = new ServerSocket(0))
+    {
+      return socket.getLocalPort();
+    }
+  }
+
+  private interface ServerTask
+  {
+    void run(HttpClientFactory factory, int port) throws Exception;
+  }
+
+  /**
+   * Collects the status and the body of the response of an HTTP/2 stream.
+   */
+  private static class ResponseCollector extends SimpleChannelInboundHandler<Http2StreamFrame>
+  {
+    private final CompletableFuture<String> _body = new CompletableFuture<>();
+    private final StringBuilder _content = new StringBuilder();
+    private volatile String _status;
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, Http2StreamFrame frame)
+    {
+      boolean endStream = false;
+      if (frame instanceof Http2HeadersFrame)
+      {
+        final Http2HeadersFrame headersFrame = (Http2HeadersFrame) frame;
+        if (headersFrame.headers().status() != null)
+        {
+          _status = headersFrame.headers().status().toString();
+        }
+        endStream = headersFrame.isEndStream();
+      }
+      else if (frame instanceof Http2DataFrame)
+      {
+        final Http2DataFrame dataFrame = (Http2DataFrame) frame;
+        _content.append(dataFrame.content().toString(StandardCharsets.UTF_8));
+        endStream = dataFrame.isEndStream();
+      }
+
+      if (endStream)
+      {
+        _body.complete(_content.toString());
+      }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause)
+    {
+      _body.completeExceptionally(cause);
+    }
+  }
+}
@@ -0,0 +1,371 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.util.None;
+import com.linkedin.data.ByteString;
+import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.stream.StreamException;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamRequestBuilder;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.message.stream.entitystream.ReadHandle;
+import com.linkedin.r2.message.stream.entitystream.Reader;
+import com.linkedin.r2.message.stream.entitystream.WriteHandle;
+import com.linkedin.r2.message.stream.entitystream.Writer;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.r2.transport.common.StreamRequestHandler;
+import com.linkedin.r2.transport.common.bridge.client.TransportClientAdapter;
+import com.linkedin.r2.transport.common.bridge.server.TransportDispatcherBuilder;
+import com.linkedin.r2.transport.http.client.HttpClientFactory;
+import com.linkedin.r2.transport.http.common.HttpProtocolVersion;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestHttpNettyServerStreaming
+{
+  private static final URI COUNT_URI = URI.create("/count");
+  private static final int MAX_REQUEST_SIZE = 8 * 1024 * 1024;
+
+  private ExecutorService _readerExecutor;
+  private ExecutorService _writerExecutor;
+
+  @BeforeClass
+  public void setUp()
+  {
+    _readerExecutor = Executors.newSingleThreadExecutor();
+    _writerExecutor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterClass
+  public void tearDown()
+  {
+    _readerExecutor.shutdownNow();
+    _writerExecutor.shutdownNow();
+  }
+
+  @DataProvider
+  public Object[][] protocols()
+  {
+    return new Object[][] {
+        { HttpProtocolVersion.HTTP_1_1 },
+        { HttpProtocolVersion.HTTP_2 },
+    };
+  }
+
+  @Test(dataProvider = "protocols")
+  public void testLargeRequestIsStreamed(HttpProtocolVersion protocolVersion) throws Exception
+  {
+    final int size = 4 * 1024 * 1024;
+    runWithServer(protocolVersion, MAX_REQUEST_SIZE, (client, port, handler) -> {
+      // The second half of the entity is only sent once the handler has received some of the first half,
+      // which never happens if the server aggregates the request before dispatching it.
+      final GatedWriter writer = new GatedWriter(size, handler._dataReceived);
+      final FutureCallback<StreamResponse> streamCallback = new FutureCallback<>();
+      client.streamRequest(new StreamRequestBuilder(URI.create("http://localhost:" + port + COUNT_URI))
+          .setMethod("POST")
+          .build(EntityStreams.newEntityStream(writer)), streamCallback);
+      final FutureCallback<RestResponse> callback = new FutureCallback<>();
+      Messages.toRestResponse(streamCallback.get(30, TimeUnit.SECONDS), callback);
+      final RestResponse response = callback.get(30, TimeUnit.SECONDS);
+      Assert.assertEquals(response.getStatus(), 200);
+      Assert.assertEquals(response.getEntity().asString("UTF-8"), String.valueOf(size));
+      Assert.assertTrue(writer._gateOpenedBeforeDone, "Request content was not received before the upload ended");
+      Assert.assertTrue(handler._chunksOfLastRequest > 1,
+          "Request content was received in " + handler._chunksOfLastRequest + " chunk");
+
+      // The connection is still usable after the streamed request.
+      final RestResponse small = client.restRequest(newRequest(port, 10)).get(30, TimeUnit.SECONDS);
+      Assert.assertEquals(small.getEntity().asString("UTF-8"), "10");
+    });
+  }
+
+  @Test(dataProvider = "protocols")
+  public void testRequestTooLarge(HttpProtocolVersion protocolVersion) throws Exception
+  {
+    // A small limit lets the client finish sending the request before the server rejects it and closes the
+    // connection, so that the client always reads the response.
+    final int maxRequestSize = 1024;
+    runWithServer(protocolVersion, maxRequestSize, (client, port, handler) -> {
+      try
+      {
+        final RestResponse response = client.restRequest(newRequest(port, maxRequestSize + 1)).get(30, TimeUnit.SECONDS);
+        Assert.fail("Request should have been rejected, got status " + response.getStatus());
+      }
+      catch (ExecutionException e)
+      {
+        Assert.assertTrue(e.getCause() instanceof RestException, "Unexpected failure " + e.getCause());
+        Assert.assertEquals(((RestException) e.getCause()).getResponse().getStatus(), 413);
+      }
+    });
+  }
+
+  @Test(dataProvider = "protocols")
+  public void testStreamedRequestTooLarge(HttpProtocolVersion protocolVersion) throws Exception
+  {
+    // Without a Content-Length, the request is dispatched before the server finds out that it is too large.
+    final int maxRequestSize = 1024;
+    runWithServer(protocolVersion, maxRequestSize, (client, port, handler) -> {
+      final FutureCallback<StreamResponse> callback = new FutureCallback<>();
+      client.streamRequest(new StreamRequestBuilder(URI.create("http://localhost:" + port + COUNT_URI))
+          .setMethod("POST")
+          .build(EntityStreams.newEntityStream(new ByteStringWriter(ByteString.unsafeWrap(new byte[4 * maxRequestSize])))),
+          callback);
+      try
+      {
+        final StreamResponse response = callback.get(30, TimeUnit.SECONDS);
+        Assert.fail("Request should have been rejected, got status " + response.getStatus());
+      }
+      catch (ExecutionException e)
+      {
+        Assert.assertTrue(e.getCause() instanceof StreamException, "Unexpected failure " + e.getCause());
+        // The response is written by the dispatcher, from the error of the entity stream.
+        final FutureCallback<RestException> restException = new FutureCallback<>();
+        Messages.toRestException((StreamException) e.getCause(), restException);
+        final RestResponse response = restException.get(30, TimeUnit.SECONDS).getResponse();
+        Assert.assertEquals(response.getStatus(), 413);
+        Assert.assertTrue(response.getEntity().asString("UTF-8").contains("HTTP content length exceeded"));
+      }
+
+      // The rest of the rejected content is discarded, and the connection is still usable.
+      final RestResponse small = client.restRequest(newRequest(port, 10)).get(30, TimeUnit.SECONDS);
+      Assert.assertEquals(small.getEntity().asString("UTF-8"), "10");
+    });
+  }
+
+  private void runWithServer(HttpProtocolVersion protocolVersion, int maxRequestSize, ClientTask task)
+      throws Exception
+  {
+    final CountingHandler handler = new CountingHandler();
+    final int port = findFreePort();
+    final HttpNettyServer server = new HttpNettyServerBuilder()
+        .port(port)
+        .threadPoolSize(4)
+        .transportDispatcher(new TransportDispatcherBuilder(true)
+            .addStreamHandler(COUNT_URI, handler)
+            .build())
+        .filters(FilterChains.empty())
+        .enableHttp2(true)
+        .maxRequestSize(maxRequestSize)
+        .streamRequests(true)
+        .build();
+    final HttpClientFactory factory = new HttpClientFactory.Builder().build();
+
+    server.start();
+    try
+    {
+      final Map<String, String> properties = new HashMap<>();
+      properties.put(HttpClientFactory.HTTP_PROTOCOL_VERSION, protocolVersion.name());
+      properties.put(HttpClientFactory.HTTP_REQUEST_TIMEOUT, "10000");
+      final Client client = new TransportClientAdapter(factory.getClient(properties), true);
+
+      task.run(client, port, handler);
+
+      final FutureCallback<None> clientShutdown = new FutureCallback<>();
+      client.shutdown(clientShutdown);
+      clientShutdown.get(30, TimeUnit.SECONDS);
+    }
+    finally
+    {
+      // Streams rejected while the client is still sending the request may not be returned to the client pool.
+      final FutureCallback<None> factoryShutdown = new FutureCallback<>();
+      factory.shutdown(factoryShutdown, 5, TimeUnit.SECONDS);
+      factoryShutdown.get(30, TimeUnit.SECONDS);
+      server.stop();
+      server.waitForStop();
+    }
+  }
+
+  private static RestRequest newRequest(int port, int size)
+  {
+    return new RestRequestBuilder(URI.create("http://localhost:" + port + COUNT_URI))
+        .setMethod("POST")
+        .setEntity(ByteString.unsafeWrap(new byte[size]))
+        .build();
+  }
+
+  private static int findFreePort() throws IOException
+  {
+    try (ServerSocket socket = new ServerSocket(0))
+    {
+      return socket.getLocalPort();
+    }
+  }
+
+  private interface ClientTask
+  {
+    void run(Client client, int port, CountingHandler handler) throws Exception;
+  }
+
+  /**
+   * Counts the bytes of the request entity, reading one chunk at a time from another thread.
+   */
+  private class CountingHandler implements StreamRequestHandler
+  {
+    private final CountDownLatch _dataReceived = new CountDownLatch(1);
+    private volatile int _chunksOfLastRequest;
+
+    @Override
+    public void handleRequest(StreamRequest request, RequestContext requestContext,
+        Callback<StreamResponse> callback)
+    {
+      request.getEntityStream().setReader(new Reader()
+      {
+        private ReadHandle _rh;
+        private long _count;
+        private int _chunks;
+
+        @Override
+        public void onInit(ReadHandle rh)
+        {
+          _rh = rh;
+          _rh.request(1);
+        }
+
+        @Override
+        public void onDataAvailable(ByteString data)
+        {
+          _count += data.length();
+          _chunks++;
+          _dataReceived.countDown();
+          _readerExecutor.execute(() -> _rh.request(1));
+        }
+
+        @Override
+        public void onDone()
+        {
+          _chunksOfLastRequest = _chunks;
+          callback.onSuccess(Messages.toStreamResponse(
+              new RestResponseBuilder().setEntity(ByteString.copyString(String.valueOf(_count), "UTF-8")).build()));
+        }
+
+        @Override
+        public void onError(Throwable e)
+        {
+          callback.onError(e);
+        }
+      });
+    }
+  }
+
+  /**
+   * Writes an entity of zeros, holding back its second half until the given latch is released.
+   */
+  private class GatedWriter implements Writer
+  {
+    private final int _size;
+    private final CountDownLatch _gate;
+    private WriteHandle _wh;
+    private int _written;
+    private boolean _waiting;
+    private boolean _done;
+    private volatile boolean _gateOpenedBeforeDone;
+
+    GatedWriter(int size, CountDownLatch gate)
+    {
+      _size = size;
+      _gate = gate;
+    }
+
+    @Override
+    public void onInit(WriteHandle wh)
+    {
+      _wh = wh;
+    }
+
+    @Override
+    public synchronized void onWritePossible()
+    {
+      while (!_done && !_waiting && _wh.remaining() > 0)
+      {
+        if (_written >= _size / 2 && !_gateOpenedBeforeDone)
+        {
+          if (_gate.getCount() > 0)
+          {
+            _waiting = true;
+            _writerExecutor.execute(this::awaitGate);
+            return;
+          }
+          _gateOpenedBeforeDone = true;
+        }
+        if (_written == _size)
+        {
+          _done = true;
+          _wh.done();
+          return;
+        }
+        final int length = Math.min(R2Constants.DEFAULT_DATA_CHUNK_SIZE, _size - _written);
+        _wh.write(ByteString.unsafeWrap(new byte[length]));
+        _written += length;
+      }
+    }
+
+    @Override
+    public void onAbort(Throwable e)
+    {
+    }
+
+    private void awaitGate()
+    {
+      try
+      {
+        if (!_gate.await(30, TimeUnit.SECONDS))
+        {
+          _wh.error(new IllegalStateException("Request content was not received before the upload ended"));
+          return;
+        }
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+        _wh.error(e);
+        return;
+      }
+      synchronized (this)
+      {
+        _waiting = false;
+      }
+      onWritePossible();
+    }
+  }
+}
@@ -341,6 +341,43 @@ public class Request<T>
     throw new IllegalArgumentException("Fields param is of unrecognized type: " + fields.getClass());
   }
 
+  /**
+   * Returns the mask sent to the server for the projection parameter with the specified name.
+   *
+   * @param paramName the name of the projection parameter, see {@link RestConstants#PROJECTION_PARAMETERS}.
+   * @return the mask of the parameter, or null if the parameter is not sent or does not select any field.
+   */
+  @SuppressWarnings("unchecked")
+  DataMap getProjectionMask(String paramName)
+  {
+    Object fields = _queryParams.get(paramName);
+    DataMap mask;
+    if (fields == null)
+    {
+      return null;
+    }
+    else if (fields instanceof DataMap)
+    {
+      mask = (DataMap) fields;
+    }
+    else if (fields instanceof String)
+    {
+      try
+      {
+        mask = URIMaskUtil.decodeMaskUriFormat((String) fields).getDataMap();
+      }
+      catch (IllegalMaskException e)
+      {
+        throw new IllegalArgumentException("Field param was a string and it did not represent a serialized mask tree", e);
+      }
+    }
+    else
+    {
+      mask = _requestOptions.getProjectionDataMapSerializer().toDataMap(paramName, (Set<PathSpec>) fields);
+    }
+    return mask == null || mask.isEmpty() ? null : mask;
+  }
+
   /**
    * Get the name of the service for this request
    * @return the service name for this request
@@ -27,6 +27,7 @@ import com.linkedin.d2.balancer.ServiceUnavailableException;
 import com.linkedin.d2.balancer.util.URIKeyPair;
 import com.linkedin.d2.balancer.util.URIMappingResult;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.multipart.MultiPartMIMEUtils;
 import com.linkedin.multipart.MultiPartMIMEWriter;
@@ -318,14 +319,31 @@ public class RestClient implements Client {
     if (_restLiClientConfig.isUseStreaming() || request.getStreamingAttachments() != null || request.getRequestOptions().getAcceptResponseAttachments())
     {
       //Set content type and accept type correctly and use StreamRequest/StreamResponse
-      sendStreamRequest(request, requestContext, new RestLiStreamCallbackAdapter<>(request.getResponseDecoder(), callback, requestContext));
+      sendStreamRequest(request, requestContext, new RestLiStreamCallbackAdapter<>(request.getResponseDecoder(), callback,
+          requestContext, getResponseProjection(request)));
     }
     else
     {
-      sendRestRequest(request, requestContext, new RestLiCallbackAdapter<>(request.getResponseDecoder(), callback, requestContext));
+      sendRestRequest(request, requestContext, new RestLiCallbackAdapter<>(request.getResponseDecoder(), callback,
+          requestContext, getResponseProjection(request)));
     }
   }
 
+  /**
+   * Returns the projection to apply while decoding the response of the request, null if the response is decoded in full.
+   */
+  private DataProjection getResponseProjection(Request<?> request)
+  {
+    if (!_restLiClientConfig.isProjectWhileDecoding())
+    {
+      return null;
+    }
+
+    return request.getResponseDecoder().getResponseProjection(request.getProjectionMask(RestConstants.FIELDS_PARAM),
+        request.getProjectionMask(RestConstants.METADATA_FIELDS_PARAM),
+        request.getProjectionMask(RestConstants.PAGING_FIELDS_PARAM));
+  }
+
   private <T> void sendStreamRequest(final Request<T> request,
                                      RequestContext requestContext,
                                      Callback<StreamResponse> callback)
@@ -19,6 +19,7 @@ package com.linkedin.restli.client;
 
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.CallbackAdapter;
+import com.linkedin.data.DataProjection;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.timing.FrameworkTimingKeys;
@@ -35,6 +36,7 @@ public class RestLiCallbackAdapter<T> extends CallbackAdapter<Response<T>, RestR
 {
   private final RestResponseDecoder<T> _decoder;
   private final RequestContext _requestContext;
+  private final DataProjection _projection;
 
   public RestLiCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> callback)
   {
@@ -43,17 +45,28 @@ public class RestLiCallbackAdapter<T> extends CallbackAdapter<Response<T>, RestR
 
   public RestLiCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> callback,
       RequestContext requestContext)
+  {
+    this(decoder, callback, requestContext, null);
+  }
+
+  /**
+   * @param projection selecting the data of the response to decode, null to decode the whole response,
+   *                   see {@link RestResponseDecoder#decodeResponse(RestResponse, DataProjection)}.
+   */
+  public RestLiCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> callback,
+      RequestContext requestContext, DataProjection projection)
   {
     super(callback);
     _decoder = decoder;
     _requestContext = requestContext;
+    _projection = projection;
   }
 
   @Override
   protected Response<T> convertResponse(RestResponse response) throws Exception
   {
     TimingContextUtil.beginTiming(_requestContext, FrameworkTimingKeys.CLIENT_RESPONSE_RESTLI_DESERIALIZATION.key());
-    Response<T> convertedResponse = _decoder.decodeResponse(response);
+    Response<T> convertedResponse = _decoder.decodeResponse(response, _projection);
     TimingContextUtil.endTiming(_requestContext, FrameworkTimingKeys.CLIENT_RESPONSE_RESTLI_DESERIALIZATION.key());
     return convertedResponse;
   }
@@ -18,6 +18,7 @@ package com.linkedin.restli.client;
 
 
 import com.linkedin.common.callback.Callback;
+import com.linkedin.data.DataProjection;
 import com.linkedin.r2.RemoteInvocationException;
 import com.linkedin.r2.message.Messages;
 import com.linkedin.r2.message.RequestContext;
@@ -42,6 +43,7 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
   private final Callback<Response<T>> _wrappedCallback;
   private final RestResponseDecoder<T> _decoder;
   private final RequestContext _requestContext;
+  private final DataProjection _projection;
 
   public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback)
   {
@@ -50,10 +52,21 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
 
   public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback,
       RequestContext requestContext)
+  {
+    this(decoder, wrappedCallback, requestContext, null);
+  }
+
+  /**
+   * @param projection selecting the data of the response to decode, null to decode the whole response,
+   *                   see {@link RestResponseDecoder#decodeResponse(StreamResponse, Callback, DataProjection)}.
+   */
+  public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback,
+      RequestContext requestContext, DataProjection projection)
   {
     _wrappedCallback = wrappedCallback;
     _decoder = decoder;
     _requestContext = requestContext;
+    _projection = projection;
   }
 
   @Override
@@ -106,7 +119,7 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
     TimingContextUtil.beginTiming(_requestContext, FrameworkTimingKeys.CLIENT_RESPONSE_RESTLI_DESERIALIZATION.key());
     try
     {
-      _decoder.decodeResponse(result, callback);
+      _decoder.decodeResponse(result, callback, _projection);
     }
     catch(Exception exception)
     {
@@ -27,6 +27,7 @@ import com.linkedin.restli.client.ScatterGatherStrategy;
 public class RestLiClientConfig {
   private Boolean _useStreaming = false;
   private ScatterGatherStrategy _scatterGatherStrategy = null;
+  private boolean _projectWhileDecoding = false;
 
   public boolean isUseStreaming() {
     return _useStreaming;
@@ -46,6 +47,24 @@ public class RestLiClientConfig {
     _scatterGatherStrategy = scatterGatherStrategy;
   }
 
+  /**
+   * @return true if responses are projected with the projection parameters of their request while they are decoded.
+   */
+  public boolean isProjectWhileDecoding()
+  {
+    return _projectWhileDecoding;
+  }
+
+  /**
+   * Sets whether responses are projected with the projection parameters of their request while they are decoded,
+   * so that the data the request did not ask for is skipped and never materialized, even if the server returns it.
+   * Fields that a server always includes in its responses regardless of the projection are dropped too.
+   */
+  public void setProjectWhileDecoding(boolean projectWhileDecoding)
+  {
+    _projectWhileDecoding = projectWhileDecoding;
+  }
+
   @Override
   public boolean equals(Object obj)
   {
@@ -58,13 +77,14 @@ public class RestLiClientConfig {
       return false;
     }
     RestLiClientConfig c = (RestLiClientConfig) obj;
-    return _useStreaming == c.isUseStreaming();
+    return _useStreaming == c.isUseStreaming() && _projectWhileDecoding == c.isProjectWhileDecoding();
   }
 
   @Override
   public int hashCode()
   {
     int hashCode = _useStreaming.hashCode();
+    hashCode = 31 * hashCode + Boolean.hashCode(_projectWhileDecoding);
     return hashCode;
   }
 }
@@ -18,8 +18,10 @@ package com.linkedin.restli.internal.client;
 
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.restli.client.response.BatchKVResponse;
+import com.linkedin.restli.common.BatchResponse;
 import com.linkedin.restli.common.ComplexKeySpec;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.CompoundKey;
@@ -69,6 +71,14 @@ public class BatchEntityResponseDecoder<K, V extends RecordTemplate> extends Res
     return EntityResponse.class;
   }
 
+  @Override
+  public DataProjection getResponseProjection(DataMap fields, DataMap metadataFields, DataMap pagingFields)
+  {
+    return new EnvelopeProjection()
+        .setField(BatchResponse.RESULTS, EnvelopeProjection.forValues(EnvelopeProjection.forMask(fields)))
+        .orNull();
+  }
+
   @Override
   public BatchKVResponse<K, EntityResponse<V>> wrapResponse(DataMap dataMap, Map<String, String> headers, ProtocolVersion version)
     throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException, IOException
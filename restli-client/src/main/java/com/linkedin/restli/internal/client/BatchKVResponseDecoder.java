@@ -23,8 +23,10 @@ package com.linkedin.restli.internal.client;
 import java.util.Map;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.restli.client.response.BatchKVResponse;
+import com.linkedin.restli.common.BatchResponse;
 import com.linkedin.restli.common.ComplexKeySpec;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.CompoundKey;
@@ -100,6 +102,14 @@ public class BatchKVResponseDecoder<K, V extends RecordTemplate> extends RestRes
     return _elementType.getType();
   }
 
+  @Override
+  public DataProjection getResponseProjection(DataMap fields, DataMap metadataFields, DataMap pagingFields)
+  {
+    return new EnvelopeProjection()
+        .setField(BatchResponse.RESULTS, EnvelopeProjection.forValues(EnvelopeProjection.forMask(fields)))
+        .orNull();
+  }
+
   @Override
   public BatchKVResponse<K, V> wrapResponse(DataMap dataMap, Map<String, String> headers, ProtocolVersion version)
   {
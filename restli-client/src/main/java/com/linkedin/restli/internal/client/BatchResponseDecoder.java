@@ -21,6 +21,7 @@
 package com.linkedin.restli.internal.client;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.restli.common.BatchResponse;
 import com.linkedin.restli.common.ProtocolVersion;
@@ -50,6 +51,14 @@ public class BatchResponseDecoder<T extends RecordTemplate> extends RestResponse
     return _elementClass;
   }
 
+  @Override
+  public DataProjection getResponseProjection(DataMap fields, DataMap metadataFields, DataMap pagingFields)
+  {
+    return new EnvelopeProjection()
+        .setField(BatchResponse.RESULTS, EnvelopeProjection.forValues(EnvelopeProjection.forMask(fields)))
+        .orNull();
+  }
+
   @Override
   public BatchResponse<T> wrapResponse(DataMap dataMap, Map<String, String> headers, ProtocolVersion version)
   {
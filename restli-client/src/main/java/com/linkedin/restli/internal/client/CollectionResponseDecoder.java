@@ -21,6 +21,7 @@
 package com.linkedin.restli.internal.client;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.ProtocolVersion;
@@ -51,6 +52,16 @@ public class CollectionResponseDecoder<T extends RecordTemplate> extends RestRes
     return _elementClass;
   }
 
+  @Override
+  public DataProjection getResponseProjection(DataMap fields, DataMap metadataFields, DataMap pagingFields)
+  {
+    return new EnvelopeProjection()
+        .setField(CollectionResponse.ELEMENTS, EnvelopeProjection.forValues(EnvelopeProjection.forMask(fields)))
+        .setField(CollectionResponse.METADATA, EnvelopeProjection.forMask(metadataFields))
+        .setField(CollectionResponse.PAGING, EnvelopeProjection.forMask(pagingFields))
+        .orNull();
+  }
+
   @Override
   public CollectionResponse<T> wrapResponse(DataMap dataMap, Map<String, String> headers, ProtocolVersion version)
       throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException
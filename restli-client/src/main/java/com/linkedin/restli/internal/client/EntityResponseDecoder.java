@@ -24,6 +24,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.RestConstants;
@@ -49,6 +50,12 @@ public class EntityResponseDecoder<T extends RecordTemplate> extends RestRespons
     return _entityClass;
   }
 
+  @Override
+  public DataProjection getResponseProjection(DataMap fields, DataMap metadataFields, DataMap pagingFields)
+  {
+    return EnvelopeProjection.forMask(fields);
+  }
+
   @Override
   public T wrapResponse(DataMap dataMap, Map<String, String> headers, ProtocolVersion version)
                   throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException
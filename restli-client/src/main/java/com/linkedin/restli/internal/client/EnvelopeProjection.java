@@ -0,0 +1,120 @@
+/*
+   Copyright (c) 2026 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.client;
+
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
+import com.linkedin.data.transform.filter.MaskProjectionCache;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * {@link DataProjection} of the envelope of a response. The fields of the envelope are included as is, except the
+ * ones that have a projection, such as the field holding the entities projected by the request.
+ */
+final class EnvelopeProjection implements DataProjection
+{
+  private final Map<String, DataProjection> _fields = new HashMap<>();
+
+  /**
+   * Adds the projection of a field of the envelope.
+   *
+   * @param field name of the field.
+   * @param projection of the field, null to include the field as is.
+   * @return this projection.
+   */
+  EnvelopeProjection setField(String field, DataProjection projection)
+  {
+    if (projection != null)
+    {
+      _fields.put(field, projection);
+    }
+    return this;
+  }
+
+  /**
+   * @return this projection, or null if no field has a projection.
+   */
+  DataProjection orNull()
+  {
+    return _fields.isEmpty() ? null : this;
+  }
+
+  @Override
+  public DataProjection getField(String name, Object value)
+  {
+    final DataProjection projection = _fields.get(name);
+    return projection == null ? ALL : projection;
+  }
+
+  @Override
+  public DataProjection getElements()
+  {
+    return ALL;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "Envelope" + _fields;
+  }
+
+  /**
+   * @param mask projection mask of a request parameter, null if the parameter is not set.
+   * @return the projection of the mask, or null if the mask is null.
+   */
+  static DataProjection forMask(DataMap mask)
+  {
+    return mask == null ? null : MaskProjectionCache.SHARED.getProjection(mask, null);
+  }
+
+  /**
+   * @param projection of the values, null if the values are not projected.
+   * @return the projection applying the specified projection to every value of a map or element of a list, or
+   *         null if the specified projection is null.
+   */
+  static DataProjection forValues(DataProjection projection)
+  {
+    if (projection == null)
+    {
+      return null;
+    }
+
+    return new DataProjection()
+    {
+      @Override
+      public DataProjection getField(String name, Object value)
+      {
+        return projection;
+      }
+
+      @Override
+      public DataProjection getElements()
+      {
+        return projection;
+      }
+
+      @Override
+      public String toString()
+      {
+        return "Values(" + projection + ")";
+      }
+    };
+  }
+}
@@ -24,6 +24,7 @@ package com.linkedin.restli.internal.client;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.data.codec.entitystream.StreamDataCodec;
 import com.linkedin.multipart.MultiPartMIMEReader;
 import com.linkedin.multipart.MultiPartMIMEReaderCallback;
@@ -73,6 +74,18 @@ import static com.linkedin.restli.common.ContentType.JSON;
 public abstract class RestResponseDecoder<T>
 {
   public void decodeResponse(final StreamResponse streamResponse, final Callback<Response<T>> responseCallback) throws RestLiDecodingException
+  {
+    decodeResponse(streamResponse, responseCallback, null);
+  }
+
+  /**
+   * Same as {@link #decodeResponse(StreamResponse, Callback)}, but only decodes the projection of the response data.
+   *
+   * @param projection selecting the data to decode, see {@link #getResponseProjection(DataMap, DataMap, DataMap)},
+   *                   null to decode the whole response.
+   */
+  public void decodeResponse(final StreamResponse streamResponse, final Callback<Response<T>> responseCallback,
+      final DataProjection projection) throws RestLiDecodingException
   {
     //Determine content type and take appropriate action.
     //If 'multipart/related', then use MultiPartMIMEReader to read first part (which can be json or pson).
@@ -92,7 +105,8 @@ public abstract class RestResponseDecoder<T>
       if (contentType.getBaseType().equalsIgnoreCase(RestConstants.HEADER_VALUE_MULTIPART_RELATED))
       {
         final MultiPartMIMEReader multiPartMIMEReader = MultiPartMIMEReader.createAndAcquireStream(streamResponse);
-        final TopLevelReaderCallback topLevelReaderCallback = new TopLevelReaderCallback(responseCallback, streamResponse, multiPartMIMEReader);
+        final TopLevelReaderCallback topLevelReaderCallback =
+            new TopLevelReaderCallback(responseCallback, streamResponse, multiPartMIMEReader, projection);
         multiPartMIMEReader.registerReaderCallback(topLevelReaderCallback);
         return;
       }
@@ -113,7 +127,8 @@ public abstract class RestResponseDecoder<T>
 
     if (streamDataCodec != null)
     {
-      CompletionStage<DataMap> dataMapCompletionStage = streamDataCodec.decodeMap(EntityStreamAdapters.toGenericEntityStream(streamResponse.getEntityStream()));
+      CompletionStage<DataMap> dataMapCompletionStage =
+          streamDataCodec.decodeMap(EntityStreamAdapters.toGenericEntityStream(streamResponse.getEntityStream()), projection);
       dataMapCompletionStage.handle((dataMap, e) ->
       {
         if (e != null)
@@ -149,7 +164,7 @@ public abstract class RestResponseDecoder<T>
         {
           try
           {
-            responseCallback.onSuccess(createResponse(streamResponse.getHeaders(), streamResponse.getStatus(), result, streamResponse.getCookies()));
+            responseCallback.onSuccess(createResponse(streamResponse.getHeaders(), streamResponse.getStatus(), result, streamResponse.getCookies(), projection));
           }
           catch (Exception exception)
           {
@@ -163,17 +178,48 @@ public abstract class RestResponseDecoder<T>
 
   public Response<T> decodeResponse(RestResponse restResponse) throws RestLiDecodingException
   {
-    return createResponse(restResponse.getHeaders(), restResponse.getStatus(), restResponse.getEntity(), restResponse.getCookies());
+    return createResponse(restResponse.getHeaders(), restResponse.getStatus(), restResponse.getEntity(), restResponse.getCookies(), null);
   }
 
-  private ResponseImpl<T> createResponse(Map<String, String> headers, int status, ByteString entity, List<String> cookies)
-      throws RestLiDecodingException
+  /**
+   * Same as {@link #decodeResponse(RestResponse)}, but only decodes the projection of the response data. The data
+   * that is not projected is skipped by the codecs that support it, and is never materialized.
+   *
+   * @param projection selecting the data to decode, see {@link #getResponseProjection(DataMap, DataMap, DataMap)},
+   *                   null to decode the whole response.
+   */
+  public Response<T> decodeResponse(RestResponse restResponse, DataProjection projection) throws RestLiDecodingException
+  {
+    if (projection == null)
+    {
+      return decodeResponse(restResponse);
+    }
+    return createResponse(restResponse.getHeaders(), restResponse.getStatus(), restResponse.getEntity(), restResponse.getCookies(), projection);
+  }
+
+  /**
+   * Returns the projection of the response data that corresponds to the projection parameters of a request, so that
+   * the data the request did not ask for can be skipped while decoding. The default implementation returns null, the
+   * decoders of the responses that are projected by the server override it.
+   *
+   * @param fields the mask of the {@link RestConstants#FIELDS_PARAM} parameter, null if it is not set.
+   * @param metadataFields the mask of the {@link RestConstants#METADATA_FIELDS_PARAM} parameter, null if it is not set.
+   * @param pagingFields the mask of the {@link RestConstants#PAGING_FIELDS_PARAM} parameter, null if it is not set.
+   * @return the projection of the response data, null if the whole response should be decoded.
+   */
+  public DataProjection getResponseProjection(DataMap fields, DataMap metadataFields, DataMap pagingFields)
+  {
+    return null;
+  }
+
+  private ResponseImpl<T> createResponse(Map<String, String> headers, int status, ByteString entity, List<String> cookies,
+      DataProjection projection) throws RestLiDecodingException
   {
     ResponseImpl<T> response = new ResponseImpl<>(status, headers, CookieUtil.decodeSetCookies(cookies));
 
     try
     {
-      DataMap dataMap = (entity.isEmpty()) ? null : DataMapConverter.bytesToDataMap(headers, entity);
+      DataMap dataMap = (entity.isEmpty()) ? null : DataMapConverter.bytesToDataMap(headers, entity, projection);
       response.setEntity(wrapResponse(dataMap, headers, ProtocolVersionUtil.extractProtocolVersion(response.getHeaders())));
       return response;
     }
@@ -240,15 +286,18 @@ public abstract class RestResponseDecoder<T>
     private final Callback<Response<T>> _responseCallback;
     private final StreamResponse _streamResponse;
     private final MultiPartMIMEReader _multiPartMIMEReader;
+    private final DataProjection _projection;
     private ResponseImpl<T> _response = null;
 
     private TopLevelReaderCallback(final Callback<Response<T>> responseCallback,
                                    final StreamResponse streamResponse,
-                                   final MultiPartMIMEReader multiPartMIMEReader)
+                                   final MultiPartMIMEReader multiPartMIMEReader,
+                                   final DataProjection projection)
     {
       _responseCallback = responseCallback;
       _streamResponse = streamResponse;
       _multiPartMIMEReader = multiPartMIMEReader;
+      _projection = projection;
     }
 
     private void setResponse(ResponseImpl<T> response)
@@ -349,7 +398,8 @@ public abstract class RestResponseDecoder<T>
         _topLevelReaderCallback.setResponse(createResponse(headers,
                                                            _streamResponse.getStatus(),
                                                            _builder.build(),
-                                                           _streamResponse.getCookies()));
+                                                           _streamResponse.getCookies(),
+                                                           _topLevelReaderCallback._projection));
         //Note that we can't answer the callback of the client yet since we don't know if there are more parts.
       }
       catch (Exception exception)
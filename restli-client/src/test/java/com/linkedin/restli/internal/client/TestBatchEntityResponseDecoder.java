@@ -18,14 +18,18 @@ package com.linkedin.restli.internal.client;
 
 
 import com.linkedin.data.DataMap;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
 import com.linkedin.restli.client.response.BatchKVResponse;
 import com.linkedin.restli.client.test.TestRecord;
 import com.linkedin.restli.common.BatchResponse;
 import com.linkedin.restli.common.CompoundKey;
+import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.common.EntityResponse;
 import com.linkedin.restli.common.ErrorResponse;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.ProtocolVersion;
+import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.common.TypeSpec;
 import com.linkedin.restli.internal.common.AllProtocolVersions;
 import com.linkedin.restli.internal.common.TestConstants;
@@ -35,6 +39,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -139,4 +144,57 @@ public class TestBatchEntityResponseDecoder
     final BatchKVResponse<String, EntityResponse<TestRecord>> response = decoder.wrapResponse(null, Collections.<String, String>emptyMap(), protocolVersion);
     Assert.assertNull(response);
   }
+
+  @DataProvider
+  private static Object[][] projectedContentTypes()
+  {
+    return new Object[][] {
+      { ContentType.JSON },
+      { ContentType.PROTOBUF2 },
+      { ContentType.PSON }
+    };
+  }
+
+  @Test(dataProvider = "projectedContentTypes")
+  public void testDecodingWithProjection(ContentType contentType) throws Exception
+  {
+    final String key = _keys.get(0);
+
+    final DataMap resultData = new DataMap();
+    resultData.put(key, _record.data());
+
+    final DataMap errorData = new DataMap();
+    errorData.put(_keys.get(1), _error.data());
+
+    final DataMap data = new DataMap();
+    data.put(BatchResponse.RESULTS, resultData);
+    data.put(BatchResponse.ERRORS, errorData);
+
+    final Map<String, String> headers = new HashMap<>();
+    headers.put(RestConstants.HEADER_CONTENT_TYPE, contentType.getHeaderKey());
+    headers.put(RestConstants.HEADER_RESTLI_PROTOCOL_VERSION,
+        AllProtocolVersions.RESTLI_PROTOCOL_2_0_0.getProtocolVersion().toString());
+    final RestResponse restResponse = new RestResponseBuilder()
+        .setHeaders(headers)
+        .setEntity(contentType.getCodec().mapToByteString(data))
+        .build();
+
+    final BatchEntityResponseDecoder<String, TestRecord> decoder =
+        new BatchEntityResponseDecoder<>(new TypeSpec<>(TestRecord.class),
+            new TypeSpec<>(String.class),
+            Collections.<String, CompoundKey.TypeInfo>emptyMap(),
+            null);
+
+    final DataMap fields = new DataMap();
+    fields.put("id", 1);
+    final BatchKVResponse<String, EntityResponse<TestRecord>> response =
+        decoder.decodeResponse(restResponse, decoder.getResponseProjection(fields, null, null)).getEntity();
+
+    final TestRecord projected = response.getResults().get(key).getEntity();
+    Assert.assertEquals(projected.getId().longValue(), 42L);
+    Assert.assertFalse(projected.hasMessage());
+    Assert.assertEquals(response.getErrors().get(_keys.get(1)), _error);
+
+    Assert.assertNull(decoder.getResponseProjection(null, null, null));
+  }
 }
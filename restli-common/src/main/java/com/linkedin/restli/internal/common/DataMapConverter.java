@@ -18,6 +18,7 @@ package com.linkedin.restli.internal.common;
 
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.DataProjection;
 import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.common.RestConstants;
 import java.io.IOException;
@@ -40,7 +41,7 @@ public class DataMapConverter
    */
   public static ByteString dataMapToByteString(Map<String, String> headers, DataMap dataMap) throws MimeTypeParseException, IOException
   {
-    return ByteString.unsafeWrap(getContentType(headers).getCodec().mapToBytes(dataMap));
+    return getContentType(headers).getCodec().mapToByteString(dataMap);
   }
 
   /**
@@ -56,6 +57,22 @@ public class DataMapConverter
     return getContentType(headers).getCodec().readMap(bytes);
   }
 
+  /**
+   * Convert the projection of a ByteString to DataMap based on the given Content-Type header value, the data that is
+   * not projected is skipped while decoding when the codec supports it
+   * @param headers headers of the HTTP request or response
+   * @param bytes ByteString to convert
+   * @param projection selecting the data to decode, null to decode the whole ByteString
+   * @return converted DataMap.  ByteString is decoded based on content-type specified in the headers
+   * @throws MimeTypeParseException throws this exception when content type is not parsable.
+   * @throws IOException throws this exception when serializing to ByteString failed.
+   */
+  public static DataMap bytesToDataMap(Map<String, String> headers, ByteString bytes, DataProjection projection)
+      throws MimeTypeParseException, IOException
+  {
+    return getContentType(headers).getCodec().readMap(bytes, projection);
+  }
+
   /**
    * Convert from DataMap to ByteString based on the given Content-Type header value
    * @param contentTypeHeaderValue type of ByteString to convert to
@@ -66,7 +83,7 @@ public class DataMapConverter
    */
   public static ByteString dataMapToByteString(String contentTypeHeaderValue, DataMap dataMap) throws MimeTypeParseException, IOException
   {
-    return ByteString.unsafeWrap(getContentType(contentTypeHeaderValue).getCodec().mapToBytes(dataMap));
+    return getContentType(contentTypeHeaderValue).getCodec().mapToByteString(dataMap);
   }
 
   /**
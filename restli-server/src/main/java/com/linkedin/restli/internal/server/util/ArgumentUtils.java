@@ -16,6 +16,8 @@
 
 package com.linkedin.restli.internal.server.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.DataSchema;
 import com.linkedin.data.schema.DataSchemaUtil;
@@ -70,6 +72,8 @@ import org.slf4j.LoggerFactory;
 public class ArgumentUtils
 {
   private static final Logger _log = LoggerFactory.getLogger(ArgumentUtils.class);
+  // Clients send the same few projections over and over, so parsed masks are cached by their raw parameter value.
+  private static final Cache<String, DataMap> PARSED_MASKS = Caffeine.newBuilder().maximumSize(1024).build();
   private static final Pattern SIMPLE_KEY_DELIMETER_PATTERN =
           Pattern.compile(Pattern.quote(String.valueOf(RestConstants.SIMPLE_KEY_DELIMITER)));
   private static final Pattern LEGACY_SIMPLE_KEY_DELIMETER_PATTERN = Pattern.compile(Pattern.quote(";"));
@@ -153,13 +157,29 @@ public class ArgumentUtils
    */
   public static MaskTree decodeMaskUriFormat(final String uriParam) throws RestLiSyntaxException
   {
+    DataMap mask = PARSED_MASKS.getIfPresent(uriParam);
+    if (mask == null)
+    {
+      try
+      {
+        mask = URIMaskUtil.decodeMaskUriFormat(uriParam).getDataMap();
+      }
+      catch (IllegalMaskException e)
+      {
+        throw new RestLiSyntaxException("error parsing mask", e);
+      }
+      mask.makeReadOnly();
+      PARSED_MASKS.put(uriParam, mask);
+    }
+
+    // Resources may modify the mask of their request, so each request gets its own copy of the shared mask.
     try
     {
-      return URIMaskUtil.decodeMaskUriFormat(uriParam);
+      return new MaskTree(mask.copy());
     }
-    catch (IllegalMaskException e)
+    catch (CloneNotSupportedException e)
     {
-      throw new RestLiSyntaxException("error parsing mask", e);
+      throw new RestLiInternalException("error copying mask", e);
     }
   }
 
@@ -17,6 +17,7 @@
 package com.linkedin.restli.internal.server.util;
 
 
+import com.linkedin.data.Data;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.collections.CheckedUtil;
 import com.linkedin.data.element.DataElement;
@@ -25,7 +26,7 @@ import com.linkedin.data.it.IterationOrder;
 import com.linkedin.data.it.Predicate;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.template.RecordTemplate;
-import com.linkedin.data.transform.filter.CopyFilter;
+import com.linkedin.data.transform.filter.MaskProjectionCache;
 import com.linkedin.data.transform.filter.request.MaskTree;
 import com.linkedin.jersey.api.uri.UriBuilder;
 import com.linkedin.r2.message.RequestContext;
@@ -304,7 +305,9 @@ public class RestUtils
 
     try
     {
-      return (DataMap) new CopyFilter(alwaysIncludedFields).filter(dataMap, filterMap);
+      // Response filters observe the projected entity, so the projection can't be deferred to the encoder. Only the
+      // projected maps and lists are copied, the values that are included as a whole are shared with the entity.
+      return (DataMap) Data.project(dataMap, MaskProjectionCache.SHARED.getProjection(filterMap, alwaysIncludedFields));
     }
     catch (Exception e)
     {
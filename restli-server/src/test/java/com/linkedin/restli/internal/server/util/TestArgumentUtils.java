@@ -16,6 +16,9 @@
 
 package com.linkedin.restli.internal.server.util;
 
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.transform.filter.request.MaskOperation;
+import com.linkedin.data.transform.filter.request.MaskTree;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.server.RestLiServiceException;
@@ -69,4 +72,23 @@ public class TestArgumentUtils
       Assert.assertTrue(e.getMessage().contains(String.format("Invalid \"%s\" parameter: %s", RestConstants.RETURN_ENTITY_PARAM, paramValue)));
     }
   }
+
+  @Test
+  public void testDecodeMaskUriFormatReturnsIndependentMasks() throws RestLiSyntaxException
+  {
+    MaskTree first = ArgumentUtils.decodeMaskUriFormat("a,b:(c)");
+    MaskTree second = ArgumentUtils.decodeMaskUriFormat("a,b:(c)");
+    Assert.assertEquals(first.getDataMap(), second.getDataMap());
+    Assert.assertNotSame(first.getDataMap(), second.getDataMap());
+
+    first.addOperation(new PathSpec("d"), MaskOperation.POSITIVE_MASK_OP);
+    Assert.assertFalse(second.getDataMap().containsKey("d"));
+    Assert.assertFalse(ArgumentUtils.decodeMaskUriFormat("a,b:(c)").getDataMap().containsKey("d"));
+  }
+
+  @Test(expectedExceptions = RestLiSyntaxException.class)
+  public void testDecodeInvalidMaskUriFormat() throws RestLiSyntaxException
+  {
+    ArgumentUtils.decodeMaskUriFormat("a:(b");
+  }
 }
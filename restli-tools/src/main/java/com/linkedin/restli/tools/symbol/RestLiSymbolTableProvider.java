@@ -17,7 +17,11 @@
 package com.linkedin.restli.tools.symbol;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.linkedin.d2.balancer.util.LoadBalancerUtil;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.codec.symbol.EmptySymbolTable;
@@ -30,6 +34,7 @@ import com.linkedin.data.schema.DataSchema;
 import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.transport.common.Client;
+import com.linkedin.r2.util.NamedThreadFactory;
 import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.RestConstants;
@@ -46,8 +51,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,7 +80,11 @@ import org.slf4j.LoggerFactory;
  * <br>
  * <br>
  * <p>This implementation retrieves symbol tables by calling the {@link RestLiSymbolTableRequestHandler#SYMBOL_TABLE_URI_PATH}
- * endpoint on the remote rest.li service. Results are cached by name to avoid unnecessary future invocations.</p>
+ * endpoint on the remote rest.li service. Results are cached by name to avoid unnecessary future invocations.
+ * If a refresh interval is configured, the symbol tables of remote services are refreshed asynchronously once
+ * they are older than the interval, so that requests keep using the cached table while a service deploys a new one.
+ * Refreshes run on a dedicated thread, which is stopped when no refresh happened for a minute.
+ * Cache statistics are available with {@link #getRequestSymbolTableCacheStats()} and {@link #getSymbolTableCacheStats()}.</p>
  *
  * <br>
  * <p>The symbol table name used by this provider is prefixed with the root URI of the service on which
@@ -86,13 +99,18 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
    * Default timeout in milliseconds to use when fetching symbols from other services.
    */
   private static final long DEFAULT_TIMEOUT_MILLIS = 1000;
+  /**
+   * Time in seconds after which the idle thread refreshing remote symbol tables is stopped.
+   */
+  private static final long REFRESH_THREAD_KEEP_ALIVE_SECONDS = 60;
   private final long _timeout;
   private final Client _client;
   private final String _uriPrefix;
   private final String _serverNodeUri;
   private final SymbolTableNameHandler _symbolTableNameHandler;
-  private final Cache<String, SymbolTable> _serviceNameToSymbolTableCache;
+  private final LoadingCache<String, SymbolTable> _serviceNameToSymbolTableCache;
   private final Cache<String, SymbolTable> _symbolTableNameToSymbolTableCache;
+  private final LongAdder _fetchFailures = new LongAdder();
   private volatile SymbolTable _defaultResponseSymbolTable = null;
   private volatile String _defaultResponseSymbolTableName = null;
 
@@ -174,13 +192,61 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
                                    String symbolTablePrefix,
                                    String serverNodeUri,
                                    List<String> overriddenSymbols)
+  {
+    this(client, uriPrefix, cacheSize, timeout, 0, symbolTablePrefix, serverNodeUri, overriddenSymbols);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param client               The {@link Client} to use to make requests to remote services to fetch their symbol tables.
+   * @param uriPrefix            The URI prefix to use when invoking remote services by name (and not by hostname:port)
+   * @param cacheSize            The size of the caches used to store symbol tables.
+   * @param timeout              The client request timeout to fetch remote symbol table.
+   * @param refreshIntervalMillis The age in milliseconds after which the symbol table of a remote service is
+   *                             refreshed asynchronously, or 0 to never refresh it.
+   * @param symbolTablePrefix    The prefix to use for symbol tables vended by this instance.
+   * @param serverNodeUri        The URI on which the current service is running. This should also include the context
+   *                             and servlet path (if applicable).
+   * @param overriddenSymbols    The list of overridden symbols to use for the symbol table.
+   */
+  public RestLiSymbolTableProvider(Client client,
+                                   String uriPrefix,
+                                   int cacheSize,
+                                   long timeout,
+                                   long refreshIntervalMillis,
+                                   String symbolTablePrefix,
+                                   String serverNodeUri,
+                                   List<String> overriddenSymbols)
+  {
+    this(client, uriPrefix, cacheSize, timeout, refreshIntervalMillis, createRefreshExecutor(refreshIntervalMillis),
+        Ticker.systemTicker(), symbolTablePrefix, serverNodeUri, overriddenSymbols);
+  }
+
+  /**
+   * Constructor for tests, which need to control when the symbol tables of remote services are refreshed.
+   *
+   * @param refreshExecutor  The {@link Executor} on which the symbol tables of remote services are refreshed.
+   * @param ticker           The {@link Ticker} used to tell the age of the symbol tables of remote services.
+   */
+  RestLiSymbolTableProvider(Client client,
+                            String uriPrefix,
+                            int cacheSize,
+                            long timeout,
+                            long refreshIntervalMillis,
+                            Executor refreshExecutor,
+                            Ticker ticker,
+                            String symbolTablePrefix,
+                            String serverNodeUri,
+                            List<String> overriddenSymbols)
   {
     _client = client;
     _uriPrefix = uriPrefix;
     _serverNodeUri = serverNodeUri;
     _symbolTableNameHandler = new SymbolTableNameHandler(symbolTablePrefix, serverNodeUri);
-    _serviceNameToSymbolTableCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
-    _symbolTableNameToSymbolTableCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    _serviceNameToSymbolTableCache =
+        createServiceNameToSymbolTableCache(cacheSize, refreshIntervalMillis, refreshExecutor, ticker);
+    _symbolTableNameToSymbolTableCache = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
     _timeout = timeout;
     if (serverNodeUri != null && overriddenSymbols != null)
     {
@@ -207,13 +273,38 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
                                    long timeout,
                                    String serverNodeUri,
                                    SymbolTable responseSymbolTable)
+  {
+    this(client, uriPrefix, cacheSize, timeout, 0, serverNodeUri, responseSymbolTable);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param client               The {@link Client} to use to make requests to remote services to fetch their symbol tables.
+   * @param uriPrefix            The URI prefix to use when invoking remote services by name (and not by hostname:port)
+   * @param cacheSize            The size of the caches used to store symbol tables.
+   * @param timeout              The client request timeout to fetch remote symbol table.
+   * @param refreshIntervalMillis The age in milliseconds after which the symbol table of a remote service is
+   *                             refreshed asynchronously, or 0 to never refresh it.
+   * @param serverNodeUri        The URI on which the current service is running. This should also include the context
+   *                             and servlet path (if applicable).
+   * @param responseSymbolTable  The pre-generated response symbol table.
+   */
+  public RestLiSymbolTableProvider(Client client,
+                                   String uriPrefix,
+                                   int cacheSize,
+                                   long timeout,
+                                   long refreshIntervalMillis,
+                                   String serverNodeUri,
+                                   SymbolTable responseSymbolTable)
   {
     _client = client;
     _uriPrefix = uriPrefix;
     _serverNodeUri = serverNodeUri;
     _symbolTableNameHandler = new SymbolTableNameHandler(responseSymbolTable.getName(), serverNodeUri);
-    _serviceNameToSymbolTableCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
-    _symbolTableNameToSymbolTableCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    _serviceNameToSymbolTableCache = createServiceNameToSymbolTableCache(cacheSize, refreshIntervalMillis,
+        createRefreshExecutor(refreshIntervalMillis), Ticker.systemTicker());
+    _symbolTableNameToSymbolTableCache = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
     _timeout = timeout;
     if (_serverNodeUri != null)
     {
@@ -280,15 +371,90 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
     }
     String serviceName = LoadBalancerUtil.getServiceNameFromUri(requestUri);
 
-    // First check the cache.
-    SymbolTable symbolTable = _serviceNameToSymbolTableCache.getIfPresent(serviceName);
-    if (symbolTable != null)
+    // If we got a 404, we will cache an empty symbol table. For such cases, just return null, so that no
+    // symbol table is used.
+    SymbolTable symbolTable = _serviceNameToSymbolTableCache.get(serviceName);
+    return symbolTable == EmptySymbolTable.SHARED ? null : symbolTable;
+  }
+
+  /**
+   * @return the statistics of the cache of symbol tables by remote service name, used to encode requests.
+   */
+  public CacheStats getRequestSymbolTableCacheStats()
+  {
+    return _serviceNameToSymbolTableCache.stats();
+  }
+
+  /**
+   * @return the statistics of the cache of remote symbol tables by symbol table name, used to decode responses.
+   */
+  public CacheStats getSymbolTableCacheStats()
+  {
+    return _symbolTableNameToSymbolTableCache.stats();
+  }
+
+  /**
+   * @return the number of times a remote symbol table could not be fetched.
+   */
+  public long getFetchFailureCount()
+  {
+    return _fetchFailures.sum();
+  }
+
+  /**
+   * Refreshes fetch the remote symbol tables synchronously, so they get their own thread rather than blocking
+   * the common fork join pool Caffeine uses by default.
+   *
+   * @return the executor to refresh the symbol tables of remote services on, or null if they are never refreshed.
+   */
+  private static Executor createRefreshExecutor(long refreshIntervalMillis)
+  {
+    if (refreshIntervalMillis <= 0)
     {
-      // If we got a 404, we will cache an empty symbol table. For such cases, just return null, so that no
-      // symbol table is used.
-      return symbolTable == EmptySymbolTable.SHARED ? null : symbolTable;
+      return null;
     }
 
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, REFRESH_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), new NamedThreadFactory("RestLiSymbolTableRefresh"));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private LoadingCache<String, SymbolTable> createServiceNameToSymbolTableCache(int cacheSize,
+      long refreshIntervalMillis, Executor refreshExecutor, Ticker ticker)
+  {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheSize).recordStats();
+    if (refreshIntervalMillis > 0)
+    {
+      builder.refreshAfterWrite(refreshIntervalMillis, TimeUnit.MILLISECONDS).executor(refreshExecutor).ticker(ticker);
+    }
+
+    return builder.build(new CacheLoader<String, SymbolTable>()
+    {
+      @Override
+      public SymbolTable load(String serviceName)
+      {
+        return fetchServiceSymbolTable(serviceName);
+      }
+
+      @Override
+      public SymbolTable reload(String serviceName, SymbolTable oldSymbolTable)
+      {
+        // Keep using the current table if the service cannot be reached.
+        SymbolTable symbolTable = fetchServiceSymbolTable(serviceName);
+        return symbolTable == null ? oldSymbolTable : symbolTable;
+      }
+    });
+  }
+
+  /**
+   * Fetch the symbol table of a remote service, and cache it by symbol table name.
+   *
+   * @return the symbol table, {@link EmptySymbolTable#SHARED} if the service does not serve symbol tables,
+   *         or null if it could not be fetched.
+   */
+  private SymbolTable fetchServiceSymbolTable(String serviceName)
+  {
     try
     {
       URI symbolTableUri = new URI(_uriPrefix + serviceName + "/" + RestLiSymbolTableRequestHandler.SYMBOL_TABLE_URI_PATH);
@@ -297,31 +463,20 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
       // Fetch remote symbol table, configuring the fetch to return an empty table on 404. This will ensure that
       // for services that don't have symbol tables enabled yet, we will not use any symbol tables when encoding.
       //
-      symbolTable = fetchRemoteSymbolTable(symbolTableUri, Collections.emptyMap(), true);
+      SymbolTable symbolTable = fetchRemoteSymbolTable(symbolTableUri, Collections.emptyMap(), true);
 
-      if (symbolTable != null)
+      // If this symbol table is not the shared empty table, also cache it by symbol table name.
+      if (symbolTable != null && symbolTable != EmptySymbolTable.SHARED)
       {
-        // Cache the retrieved table.
-        _serviceNameToSymbolTableCache.put(serviceName, symbolTable);
-
-        // If this symbol table is not the shared empty table, also cache it by symbol table name, else return null
-        // to not use any symbol tables when encoding.
-        if (symbolTable != EmptySymbolTable.SHARED)
-        {
-          _symbolTableNameToSymbolTableCache.put(
-              _symbolTableNameHandler.extractMetadata(symbolTable.getName()).getSymbolTableName(), symbolTable);
-        }
-        else
-        {
-          return null;
-        }
+        _symbolTableNameToSymbolTableCache.put(
+            _symbolTableNameHandler.extractMetadata(symbolTable.getName()).getSymbolTableName(), symbolTable);
       }
 
       return symbolTable;
     }
     catch (URISyntaxException ex)
     {
-      LOGGER.error("Failed to construct symbol table URI from request URI " + requestUri, ex);
+      LOGGER.error("Failed to construct symbol table URI for service " + serviceName, ex);
     }
 
     return null;
@@ -392,6 +547,7 @@ public class RestLiSymbolTableProvider implements SymbolTableProvider, ResourceD
       LOGGER.error("Failed to fetch symbol table from " + symbolTableUri, ex);
     }
 
+    _fetchFailures.increment();
     return null;
   }
 }
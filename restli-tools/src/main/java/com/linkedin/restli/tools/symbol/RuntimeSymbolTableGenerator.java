@@ -68,18 +68,24 @@ public class RuntimeSymbolTableGenerator {
    */
   static InMemorySymbolTable generate(SymbolTableNameHandler symbolTableNameHandler, Set<DataSchema> resourceSchemas)
   {
-    Set<String> symbols = new HashSet<>();
-    addFrameworkSymbols(symbols);
+    Set<String> frameworkSymbols = new HashSet<>();
+    addFrameworkSymbols(frameworkSymbols);
     Set<DataSchema> frameworkSchemas = new HashSet<>();
     collectFrameworkSchemas(frameworkSchemas);
 
     Set<DataSchema> processedSchemas = new HashSet<>();
-    frameworkSchemas.forEach(schema -> expandAndCollectSymbols(schema, processedSchemas, symbols));
-    resourceSchemas.forEach(schema -> expandAndCollectSymbols(schema, processedSchemas, symbols));
+    frameworkSchemas.forEach(schema -> expandAndCollectSymbols(schema, processedSchemas, frameworkSymbols));
+    Set<String> resourceSymbols = new HashSet<>();
+    resourceSchemas.forEach(schema -> expandAndCollectSymbols(schema, processedSchemas, resourceSymbols));
+    resourceSymbols.removeAll(frameworkSymbols);
 
+    // Framework symbols occur in most responses, so they come first to be encoded with the smallest ids.
     // Sort symbols to ensure stable ordering across invocations for the same input.
-    List<String> symbolList = new ArrayList<>(symbols);
+    List<String> symbolList = new ArrayList<>(frameworkSymbols);
     Collections.sort(symbolList);
+    List<String> resourceSymbolList = new ArrayList<>(resourceSymbols);
+    Collections.sort(resourceSymbolList);
+    symbolList.addAll(resourceSymbolList);
     String symbolTableName = symbolTableNameHandler.generateName(symbolList);
     return new InMemorySymbolTable(symbolTableName, symbolList);
   }
@@ -24,6 +24,7 @@ import com.linkedin.data.schema.EnumDataSchema;
 import com.linkedin.data.schema.Name;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
 import com.linkedin.r2.transport.common.Client;
 import com.linkedin.restli.common.ContentType;
@@ -35,7 +36,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -88,7 +92,7 @@ public class TestRestLiSymbolTableProvider
     SymbolTable symbolTable = _provider.getResponseSymbolTable(URI.create("https://Host:100/service/symbolTable"), Collections.emptyMap());
     Assert.assertNotNull(symbolTable);
     Assert.assertEquals(39, symbolTable.size());
-    Assert.assertEquals("https://Host:100/service|Test--332004310", symbolTable.getName());
+    Assert.assertEquals("https://Host:100/service|Test--1184230964", symbolTable.getName());
   }
 
   @Test
@@ -102,7 +106,7 @@ public class TestRestLiSymbolTableProvider
   public void testGetValidLocalSymbolTable()
   {
     _provider.onInitialized(Collections.unmodifiableMap(Collections.singletonMap("TestResourceName", _resourceDefinition)));
-    SymbolTable symbolTable = _provider.getSymbolTable("https://Host:100/service|Test--332004310");
+    SymbolTable symbolTable = _provider.getSymbolTable("https://Host:100/service|Test--1184230964");
     Assert.assertNotNull(symbolTable);
   }
 
@@ -217,4 +221,53 @@ public class TestRestLiSymbolTableProvider
     Assert.assertNull(_provider.getRequestSymbolTable(URI.create("d2://serviceName")));
     Assert.assertEquals(networkCallCount.get(), 2);
   }
+
+  @Test
+  public void testRefreshRemoteRequestSymbolTable() throws Exception
+  {
+    AtomicLong nanos = new AtomicLong();
+    RestLiSymbolTableProvider provider = new RestLiSymbolTableProvider(_client, "d2://", 10, 1000, 1000,
+        Runnable::run, nanos::get, "Test", "https://Host:100/service", null);
+    AtomicReference<RestResponse> response = new AtomicReference<>(symbolTableResponse("Haha", "Hehe"));
+    when(_client.restRequest(eq(new RestRequestBuilder(URI.create("d2://serviceName/symbolTable"))
+        .setHeaders(Collections.singletonMap(RestConstants.HEADER_FETCH_SYMBOL_TABLE, Boolean.TRUE.toString()))
+        .build()))).thenAnswer(invocation -> CompletableFuture.completedFuture(response.get()));
+
+    SymbolTable symbolTable = provider.getRequestSymbolTable(URI.create("d2://serviceName"));
+    Assert.assertEquals(symbolTable.getSymbolName(1), "Hehe");
+    Assert.assertEquals(provider.getRequestSymbolTableCacheStats().missCount(), 1);
+
+    // Nothing should be refreshed until the table is older than the interval.
+    response.set(new RestResponseBuilder().setStatus(500).build());
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+    Assert.assertSame(provider.getRequestSymbolTable(URI.create("d2://serviceName")), symbolTable);
+    Assert.assertEquals(provider.getFetchFailureCount(), 0);
+
+    // A failed refresh should keep the current table.
+    nanos.incrementAndGet();
+    Assert.assertSame(provider.getRequestSymbolTable(URI.create("d2://serviceName")), symbolTable);
+    Assert.assertEquals(provider.getFetchFailureCount(), 1);
+    Assert.assertSame(provider.getRequestSymbolTable(URI.create("d2://serviceName")), symbolTable);
+
+    // A successful refresh should replace it.
+    response.set(symbolTableResponse("Hoho"));
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+    // The read that triggers the refresh still returns the current table.
+    Assert.assertSame(provider.getRequestSymbolTable(URI.create("d2://serviceName")), symbolTable);
+    SymbolTable refreshedSymbolTable = provider.getRequestSymbolTable(URI.create("d2://serviceName"));
+    Assert.assertEquals(refreshedSymbolTable.getSymbolName(0), "Hoho");
+    Assert.assertEquals(provider.getRequestSymbolTableCacheStats().missCount(), 1);
+    Assert.assertTrue(provider.getRequestSymbolTableCacheStats().hitCount() > 0);
+  }
+
+  private static RestResponse symbolTableResponse(String... symbols) throws IOException
+  {
+    SymbolTable symbolTable = new InMemorySymbolTable("https://OtherHost:100/service|Test--332004310",
+        Collections.unmodifiableList(Arrays.asList(symbols)));
+    return new RestResponseBuilder()
+        .setStatus(200)
+        .setEntity(SymbolTableSerializer.toByteString(ContentType.PROTOBUF2.getCodec(), symbolTable))
+        .setHeader(RestConstants.HEADER_CONTENT_TYPE, ContentType.PROTOBUF2.getHeaderKey())
+        .build();
+  }
 }